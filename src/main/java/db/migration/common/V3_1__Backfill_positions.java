@@ -0,0 +1,134 @@
+package db.migration.common;
+
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.HALF_UP;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * V2에서 추가한 보유 현황 컬럼을 기존 매매이력으로 채운다.
+ * 이동평균 원가는 매매 순서에 따라 달라져 SQL만으로 계산할 수 없으므로
+ * 매매이력을 거래일 순서로 다시 누적한다.
+ * 이미 적용된 마이그레이션의 결과가 바뀌지 않도록 도메인 클래스(Position, TradeLog, TradeType)를
+ * 사용하지 않고, 작성 당시의 계산을 이 클래스 안에 고정해 둔다.
+ * Flyway가 db/migration/common 위치에서 찾을 수 있도록 파일 이름 규칙(V버전__설명)을 따른다.
+ */
+public class V3_1__Backfill_positions extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int SELL = 2;
+    private static final int AVG_PRICE_SCALE = 15;
+    private static final int COST_SCALE = 17;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+
+        long lastId = 0L;
+        List<Long> ids = findIdsAfter(connection, lastId);
+        while (!ids.isEmpty()) {
+            updatePositions(connection, findPositions(connection, ids));
+            lastId = ids.getLast();
+            ids = findIdsAfter(connection, lastId);
+        }
+    }
+
+    private List<Long> findIdsAfter(Connection connection, long lastId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select id from holding_stock where id > ? order by id limit " + BATCH_SIZE)) {
+            statement.setLong(1, lastId);
+
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 거래일이 없는 매매이력이 먼저 오도록(H2, MySQL, MariaDB의 오름차순 기본값) 정렬된 순서로 누적한다.
+     * 매매이력이 없는 보유종목은 기본값(0)을 그대로 둔다.
+     */
+    private Map<Long, BackfillPosition> findPositions(Connection connection, List<Long> ids)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select holding_stock_id, type, price, quantity from trade_log "
+                        + "where holding_stock_id between ? and ? "
+                        + "order by holding_stock_id, trade_date, id")) {
+            statement.setLong(1, ids.getFirst());
+            statement.setLong(2, ids.getLast());
+
+            Map<Long, BackfillPosition> positions = new LinkedHashMap<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    positions.computeIfAbsent(resultSet.getLong(1), id -> new BackfillPosition())
+                            .apply(resultSet.getInt(2), resultSet.getBigDecimal(3),
+                                    resultSet.getBigDecimal(4));
+                }
+            }
+            return positions;
+        }
+    }
+
+    private void updatePositions(Connection connection, Map<Long, BackfillPosition> positions)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "update holding_stock set quantity = ?, total_cost = ?, avg_price = ?, "
+                        + "realized_gain = ? where id = ?")) {
+            for (Map.Entry<Long, BackfillPosition> entry : positions.entrySet()) {
+                BackfillPosition position = entry.getValue();
+                statement.setBigDecimal(1, position.quantity);
+                statement.setBigDecimal(2, position.totalCost);
+                statement.setBigDecimal(3, position.getAvgPrice());
+                statement.setBigDecimal(4, position.realizedGain);
+                statement.setLong(5, entry.getKey());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * 작성 당시 Position의 이동평균 계산이다.
+     * 기존 데이터에 남아 있을 수 있는 초과 매도는 실패시키지 않고 보유 수량만큼만 매도한다.
+     */
+    private static final class BackfillPosition {
+
+        private BigDecimal quantity = ZERO;
+        private BigDecimal totalCost = ZERO;
+        private BigDecimal realizedGain = ZERO;
+
+        private void apply(int type, BigDecimal price, BigDecimal tradeQuantity) {
+            if (type != SELL) {
+                quantity = quantity.add(tradeQuantity);
+                totalCost = totalCost.add(price.multiply(tradeQuantity));
+                return;
+            }
+
+            BigDecimal soldQuantity = tradeQuantity.min(quantity);
+            BigDecimal soldCost = quantity.signum() == 0 ? ZERO
+                    : totalCost.multiply(soldQuantity).divide(quantity, COST_SCALE, HALF_UP);
+            quantity = quantity.subtract(soldQuantity);
+            totalCost = quantity.signum() == 0 ? ZERO : totalCost.subtract(soldCost);
+            realizedGain = realizedGain.add(price.multiply(soldQuantity)).subtract(soldCost);
+        }
+
+        private BigDecimal getAvgPrice() {
+            return quantity.signum() == 0 ? ZERO
+                    : totalCost.divide(quantity, AVG_PRICE_SCALE, HALF_UP);
+        }
+    }
+}
@@ -7,8 +7,10 @@ import static spofo.global.domain.enums.Server.AUTHSERVER;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 import spofo.auth.domain.MemberInfo;
+import spofo.global.domain.exception.AuthServerUnavailable;
 import spofo.global.domain.exception.TokenNotValid;
 
 @Service
@@ -17,19 +19,29 @@ public class AuthServerServiceImpl implements AuthServerService {
 
     private final RestClient restClient;
 
+    /**
+     * 인증 서버가 4xx로 응답하면 TokenNotValid, 연결 실패나 5xx 응답이면 AuthServerUnavailable을 던진다.
+     */
     @Override
     public Optional<Long> verify(String idToken) {
+        MemberInfo memberInfo;
 
         try {
-            MemberInfo memberInfo = restClient.get()
+            memberInfo = restClient.get()
                     .uri(AUTHSERVER.getUri("/auth/members/search"))
                     .header(AUTHORIZATION, idToken)
                     .retrieve()
                     .body(MemberInfo.class);
-
-            return ofNullable(memberInfo.getId());
+        } catch (HttpClientErrorException e) {
+            throw new TokenNotValid();
         } catch (Exception e) {
+            throw new AuthServerUnavailable();
+        }
+
+        if (memberInfo == null) {
             throw new TokenNotValid();
         }
+
+        return ofNullable(memberInfo.getId());
     }
 }
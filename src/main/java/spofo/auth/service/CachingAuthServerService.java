@@ -0,0 +1,193 @@
+package spofo.auth.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import spofo.global.config.auth.AuthCacheProperties;
+import spofo.global.domain.exception.AuthServerUnavailable;
+import spofo.global.domain.exception.TokenNotValid;
+
+/**
+ * 인증 서버에서 확인한 토큰의 회원 아이디를 캐싱하는 AuthServerService 데코레이터
+ * 인증된 토큰은 ttl과 토큰 만료 시간(exp) 중 빠른 시점까지, 인증에 실패한 토큰은 negativeTtl 동안 캐싱한다.
+ * 토큰 원문을 메모리에 남기지 않도록 SHA-256 해시를 키로 사용한다.
+ * 적중률은 cache.gets 메트릭(cache=auth.tokens), 인증 서버 호출 시간은 auth.verify 메트릭으로 확인할 수 있다.
+ * 인증 서버 호출이 ConcurrentHashMap.compute의 synchronized 블록 안에서 실행되어 가상 스레드를 고정(pinning)하지 않도록
+ * 캐시 조회와 저장을 나누어 호출한다.
+ */
+public class CachingAuthServerService implements AuthServerService {
+
+    private static final String CACHE_NAME = "auth.tokens";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthServerService delegate;
+    private final AuthCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, VerifiedToken> cache;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public CachingAuthServerService(AuthServerService delegate, AuthCacheProperties properties,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new VerifiedTokenExpiry())
+                .recordStats(() -> statsCounter)
+                .build();
+
+        statsCounter.registerSizeMetric(cache);
+
+        this.verifiedTimer = meterRegistry.timer("auth.verify", "result", "verified");
+        this.rejectedTimer = meterRegistry.timer("auth.verify", "result", "rejected");
+    }
+
+    @Override
+    public Optional<Long> verify(String idToken) {
+        if (idToken == null) {
+            throw new TokenNotValid();
+        }
+
+        String key = hash(idToken);
+        VerifiedToken verifiedToken = cache.getIfPresent(key);
+
+        if (verifiedToken == null) {
+            verifiedToken = verifyRemote(idToken);
+            if (verifiedToken != null) {
+                cache.put(key, verifiedToken);
+            }
+        }
+
+        if (verifiedToken == null || verifiedToken.memberId() == null) {
+            throw new TokenNotValid();
+        }
+
+        return Optional.of(verifiedToken.memberId());
+    }
+
+    /**
+     * 인증 서버에 토큰을 확인하고 캐시에 저장할 결과를 만든다.
+     * 이미 만료된 토큰은 캐시에 저장하지 않는다.
+     */
+    private VerifiedToken verifyRemote(String idToken) {
+        long start = System.nanoTime();
+
+        try {
+            Long memberId = delegate.verify(idToken).orElse(null);
+            verifiedTimer.record(System.nanoTime() - start, NANOSECONDS);
+
+            if (memberId == null) {
+                return VerifiedToken.rejected(properties.negativeTtl());
+            }
+
+            Duration ttl = getTtl(idToken);
+            return ttl.isNegative() || ttl.isZero() ? null : VerifiedToken.of(memberId, ttl);
+        } catch (AuthServerUnavailable e) {
+            // 인증 서버 장애는 토큰과 무관하므로 캐싱하지 않는다.
+            throw e;
+        } catch (TokenNotValid e) {
+            rejectedTimer.record(System.nanoTime() - start, NANOSECONDS);
+            return VerifiedToken.rejected(properties.negativeTtl());
+        }
+    }
+
+    /**
+     * 설정된 ttl과 토큰 만료 시간까지 남은 시간 중 짧은 시간을 반환한다.
+     * JWT가 아니거나 만료 시간이 없으면 설정된 ttl을 사용한다.
+     */
+    private Duration getTtl(String idToken) {
+        Duration ttl = properties.ttl();
+        Optional<Instant> expiresAt = getExpiresAt(idToken);
+
+        if (expiresAt.isEmpty()) {
+            return ttl;
+        }
+
+        Duration remaining = Duration.between(Instant.now(), expiresAt.get());
+        return remaining.compareTo(ttl) < 0 ? remaining : ttl;
+    }
+
+    private Optional<Instant> getExpiresAt(String idToken) {
+        String token = idToken.startsWith(BEARER_PREFIX)
+                ? idToken.substring(BEARER_PREFIX.length()) : idToken;
+        String[] parts = token.split("\\.");
+
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode exp = objectMapper.readTree(new String(payload, UTF_8)).get("exp");
+
+            return exp != null && exp.canConvertToLong()
+                    ? Optional.of(Instant.ofEpochSecond(exp.asLong())) : Optional.empty();
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private String hash(String idToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(idToken.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param memberId 인증에 실패한 토큰이면 null
+     * @param ttl      캐시에 유지할 시간
+     */
+    private record VerifiedToken(Long memberId, Duration ttl) {
+
+        static VerifiedToken of(Long memberId, Duration ttl) {
+            return new VerifiedToken(memberId, ttl);
+        }
+
+        static VerifiedToken rejected(Duration ttl) {
+            return new VerifiedToken(null, ttl);
+        }
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
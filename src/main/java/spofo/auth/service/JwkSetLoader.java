@@ -0,0 +1,12 @@
+package spofo.auth.service;
+
+import com.nimbusds.jose.jwk.JWKSet;
+
+/**
+ * ID 토큰 서명 확인에 사용할 JWK Set을 불러온다.
+ */
+@FunctionalInterface
+public interface JwkSetLoader {
+
+    JWKSet load();
+}
@@ -0,0 +1,167 @@
+package spofo.auth.service;
+
+import static java.util.Optional.ofNullable;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import java.text.ParseException;
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import spofo.global.config.auth.AuthJwtProperties;
+import spofo.global.domain.exception.TokenNotValid;
+
+/**
+ * ID 토큰의 서명, 만료 시간, 클레임을 JWK Set으로 로컬에서 확인하는 AuthServerService
+ * 다음 경우에만 인증 서버(fallback)에 토큰을 확인한다.
+ * 1. JWK Set에 없는 키 아이디(kid)로 서명된 토큰
+ * 2. 회원 아이디 클레임이 없는 토큰
+ * 3. JWK Set을 아직 불러오지 못한 경우
+ * JWK Set은 첫 확인 때 불러오고 이후 refreshInterval마다 다시 불러오며,
+ * 불러오기에 실패하면 기존 JWK Set을 계속 사용한다.
+ */
+@Slf4j
+public class LocalJwtAuthServerService implements AuthServerService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthServerService fallback;
+    private final JwkSetLoader jwkSetLoader;
+    private final AuthJwtProperties properties;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Keys keys;
+    private volatile long refreshAt;
+
+    public LocalJwtAuthServerService(AuthServerService fallback, JwkSetLoader jwkSetLoader,
+            AuthJwtProperties properties, Clock clock) {
+        this.fallback = fallback;
+        this.jwkSetLoader = jwkSetLoader;
+        this.properties = properties;
+        this.clock = clock;
+        this.keys = new Keys(new JWKSet(), properties);
+        this.refreshAt = 0L;
+    }
+
+    @Override
+    public Optional<Long> verify(String idToken) {
+        if (idToken == null) {
+            throw new TokenNotValid();
+        }
+
+        refreshIfNeeded();
+
+        SignedJWT jwt = parse(idToken);
+        Keys currentKeys = this.keys;
+
+        if (!currentKeys.contains(jwt.getHeader().getKeyID())) {
+            return fallback.verify(idToken);
+        }
+
+        JWTClaimsSet claims = currentKeys.process(jwt);
+        Long memberId = getMemberId(claims);
+
+        return memberId == null ? fallback.verify(idToken) : Optional.of(memberId);
+    }
+
+    private SignedJWT parse(String idToken) {
+        String token = idToken.startsWith(BEARER_PREFIX)
+                ? idToken.substring(BEARER_PREFIX.length()) : idToken;
+
+        try {
+            return SignedJWT.parse(token);
+        } catch (ParseException e) {
+            throw new TokenNotValid();
+        }
+    }
+
+    private Long getMemberId(JWTClaimsSet claims) {
+        try {
+            return claims.getLongClaim(properties.memberIdClaim());
+        } catch (ParseException e) {
+            throw new TokenNotValid();
+        }
+    }
+
+    /**
+     * 한 스레드만 JWK Set을 다시 불러오고, 나머지 스레드는 기존 JWK Set으로 바로 확인한다.
+     */
+    private void refreshIfNeeded() {
+        if (clock.millis() < refreshAt || !refreshLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (clock.millis() < refreshAt) {
+                return;
+            }
+            keys = new Keys(jwkSetLoader.load(), properties);
+        } catch (RuntimeException e) {
+            log.warn("JWK Set을 불러오지 못해 기존 JWK Set을 사용합니다.", e);
+        } finally {
+            refreshAt = nextRefreshAt();
+            refreshLock.unlock();
+        }
+    }
+
+    private long nextRefreshAt() {
+        return clock.millis() + properties.refreshInterval().toMillis();
+    }
+
+    /**
+     * 불러온 JWK Set과 이를 사용하는 토큰 검증기
+     */
+    private static class Keys {
+
+        private final JWKSet jwkSet;
+        private final DefaultJWTProcessor<SecurityContext> processor;
+
+        Keys(JWKSet jwkSet, AuthJwtProperties properties) {
+            this.jwkSet = jwkSet;
+            this.processor = new DefaultJWTProcessor<>();
+
+            Set<JWSAlgorithm> algorithms = new HashSet<>();
+            algorithms.addAll(JWSAlgorithm.Family.RSA);
+            algorithms.addAll(JWSAlgorithm.Family.EC);
+            processor.setJWSKeySelector(
+                    new JWSVerificationKeySelector<>(algorithms, new ImmutableJWKSet<>(jwkSet)));
+
+            JWTClaimsSet exactMatchClaims = properties.issuer() == null ? null
+                    : new JWTClaimsSet.Builder().issuer(properties.issuer()).build();
+            Set<String> audience = ofNullable(properties.audience()).map(Set::of).orElse(null);
+            processor.setJWTClaimsSetVerifier(
+                    new DefaultJWTClaimsVerifier<>(audience, exactMatchClaims, Set.of("exp"),
+                            null));
+        }
+
+        boolean contains(String keyId) {
+            if (keyId == null) {
+                return false;
+            }
+            JWK jwk = jwkSet.getKeyByKeyId(keyId);
+            return jwk != null;
+        }
+
+        JWTClaimsSet process(SignedJWT jwt) {
+            try {
+                return processor.process(jwt, null);
+            } catch (BadJOSEException | JOSEException e) {
+                throw new TokenNotValid();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package spofo.auth.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import spofo.global.domain.exception.AuthServerUnavailable;
+
+/**
+ * 인증 서버 호출에 서킷 브레이커와 벌크헤드를 적용하는 AuthServerService 데코레이터
+ * 서킷이 열려 있거나 동시 호출 수를 넘으면 인증 서버를 기다리지 않고 AuthServerUnavailable을 던진다.
+ * 잘못된 토큰(TokenNotValid)은 인증 서버 장애로 집계하지 않는다.
+ */
+@RequiredArgsConstructor
+public class ResilientAuthServerService implements AuthServerService {
+
+    private final AuthServerService delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    @Override
+    public Optional<Long> verify(String idToken) {
+        try {
+            return CircuitBreaker.decorateSupplier(circuitBreaker,
+                    Bulkhead.decorateSupplier(bulkhead, () -> delegate.verify(idToken))).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new AuthServerUnavailable();
+        }
+    }
+}
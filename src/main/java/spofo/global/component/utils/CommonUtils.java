@@ -1,15 +1,23 @@
 package spofo.global.component.utils;
 
-import static java.lang.Double.parseDouble;
-import static java.lang.Long.parseLong;
-import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
+import java.math.RoundingMode;
 
 public class CommonUtils {
 
+    private static final int FORMAT_SCALE = 2;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_LONG_DIGITS; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
     public static boolean isZero(BigDecimal value) {
         return value.compareTo(ZERO) == 0;
     }
@@ -34,15 +42,76 @@ public class CommonUtils {
         return value.setScale(getGlobalScale());
     }
 
+    /**
+     * 소수점 아래가 0이면 정수로, 아니면 소수점 아래 2자리까지 반올림(HALF_EVEN)하고 끝의 0을 지운다.
+     * 소수점이 있는 값은 3.0처럼 소수점 아래 1자리 이상을 유지한다.
+     * 응답을 만들 때마다 호출되므로 DecimalFormat과 문자열을 거치지 않고 long 연산으로 계산하며,
+     * 반올림한 결과가 long으로 표현되지 않는 값만 BigDecimal 연산으로 계산한다.
+     */
     public static BigDecimal format(BigDecimal value) {
         if (value == null) {
             return ZERO;
         }
 
-        if (value.remainder(ONE).compareTo(ZERO) == 0) {
-            return getBD(parseLong(new DecimalFormat("####").format(value)));
+        int scale = value.scale();
+        if (scale <= 0) {
+            return value.setScale(0);
+        }
+        if (scale > MAX_LONG_DIGITS || value.precision() > MAX_LONG_DIGITS) {
+            return formatWide(value);
+        }
+
+        long unscaled = value.scaleByPowerOfTen(scale).longValueExact();
+        long divisor = POWERS_OF_TEN[scale];
+        if (unscaled % divisor == 0) {
+            return BigDecimal.valueOf(unscaled / divisor);
+        }
+        if (scale == 1) {
+            return BigDecimal.valueOf(unscaled, 1);
         }
+        if (scale > FORMAT_SCALE) {
+            unscaled = roundHalfEven(unscaled, POWERS_OF_TEN[scale - FORMAT_SCALE]);
+        }
+        return fromCents(unscaled);
+    }
 
-        return getBD(parseDouble(new DecimalFormat("####.##").format(value)));
+    private static long roundHalfEven(long value, long divisor) {
+        long quotient = value / divisor;
+        long remainder = Math.abs(value % divisor);
+        long half = divisor - remainder;
+        if (remainder > half || (remainder == half && (quotient & 1) != 0)) {
+            quotient += Long.signum(value);
+        }
+        return quotient;
+    }
+
+    /**
+     * 소수점이 있는 값을 반올림한 결과(1/100 단위)로 만든다.
+     */
+    private static BigDecimal fromCents(long cents) {
+        if (cents % 10 == 0) {
+            return BigDecimal.valueOf(cents / 10, 1);
+        }
+        return BigDecimal.valueOf(cents, FORMAT_SCALE);
+    }
+
+    /**
+     * DB에서 읽은 합계처럼 자릿수가 많은 값. 반올림한 결과가 long으로 표현되면 long 연산으로 이어서 계산한다.
+     */
+    private static BigDecimal formatWide(BigDecimal value) {
+        BigDecimal rounded = value.setScale(FORMAT_SCALE, RoundingMode.HALF_EVEN);
+        if (rounded.precision() <= MAX_LONG_DIGITS) {
+            long cents = rounded.scaleByPowerOfTen(FORMAT_SCALE).longValueExact();
+            if (cents % 100 == 0 && value.compareTo(rounded) == 0) {
+                return BigDecimal.valueOf(cents / 100);
+            }
+            return fromCents(cents);
+        }
+
+        if (value.stripTrailingZeros().scale() <= 0) {
+            return value.setScale(0, RoundingMode.UNNECESSARY);
+        }
+        BigDecimal stripped = rounded.stripTrailingZeros();
+        return stripped.scale() < 1 ? rounded.setScale(1) : stripped;
     }
 }
@@ -0,0 +1,187 @@
+package spofo.global.component.utils;
+
+import static java.math.BigDecimal.ZERO;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 가격 * 수량의 합계를 BigDecimal 대신 소수점 이하 17자리의 128비트 고정소수점 정수로 누적한다.
+ * 매매이력의 가격(precision 18, scale 2)과 수량(precision 30, scale 15)의 곱은 소수점 이하 17자리로
+ * 오차 없이 표현되므로, 결과는 BigDecimal로 계산한 값과 같다.
+ * 누적하는 동안 중간 결과로 BigDecimal을 만들지 않고, toBigDecimal을 호출할 때 한 번만 만든다.
+ * BigDecimal보다 빠른 것은 포트폴리오 총 자산(보유종목마다 현재가 * 보유 수량)의 합계에서만 확인했으므로
+ * 그 합계에만 사용하고, 다른 합계는 BigDecimal로 계산한다.
+ *
+ * <p>소수점 이하 자릿수가 더 많거나 128비트를 넘는 곱은 BigDecimal로 따로 누적하므로 결과는 항상 정확하다.
+ * 결과의 scale도 ZERO에서 시작하여 BigDecimal의 add, multiply로 계산한 값과 같다.
+ */
+public final class FixedPointAccumulator {
+
+    public static final int SCALE = 17;
+
+    private static final int MAX_TERM_BITS = 126;
+    private static final int MAX_POWER_OF_TEN = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_POWER_OF_TEN + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_POWER_OF_TEN; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private long high; // 상위 64비트 (부호 포함)
+    private long low; // 하위 64비트 (부호 없음)
+    private BigDecimal overflow = ZERO; // 고정소수점으로 표현할 수 없는 값의 합계
+    private int scale = 0; // 누적한 항 중 가장 큰 scale
+
+    private long termHigh; // 누적할 항의 절댓값 (상위 64비트)
+    private long termLow; // 누적할 항의 절댓값 (하위 64비트)
+
+    public FixedPointAccumulator addProduct(BigDecimal price, BigDecimal quantity) {
+        accumulate(price, quantity, false);
+        return this;
+    }
+
+    public FixedPointAccumulator subtractProduct(BigDecimal price, BigDecimal quantity) {
+        accumulate(price, quantity, true);
+        return this;
+    }
+
+    /**
+     * 128비트 합계가 long 범위이면 BigInteger 없이 만든다.
+     * 모든 항이 scale 이하의 자릿수만 가지므로 setScale은 값을 바꾸지 않는다.
+     */
+    public BigDecimal toBigDecimal() {
+        BigDecimal sum = high == low >> (Long.SIZE - 1) ? BigDecimal.valueOf(low, SCALE)
+                : new BigDecimal(new BigInteger(toBytes(high, low)), SCALE);
+        if (overflow.signum() != 0) {
+            sum = sum.add(overflow);
+        }
+        return sum.setScale(scale);
+    }
+
+    /**
+     * a * b를 누적한다. 소수점 이하 자릿수가 17자리를 넘으면 끝의 0을 지우고 한 번 더 시도한다.
+     */
+    private void accumulate(BigDecimal a, BigDecimal b, boolean negative) {
+        scale = Math.max(scale, a.scale() + b.scale());
+
+        if (accumulateFixed(a, b, negative)
+                || accumulateFixed(a.stripTrailingZeros(), b.stripTrailingZeros(), negative)) {
+            return;
+        }
+
+        BigDecimal term = a.multiply(b);
+        overflow = negative ? overflow.subtract(term) : overflow.add(term);
+    }
+
+    /**
+     * 곱을 소수점 이하 17자리로 맞춰서 더한다. 128비트를 넘으면 false를 반환하고 누적하지 않는다.
+     * unscaledValue는 long 범위의 값이면 BigInteger를 새로 만들지만, DB에서 읽은 수량처럼
+     * 자릿수가 큰 값은 BigDecimal이 가진 BigInteger를 그대로 반환한다.
+     */
+    private boolean accumulateFixed(BigDecimal a, BigDecimal b, boolean negative) {
+        int exponent = SCALE - a.scale() - b.scale();
+        if (exponent < 0) {
+            return false;
+        }
+
+        BigInteger x = a.unscaledValue();
+        BigInteger y = b.unscaledValue();
+        if (x.bitLength() < y.bitLength()) {
+            BigInteger temp = x;
+            x = y;
+            y = temp;
+        }
+
+        return loadTerm(x) && multiplyTerm(y) && scaleTerm(exponent)
+                && addTerm(x.signum() * y.signum() < 0 != negative);
+    }
+
+    private boolean loadTerm(BigInteger value) {
+        int bitLength = value.bitLength();
+        if (bitLength < Long.SIZE - 1) {
+            termHigh = 0;
+            termLow = Math.abs(value.longValue());
+            return true;
+        }
+        if (bitLength > MAX_TERM_BITS) {
+            return false;
+        }
+
+        BigInteger magnitude = value.abs();
+        termHigh = magnitude.shiftRight(Long.SIZE).longValue();
+        termLow = magnitude.longValue();
+        return true;
+    }
+
+    private boolean multiplyTerm(BigInteger value) {
+        if (value.bitLength() >= Long.SIZE - 1) {
+            return false;
+        }
+        return multiplyTerm(Math.abs(value.longValue()));
+    }
+
+    private boolean scaleTerm(int exponent) {
+        while (exponent > 0) {
+            int digits = Math.min(exponent, MAX_POWER_OF_TEN);
+            if (!multiplyTerm(POWERS_OF_TEN[digits])) {
+                return false;
+            }
+            exponent -= digits;
+        }
+        return true;
+    }
+
+    /**
+     * 항(term)에 0 이상의 long을 곱한다. 결과가 127비트를 넘으면 false를 반환한다.
+     */
+    private boolean multiplyTerm(long multiplier) {
+        long productHigh = termHigh * multiplier;
+        if (Math.multiplyHigh(termHigh, multiplier) != 0 || productHigh < 0) {
+            return false;
+        }
+        productHigh += unsignedMultiplyHigh(termLow, multiplier);
+        if (productHigh < 0) {
+            return false;
+        }
+
+        termHigh = productHigh;
+        termLow *= multiplier;
+        return true;
+    }
+
+    private boolean addTerm(boolean negative) {
+        long addHigh = termHigh;
+        long addLow = termLow;
+        if (negative) {
+            addLow = -addLow;
+            addHigh = addLow == 0 ? -addHigh : ~addHigh;
+        }
+
+        long sumLow = low + addLow;
+        long sumHigh = high + addHigh + (Long.compareUnsigned(sumLow, low) < 0 ? 1 : 0);
+        if ((high < 0) == (addHigh < 0) && (sumHigh < 0) != (high < 0)) {
+            return false;
+        }
+
+        high = sumHigh;
+        low = sumLow;
+        return true;
+    }
+
+    private static byte[] toBytes(long high, long low) {
+        byte[] bytes = new byte[2 * Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[i] = (byte) (high >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+            bytes[Long.BYTES + i] = (byte) (low >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+        }
+        return bytes;
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
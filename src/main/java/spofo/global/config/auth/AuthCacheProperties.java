@@ -0,0 +1,20 @@
+package spofo.global.config.auth;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 인증된 토큰 캐시 설정
+ *
+ * @param ttl         인증된 토큰을 캐시에 유지하는 최대 시간으로 토큰의 만료 시간(exp)을 넘지 않는다.
+ * @param negativeTtl 인증에 실패한 토큰을 캐시에 유지하는 시간
+ * @param maximumSize 캐시에 저장할 최대 토큰 수
+ */
+@ConfigurationProperties(prefix = "auth.cache")
+public record AuthCacheProperties(
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("10s") Duration negativeTtl,
+        @DefaultValue("100000") long maximumSize) {
+
+}
@@ -0,0 +1,29 @@
+package spofo.global.config.auth;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
+
+/**
+ * ID 토큰 로컬 인증 설정
+ *
+ * @param enabled         true이면 토큰 서명을 로컬에서 확인하고, 알 수 없는 키로 서명된 토큰만 인증 서버에 확인한다.
+ * @param jwkSetUri       JWK Set을 불러올 인증 서버 경로
+ * @param jwkSetLocation  JWK Set 파일 위치로 설정하면 jwkSetUri 대신 사용한다. (ex. file:/etc/spofo/jwks.json)
+ * @param refreshInterval JWK Set을 다시 불러오는 주기
+ * @param memberIdClaim   회원 아이디가 담긴 클레임 이름
+ * @param issuer          설정하면 토큰의 iss 클레임이 같아야 한다.
+ * @param audience        설정하면 토큰의 aud 클레임에 포함되어야 한다.
+ */
+@ConfigurationProperties(prefix = "auth.jwt")
+public record AuthJwtProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("https://auth.spofo.net/.well-known/jwks.json") String jwkSetUri,
+        Resource jwkSetLocation,
+        @DefaultValue("10m") Duration refreshInterval,
+        @DefaultValue("memberId") String memberIdClaim,
+        String issuer,
+        String audience) {
+
+}
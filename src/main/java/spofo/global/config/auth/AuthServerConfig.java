@@ -0,0 +1,84 @@
+package spofo.global.config.auth;
+
+import static spofo.global.domain.enums.Server.AUTHSERVER;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.JWKSet;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.ParseException;
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.client.RestClient;
+import spofo.auth.service.AuthServerService;
+import spofo.auth.service.AuthServerServiceImpl;
+import spofo.auth.service.CachingAuthServerService;
+import spofo.auth.service.JwkSetLoader;
+import spofo.auth.service.LocalJwtAuthServerService;
+import spofo.auth.service.ResilientAuthServerService;
+
+/**
+ * TokenAuthenticationFilter에서 주입받는 AuthServerService는 인증 서버를 호출하는
+ * AuthServerServiceImpl을 서킷 브레이커/벌크헤드, 캐시 순서로 감싼 빈이다.
+ * auth.jwt.enabled가 true이면 토큰을 로컬에서 확인하고, 캐시된 인증 서버 호출은 fallback으로만 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties({AuthCacheProperties.class, AuthJwtProperties.class})
+public class AuthServerConfig {
+
+    @Bean
+    @Primary
+    public AuthServerService authServerService(AuthServerServiceImpl authServerServiceImpl,
+            AuthCacheProperties authCacheProperties, AuthJwtProperties authJwtProperties,
+            RestClient restClient, ObjectMapper objectMapper,
+            CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {
+        AuthServerService authServerService = new ResilientAuthServerService(
+                authServerServiceImpl,
+                circuitBreakerRegistry.circuitBreaker(AUTHSERVER.name(), AUTHSERVER.name()),
+                bulkheadRegistry.bulkhead(AUTHSERVER.name(), AUTHSERVER.name()));
+
+        authServerService = new CachingAuthServerService(authServerService, authCacheProperties,
+                objectMapper, meterRegistry);
+
+        if (!authJwtProperties.enabled()) {
+            return authServerService;
+        }
+
+        return new LocalJwtAuthServerService(authServerService,
+                jwkSetLoader(authJwtProperties, restClient), authJwtProperties,
+                Clock.systemUTC());
+    }
+
+    private JwkSetLoader jwkSetLoader(AuthJwtProperties properties, RestClient restClient) {
+        if (properties.jwkSetLocation() != null) {
+            return () -> {
+                try (InputStream inputStream = properties.jwkSetLocation().getInputStream()) {
+                    return JWKSet.load(inputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (ParseException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+
+        return () -> {
+            try {
+                return JWKSet.parse(restClient.get()
+                        .uri(properties.jwkSetUri())
+                        .retrieve()
+                        .body(String.class));
+            } catch (ParseException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
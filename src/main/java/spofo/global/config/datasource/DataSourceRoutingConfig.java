@@ -0,0 +1,96 @@
+package spofo.global.config.datasource;
+
+import static org.springframework.security.core.context.SecurityContextHolder.getContext;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.core.Authentication;
+import spofo.auth.domain.MemberInfo;
+
+/**
+ * datasource.routing.enabled가 true이면 spring.datasource를 primary로, datasource.routing.replica를
+ * replica로 사용하는 ReplicaRoutingDataSource를 기본 DataSource로 등록한다.
+ * OSIV(spring.jpa.open-in-view)를 켜면 요청 동안 EntityManager가 처음 얻은 커넥션을 계속 사용하므로
+ * 읽기 전용 트랜잭션 뒤의 쓰기가 replica 커넥션에서 실행된다. 따라서 OSIV가 켜져 있으면 시작하지 않는다.
+ * 예) 로컬에서는 H2 두 개로 확인할 수 있다.
+ * --datasource.routing.enabled=true --datasource.routing.replica.jdbc-url=jdbc:h2:mem:replica
+ * --spring.jpa.open-in-view=false
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    public DataSourceRoutingConfig(JpaProperties jpaProperties) {
+        if (!Boolean.FALSE.equals(jpaProperties.getOpenInView())) {
+            throw new IllegalStateException(
+                    "datasource.routing.enabled를 사용하려면 spring.jpa.open-in-view를 false로 설정해야 합니다.");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.routing.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replicaDataSource = new HikariDataSource();
+        replicaDataSource.setPoolName("replica");
+        replicaDataSource.setReadOnly(true);
+        return replicaDataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), properties.lagQuery(),
+                properties.maxReplicaLag(), meterRegistry);
+    }
+
+    /**
+     * 트랜잭션이 시작된 뒤 첫 쿼리에서 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor, DataSourceRoutingProperties properties) {
+        RecentWriteTracker recentWriteTracker = new RecentWriteTracker(
+                properties.readYourWritesWindow(), properties.maximumTrackedMembers(),
+                Clock.systemUTC());
+
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, recentWriteTracker,
+                DataSourceRoutingConfig::getCurrentMemberId));
+    }
+
+    private static Long getCurrentMemberId() {
+        Authentication authentication = getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof MemberInfo member) {
+            return member.getId();
+        }
+        return null;
+    }
+}
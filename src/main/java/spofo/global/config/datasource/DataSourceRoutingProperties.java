@@ -0,0 +1,27 @@
+package spofo.global.config.datasource;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 트랜잭션을 replica로 보내는 DataSource 라우팅 설정
+ * replica 접속 정보는 datasource.routing.replica 아래에 HikariCP 설정 이름(jdbc-url 등)으로 지정한다.
+ *
+ * @param enabled              true이면 @Transactional(readOnly = true)를 replica에서 실행한다.
+ * @param maxReplicaLag        replica 지연이 이 시간보다 크면 읽기도 primary에서 실행한다.
+ * @param lagQuery             replica 지연(초)을 조회하는 쿼리, 비어 있으면 지연을 확인하지 않는다.
+ * @param lagCheckInterval     replica 지연을 확인하는 주기
+ * @param readYourWritesWindow 회원이 쓰기를 커밋한 뒤 이 시간 동안은 그 회원의 읽기를 primary에서 실행한다.
+ * @param maximumTrackedMembers 최근 쓰기 시간을 기억할 최대 회원 수
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration maxReplicaLag,
+        String lagQuery,
+        @DefaultValue("1s") Duration lagCheckInterval,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("100000") long maximumTrackedMembers) {
+
+}
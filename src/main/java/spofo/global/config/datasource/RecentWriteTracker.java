@@ -0,0 +1,36 @@
+package spofo.global.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 회원별 마지막 쓰기 커밋 시간을 기억하여, 쓰기 직후의 조회가 아직 복제되지 않은 replica를 읽지 않도록 한다.
+ */
+public class RecentWriteTracker {
+
+    private final Cache<Long, Instant> lastWrites;
+    private final Duration window;
+    private final Clock clock;
+
+    public RecentWriteTracker(Duration window, long maximumSize, Clock clock) {
+        this.lastWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public void recordWrite(Long memberId) {
+        lastWrites.put(memberId, clock.instant());
+    }
+
+    public boolean hasRecentWrite(Long memberId) {
+        Instant lastWrite = lastWrites.getIfPresent(memberId);
+
+        return lastWrite != null && clock.instant().isBefore(lastWrite.plus(window));
+    }
+}
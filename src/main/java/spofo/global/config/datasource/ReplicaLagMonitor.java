@@ -0,0 +1,61 @@
+package spofo.global.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+/**
+ * replica의 지연을 주기적으로 확인하여 읽기를 replica로 보내도 되는지 판단한다.
+ * 지연 조회에 실패하거나 지연이 허용 범위를 넘으면 다음 확인 전까지 읽기를 primary로 보낸다.
+ * 마지막으로 확인한 지연(초)은 datasource.replica.lag 메트릭으로 확인할 수 있다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxReplicaLag;
+
+    private volatile Duration lag = Duration.ZERO;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, String lagQuery,
+            Duration maxReplicaLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.lagQuery = lagQuery;
+        this.maxReplicaLag = maxReplicaLag;
+        // 지연을 확인하기 전에는 replica가 최신인지 알 수 없으므로 primary에서 읽는다.
+        this.available = !StringUtils.hasText(lagQuery);
+
+        meterRegistry.gauge("datasource.replica.lag", this,
+                monitor -> monitor.lag.toMillis() / 1000.0);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:1s}")
+    public void check() {
+        if (!StringUtils.hasText(lagQuery)) {
+            return;
+        }
+
+        try {
+            Double seconds = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            if (seconds == null) {
+                // 복제가 멈춘 경우 MySQL은 지연을 NULL로 반환한다.
+                available = false;
+                return;
+            }
+            lag = Duration.ofMillis((long) (seconds * 1000));
+            available = lag.compareTo(maxReplicaLag) <= 0;
+        } catch (RuntimeException e) {
+            available = false;
+            log.warn("replica 지연을 확인하지 못했습니다.", e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
@@ -0,0 +1,80 @@
+package spofo.global.config.datasource;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isCurrentTransactionReadOnly;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 그 외에는 primary로 커넥션을 나눠주는 DataSource
+ * 트랜잭션의 readOnly 여부는 트랜잭션이 시작된 뒤에 정해지므로 LazyConnectionDataSourceProxy로 감싸서
+ * 첫 쿼리를 실행할 때 커넥션을 얻도록 해야 한다.
+ *
+ * <p>읽기 전용 트랜잭션이라도 다음의 경우에는 primary를 사용한다.
+ * <ul>
+ *     <li>replica 지연이 허용 범위를 넘은 경우</li>
+ *     <li>현재 회원이 최근에 쓰기를 커밋한 경우 (read-your-writes)</li>
+ * </ul>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final RecentWriteTracker recentWriteTracker;
+    private final Supplier<Long> currentMemberId;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor, RecentWriteTracker recentWriteTracker,
+            Supplier<Long> currentMemberId) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.recentWriteTracker = recentWriteTracker;
+        this.currentMemberId = currentMemberId;
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+
+        Long memberId = currentMemberId.get();
+
+        if (!isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit(memberId);
+            return Route.PRIMARY;
+        }
+        if (!replicaLagMonitor.isAvailable()) {
+            return Route.PRIMARY;
+        }
+        if (memberId != null && recentWriteTracker.hasRecentWrite(memberId)) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    private void recordWriteAfterCommit(Long memberId) {
+        if (memberId == null || !isSynchronizationActive()) {
+            return;
+        }
+
+        registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriteTracker.recordWrite(memberId);
+            }
+        });
+    }
+}
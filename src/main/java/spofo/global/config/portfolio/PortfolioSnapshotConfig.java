@@ -0,0 +1,19 @@
+package spofo.global.config.portfolio;
+
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스냅샷 날짜의 기준 시계. 일간 수익률은 이 시계의 오늘 이전 마지막 스냅샷과 비교한다.
+ */
+@Configuration
+@EnableConfigurationProperties(PortfolioSnapshotProperties.class)
+public class PortfolioSnapshotConfig {
+
+    @Bean
+    public Clock clock(PortfolioSnapshotProperties portfolioSnapshotProperties) {
+        return Clock.system(portfolioSnapshotProperties.zone());
+    }
+}
@@ -0,0 +1,45 @@
+package spofo.global.config.portfolio;
+
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import spofo.portfolio.service.PortfolioSnapshotJob;
+import spofo.portfolio.service.PortfolioSnapshotWriter;
+import spofo.portfolio.service.port.PortfolioRepository;
+import spofo.portfolio.service.port.PortfolioSnapshotRepository;
+import spofo.stock.service.StockServerService;
+
+/**
+ * portfolio.snapshot.enabled가 true일 때 장 마감 후 포트폴리오 일별 스냅샷을 저장한다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "portfolio.snapshot", name = "enabled", havingValue = "true")
+public class PortfolioSnapshotJobConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor portfolioSnapshotExecutor(
+            PortfolioSnapshotProperties portfolioSnapshotProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(portfolioSnapshotProperties.parallelism());
+        executor.setMaxPoolSize(portfolioSnapshotProperties.parallelism());
+        executor.setThreadNamePrefix("portfolio-snapshot-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public PortfolioSnapshotJob portfolioSnapshotJob(PortfolioRepository portfolioRepository,
+            PortfolioSnapshotRepository portfolioSnapshotRepository,
+            PortfolioSnapshotWriter portfolioSnapshotWriter,
+            StockServerService stockServerService,
+            ThreadPoolTaskExecutor portfolioSnapshotExecutor, Clock clock,
+            PortfolioSnapshotProperties portfolioSnapshotProperties) {
+        return new PortfolioSnapshotJob(portfolioRepository, portfolioSnapshotRepository,
+                portfolioSnapshotWriter, stockServerService, portfolioSnapshotExecutor, clock,
+                portfolioSnapshotProperties);
+    }
+}
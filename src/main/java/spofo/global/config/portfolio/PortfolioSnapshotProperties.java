@@ -0,0 +1,26 @@
+package spofo.global.config.portfolio;
+
+import java.time.ZoneId;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포트폴리오 일별 스냅샷 설정
+ *
+ * @param enabled          true이면 cron마다 모든 회원의 포트폴리오 스냅샷을 저장한다.
+ * @param cron             스냅샷 작업을 실행할 시각. 같은 날 다시 실행되면 저장하지 못한 회원만 처리한다.
+ * @param zone             스냅샷 날짜와 cron의 기준 시간대
+ * @param chunkSize        하나의 트랜잭션에서 처리할 회원 수
+ * @param parallelism      동시에 처리할 청크 수 (DB 커넥션을 최대 이만큼 사용한다.)
+ * @param stockConcurrency 동시에 실행할 주식 서버 조회 수
+ */
+@ConfigurationProperties(prefix = "portfolio.snapshot")
+public record PortfolioSnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0 0 18-23 * * MON-FRI") String cron,
+        @DefaultValue("Asia/Seoul") ZoneId zone,
+        @DefaultValue("100") int chunkSize,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("2") int stockConcurrency) {
+
+}
@@ -0,0 +1,38 @@
+package spofo.global.config.position;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import spofo.holdingstock.service.PositionRebuilder;
+
+/**
+ * position.rebuild.enabled가 true일 때 시작 시점에 보유 현황을 다시 계산한다.
+ * 예) java -jar app.jar --position.rebuild.enabled=true
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(PositionRebuildProperties.class)
+@ConditionalOnProperty(prefix = "position.rebuild", name = "enabled", havingValue = "true")
+public class PositionRebuildConfig {
+
+    @Bean
+    public ApplicationRunner positionRebuildRunner(PositionRebuilder positionRebuilder,
+            PositionRebuildProperties positionRebuildProperties) {
+        return args -> {
+            int batchSize = positionRebuildProperties.batchSize();
+            int count = 0;
+
+            List<Long> ids = positionRebuilder.rebuild(0L, batchSize);
+            while (!ids.isEmpty()) {
+                count += ids.size();
+                ids = positionRebuilder.rebuild(ids.getLast(), batchSize);
+            }
+
+            log.info("보유 현황 재계산 완료: {}건", count);
+        };
+    }
+}
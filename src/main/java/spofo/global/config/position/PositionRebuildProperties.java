@@ -0,0 +1,17 @@
+package spofo.global.config.position;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 보유 현황 재계산 설정
+ *
+ * @param enabled   true이면 애플리케이션 시작 시 모든 보유종목의 보유 현황을 매매이력으로 다시 계산한다.
+ * @param batchSize 하나의 트랜잭션에서 다시 계산할 보유종목 수
+ */
+@ConfigurationProperties(prefix = "position.rebuild")
+public record PositionRebuildProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int batchSize) {
+
+}
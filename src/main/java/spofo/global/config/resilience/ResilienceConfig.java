@@ -0,0 +1,82 @@
+package spofo.global.config.resilience;
+
+import static java.util.stream.Collectors.toMap;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+import spofo.global.config.resilience.ResilienceProperties.Policy;
+import spofo.global.domain.enums.Server;
+import spofo.global.domain.exception.AuthServerUnavailable;
+import spofo.global.domain.exception.TokenNotValid;
+
+/**
+ * 서버 이름(Server.name())으로 서킷 브레이커와 벌크헤드 설정을 등록한다.
+ * 서킷 상태는 resilience4j.circuitbreaker.state, 벌크헤드 사용량은 resilience4j.bulkhead.available.concurrent.calls
+ * 메트릭(name=서버명)으로 확인할 수 있다.
+ */
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(ResilienceProperties resilienceProperties,
+            MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(
+                configs(server -> circuitBreakerConfig(resilienceProperties.getPolicy(server))));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(ResilienceProperties resilienceProperties,
+            MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(
+                configs(server -> bulkheadConfig(resilienceProperties.getPolicy(server))));
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    /**
+     * 잘못된 토큰, 잘못된 요청(4xx)과 벌크헤드 초과는 서버 장애가 아니므로 실패로 집계하지 않는다.
+     */
+    private CircuitBreakerConfig circuitBreakerConfig(Policy policy) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(policy.failureRateThreshold())
+                .slowCallDurationThreshold(policy.slowCallDuration())
+                .slowCallRateThreshold(policy.slowCallRateThreshold())
+                .slidingWindowSize(policy.slidingWindowSize())
+                .minimumNumberOfCalls(policy.minimumNumberOfCalls())
+                .waitDurationInOpenState(policy.waitInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(policy.permittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreException(e -> e instanceof BulkheadFullException
+                        || e instanceof HttpClientErrorException
+                        || (e instanceof TokenNotValid && !(e instanceof AuthServerUnavailable)))
+                .build();
+    }
+
+    private BulkheadConfig bulkheadConfig(Policy policy) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(policy.maxConcurrentCalls())
+                .maxWaitDuration(policy.maxWait())
+                .build();
+    }
+
+    private <T> Map<String, T> configs(Function<Server, T> config) {
+        return Arrays.stream(Server.values())
+                .collect(toMap(Server::name, config));
+    }
+}
@@ -0,0 +1,51 @@
+package spofo.global.config.resilience;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import spofo.global.domain.enums.Server;
+
+/**
+ * 인증 서버, 주식 서버 호출에 적용하는 서킷 브레이커와 벌크헤드 설정
+ *
+ * @param servers 서버별 설정으로 설정하지 않은 서버는 기본값을 사용한다.
+ */
+@ConfigurationProperties(prefix = "resilience")
+public record ResilienceProperties(Map<Server, Policy> servers) {
+
+    private static final Policy DEFAULT_POLICY = new Policy(20, Duration.ZERO, 50,
+            Duration.ofSeconds(2), 50, 20, 10, Duration.ofSeconds(10), 3);
+
+    public Policy getPolicy(Server server) {
+        if (servers == null || server == null) {
+            return DEFAULT_POLICY;
+        }
+
+        return servers.getOrDefault(server, DEFAULT_POLICY);
+    }
+
+    /**
+     * @param maxConcurrentCalls            서버로 동시에 보낼 수 있는 최대 요청 수 (벌크헤드)
+     * @param maxWait                       동시 요청 수가 가득 찼을 때 기다리는 시간으로, 넘으면 바로 실패한다.
+     * @param failureRateThreshold          실패율(%)이 이 값 이상이면 서킷을 연다.
+     * @param slowCallDuration              이 시간보다 오래 걸린 요청은 느린 요청으로 본다.
+     * @param slowCallRateThreshold         느린 요청 비율(%)이 이 값 이상이면 서킷을 연다.
+     * @param slidingWindowSize             실패율을 계산할 최근 요청 수
+     * @param minimumNumberOfCalls          실패율을 계산하기 위한 최소 요청 수
+     * @param waitInOpenState               서킷이 열린 뒤 반열림(half-open)으로 바뀌기까지의 시간
+     * @param permittedCallsInHalfOpenState 반열림 상태에서 서버 상태를 확인하기 위해 허용하는 요청 수
+     */
+    public record Policy(
+            @DefaultValue("20") int maxConcurrentCalls,
+            @DefaultValue("0ms") Duration maxWait,
+            @DefaultValue("50") float failureRateThreshold,
+            @DefaultValue("2s") Duration slowCallDuration,
+            @DefaultValue("50") float slowCallRateThreshold,
+            @DefaultValue("20") int slidingWindowSize,
+            @DefaultValue("10") int minimumNumberOfCalls,
+            @DefaultValue("10s") Duration waitInOpenState,
+            @DefaultValue("3") int permittedCallsInHalfOpenState) {
+
+    }
+}
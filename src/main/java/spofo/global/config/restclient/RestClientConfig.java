@@ -2,18 +2,41 @@ package spofo.global.config.restclient;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
+import spofo.global.config.restclient.RestClientProperties.Pool;
+import spofo.global.domain.enums.Server;
 
 @Configuration
+@EnableConfigurationProperties(RestClientProperties.class)
 public class RestClientConfig {
 
     @Bean
-    public RestClient restClient() {
+    public RestClient restClient(ClientHttpRequestFactory clientHttpRequestFactory) {
         return RestClient.builder()
+                .requestFactory(clientHttpRequestFactory)
                 .requestInterceptor(clientHttpRequestInterceptor())
                 .build();
     }
@@ -28,4 +51,81 @@ public class RestClientConfig {
             return execution.execute(request, body);
         };
     }
+
+    /**
+     * rest-client.engine에 설정된 HTTP 클라이언트로 서버마다 커넥션 풀을 만든다.
+     * APACHE 엔진의 커넥션 풀 사용량은 httpcomponents.httpclient.pool 메트릭(httpclient=서버명)으로 확인할 수 있다.
+     */
+    @Bean
+    public ServerRoutingClientHttpRequestFactory clientHttpRequestFactory(
+            RestClientProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, ClientHttpRequestFactory> factories = new HashMap<>();
+
+        for (Server server : Server.values()) {
+            ClientHttpRequestFactory factory = createRequestFactory(properties,
+                    properties.getPool(server), server.name().toLowerCase(), meterRegistry);
+
+            factories.put(server.getHost(), factory);
+        }
+
+        ClientHttpRequestFactory defaultFactory = createRequestFactory(properties,
+                properties.getPool(null), "default", meterRegistry);
+
+        return new ServerRoutingClientHttpRequestFactory(factories, defaultFactory);
+    }
+
+    private ClientHttpRequestFactory createRequestFactory(RestClientProperties properties,
+            Pool pool, String name, ObjectProvider<MeterRegistry> meterRegistry) {
+        return switch (properties.engine()) {
+            case JDK -> createJdkRequestFactory(properties);
+            case APACHE -> createApacheRequestFactory(properties, pool, name, meterRegistry);
+        };
+    }
+
+    private ClientHttpRequestFactory createJdkRequestFactory(RestClientProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.connectTimeout())
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(properties.readTimeout());
+
+        return factory;
+    }
+
+    private ClientHttpRequestFactory createApacheRequestFactory(RestClientProperties properties,
+            Pool pool, String name, ObjectProvider<MeterRegistry> meterRegistry) {
+        TimeValue keepAlive = TimeValue.ofMilliseconds(pool.keepAlive().toMillis());
+
+        PoolingHttpClientConnectionManager connectionManager =
+                PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(pool.maxConnections())
+                        .setMaxConnPerRoute(pool.maxConnections())
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(toTimeout(properties.connectTimeout()))
+                                .setSocketTimeout(toTimeout(properties.readTimeout()))
+                                .build())
+                        .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(
+                                toTimeout(properties.connectionRequestTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictIdleConnections(keepAlive)
+                .build();
+
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name)
+                        .bindTo(registry));
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
 }
@@ -0,0 +1,50 @@
+package spofo.global.config.restclient;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import spofo.global.domain.enums.Server;
+
+/**
+ * 인증 서버, 주식 서버와 통신하는 HTTP 클라이언트 설정
+ *
+ * @param engine                   HTTP 클라이언트 구현체
+ * @param connectTimeout           연결 타임아웃
+ * @param readTimeout              응답 대기 타임아웃
+ * @param connectionRequestTimeout 커넥션 풀에서 커넥션을 얻기까지 기다리는 시간 (APACHE만 해당)
+ * @param servers                  서버별 커넥션 풀 설정으로 설정하지 않은 서버는 기본값을 사용한다.
+ */
+@ConfigurationProperties(prefix = "rest-client")
+public record RestClientProperties(
+        @DefaultValue("APACHE") Engine engine,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("3s") Duration readTimeout,
+        @DefaultValue("1s") Duration connectionRequestTimeout,
+        Map<Server, Pool> servers) {
+
+    private static final Pool DEFAULT_POOL = new Pool(50, Duration.ofSeconds(30));
+
+    public Pool getPool(Server server) {
+        if (servers == null || server == null) {
+            return DEFAULT_POOL;
+        }
+
+        return servers.getOrDefault(server, DEFAULT_POOL);
+    }
+
+    public enum Engine {
+        JDK, // JDK HttpClient (HTTP/2)
+        APACHE // Apache HttpClient 5 커넥션 풀
+    }
+
+    /**
+     * @param maxConnections 서버별 최대 커넥션 수 (JDK는 커넥션 수를 제한하지 않는다.)
+     * @param keepAlive      사용하지 않는 커넥션을 유지하는 시간
+     */
+    public record Pool(
+            @DefaultValue("50") int maxConnections,
+            @DefaultValue("30s") Duration keepAlive) {
+
+    }
+}
@@ -0,0 +1,42 @@
+package spofo.global.config.restclient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * 요청하는 서버(host)마다 별도의 커넥션 풀을 사용하도록 요청을 나눠주는 ClientHttpRequestFactory
+ * 등록되지 않은 host는 defaultFactory를 사용한다.
+ */
+@RequiredArgsConstructor
+public class ServerRoutingClientHttpRequestFactory implements ClientHttpRequestFactory,
+        DisposableBean {
+
+    private final Map<String, ClientHttpRequestFactory> factories;
+    private final ClientHttpRequestFactory defaultFactory;
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return factories.getOrDefault(uri.getHost(), defaultFactory)
+                .createRequest(uri, httpMethod);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (ClientHttpRequestFactory factory : factories.values()) {
+            destroy(factory);
+        }
+        destroy(defaultFactory);
+    }
+
+    private void destroy(ClientHttpRequestFactory factory) throws Exception {
+        if (factory instanceof DisposableBean disposableBean) {
+            disposableBean.destroy();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package spofo.global.config.stock;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주식 시세 단건 조회 묶음 처리 설정
+ *
+ * @param enabled      true이면 단건 조회를 모아서 목록조회 한 번으로 처리한다.
+ * @param window       첫 단건 조회가 들어온 후 다른 조회를 모으는 최대 시간
+ * @param maxBatchSize 이 수만큼 모이면 window를 기다리지 않고 바로 조회한다.
+ */
+@ConfigurationProperties(prefix = "stock.batching")
+public record StockBatchingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5ms") Duration window,
+        @DefaultValue("100") int maxBatchSize) {
+
+}
@@ -0,0 +1,20 @@
+package spofo.global.config.stock;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주식 시세 캐시 설정
+ *
+ * @param ttl          시세가 캐시에 저장된 후 만료되기까지의 시간
+ * @param refreshAfter 시세가 저장된 후 이 시간이 지나면 조회 시 백그라운드에서 미리 갱신한다. (ttl보다 짧아야 한다.)
+ * @param maximumSize  캐시에 저장할 최대 종목 수로 초과하면 오래된 종목부터 제거된다.
+ */
+@ConfigurationProperties(prefix = "stock.cache")
+public record StockCacheProperties(
+        @DefaultValue("10s") Duration ttl,
+        @DefaultValue("5s") Duration refreshAfter,
+        @DefaultValue("10000") long maximumSize) {
+
+}
@@ -0,0 +1,16 @@
+package spofo.global.config.stock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주식 시세 동시 조회 병합 설정
+ *
+ * @param maxConcurrentBatches 주식 서버로 동시에 보낼 수 있는 목록조회 요청 수
+ *                             모두 사용 중이면 새로 들어온 종목들은 대기하다가 다음 요청에 한 번에 합쳐진다.
+ */
+@ConfigurationProperties(prefix = "stock.coalescing")
+public record StockCoalescingProperties(
+        @DefaultValue("4") int maxConcurrentBatches) {
+
+}
@@ -0,0 +1,18 @@
+package spofo.global.config.stock;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주식 시세 비동기 목록조회 설정
+ *
+ * @param timeout  비동기 목록조회를 기다리는 최대 시간으로, 넘으면 조회를 취소한다.
+ * @param poolSize 비동기 목록조회를 실행하는 스레드 수 (가상 스레드 모드에서는 사용하지 않는다.)
+ */
+@ConfigurationProperties(prefix = "stock.fetch")
+public record StockFetchProperties(
+        @DefaultValue("3s") Duration timeout,
+        @DefaultValue("32") int poolSize) {
+
+}
@@ -0,0 +1,34 @@
+package spofo.global.config.stock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import spofo.holdingstock.service.port.HoldingStockRepository;
+import spofo.stock.service.ResilientStockServerService;
+import spofo.stock.service.StockPriceIngester;
+import spofo.stock.service.StockPriceTable;
+
+/**
+ * stock.ingest.enabled가 true일 때만 보유종목 시세를 주기적으로 수집한다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "stock.ingest", name = "enabled", havingValue = "true")
+public class StockIngestConfig {
+
+    /**
+     * 캐시와 시세 테이블은 거치지 않지만, 요청 처리와 같은 서킷 브레이커와 벌크헤드를 거쳐 주식 서버를 호출한다.
+     * 주식 서버 장애 중에는 호출하지 않고 마지막 시세를 받으며, 마지막 시세는 원래 가져온 시각을 유지한다.
+     */
+    @Bean
+    public StockPriceIngester stockPriceIngester(
+            ResilientStockServerService resilientStockServerService,
+            HoldingStockRepository holdingStockRepository, StockPriceTable stockPriceTable,
+            StockIngestProperties stockIngestProperties, MeterRegistry meterRegistry) {
+        return new StockPriceIngester(resilientStockServerService, holdingStockRepository,
+                stockPriceTable, stockIngestProperties, Clock.systemUTC(), meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package spofo.global.config.stock;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주식 시세 백그라운드 수집 설정
+ *
+ * @param enabled   true이면 보유종목 전체의 시세를 주기적으로 가져와 메모리 테이블에서 조회한다.
+ * @param interval  시세를 가져오는 주기
+ * @param maxAge    테이블의 시세가 이 시간보다 오래되면 요청 시점에 주식 서버에서 가져온다.
+ * @param batchSize 한 번의 목록조회로 가져올 최대 종목 수
+ */
+@ConfigurationProperties(prefix = "stock.ingest")
+public record StockIngestProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration interval,
+        @DefaultValue("10s") Duration maxAge,
+        @DefaultValue("200") int batchSize) {
+
+}
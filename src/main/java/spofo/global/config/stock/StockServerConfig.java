@@ -0,0 +1,139 @@
+package spofo.global.config.stock;
+
+import static spofo.global.domain.enums.Server.STOCKSERVER;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import spofo.stock.service.AsyncStockServerService;
+import spofo.stock.service.BatchingStockServerService;
+import spofo.stock.service.CachingStockServerService;
+import spofo.stock.service.CoalescingStockServerService;
+import spofo.stock.service.ResilientStockServerService;
+import spofo.stock.service.StockPriceTable;
+import spofo.stock.service.StockServerService;
+import spofo.stock.service.StockServerServiceImpl;
+import spofo.stock.service.TableStockServerService;
+
+/**
+ * 서비스 계층에서 주입받는 StockServerService는 실제 HTTP 호출을 하는 StockServerServiceImpl을
+ * 데코레이터로 감싼 빈이다.
+ */
+@Configuration
+@EnableConfigurationProperties({StockCacheProperties.class, StockCoalescingProperties.class,
+        StockBatchingProperties.class, StockFetchProperties.class, StockIngestProperties.class})
+public class StockServerConfig {
+
+    /**
+     * 비동기 조회 -> (시세 테이블) -> 캐시 -> (단건 조회 묶음 처리) -> 동시 조회 병합
+     * -> 서킷 브레이커/벌크헤드 -> 주식 서버 호출 순서로 감싼다.
+     */
+    @Bean
+    @Primary
+    public StockServerService stockServerService(
+            ResilientStockServerService resilientStockServerService,
+            StockCacheProperties stockCacheProperties,
+            StockCoalescingProperties stockCoalescingProperties,
+            StockBatchingProperties stockBatchingProperties,
+            StockFetchProperties stockFetchProperties,
+            StockIngestProperties stockIngestProperties, StockPriceTable stockPriceTable,
+            AsyncTaskExecutor stockServerExecutor,
+            AsyncTaskExecutor stockFetchExecutor, MeterRegistry meterRegistry) {
+        StockServerService stockServerService = new CoalescingStockServerService(
+                resilientStockServerService,
+                stockServerExecutor, stockCoalescingProperties, meterRegistry);
+
+        if (stockBatchingProperties.enabled()) {
+            stockServerService = new BatchingStockServerService(stockServerService,
+                    stockBatchingProperties, meterRegistry);
+        }
+
+        stockServerService = new CachingStockServerService(stockServerService,
+                stockCacheProperties, Clock.systemUTC(), meterRegistry);
+
+        if (stockIngestProperties.enabled()) {
+            stockServerService = new TableStockServerService(stockServerService, stockPriceTable,
+                    stockIngestProperties, Clock.systemUTC(), meterRegistry);
+        }
+
+        return new AsyncStockServerService(stockServerService, stockFetchExecutor,
+                stockFetchProperties);
+    }
+
+    /**
+     * 시세 수집(StockPriceIngester)도 같은 서킷 브레이커와 벌크헤드를 거치도록 빈으로 공유한다.
+     */
+    @Bean
+    public ResilientStockServerService resilientStockServerService(
+            StockServerServiceImpl stockServerServiceImpl,
+            CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {
+        return new ResilientStockServerService(stockServerServiceImpl,
+                circuitBreakerRegistry.circuitBreaker(STOCKSERVER.name(), STOCKSERVER.name()),
+                bulkheadRegistry.bulkhead(STOCKSERVER.name(), STOCKSERVER.name()),
+                Clock.systemUTC(), meterRegistry);
+    }
+
+    @Bean
+    public StockPriceTable stockPriceTable() {
+        return new StockPriceTable();
+    }
+
+    /**
+     * 여러 요청에서 모인 종목을 주식 서버에 조회하는 스레드 풀
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor stockServerExecutor(
+            StockCoalescingProperties stockCoalescingProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(stockCoalescingProperties.maxConcurrentBatches());
+        executor.setMaxPoolSize(stockCoalescingProperties.maxConcurrentBatches());
+        executor.setThreadNamePrefix("stock-server-");
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드에서는 조회마다 가상 스레드를 만든다.
+     * 동시 조회 수는 CoalescingStockServerService가 maxConcurrentBatches로 제한한다.
+     */
+    @Bean("stockServerExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualStockServerExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stock-server-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * 요청 스레드가 DB를 조회하는 동안 주식 시세 목록조회를 실행하는 스레드 풀
+     * 조회 중인 종목을 기다리며 대기할 수 있으므로 stockServerExecutor와 분리한다.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor stockFetchExecutor(StockFetchProperties stockFetchProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(stockFetchProperties.poolSize());
+        executor.setMaxPoolSize(stockFetchProperties.poolSize());
+        executor.setThreadNamePrefix("stock-fetch-");
+        return executor;
+    }
+
+    @Bean("stockFetchExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualStockFetchExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stock-fetch-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
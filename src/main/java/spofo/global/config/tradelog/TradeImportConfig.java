@@ -0,0 +1,10 @@
+package spofo.global.config.tradelog;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TradeImportProperties.class)
+public class TradeImportConfig {
+
+}
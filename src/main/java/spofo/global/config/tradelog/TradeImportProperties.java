@@ -0,0 +1,15 @@
+package spofo.global.config.tradelog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 매매이력 일괄 등록 설정
+ *
+ * @param chunkSize 하나의 트랜잭션에서 저장할 최대 행 수. 요청 본문은 이 단위로 읽고 저장한다.
+ */
+@ConfigurationProperties(prefix = "trade-log.import")
+public record TradeImportProperties(
+        @DefaultValue("500") int chunkSize) {
+
+}
@@ -1,5 +1,6 @@
 package spofo.global.domain.enums;
 
+import java.net.URI;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -15,4 +16,8 @@ public enum Server {
     public String getUri(String uri) {
         return this.url + uri;
     }
+
+    public String getHost() {
+        return URI.create(this.url).getHost();
+    }
 }
@@ -0,0 +1,14 @@
+package spofo.global.domain.exception;
+
+import static spofo.global.domain.exception.ErrorCode.AUTH_SERVER_UNAVAILABLE;
+
+/**
+ * 토큰이 잘못된 것이 아니라 인증 서버 장애로 인증할 수 없는 경우
+ * 인증 필터에서 TokenNotValid와 같이 처리하되 503으로 응답한다.
+ */
+public class AuthServerUnavailable extends TokenNotValid {
+
+    public AuthServerUnavailable() {
+        super(AUTH_SERVER_UNAVAILABLE);
+    }
+}
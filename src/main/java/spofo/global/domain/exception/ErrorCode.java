@@ -1,6 +1,9 @@
 package spofo.global.domain.exception;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import lombok.AllArgsConstructor;
@@ -15,6 +18,11 @@ public enum ErrorCode {
     MEMBER_NOT_VALID(UNAUTHORIZED, "인증된 사용자가 아닙니다."),
     FIELD_NOT_VALID(BAD_REQUEST, "인증된 사용자가 아닙니다."),
     HOLDING_STOCK_NOT_FOUND(BAD_REQUEST, "보유종목을 찾을 수 없습니다."),
+    HOLDING_STOCK_CONFLICT(CONFLICT, "보유종목이 동시에 수정되었습니다. 다시 시도해 주세요."),
+    TRADE_LOG_OVER_SOLD(BAD_REQUEST, "매도 수량이 보유 수량보다 많습니다."),
+    STOCK_SERVER_TIMEOUT(GATEWAY_TIMEOUT, "주식 서버가 응답하지 않습니다."),
+    STOCK_SERVER_UNAVAILABLE(SERVICE_UNAVAILABLE, "주식 서버를 사용할 수 없습니다."),
+    AUTH_SERVER_UNAVAILABLE(SERVICE_UNAVAILABLE, "인증 서버를 사용할 수 없습니다."),
 
     /*
     오류 코드 예시입니다
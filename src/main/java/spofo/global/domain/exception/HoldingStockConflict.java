@@ -0,0 +1,10 @@
+package spofo.global.domain.exception;
+
+import static spofo.global.domain.exception.ErrorCode.HOLDING_STOCK_CONFLICT;
+
+public class HoldingStockConflict extends PortfolioException {
+
+    public HoldingStockConflict() {
+        super(HOLDING_STOCK_CONFLICT);
+    }
+}
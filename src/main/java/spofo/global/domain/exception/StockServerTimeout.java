@@ -0,0 +1,10 @@
+package spofo.global.domain.exception;
+
+import static spofo.global.domain.exception.ErrorCode.STOCK_SERVER_TIMEOUT;
+
+public class StockServerTimeout extends PortfolioException {
+
+    public StockServerTimeout() {
+        super(STOCK_SERVER_TIMEOUT);
+    }
+}
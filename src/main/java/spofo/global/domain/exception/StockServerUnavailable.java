@@ -0,0 +1,10 @@
+package spofo.global.domain.exception;
+
+import static spofo.global.domain.exception.ErrorCode.STOCK_SERVER_UNAVAILABLE;
+
+public class StockServerUnavailable extends PortfolioException {
+
+    public StockServerUnavailable() {
+        super(STOCK_SERVER_UNAVAILABLE);
+    }
+}
@@ -7,4 +7,8 @@ public class TokenNotValid extends PortfolioException {
     public TokenNotValid() {
         super(MEMBER_NOT_VALID);
     }
+
+    protected TokenNotValid(ErrorCode errorCode) {
+        super(errorCode);
+    }
 }
@@ -0,0 +1,10 @@
+package spofo.global.domain.exception;
+
+import static spofo.global.domain.exception.ErrorCode.TRADE_LOG_OVER_SOLD;
+
+public class TradeLogOverSold extends PortfolioException {
+
+    public TradeLogOverSold() {
+        super(TRADE_LOG_OVER_SOLD);
+    }
+}
@@ -4,12 +4,14 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.ResponseEntity.badRequest;
 import static org.springframework.http.ResponseEntity.status;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import spofo.global.domain.exception.ErrorCode;
+import spofo.global.domain.exception.HoldingStockConflict;
 import spofo.global.domain.exception.PortfolioException;
 import spofo.global.domain.exception.dto.ErrorResult;
 
@@ -28,6 +30,15 @@ public class GlobalExceptionAdvice {
         return status(errorCode.getStatus()).body(errorResult);
     }
 
+    /**
+     * 보유 현황을 갱신하는 트랜잭션끼리 충돌하면 나중에 커밋한 요청을 409로 응답한다.
+     */
+    @ExceptionHandler
+    public ResponseEntity<ErrorResult> optimisticLockExHandler(
+            OptimisticLockingFailureException e) {
+        return portfolioExHandler(new HoldingStockConflict());
+    }
+
     @ExceptionHandler
     public ResponseEntity<ErrorResult> bindExHandler(BindException e) {
         String errorMessage = e.hasGlobalErrors() ?
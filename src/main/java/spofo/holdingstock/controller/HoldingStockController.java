@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -25,6 +26,7 @@ import spofo.holdingstock.domain.HoldingStockStatistic;
 import spofo.portfolio.controller.port.PortfolioService;
 import spofo.portfolio.domain.Portfolio;
 import spofo.tradelog.controller.port.TradeLogService;
+import spofo.tradelog.controller.request.CostMethodCondition;
 import spofo.tradelog.domain.TradeLogCreate;
 
 @RestController
@@ -49,8 +51,10 @@ public class HoldingStockController {
     @GetMapping("/portfolios/{portfolioId}/stocks/{stockId}")
     public ResponseEntity<HoldingStockResponse> getStatistic(
             @PathVariable("portfolioId") Long portfolioId,
-            @PathVariable("stockId") Long stockId) {
-        HoldingStockStatistic statistic = holdingStockService.getStatistic(stockId);
+            @PathVariable("stockId") Long stockId,
+            @ModelAttribute CostMethodCondition condition) {
+        HoldingStockStatistic statistic = holdingStockService.getStatistic(stockId,
+                condition.getCostMethod());
         return ok(HoldingStockResponse.from(statistic));
     }
 
@@ -60,13 +64,7 @@ public class HoldingStockController {
         Portfolio portfolio = portfolioService.getPortfolio(portfolioId);
         HoldingStockCreate holdingStockCreate = request.toHoldingStockCreate();
         TradeLogCreate tradeLogCreate = request.toTradeLogCreate();
-        HoldingStock savedHoldingStock = holdingStockService.get(portfolio, request.getCode());
-
-        if (savedHoldingStock == null) {
-            holdingStockService.create(holdingStockCreate, tradeLogCreate, portfolio);
-        } else {
-            tradeLogService.create(tradeLogCreate, savedHoldingStock);
-        }
+        holdingStockService.upsert(holdingStockCreate, tradeLogCreate, portfolio);
 
         Map<String, Long> response = Map.of("id", portfolioId);
 
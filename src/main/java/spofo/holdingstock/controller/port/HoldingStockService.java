@@ -6,12 +6,16 @@ import spofo.holdingstock.domain.HoldingStockCreate;
 import spofo.holdingstock.domain.HoldingStockStatistic;
 import spofo.portfolio.domain.Portfolio;
 import spofo.tradelog.domain.TradeLogCreate;
+import spofo.tradelog.domain.enums.CostMethod;
 
 public interface HoldingStockService {
 
     List<HoldingStock> getByPortfolioId(Long portfolioId);
 
-    HoldingStockStatistic getStatistic(Long id);
+    /**
+     * 평균 단가 방식은 저장된 보유 현황으로, 다른 방식은 매매이력을 함께 조회하여 통계를 만든다.
+     */
+    HoldingStockStatistic getStatistic(Long id, CostMethod costMethod);
 
     HoldingStock get(Long id);
 
@@ -20,6 +24,13 @@ public interface HoldingStockService {
     HoldingStock create(HoldingStockCreate holdingStockCreate, TradeLogCreate tradeLogCreate,
             Portfolio portfolio);
 
+    /**
+     * 포트폴리오에 종목코드의 보유종목이 있으면 매매이력만 추가하고, 없으면 보유종목을 만들어 추가한다.
+     * 조회, 생성, 매매이력 추가가 하나의 트랜잭션에서 처리된다.
+     */
+    HoldingStock upsert(HoldingStockCreate holdingStockCreate, TradeLogCreate tradeLogCreate,
+            Portfolio portfolio);
+
     void delete(Long id);
 
     void deleteByPortfolioId(Long id);
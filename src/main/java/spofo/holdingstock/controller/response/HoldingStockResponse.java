@@ -15,11 +15,13 @@ public class HoldingStockResponse {
     private String sector;
     private BigDecimal totalAsset;
     private BigDecimal gain;
+    private BigDecimal realizedGain;
     private BigDecimal gainRate;
     private BigDecimal avgPrice;
     private BigDecimal currentPrice;
     private BigDecimal quantity;
     private String imagePath;
+    private boolean stale;
 
     public static HoldingStockResponse from(HoldingStockStatistic statistic) {
         return HoldingStockResponse.builder()
@@ -29,11 +31,13 @@ public class HoldingStockResponse {
                 .sector(statistic.getHoldingStockInfo().getSector())
                 .totalAsset(statistic.getTotalAsset())
                 .gain(statistic.getGain())
+                .realizedGain(statistic.getRealizedGain())
                 .gainRate(statistic.getGainRate())
                 .avgPrice(statistic.getAvgPrice())
                 .currentPrice(statistic.getCurrentPrice())
                 .quantity(statistic.getQuantity())
                 .imagePath(statistic.getHoldingStockInfo().getImageUrl())
+                .stale(statistic.isStale())
                 .build();
     }
 }
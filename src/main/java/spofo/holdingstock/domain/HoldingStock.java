@@ -14,6 +14,7 @@ public class HoldingStock {
     private String stockCode;
     private Portfolio portfolio;
     private List<TradeLog> tradeLogs;
+    private Position position;
 
     public static HoldingStock of(HoldingStockCreate request, Portfolio portfolio) {
         return HoldingStock.builder()
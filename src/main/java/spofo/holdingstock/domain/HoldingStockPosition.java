@@ -0,0 +1,75 @@
+package spofo.holdingstock.domain;
+
+import static java.math.BigDecimal.ZERO;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
+
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Getter;
+import spofo.tradelog.domain.LotMatcher;
+import spofo.tradelog.domain.enums.CostMethod;
+
+/**
+ * 통계 계산에 필요한 보유종목 1건의 보유 현황(보유 수량, 매입 원가, 실현 손익)이다.
+ * holding_stock 행의 보유 현황 컬럼을 그대로 읽으므로 매매이력을 조회하거나 합산하지 않는다.
+ */
+@Getter
+public class HoldingStockPosition {
+
+    private final Long portfolioId;
+    private final Long holdingStockId;
+    private final String stockCode;
+    private final BigDecimal quantity; // 보유 수량
+    private final BigDecimal totalCost; // 보유 수량의 매입 원가
+    private final BigDecimal realizedGain; // 실현 손익
+
+    @Builder
+    public HoldingStockPosition(Long portfolioId, Long holdingStockId, String stockCode,
+            BigDecimal quantity, BigDecimal totalCost, BigDecimal realizedGain) {
+        this.portfolioId = portfolioId;
+        this.holdingStockId = holdingStockId;
+        this.stockCode = stockCode;
+        this.quantity = quantity == null ? ZERO : quantity;
+        this.totalCost = totalCost == null ? ZERO : totalCost;
+        this.realizedGain = realizedGain == null ? ZERO : realizedGain;
+    }
+
+    public static HoldingStockPosition of(Long portfolioId, HoldingStock holdingStock) {
+        return of(portfolioId, holdingStock, AVERAGE);
+    }
+
+    /**
+     * 매매이력이 함께 조회된 보유종목은 매매이력을 costMethod로 매칭하여 보유 현황을 계산한다.
+     * 매매이력 없이 조회된 보유종목은 저장된 보유 현황(평균 단가 방식)을 사용한다.
+     */
+    public static HoldingStockPosition of(Long portfolioId, HoldingStock holdingStock,
+            CostMethod costMethod) {
+        Position position = getPosition(holdingStock, costMethod);
+
+        return HoldingStockPosition.builder()
+                .portfolioId(portfolioId)
+                .holdingStockId(holdingStock.getId())
+                .stockCode(holdingStock.getStockCode())
+                .quantity(position.getQuantity())
+                .totalCost(position.getTotalCost())
+                .realizedGain(position.getRealizedGain())
+                .build();
+    }
+
+    public HoldingStock toHoldingStock() {
+        return HoldingStock.builder()
+                .id(holdingStockId)
+                .stockCode(stockCode)
+                .build();
+    }
+
+    private static Position getPosition(HoldingStock holdingStock, CostMethod costMethod) {
+        if (holdingStock.getTradeLogs() != null) {
+            return LotMatcher.match(holdingStock.getTradeLogs(), costMethod).toPosition();
+        }
+        if (holdingStock.getPosition() != null) {
+            return holdingStock.getPosition();
+        }
+        return Position.empty();
+    }
+}
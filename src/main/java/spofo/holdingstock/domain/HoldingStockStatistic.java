@@ -6,14 +6,14 @@ import static spofo.global.component.utils.CommonUtils.format;
 import static spofo.global.component.utils.CommonUtils.getGlobalScale;
 import static spofo.global.component.utils.CommonUtils.isZero;
 import static spofo.global.component.utils.CommonUtils.toPercent;
-import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import lombok.Builder;
 import lombok.Getter;
 import spofo.stock.domain.Stock;
-import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.domain.enums.CostMethod;
 
 @Getter
 @Builder
@@ -21,52 +21,65 @@ public class HoldingStockStatistic {
 
     private HoldingStockInfo holdingStockInfo;
     private BigDecimal totalAsset;
-    private BigDecimal gain;
+    private BigDecimal gain; // 미실현 손익
+    private BigDecimal realizedGain; // 실현 손익
     private BigDecimal gainRate;
     private BigDecimal avgPrice;
     private BigDecimal currentPrice;
     private BigDecimal quantity;
+    private boolean stale; // 주식 서버 장애로 마지막 시세를 사용한 경우 true
 
     public static HoldingStockStatistic of(HoldingStock holdingStock, Stock stock) {
+        return of(holdingStock, stock, AVERAGE);
+    }
+
+    /**
+     * 매매이력이 함께 조회된 보유종목은 매매이력을 costMethod로 매칭한 결과로 통계를 만든다.
+     */
+    public static HoldingStockStatistic of(HoldingStock holdingStock, Stock stock,
+            CostMethod costMethod) {
+        HoldingStockPosition holdingStockPosition =
+                HoldingStockPosition.of(null, holdingStock, costMethod);
+        return of(holdingStock, holdingStockPosition, stock);
+    }
+
+    /**
+     * 저장된 보유 수량과 매입 원가로 통계를 만든다. 매매이력을 순회한 결과와 같다.
+     */
+    public static HoldingStockStatistic of(HoldingStockPosition holdingStockPosition, Stock stock) {
+        return of(holdingStockPosition.toHoldingStock(), holdingStockPosition, stock);
+    }
+
+    private static HoldingStockStatistic of(HoldingStock holdingStock,
+            HoldingStockPosition holdingStockPosition, Stock stock) {
+        BigDecimal quantity = holdingStockPosition.getQuantity();
+        BigDecimal totalPrice = holdingStockPosition.getTotalCost();
         BigDecimal currentPrice = stock.getPrice();
 
-        BigDecimal totalAsset = ZERO;
-        BigDecimal gain = ZERO;
+        BigDecimal totalAsset = currentPrice.multiply(quantity); // 총 자산가치 = 보유 수량 * 현재가
+        BigDecimal gain = totalAsset.subtract(totalPrice); // 수익 = 자산 가치 - 총 구매가
         BigDecimal gainRate = ZERO;
         BigDecimal avgPrice = ZERO;
-        BigDecimal quantity = ZERO;
-        BigDecimal totalPrice = ZERO;
 
-        if (holdingStock.getTradeLogs() != null) {
-            for (TradeLog tradeLog : holdingStock.getTradeLogs()) {
-                if (tradeLog.getType() == BUY) {
-                    quantity = quantity.add(tradeLog.getQuantity()); // 보유 종목 수량 = 매매 이력 총 수량 다 더한 것
-                    totalAsset = totalAsset.add(currentPrice.multiply(
-                            tradeLog.getQuantity())); // 총 자산가치 = 매매이력의 수량 * 현재가 를 다 더한 것
-                    totalPrice = totalPrice.add(
-                            tradeLog.getPrice().multiply(tradeLog.getQuantity())); // 총 구매가
-                }
-            }
-
-            if (!isZero(quantity)) {
-                avgPrice = totalPrice.divide(quantity, getGlobalScale(), HALF_UP); // 평균 구매 단가
-            }
-            gain = totalAsset.subtract(totalPrice); // 수익 = 자산 가치 - 총 구매가
+        if (!isZero(quantity)) {
+            avgPrice = totalPrice.divide(quantity, getGlobalScale(), HALF_UP); // 평균 구매 단가
+        }
 
-            if (!isZero(totalPrice)) {
-                gainRate = toPercent(gain.divide(totalPrice, 5, RoundingMode.FLOOR)).setScale(
-                        getGlobalScale(), HALF_UP); // 수익률 = 수익/평균단가 * 100
-            }
+        if (!isZero(totalPrice)) {
+            gainRate = toPercent(gain.divide(totalPrice, 5, RoundingMode.FLOOR)).setScale(
+                    getGlobalScale(), HALF_UP); // 수익률 = 수익/평균단가 * 100
         }
 
         return HoldingStockStatistic.builder()
                 .holdingStockInfo(HoldingStockInfo.of(holdingStock, stock))
                 .totalAsset(format(totalAsset))
                 .gain(format(gain))
+                .realizedGain(format(holdingStockPosition.getRealizedGain()))
                 .gainRate(format(gainRate))
                 .avgPrice(format(avgPrice))
                 .currentPrice(format(currentPrice))
                 .quantity(format(quantity))
+                .stale(stock.isStale())
                 .build();
     }
 }
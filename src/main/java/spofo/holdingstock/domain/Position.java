@@ -0,0 +1,102 @@
+package spofo.holdingstock.domain;
+
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.HALF_UP;
+import static spofo.global.component.utils.CommonUtils.isZero;
+import static spofo.tradelog.domain.TradeLog.TRADE_ORDER;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import spofo.global.domain.exception.TradeLogOverSold;
+import spofo.tradelog.domain.TradeLog;
+
+/**
+ * 보유종목의 매매이력을 거래일 순서(TradeLog.TRADE_ORDER)로 누적한 보유 현황이다.
+ * 매매이력이 저장될 때마다 갱신되므로 조회 시 매매이력 전체를 다시 계산하지 않는다.
+ * 이미 누적한 매매이력보다 거래일이 앞선 매매이력이 추가되면 매매이력 전체로 다시 계산해야 한다.
+ * 매도 시에는 평균 단가 기준으로 매도 수량만큼의 매입 원가를 덜어내고, 차액을 실현 손익에 더한다.
+ * 그 시점의 보유 수량보다 많이 매도하는 매매이력은 누적하지 않고 TradeLogOverSold를 던진다.
+ */
+@Getter
+@Builder
+public class Position {
+
+    public static final int AVG_PRICE_SCALE = 15;
+    public static final int COST_SCALE = 17;
+
+    private final BigDecimal quantity; // 보유 수량
+    private final BigDecimal totalCost; // 보유 수량의 매입 원가
+    private final BigDecimal avgPrice; // 평균 매입 단가
+    private final BigDecimal realizedGain; // 실현 손익
+
+    public static Position empty() {
+        return Position.builder()
+                .quantity(ZERO)
+                .totalCost(ZERO)
+                .avgPrice(ZERO)
+                .realizedGain(ZERO)
+                .build();
+    }
+
+    /**
+     * 매매이력 전체를 거래일 순서로 정렬하여 보유 현황을 다시 계산한다.
+     * 평균 단가 방식의 lot 매칭(LotMatcher) 결과와 같다.
+     */
+    public static Position of(List<TradeLog> tradeLogs) {
+        List<TradeLog> ordered = new ArrayList<>(tradeLogs);
+        ordered.sort(TRADE_ORDER);
+        return empty().apply(ordered);
+    }
+
+    /**
+     * 현재 보유 현황에 매매이력을 전달된 순서대로 누적한다.
+     */
+    public Position apply(List<TradeLog> tradeLogs) {
+        Position position = this;
+        for (TradeLog tradeLog : tradeLogs) {
+            position = position.apply(tradeLog);
+        }
+        return position;
+    }
+
+    public Position apply(TradeLog tradeLog) {
+        BigDecimal tradeQuantity = tradeLog.getQuantity();
+        BigDecimal tradePrice = tradeLog.getPrice();
+
+        if (tradeLog.getType() == BUY) {
+            BigDecimal newQuantity = quantity.add(tradeQuantity);
+            BigDecimal newTotalCost = totalCost.add(tradePrice.multiply(tradeQuantity));
+            return of(newQuantity, newTotalCost, realizedGain);
+        }
+
+        if (tradeQuantity.compareTo(quantity) > 0) {
+            throw new TradeLogOverSold();
+        }
+
+        BigDecimal soldCost = isZero(quantity) ? ZERO
+                : totalCost.multiply(tradeQuantity).divide(quantity, COST_SCALE, HALF_UP);
+        BigDecimal newQuantity = quantity.subtract(tradeQuantity);
+        BigDecimal newTotalCost = isZero(newQuantity) ? ZERO : totalCost.subtract(soldCost);
+        BigDecimal newRealizedGain = realizedGain
+                .add(tradePrice.multiply(tradeQuantity))
+                .subtract(soldCost);
+        return of(newQuantity, newTotalCost, newRealizedGain);
+    }
+
+    private static Position of(BigDecimal quantity, BigDecimal totalCost,
+            BigDecimal realizedGain) {
+        BigDecimal avgPrice = isZero(quantity) ? ZERO
+                : totalCost.divide(quantity, AVG_PRICE_SCALE, HALF_UP);
+
+        return Position.builder()
+                .quantity(quantity)
+                .totalCost(totalCost)
+                .avgPrice(avgPrice)
+                .realizedGain(realizedGain)
+                .build();
+    }
+}
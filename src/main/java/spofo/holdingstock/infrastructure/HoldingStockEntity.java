@@ -1,37 +1,78 @@
 package spofo.holdingstock.infrastructure;
 
+import static java.math.BigDecimal.ZERO;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import java.math.BigDecimal;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import spofo.global.infrastructure.BaseEntity;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.Position;
 import spofo.portfolio.infrastructure.PortfolioEntity;
 import spofo.tradelog.domain.TradeLog;
 import spofo.tradelog.infrastructure.TradeLogEntity;
 
 @Entity
 @Getter
-@Table(name = "holding_stock")
+@Table(name = "holding_stock", uniqueConstraints = @UniqueConstraint(
+        name = HoldingStockEntity.UNIQUE_STOCK_CODE,
+        columnNames = {"portfolio_id", "stock_code"}),
+        indexes = @Index(name = "idx_holding_stock_portfolio_id_position",
+                columnList = "portfolio_id, id, stock_code, quantity, total_cost, realized_gain"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HoldingStockEntity extends BaseEntity {
 
+    public static final String UNIQUE_STOCK_CODE = "uk_holding_stock_portfolio_id_stock_code";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holding_stock_seq")
+    @SequenceGenerator(name = "holding_stock_seq", sequenceName = "holding_stock_seq",
+            allocationSize = 50)
     private Long id;
 
     private String stockCode;
 
+    @ColumnDefault("0")
+    @Column(precision = 30, scale = 15, nullable = false)
+    private BigDecimal quantity = ZERO;
+
+    @ColumnDefault("0")
+    @Column(precision = 40, scale = 17, nullable = false)
+    private BigDecimal totalCost = ZERO;
+
+    @ColumnDefault("0")
+    @Column(precision = 30, scale = 15, nullable = false)
+    private BigDecimal avgPrice = ZERO;
+
+    @ColumnDefault("0")
+    @Column(precision = 40, scale = 17, nullable = false)
+    private BigDecimal realizedGain = ZERO;
+
+    /**
+     * 동시에 들어온 매매이력이 보유 현황을 서로 덮어쓰지 않도록 낙관적 락을 사용한다.
+     */
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "portfolio_id")
     private PortfolioEntity portfolioEntity;
@@ -50,21 +91,47 @@ public class HoldingStockEntity extends BaseEntity {
         entity.stockCode = holdingStock.getStockCode();
         entity.portfolioEntity = PortfolioEntity.from(holdingStock.getPortfolio());
 
+        if (holdingStock.getPosition() != null) {
+            entity.updatePosition(holdingStock.getPosition());
+        }
+
         return entity;
     }
 
     /**
+     * 매매이력 없이 보유종목과 보유 현황만 도메인으로 변환한다.
+     * tradeLogEntities를 초기화하지 않으므로 매매이력을 조회하는 쿼리가 실행되지 않는다.
      * 엔티티를 도메인으로 변환할 때, 부모의 정보를 넣지 않도록 하여 순환 참조를 방지한다.
      */
     public HoldingStock toModel() {
-        List<TradeLog> tradeLogs = tradeLogEntities.stream()
-                .map(TradeLogEntity::toModel)
-                .toList();
+        return toModel(null);
+    }
 
+    /**
+     * 이력을 따로 조회한 경우 tradeLogEntities를 초기화하지 않고 도메인으로 변환한다.
+     */
+    public HoldingStock toModel(List<TradeLog> tradeLogs) {
         return HoldingStock.builder()
                 .id(id)
                 .stockCode(stockCode)
                 .tradeLogs(tradeLogs)
+                .position(getPosition())
                 .build();
     }
+
+    public Position getPosition() {
+        return Position.builder()
+                .quantity(quantity)
+                .totalCost(totalCost)
+                .avgPrice(avgPrice)
+                .realizedGain(realizedGain)
+                .build();
+    }
+
+    public void updatePosition(Position position) {
+        this.quantity = position.getQuantity();
+        this.totalCost = position.getTotalCost();
+        this.avgPrice = position.getAvgPrice();
+        this.realizedGain = position.getRealizedGain();
+    }
 }
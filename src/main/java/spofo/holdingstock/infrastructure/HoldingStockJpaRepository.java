@@ -1,24 +1,70 @@
 package spofo.holdingstock.infrastructure;
 
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.portfolio.infrastructure.PortfolioEntity;
 
 @Repository
 public interface HoldingStockJpaRepository extends JpaRepository<HoldingStockEntity, Long> {
 
-    @Query("select distinct h "
+    @Query("select h "
             + "from HoldingStockEntity h "
-            + "left join fetch h.tradeLogEntities s "
-            + "where h.portfolioEntity.id = :portfolioId")
+            + "where h.portfolioEntity.id = :portfolioId "
+            + "order by h.id")
     List<HoldingStockEntity> findByPortfolioId(@Param("portfolioId") Long portfolioId);
 
-    void deleteByPortfolioEntityId(Long id);
+    @Query("select h "
+            + "from HoldingStockEntity h "
+            + "where h.portfolioEntity.id in :portfolioIds "
+            + "order by h.id")
+    List<HoldingStockEntity> findByPortfolioIdIn(@Param("portfolioIds") List<Long> portfolioIds);
+
+    @Query("select new spofo.holdingstock.domain.HoldingStockPosition("
+            + "h.portfolioEntity.id, h.id, h.stockCode, h.quantity, h.totalCost, h.realizedGain) "
+            + "from HoldingStockEntity h "
+            + "where h.portfolioEntity.id = :portfolioId "
+            + "order by h.id")
+    List<HoldingStockPosition> findPositionsByPortfolioId(
+            @Param("portfolioId") Long portfolioId);
+
+    @Query("select h.id from HoldingStockEntity h where h.id > :lastId order by h.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 보유종목을 조회하지 않고 delete 1번으로 삭제한다. 매매이력을 먼저 삭제해야 한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from HoldingStockEntity h where h.portfolioEntity.id = :portfolioId")
+    int deleteByPortfolioId(@Param("portfolioId") Long portfolioId);
+
+    @Query("select distinct h.stockCode from HoldingStockEntity h")
+    List<String> findAllStockCodes();
 
     Optional<HoldingStockEntity> findByPortfolioEntityAndStockCode
             (PortfolioEntity portfolioEntity, String stockCode);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h "
+            + "from HoldingStockEntity h "
+            + "where h.portfolioEntity.id = :portfolioId and h.stockCode = :stockCode")
+    Optional<HoldingStockEntity> findByStockCodeForUpdate(
+            @Param("portfolioId") Long portfolioId, @Param("stockCode") String stockCode);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h "
+            + "from HoldingStockEntity h "
+            + "where h.portfolioEntity.id = :portfolioId and h.stockCode in :stockCodes "
+            + "order by h.id")
+    List<HoldingStockEntity> findByStockCodesForUpdate(@Param("portfolioId") Long portfolioId,
+            @Param("stockCodes") Collection<String> stockCodes);
 }
\ No newline at end of file
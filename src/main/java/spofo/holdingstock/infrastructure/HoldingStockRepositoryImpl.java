@@ -1,19 +1,36 @@
 package spofo.holdingstock.infrastructure;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import spofo.global.domain.exception.HoldingStockConflict;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockPosition;
+import spofo.holdingstock.domain.Position;
 import spofo.holdingstock.service.port.HoldingStockRepository;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.infrastructure.PortfolioEntity;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.infrastructure.TradeLogEntity;
+import spofo.tradelog.infrastructure.TradeLogJpaRepository;
 
 @Repository
 @RequiredArgsConstructor
 public class HoldingStockRepositoryImpl implements HoldingStockRepository {
 
     private final HoldingStockJpaRepository holdingStockJpaRepository;
+    private final TradeLogJpaRepository tradeLogJpaRepository;
 
     @Override
     public List<HoldingStock> findByPortfolioId(Long id) {
@@ -22,24 +39,86 @@ public class HoldingStockRepositoryImpl implements HoldingStockRepository {
                 .toList();
     }
 
+    @Override
+    public List<HoldingStockPosition> findPositionsByPortfolioId(Long id) {
+        return holdingStockJpaRepository.findPositionsByPortfolioId(id);
+    }
+
     @Override
     public Optional<HoldingStock> findById(Long id) {
         return holdingStockJpaRepository.findById(id).map(HoldingStockEntity::toModel);
     }
 
+    @Override
+    public List<HoldingStock> findByIdInWithTradeLogs(List<Long> ids) {
+        Map<Long, List<TradeLog>> tradeLogsByHoldingStockId =
+                tradeLogJpaRepository.findByHoldingStockIdIn(ids).stream()
+                        .collect(groupingBy(tradeLog -> tradeLog.getHoldingStockEntity().getId(),
+                                mapping(TradeLogEntity::toModel, toList())));
+
+        return holdingStockJpaRepository.findAllById(ids).stream()
+                .map(entity -> entity.toModel(
+                        tradeLogsByHoldingStockId.getOrDefault(entity.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
+    public List<String> findAllStockCodes() {
+        return holdingStockJpaRepository.findAllStockCodes();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long lastId, int size) {
+        return holdingStockJpaRepository.findIdsAfter(lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public void updatePosition(Long id, UnaryOperator<Position> updater) {
+        if (id == null) {
+            return;
+        }
+        holdingStockJpaRepository.findById(id).ifPresent(entity ->
+                entity.updatePosition(updater.apply(entity.getPosition())));
+    }
+
+    /**
+     * 이미 조회한 엔티티는 영속성 컨텍스트에서 가져오므로 select 없이 변경 감지로 update한다.
+     */
+    @Override
+    public void savePosition(Long id, Position position) {
+        holdingStockJpaRepository.getReferenceById(id).updatePosition(position);
+    }
+
     @Override
     public HoldingStock save(HoldingStock holdingStock) {
         return holdingStockJpaRepository.save(HoldingStockEntity.from(holdingStock)).toModel();
     }
 
+    /**
+     * 커밋까지 미루지 않고 바로 insert하여 유니크 제약 위반을 이 시점에 확인한다.
+     * 다른 제약 위반은 그대로 던진다.
+     */
+    @Override
+    public HoldingStock insert(HoldingStock holdingStock) {
+        try {
+            return holdingStockJpaRepository.saveAndFlush(HoldingStockEntity.from(holdingStock))
+                    .toModel();
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueStockCodeViolation(e)) {
+                throw new HoldingStockConflict();
+            }
+            throw e;
+        }
+    }
+
     @Override
     public void delete(HoldingStock holdingStock) {
-        holdingStockJpaRepository.delete(HoldingStockEntity.from(holdingStock));
+        holdingStockJpaRepository.deleteById(holdingStock.getId());
     }
 
     @Override
     public void deleteByPortfolioId(Long id) {
-        holdingStockJpaRepository.deleteByPortfolioEntityId(id);
+        holdingStockJpaRepository.deleteByPortfolioId(id);
     }
 
     @Override
@@ -54,4 +133,28 @@ public class HoldingStockRepositoryImpl implements HoldingStockRepository {
                 .findByPortfolioEntityAndStockCode(portfolioEntity, stockCode)
                 .map(HoldingStockEntity::toModel);
     }
+
+    @Override
+    public Optional<HoldingStock> findByStockCodeForUpdate(Long portfolioId, String stockCode) {
+        return holdingStockJpaRepository.findByStockCodeForUpdate(portfolioId, stockCode)
+                .map(HoldingStockEntity::toModel);
+    }
+
+    @Override
+    public List<HoldingStock> findByPortfolioIdAndStockCodesForUpdate(Long portfolioId,
+            Collection<String> stockCodes) {
+        return holdingStockJpaRepository
+                .findByStockCodesForUpdate(portfolioId, stockCodes).stream()
+                .map(HoldingStockEntity::toModel)
+                .toList();
+    }
+
+    /**
+     * DB마다 제약 이름의 대소문자와 형식이 다르므로 오류 메시지에 제약 이름이 있는지로 판단한다.
+     */
+    private boolean isUniqueStockCodeViolation(DataIntegrityViolationException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null
+                && message.toLowerCase().contains(HoldingStockEntity.UNIQUE_STOCK_CODE);
+    }
 }
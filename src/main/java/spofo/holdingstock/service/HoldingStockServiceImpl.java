@@ -1,5 +1,8 @@
 package spofo.holdingstock.service;
 
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -10,6 +13,7 @@ import spofo.global.domain.exception.HoldingStockNotFound;
 import spofo.holdingstock.controller.port.HoldingStockService;
 import spofo.holdingstock.domain.HoldingStock;
 import spofo.holdingstock.domain.HoldingStockCreate;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.holdingstock.domain.HoldingStockStatistic;
 import spofo.holdingstock.service.port.HoldingStockRepository;
 import spofo.portfolio.domain.Portfolio;
@@ -17,6 +21,7 @@ import spofo.stock.domain.Stock;
 import spofo.stock.service.StockServerService;
 import spofo.tradelog.controller.port.TradeLogService;
 import spofo.tradelog.domain.TradeLogCreate;
+import spofo.tradelog.domain.enums.CostMethod;
 
 @Service
 @Transactional(readOnly = true)
@@ -26,6 +31,7 @@ public class HoldingStockServiceImpl implements HoldingStockService {
     private final TradeLogService tradeLogService;
     private final HoldingStockRepository holdingStockRepository;
     private final StockServerService stockServerService;
+    private final HoldingStockWriter holdingStockWriter;
 
     @Override
     public List<HoldingStock> getByPortfolioId(Long portfolioId) {
@@ -33,12 +39,13 @@ public class HoldingStockServiceImpl implements HoldingStockService {
     }
 
     @Override
-    public HoldingStockStatistic getStatistic(Long id) {
-        HoldingStock holdingStock = findById(id);
+    public HoldingStockStatistic getStatistic(Long id, CostMethod costMethod) {
+        HoldingStock holdingStock = costMethod == AVERAGE ? findById(id)
+                : findByIdWithTradeLogs(id);
         String stockCode = holdingStock.getStockCode();
         Stock stock = stockServerService.getStock(stockCode);
 
-        return HoldingStockStatistic.of(holdingStock, stock);
+        return HoldingStockStatistic.of(holdingStock, stock, costMethod);
     }
 
     @Override
@@ -64,6 +71,20 @@ public class HoldingStockServiceImpl implements HoldingStockService {
         return savedHoldingStock;
     }
 
+    /**
+     * 보유종목은 쓰기 잠금으로 조회하므로 같은 종목의 매매이력 추가는 차례로 처리된다.
+     * 보유종목이 없을 때 동시에 생성하면 (portfolio_id, stock_code) 유니크 제약으로
+     * 나중 요청은 HoldingStockConflict(409)로 실패한다.
+     * 잠금을 잡은 채로 주식 서버를 기다리지 않도록 시세는 트랜잭션을 시작하기 전에 조회한다.
+     */
+    @Override
+    @Transactional(propagation = NOT_SUPPORTED)
+    public HoldingStock upsert(HoldingStockCreate holdingStockCreate,
+            TradeLogCreate tradeLogCreate, Portfolio portfolio) {
+        Stock stock = stockServerService.getStock(holdingStockCreate.getStockCode());
+        return holdingStockWriter.upsert(holdingStockCreate, tradeLogCreate, portfolio, stock);
+    }
+
     @Override
     @Transactional
     public void delete(Long id) {
@@ -75,21 +96,22 @@ public class HoldingStockServiceImpl implements HoldingStockService {
     @Override
     @Transactional
     public void deleteByPortfolioId(Long portfolioId) {
-        List<HoldingStock> holdingStocks = holdingStockRepository.findByPortfolioId(portfolioId);
-        List<Long> holdingStockIds = getHoldingStockIds(holdingStocks);
-
-        tradeLogService.deleteByHoldingStockIds(holdingStockIds);
+        tradeLogService.deleteByPortfolioId(portfolioId);
         holdingStockRepository.deleteByPortfolioId(portfolioId);
     }
 
     @Override
     public List<HoldingStockStatistic> getHoldingStockStatistics(Long portfolioId) {
-        List<HoldingStock> holdingStocks = getByPortfolioId(portfolioId);
-        List<String> stockCodes = getStockCodes(holdingStocks);
+        List<HoldingStockPosition> holdingStockPositions =
+                holdingStockRepository.findPositionsByPortfolioId(portfolioId);
+        List<String> stockCodes = holdingStockPositions.stream()
+                .map(HoldingStockPosition::getStockCode)
+                .distinct()
+                .toList();
         Map<String, Stock> stocks = stockServerService.getStocks(stockCodes);
-        return holdingStocks.stream()
-                .map(holdingStock -> HoldingStockStatistic.of(holdingStock,
-                        stocks.get(holdingStock.getStockCode())))
+        return holdingStockPositions.stream()
+                .map(holdingStockPosition -> HoldingStockStatistic.of(holdingStockPosition,
+                        stocks.get(holdingStockPosition.getStockCode())))
                 .toList();
     }
 
@@ -97,20 +119,12 @@ public class HoldingStockServiceImpl implements HoldingStockService {
         return getFrom(holdingStockRepository.findById(id));
     }
 
-    private HoldingStock getFrom(Optional<HoldingStock> holdingStockOptional) {
-        return holdingStockOptional.orElseThrow(HoldingStockNotFound::new);
-    }
-
-    private List<String> getStockCodes(List<HoldingStock> holdingStocks) {
-        return holdingStocks.stream()
-                .map(HoldingStock::getStockCode)
-                .distinct()
-                .toList();
+    private HoldingStock findByIdWithTradeLogs(Long id) {
+        return getFrom(holdingStockRepository.findByIdInWithTradeLogs(List.of(id)).stream()
+                .findFirst());
     }
 
-    private List<Long> getHoldingStockIds(List<HoldingStock> holdingStocks) {
-        return holdingStocks.stream()
-                .map(HoldingStock::getId)
-                .toList();
+    private HoldingStock getFrom(Optional<HoldingStock> holdingStockOptional) {
+        return holdingStockOptional.orElseThrow(HoldingStockNotFound::new);
     }
 }
@@ -0,0 +1,37 @@
+package spofo.holdingstock.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockCreate;
+import spofo.holdingstock.service.port.HoldingStockRepository;
+import spofo.portfolio.domain.Portfolio;
+import spofo.stock.domain.Stock;
+import spofo.tradelog.controller.port.TradeLogService;
+import spofo.tradelog.domain.TradeLogCreate;
+
+@Component
+@RequiredArgsConstructor
+public class HoldingStockWriter {
+
+    private final HoldingStockRepository holdingStockRepository;
+    private final TradeLogService tradeLogService;
+
+    /**
+     * 보유종목을 쓰기 잠금으로 조회하고, 없으면 새로 만든 뒤 매매이력을 추가한다.
+     * 시세는 호출하는 쪽에서 트랜잭션 밖에서 조회하여 잠금을 잡은 동안 주식 서버를 호출하지 않는다.
+     */
+    @Transactional
+    public HoldingStock upsert(HoldingStockCreate holdingStockCreate,
+            TradeLogCreate tradeLogCreate, Portfolio portfolio, Stock stock) {
+        HoldingStock holdingStock = holdingStockRepository
+                .findByStockCodeForUpdate(portfolio.getId(), holdingStockCreate.getStockCode())
+                .orElseGet(() -> holdingStockRepository.insert(
+                        HoldingStock.of(holdingStockCreate, portfolio)));
+
+        tradeLogService.create(tradeLogCreate, holdingStock, stock);
+
+        return holdingStock;
+    }
+}
@@ -0,0 +1,49 @@
+package spofo.holdingstock.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import spofo.global.domain.exception.TradeLogOverSold;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.Position;
+import spofo.holdingstock.service.port.HoldingStockRepository;
+
+/**
+ * 매매이력 전체로 보유종목의 보유 현황을 다시 계산하여 누적 갱신 중 생긴 불일치를 바로잡는다.
+ * 보유종목을 id 순서로 나누어 처리하며, 한 번의 호출이 하나의 트랜잭션이다.
+ * 초과 매도가 남아 있어 다시 계산할 수 없는 보유종목은 기존 보유 현황을 그대로 두고 로그를 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PositionRebuilder {
+
+    private final HoldingStockRepository holdingStockRepository;
+
+    /**
+     * lastId 이후의 보유종목 size개를 다시 계산하고 처리한 보유종목 id를 반환한다.
+     */
+    @Transactional
+    public List<Long> rebuild(Long lastId, int size) {
+        List<Long> ids = holdingStockRepository.findIdsAfter(lastId, size);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        for (HoldingStock holdingStock : holdingStockRepository.findByIdInWithTradeLogs(ids)) {
+            Position position;
+            try {
+                position = Position.of(holdingStock.getTradeLogs());
+            } catch (TradeLogOverSold e) {
+                log.warn("보유 현황 재계산 건너뜀: holdingStockId={}, {}", holdingStock.getId(),
+                        e.getMessage());
+                continue;
+            }
+            holdingStockRepository.updatePosition(holdingStock.getId(), current -> position);
+        }
+
+        return ids;
+    }
+}
@@ -1,20 +1,70 @@
 package spofo.holdingstock.service.port;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockPosition;
+import spofo.holdingstock.domain.Position;
 import spofo.portfolio.domain.Portfolio;
 
+/**
+ * 따로 명시하지 않은 조회는 매매이력 없이 보유종목과 보유 현황(Position)만 조회한다.
+ */
 public interface HoldingStockRepository {
 
     List<HoldingStock> findByPortfolioId(Long id);
 
+    List<HoldingStockPosition> findPositionsByPortfolioId(Long id);
+
     Optional<HoldingStock> findById(Long id);
 
+    /**
+     * 보유종목과 매매이력을 함께 조회한다. 매매이력은 저장된 순서로 정렬된다.
+     */
+    List<HoldingStock> findByIdInWithTradeLogs(List<Long> ids);
+
     Optional<HoldingStock> findByStockCode(Portfolio portfolio, String stockCode);
 
+    /**
+     * 보유종목을 쓰기 잠금과 함께 조회한다. 매매이력은 조회하지 않는다.
+     * 같은 보유종목에 매매이력을 추가하는 트랜잭션은 잠금이 풀릴 때까지 기다린다.
+     */
+    Optional<HoldingStock> findByStockCodeForUpdate(Long portfolioId, String stockCode);
+
+    /**
+     * 포트폴리오에서 종목코드가 일치하는 보유종목을 쓰기 잠금과 함께 한 번에 조회한다.
+     * 잠금 순서가 엇갈리지 않도록 id 순서로 잠근다. 매매이력은 조회하지 않는다.
+     */
+    List<HoldingStock> findByPortfolioIdAndStockCodesForUpdate(Long portfolioId,
+            Collection<String> stockCodes);
+
+    List<String> findAllStockCodes();
+
+    /**
+     * lastId보다 큰 보유종목 id를 오름차순으로 size개 조회한다.
+     */
+    List<Long> findIdsAfter(Long lastId, int size);
+
+    /**
+     * 보유 현황을 갱신한다. 다른 트랜잭션이 먼저 갱신했다면 커밋 시 낙관적 락 예외가 발생한다.
+     */
+    void updatePosition(Long id, UnaryOperator<Position> updater);
+
+    /**
+     * 같은 트랜잭션에서 이미 조회한 보유종목의 보유 현황을 다시 조회하지 않고 갱신한다.
+     */
+    void savePosition(Long id, Position position);
+
     HoldingStock save(HoldingStock holdingStock);
 
+    /**
+     * 새 보유종목을 바로 저장한다. 같은 포트폴리오에 같은 종목코드의 보유종목이 이미 있으면
+     * HoldingStockConflict를 던진다.
+     */
+    HoldingStock insert(HoldingStock holdingStock);
+
     void delete(HoldingStock holdingStock);
 
     void deleteByPortfolioId(Long id);
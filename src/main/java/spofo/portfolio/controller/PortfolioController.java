@@ -20,16 +20,20 @@ import org.springframework.web.bind.annotation.RestController;
 import spofo.auth.domain.MemberInfo;
 import spofo.auth.domain.annotation.LoginMember;
 import spofo.portfolio.controller.port.PortfolioService;
+import spofo.portfolio.controller.request.PortfolioHistoryCondition;
 import spofo.portfolio.controller.request.PortfolioRequest;
 import spofo.portfolio.controller.request.PortfolioSearchCondition;
+import spofo.portfolio.controller.response.PortfolioHistoryResponse;
 import spofo.portfolio.controller.response.PortfolioResponse;
 import spofo.portfolio.controller.response.PortfolioStatisticResponse;
 import spofo.portfolio.controller.response.PortfoliosStatisticResponse;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.domain.PortfolioHistory;
 import spofo.portfolio.domain.PortfolioStatistic;
 import spofo.portfolio.domain.PortfolioUpdate;
 import spofo.portfolio.domain.TotalPortfoliosStatistic;
+import spofo.tradelog.controller.request.CostMethodCondition;
 
 @RestController
 @RequiredArgsConstructor
@@ -70,12 +74,24 @@ public class PortfolioController {
 
     @GetMapping("/portfolios/{portfolioId}/total")
     public ResponseEntity<PortfolioStatisticResponse> getPortfolioStatistic(
-            @PathVariable Long portfolioId) {
-        PortfolioStatistic portfolio = portfolioService.getPortfolioStatistic(portfolioId);
+            @PathVariable Long portfolioId,
+            @ModelAttribute CostMethodCondition condition) {
+        PortfolioStatistic portfolio = portfolioService.getPortfolioStatistic(portfolioId,
+                condition.getCostMethod());
 
         return ok(PortfolioStatisticResponse.from(portfolio));
     }
 
+    @GetMapping("/portfolios/{portfolioId}/history")
+    public ResponseEntity<PortfolioHistoryResponse> getPortfolioHistory(
+            @PathVariable Long portfolioId,
+            @ModelAttribute @Valid PortfolioHistoryCondition condition) {
+        PortfolioHistory history = portfolioService.getPortfolioHistory(portfolioId,
+                condition.getHistoryRange(), condition.getResolution());
+
+        return ok(PortfolioHistoryResponse.from(history));
+    }
+
     @PostMapping("/portfolios")
     public ResponseEntity<Map<String, Long>> create(@RequestBody @Valid PortfolioRequest request,
             @LoginMember MemberInfo memberInfo) {
@@ -4,9 +4,13 @@ import java.util.List;
 import spofo.portfolio.controller.request.PortfolioSearchCondition;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.domain.PortfolioHistory;
 import spofo.portfolio.domain.PortfolioStatistic;
 import spofo.portfolio.domain.PortfolioUpdate;
 import spofo.portfolio.domain.TotalPortfoliosStatistic;
+import spofo.portfolio.domain.enums.HistoryRange;
+import spofo.portfolio.domain.enums.HistoryResolution;
+import spofo.tradelog.domain.enums.CostMethod;
 
 public interface PortfolioService {
 
@@ -17,7 +21,13 @@ public interface PortfolioService {
 
     Portfolio getPortfolio(Long id);
 
-    PortfolioStatistic getPortfolioStatistic(Long id);
+    /**
+     * 매매이력을 함께 조회하여 costMethod로 매칭한 결과로 통계를 만든다.
+     */
+    PortfolioStatistic getPortfolioStatistic(Long id, CostMethod costMethod);
+
+    PortfolioHistory getPortfolioHistory(Long id, HistoryRange range,
+            HistoryResolution resolution);
 
     Portfolio create(PortfolioCreate request, Long memberId);
 
@@ -0,0 +1,23 @@
+package spofo.portfolio.controller.request;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import spofo.portfolio.domain.enums.HistoryRange;
+import spofo.portfolio.domain.enums.HistoryResolution;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class PortfolioHistoryCondition {
+
+    @Pattern(regexp = HistoryRange.PATTERN, message = "조회 기간은 1M, 6M, 1Y, ALL 중 하나입니다.")
+    private String range = HistoryRange.ONE_YEAR.getValue();
+
+    private HistoryResolution resolution; // 없으면 조회 기간의 기본 간격
+
+    public HistoryRange getHistoryRange() {
+        return HistoryRange.from(range);
+    }
+}
@@ -0,0 +1,48 @@
+package spofo.portfolio.controller.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import spofo.portfolio.domain.PortfolioHistory;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.domain.enums.HistoryResolution;
+
+@Data
+@Builder
+public class PortfolioHistoryResponse {
+
+    private Long id;
+    private String range;
+    private HistoryResolution resolution; // 실제로 조회한 간격
+    private List<Point> points;
+
+    public static PortfolioHistoryResponse from(PortfolioHistory history) {
+        return PortfolioHistoryResponse.builder()
+                .id(history.getPortfolioId())
+                .range(history.getRange().getValue())
+                .resolution(history.getResolution())
+                .points(history.getPoints().stream()
+                        .map(Point::from)
+                        .toList())
+                .build();
+    }
+
+    @Data
+    @Builder
+    public static class Point {
+
+        private LocalDate date; // 구간의 마지막 스냅샷 날짜
+        private BigDecimal totalAsset;
+        private BigDecimal totalBuy;
+
+        public static Point from(PortfolioSnapshot snapshot) {
+            return Point.builder()
+                    .date(snapshot.getSnapshotDate())
+                    .totalAsset(snapshot.getTotalAsset())
+                    .totalBuy(snapshot.getTotalBuy())
+                    .build();
+        }
+    }
+}
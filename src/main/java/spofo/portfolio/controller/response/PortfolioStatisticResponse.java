@@ -23,7 +23,9 @@ public class PortfolioStatisticResponse {
     private BigDecimal totalAsset;
     private BigDecimal totalBuy;
     private BigDecimal gain;
+    private BigDecimal realizedGain;
     private BigDecimal gainRate;
+    private boolean stale;
 
     public static PortfolioStatisticResponse from(PortfolioStatistic statistic) {
         Portfolio portfolio = statistic.getPortfolio();
@@ -39,7 +41,9 @@ public class PortfolioStatisticResponse {
                 .totalAsset(statistic.getTotalAsset())
                 .totalBuy(statistic.getTotalBuy())
                 .gain(statistic.getTotalGain())
+                .realizedGain(statistic.getTotalRealizedGain())
                 .gainRate(statistic.getGainRate())
+                .stale(statistic.isStale())
                 .build();
     }
 }
@@ -11,15 +11,19 @@ public class PortfoliosStatisticResponse {
 
     private BigDecimal totalAsset;
     private BigDecimal gain;
+    private BigDecimal realizedGain;
     private BigDecimal gainRate;
     private BigDecimal dailyGainRate;
+    private boolean stale;
 
     public static PortfoliosStatisticResponse from(TotalPortfoliosStatistic statistic) {
         return PortfoliosStatisticResponse.builder()
                 .totalAsset(statistic.getTotalAsset())
                 .gain(statistic.getGain())
+                .realizedGain(statistic.getRealizedGain())
                 .gainRate(statistic.getGainRate())
                 .dailyGainRate(statistic.getDailyGainRate())
+                .stale(statistic.isStale())
                 .build();
     }
 }
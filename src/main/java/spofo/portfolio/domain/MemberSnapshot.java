@@ -0,0 +1,35 @@
+package spofo.portfolio.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 장 마감 후 평가한 회원의 전체 포트폴리오 합계(포함 여부가 Y인 포트폴리오)의 일별 스냅샷이다.
+ * 회원의 그날 포트폴리오 스냅샷이 모두 저장되었다는 표시로도 사용하며,
+ * 대시보드의 일간 수익률은 이 날짜에 저장된 포트폴리오 스냅샷과 비교한다.
+ */
+@Getter
+@Builder
+public class MemberSnapshot {
+
+    private final Long memberId;
+    private final LocalDate snapshotDate;
+    private final BigDecimal totalAsset; // 평가 금액
+    private final BigDecimal totalBuy; // 매입 원가
+
+    public static MemberSnapshot of(Long memberId, LocalDate snapshotDate,
+            TotalPortfoliosStatistic statistic) {
+        return MemberSnapshot.builder()
+                .memberId(memberId)
+                .snapshotDate(snapshotDate)
+                .totalAsset(statistic.getTotalAsset())
+                .totalBuy(statistic.getTotalBuy())
+                .build();
+    }
+
+    public BigDecimal getGain() {
+        return totalAsset.subtract(totalBuy);
+    }
+}
@@ -0,0 +1,21 @@
+package spofo.portfolio.domain;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import spofo.portfolio.domain.enums.HistoryRange;
+import spofo.portfolio.domain.enums.HistoryResolution;
+
+/**
+ * 포트폴리오 1개의 평가 금액 추이. points는 날짜 오름차순이며,
+ * WEEKLY와 MONTHLY는 구간마다 마지막 스냅샷 1개이다.
+ */
+@Getter
+@Builder
+public class PortfolioHistory {
+
+    private final Long portfolioId;
+    private final HistoryRange range;
+    private final HistoryResolution resolution;
+    private final List<PortfolioSnapshot> points;
+}
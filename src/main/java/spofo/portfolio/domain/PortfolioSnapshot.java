@@ -0,0 +1,34 @@
+package spofo.portfolio.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 장 마감 후 평가한 포트폴리오 1개의 일별 스냅샷이다.
+ */
+@Getter
+@Builder
+public class PortfolioSnapshot {
+
+    private final Long portfolioId;
+    private final Long memberId;
+    private final LocalDate snapshotDate;
+    private final BigDecimal totalAsset; // 평가 금액
+    private final BigDecimal totalBuy; // 매입 원가
+
+    public static PortfolioSnapshot of(PortfolioStatistic statistic, LocalDate snapshotDate) {
+        return PortfolioSnapshot.builder()
+                .portfolioId(statistic.getPortfolio().getId())
+                .memberId(statistic.getPortfolio().getMemberId())
+                .snapshotDate(snapshotDate)
+                .totalAsset(statistic.getTotalAsset())
+                .totalBuy(statistic.getTotalBuy())
+                .build();
+    }
+
+    public BigDecimal getGain() {
+        return totalAsset.subtract(totalBuy);
+    }
+}
@@ -6,15 +6,17 @@ import static spofo.global.component.utils.CommonUtils.format;
 import static spofo.global.component.utils.CommonUtils.getGlobalScale;
 import static spofo.global.component.utils.CommonUtils.isZero;
 import static spofo.global.component.utils.CommonUtils.toPercent;
-import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
-import spofo.holdingstock.domain.HoldingStock;
+import spofo.global.component.utils.FixedPointAccumulator;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.stock.domain.Stock;
-import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.domain.enums.CostMethod;
 
 @Getter
 @Builder
@@ -23,31 +25,57 @@ public class PortfolioStatistic {
     private Portfolio portfolio;
     private BigDecimal totalAsset; // 각 종목별 현재가 * 수량의 합
     private BigDecimal totalBuy; // 각 종목별 매수가 * 수량의 합
-    private BigDecimal totalGain; // 총 자산 - 총 매수가
+    private BigDecimal totalGain; // 총 자산 - 총 매수가 (미실현 손익)
+    private BigDecimal totalRealizedGain; // 각 종목별 실현 손익의 합
     private BigDecimal gainRate; // 총 수익 / 총 자산
+    private boolean stale; // 주식 서버 장애로 마지막 시세를 사용한 종목이 있으면 true
 
     public static PortfolioStatistic of(Portfolio portfolio, Map<String, Stock> stocks) {
+        return of(portfolio, stocks, AVERAGE);
+    }
+
+    /**
+     * 매매이력이 함께 조회된 보유종목은 매매이력을 costMethod로 매칭한 결과로 통계를 만든다.
+     */
+    public static PortfolioStatistic of(Portfolio portfolio, Map<String, Stock> stocks,
+            CostMethod costMethod) {
+        if (portfolio.getHoldingStocks() == null) {
+            return of(portfolio, null, stocks);
+        }
+
+        List<HoldingStockPosition> holdingStockPositions = portfolio.getHoldingStocks().stream()
+                .map(holdingStock -> HoldingStockPosition.of(portfolio.getId(), holdingStock,
+                        costMethod))
+                .toList();
+        return of(portfolio, holdingStockPositions, stocks);
+    }
+
+    /**
+     * 보유종목별로 저장된 보유 수량과 매입 원가로 통계를 만든다. 매매이력을 순회한 결과와 같다.
+     */
+    public static PortfolioStatistic of(Portfolio portfolio,
+            List<HoldingStockPosition> holdingStockPositions, Map<String, Stock> stocks) {
         BigDecimal totalAsset = ZERO;
         BigDecimal totalBuy = ZERO;
         BigDecimal totalGain = ZERO;
+        BigDecimal totalRealizedGain = ZERO;
         BigDecimal gainRate = ZERO;
+        boolean stale = false;
 
-        if (portfolio.getHoldingStocks() != null) {
-            for (HoldingStock holdingStock : portfolio.getHoldingStocks()) {
-                Stock stock = stocks.get(holdingStock.getStockCode());
-                BigDecimal currentPrice = stock.getPrice();
+        if (holdingStockPositions != null) {
+            FixedPointAccumulator assetSum = new FixedPointAccumulator();
 
-                for (TradeLog tradeLog : holdingStock.getTradeLogs()) {
-                    if (tradeLog.getType() == BUY) {
-                        BigDecimal price = tradeLog.getPrice();
-                        BigDecimal quantity = tradeLog.getQuantity();
+            for (HoldingStockPosition holdingStockPosition : holdingStockPositions) {
+                Stock stock = stocks.get(holdingStockPosition.getStockCode());
+                BigDecimal currentPrice = stock.getPrice();
+                stale |= stock.isStale();
 
-                        totalAsset = totalAsset.add(currentPrice.multiply(quantity));
-                        totalBuy = totalBuy.add(price.multiply(quantity));
-                    }
-                }
+                assetSum.addProduct(currentPrice, holdingStockPosition.getQuantity());
+                totalBuy = totalBuy.add(holdingStockPosition.getTotalCost());
+                totalRealizedGain = totalRealizedGain.add(holdingStockPosition.getRealizedGain());
             }
 
+            totalAsset = assetSum.toBigDecimal();
             totalGain = totalAsset.subtract(totalBuy);
 
             if (!isZero(totalBuy)) {
@@ -60,7 +88,9 @@ public class PortfolioStatistic {
                 .totalAsset(format(totalAsset))
                 .totalBuy(format(totalBuy))
                 .totalGain(format(totalGain))
+                .totalRealizedGain(format(totalRealizedGain))
                 .gainRate(format(gainRate))
+                .stale(stale)
                 .build();
     }
 
@@ -9,7 +9,9 @@ import static spofo.global.component.utils.CommonUtils.toPercent;
 import static spofo.portfolio.domain.enums.IncludeType.Y;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -18,15 +20,39 @@ import lombok.Getter;
 public class TotalPortfoliosStatistic {
 
     private BigDecimal totalAsset; // 포트폴리오 자산들의 합계
-    private BigDecimal gain; // 포트폴리오 수익들의 합계
+    private BigDecimal totalBuy; // 포트폴리오 매수가들의 합계
+    private BigDecimal gain; // 포트폴리오 수익(미실현 손익)들의 합계
+    private BigDecimal realizedGain; // 포트폴리오 실현 손익들의 합계
     private BigDecimal gainRate; // 총 수익 / 총 자산
-    private BigDecimal dailyGainRate;
+    private BigDecimal dailyGainRate; // 직전 스냅샷 대비 수익의 변화 / 직전 스냅샷의 총 자산
+    private boolean stale; // 합계에 포함된 포트폴리오 중 마지막 시세를 사용한 포트폴리오가 있으면 true
 
     public static TotalPortfoliosStatistic of(List<PortfolioStatistic> portfolioStatistics) {
+        return of(portfolioStatistics, List.of());
+    }
+
+    /**
+     * previous는 오늘 이전의 가장 최근 스냅샷 날짜에 저장된 포트폴리오 스냅샷이다.
+     * 합계에 포함된 포트폴리오 중 그날 스냅샷이 있는 포트폴리오끼리만 비교하므로
+     * 포트폴리오를 삭제하거나 포함 여부를 바꾸어도 일간 수익률이 튀지 않는다. 비교할 스냅샷이 없으면 0이다.
+     * 수익의 변화로 계산하므로 그사이 매수하거나 매도한 금액은 일간 수익률에 포함되지 않는다.
+     */
+    public static TotalPortfoliosStatistic of(List<PortfolioStatistic> portfolioStatistics,
+            List<PortfolioSnapshot> previous) {
         BigDecimal totalAsset = ZERO;
         BigDecimal totalBuy = ZERO;
         BigDecimal totalGain = ZERO;
+        BigDecimal totalRealizedGain = ZERO;
         BigDecimal gainRate = ZERO;
+        BigDecimal dailyGain = ZERO;
+        BigDecimal previousAsset = ZERO;
+        BigDecimal dailyGainRate = ZERO;
+        boolean stale = false;
+
+        Map<Long, PortfolioSnapshot> previousSnapshots = new HashMap<>();
+        for (PortfolioSnapshot snapshot : previous) {
+            previousSnapshots.put(snapshot.getPortfolioId(), snapshot);
+        }
 
         if (portfolioStatistics != null) {
             for (PortfolioStatistic statistic : portfolioStatistics) {
@@ -34,18 +60,37 @@ public class TotalPortfoliosStatistic {
                     totalAsset = totalAsset.add(statistic.getTotalAsset());
                     totalBuy = totalBuy.add(statistic.getTotalBuy());
                     totalGain = totalGain.add(statistic.getTotalGain());
+                    totalRealizedGain = totalRealizedGain.add(statistic.getTotalRealizedGain());
+                    stale |= statistic.isStale();
+
+                    PortfolioSnapshot snapshot =
+                            previousSnapshots.get(statistic.getPortfolio().getId());
+                    if (snapshot != null) {
+                        dailyGain = dailyGain.add(
+                                statistic.getTotalGain().subtract(snapshot.getGain()));
+                        previousAsset = previousAsset.add(snapshot.getTotalAsset());
+                    }
                 }
             }
+
             if (!isZero(totalBuy)) {
                 gainRate = toPercent(totalGain.divide(totalBuy, getGlobalScale(), HALF_UP));
             }
         }
 
+        if (!isZero(previousAsset)) {
+            dailyGainRate = toPercent(dailyGain.divide(previousAsset,
+                    getGlobalScale() + 2, HALF_UP));
+        }
+
         return TotalPortfoliosStatistic.builder()
                 .totalAsset(format(totalAsset))
+                .totalBuy(format(totalBuy))
                 .gain(format(totalGain))
+                .realizedGain(format(totalRealizedGain))
                 .gainRate(format(gainRate))
-                //.dailyGainRate(portfolio)
+                .dailyGainRate(format(dailyGainRate))
+                .stale(stale)
                 .build();
     }
 }
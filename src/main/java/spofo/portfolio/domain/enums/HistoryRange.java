@@ -0,0 +1,52 @@
+package spofo.portfolio.domain.enums;
+
+import static spofo.portfolio.domain.enums.HistoryResolution.DAILY;
+import static spofo.portfolio.domain.enums.HistoryResolution.MONTHLY;
+import static spofo.portfolio.domain.enums.HistoryResolution.WEEKLY;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 평가 금액 추이의 조회 기간.
+ * 간격을 지정하지 않으면 defaultResolution을 사용하고, minResolution보다 촘촘한 간격은 minResolution으로 조회한다.
+ * 전체 기간은 월 단위로만 조회하므로 5년이어도 60개 정도의 값만 응답한다.
+ */
+@Getter
+@AllArgsConstructor
+public enum HistoryRange {
+    ONE_MONTH("1M", 1, DAILY, DAILY),
+    SIX_MONTHS("6M", 6, WEEKLY, DAILY),
+    ONE_YEAR("1Y", 12, WEEKLY, DAILY),
+    ALL("ALL", 0, MONTHLY, MONTHLY);
+
+    public static final String PATTERN = "1M|6M|1Y|ALL";
+
+    private final String value;
+    private final int months;
+    private final HistoryResolution defaultResolution;
+    private final HistoryResolution minResolution;
+
+    public static HistoryRange from(String value) {
+        return Arrays.stream(values())
+                .filter(range -> range.value.equals(value))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("조회 기간이 올바르지 않습니다: " + value));
+    }
+
+    public HistoryResolution resolve(HistoryResolution resolution) {
+        if (resolution == null) {
+            return defaultResolution;
+        }
+        return resolution.compareTo(minResolution) < 0 ? minResolution : resolution;
+    }
+
+    /**
+     * 이 날짜 이후(포함하지 않음)의 스냅샷을 조회한다.
+     */
+    public LocalDate startAfter(LocalDate today) {
+        return months == 0 ? LocalDate.EPOCH : today.minusMonths(months);
+    }
+}
@@ -0,0 +1,29 @@
+package spofo.portfolio.domain.enums;
+
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.temporal.TemporalAdjusters.previousOrSame;
+
+import java.time.LocalDate;
+
+/**
+ * 평가 금액 추이의 간격. DAILY는 일별 스냅샷을 그대로 사용하고,
+ * WEEKLY와 MONTHLY는 구간(주는 월요일, 월은 1일부터)의 마지막 스냅샷을 미리 집계한 값을 사용한다.
+ */
+public enum HistoryResolution {
+    DAILY, WEEKLY, MONTHLY;
+
+    /**
+     * date가 속한 구간의 시작일
+     */
+    public LocalDate bucketOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(previousOrSame(MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    public boolean isRollup() {
+        return this != DAILY;
+    }
+}
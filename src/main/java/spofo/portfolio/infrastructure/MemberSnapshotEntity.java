@@ -0,0 +1,91 @@
+package spofo.portfolio.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import spofo.portfolio.domain.MemberSnapshot;
+
+/**
+ * PortfolioSnapshotEntity와 같이 저장할 때 같은 키의 행을 먼저 조회하지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "member_snapshot")
+@IdClass(MemberSnapshotEntity.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberSnapshotEntity implements Persistable<MemberSnapshotEntity.Key> {
+
+    @Id
+    private Long memberId;
+
+    @Id
+    private LocalDate snapshotDate;
+
+    @Column(precision = 30, scale = 2, nullable = false)
+    private BigDecimal totalAsset;
+
+    @Column(precision = 30, scale = 2, nullable = false)
+    private BigDecimal totalBuy;
+
+    @Transient
+    private boolean created = true;
+
+    public static MemberSnapshotEntity from(MemberSnapshot snapshot) {
+        MemberSnapshotEntity entity = new MemberSnapshotEntity();
+
+        entity.memberId = snapshot.getMemberId();
+        entity.snapshotDate = snapshot.getSnapshotDate();
+        entity.totalAsset = snapshot.getTotalAsset();
+        entity.totalBuy = snapshot.getTotalBuy();
+
+        return entity;
+    }
+
+    public MemberSnapshot toModel() {
+        return MemberSnapshot.builder()
+                .memberId(memberId)
+                .snapshotDate(snapshotDate)
+                .totalAsset(totalAsset)
+                .totalBuy(totalBuy)
+                .build();
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(memberId, snapshotDate);
+    }
+
+    @Override
+    public boolean isNew() {
+        return created;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        created = false;
+    }
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long memberId;
+        private LocalDate snapshotDate;
+    }
+}
@@ -0,0 +1,16 @@
+package spofo.portfolio.infrastructure;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberSnapshotJpaRepository
+        extends JpaRepository<MemberSnapshotEntity, MemberSnapshotEntity.Key> {
+
+    @Query("select s.memberId from MemberSnapshotEntity s "
+            + "where s.memberId in :memberIds and s.snapshotDate = :snapshotDate")
+    List<Long> findMemberIds(@Param("memberIds") List<Long> memberIds,
+            @Param("snapshotDate") LocalDate snapshotDate);
+}
@@ -6,7 +6,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -25,12 +27,14 @@ import spofo.portfolio.domain.enums.PortfolioType;
 
 @Entity
 @Getter
-@Table(name = "portfolio")
+@Table(name = "portfolio",
+        indexes = @Index(name = "idx_portfolio_member_id", columnList = "member_id, id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PortfolioEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "portfolio_seq")
+    @SequenceGenerator(name = "portfolio_seq", sequenceName = "portfolio_seq", allocationSize = 50)
     private Long id;
 
     private Long memberId;
@@ -70,11 +74,19 @@ public class PortfolioEntity extends BaseEntity {
         return entity;
     }
 
+    /**
+     * 보유종목 없이 포트폴리오 정보만 도메인으로 변환한다.
+     * holdingStockEntities를 초기화하지 않으므로 포트폴리오의 크기와 관계없이 추가 쿼리가 실행되지 않는다.
+     * 보유종목과 매매이력이 필요하면 PortfolioLoader로 조회한다.
+     */
     public Portfolio toModel() {
-        List<HoldingStock> holdingStocks = holdingStockEntities.stream()
-                .map(HoldingStockEntity::toModel)
-                .toList();
+        return toModel(null);
+    }
 
+    /**
+     * 보유종목을 따로 조회한 경우 holdingStockEntities를 초기화하지 않고 도메인으로 변환한다.
+     */
+    public Portfolio toModel(List<HoldingStock> holdingStocks) {
         return Portfolio.builder()
                 .id(id)
                 .memberId(memberId)
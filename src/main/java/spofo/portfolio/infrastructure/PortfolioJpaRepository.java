@@ -1,26 +1,48 @@
 package spofo.portfolio.infrastructure;
 
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import spofo.holdingstock.domain.HoldingStockPosition;
 
 public interface PortfolioJpaRepository extends JpaRepository<PortfolioEntity, Long> {
 
-    List<PortfolioEntity> findByMemberId(Long memberId);
+    List<PortfolioEntity> findByMemberIdOrderById(Long memberId);
 
-    @Query("select distinct p "
+    @Query("select distinct s.stockCode "
             + "from PortfolioEntity p "
-            + "left join fetch p.holdingStockEntities s "
-            + "left join fetch s.tradeLogEntities t "
-            + "where p.id = :id")
-    Optional<PortfolioEntity> findByIdWithTradeLogs(@Param("id") Long id);
+            + "join p.holdingStockEntities s "
+            + "where p.memberId = :id")
+    List<String> findStockCodesByMemberId(@Param("id") Long id);
 
-    @Query("select p "
+    @Query("select new spofo.holdingstock.domain.HoldingStockPosition("
+            + "p.id, h.id, h.stockCode, h.quantity, h.totalCost, h.realizedGain) "
             + "from PortfolioEntity p "
-            + "left join fetch p.holdingStockEntities s "
-            + "left join fetch s.tradeLogEntities t "
-            + "where p.memberId = :id")
-    List<PortfolioEntity> findByMemberIdWithTradeLogs(@Param("id") Long id);
+            + "join p.holdingStockEntities h "
+            + "where p.memberId = :id "
+            + "order by h.id")
+    List<HoldingStockPosition> findHoldingStockPositionsByMemberId(@Param("id") Long id);
+
+    @Query("select distinct p.memberId from PortfolioEntity p "
+            + "where p.memberId > :lastId "
+            + "order by p.memberId")
+    List<Long> findMemberIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    List<PortfolioEntity> findByMemberIdInOrderById(List<Long> memberIds);
+
+    @Query("select new spofo.holdingstock.domain.HoldingStockPosition("
+            + "p.id, h.id, h.stockCode, h.quantity, h.totalCost, h.realizedGain) "
+            + "from PortfolioEntity p "
+            + "join p.holdingStockEntities h "
+            + "where p.memberId in :memberIds "
+            + "order by h.id")
+    List<HoldingStockPosition> findHoldingStockPositionsByMemberIdIn(
+            @Param("memberIds") List<Long> memberIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from PortfolioEntity p where p.id = :id")
+    int deleteByIdInBulk(@Param("id") Long id);
 }
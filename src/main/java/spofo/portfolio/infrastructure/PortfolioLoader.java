@@ -0,0 +1,72 @@
+package spofo.portfolio.infrastructure;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.infrastructure.HoldingStockEntity;
+import spofo.holdingstock.infrastructure.HoldingStockJpaRepository;
+import spofo.portfolio.domain.Portfolio;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.infrastructure.TradeLogEntity;
+import spofo.tradelog.infrastructure.TradeLogJpaRepository;
+
+/**
+ * 포트폴리오의 보유종목과 이력을 단계별로 조회하여 메모리에서 조립한다.
+ * 보유종목과 이력을 한 번에 fetch join하면 결과 행 수가 포트폴리오 × 보유종목 × 이력으로 늘어나지만,
+ * 포트폴리오 -> 보유종목 IN (...) -> 이력 IN (...) 순서로 조회하면 각 테이블의 행 수만큼만 가져온다.
+ * IN 절의 아이디는 BATCH_SIZE개씩 나누어 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioLoader {
+
+    public static final int BATCH_SIZE = 500;
+
+    private final HoldingStockJpaRepository holdingStockJpaRepository;
+    private final TradeLogJpaRepository tradeLogJpaRepository;
+
+    public List<Portfolio> load(List<PortfolioEntity> portfolioEntities) {
+        List<HoldingStockEntity> holdingStockEntities = findInBatches(
+                portfolioEntities.stream().map(PortfolioEntity::getId).toList(),
+                holdingStockJpaRepository::findByPortfolioIdIn);
+
+        List<TradeLogEntity> tradeLogEntities = findInBatches(
+                holdingStockEntities.stream().map(HoldingStockEntity::getId).toList(),
+                tradeLogJpaRepository::findByHoldingStockIdIn);
+
+        Map<Long, List<TradeLog>> tradeLogsByHoldingStockId = tradeLogEntities.stream()
+                .collect(groupingBy(tradeLog -> tradeLog.getHoldingStockEntity().getId(),
+                        LinkedHashMap::new, mapping(TradeLogEntity::toModel, toList())));
+
+        Map<Long, List<HoldingStock>> holdingStocksByPortfolioId = holdingStockEntities.stream()
+                .collect(groupingBy(holdingStock -> holdingStock.getPortfolioEntity().getId(),
+                        LinkedHashMap::new, mapping(holdingStock -> holdingStock.toModel(
+                                        tradeLogsByHoldingStockId.getOrDefault(holdingStock.getId(),
+                                                List.of())),
+                                toList())));
+
+        return portfolioEntities.stream()
+                .map(portfolio -> portfolio.toModel(
+                        holdingStocksByPortfolioId.getOrDefault(portfolio.getId(), List.of())))
+                .toList();
+    }
+
+    private <T> List<T> findInBatches(List<Long> ids, Function<List<Long>, List<T>> finder) {
+        List<T> result = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            result.addAll(finder.apply(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()))));
+        }
+
+        return result;
+    }
+}
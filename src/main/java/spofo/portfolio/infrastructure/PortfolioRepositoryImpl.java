@@ -3,7 +3,9 @@ package spofo.portfolio.infrastructure;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.service.port.PortfolioRepository;
 
@@ -12,10 +14,11 @@ import spofo.portfolio.service.port.PortfolioRepository;
 public class PortfolioRepositoryImpl implements PortfolioRepository {
 
     private final PortfolioJpaRepository portfolioJpaRepository;
+    private final PortfolioLoader portfolioLoader;
 
     @Override
     public List<Portfolio> findByMemberId(Long id) {
-        return portfolioJpaRepository.findByMemberId(id).stream()
+        return portfolioJpaRepository.findByMemberIdOrderById(id).stream()
                 .map(PortfolioEntity::toModel)
                 .toList();
     }
@@ -27,17 +30,43 @@ public class PortfolioRepositoryImpl implements PortfolioRepository {
 
     @Override
     public Optional<Portfolio> findByIdWithTradeLogs(Long id) {
-        return portfolioJpaRepository.findByIdWithTradeLogs(id)
-                .map(PortfolioEntity::toModel);
+        return portfolioJpaRepository.findById(id)
+                .map(portfolioEntity -> portfolioLoader.load(List.of(portfolioEntity)).get(0));
     }
 
     @Override
     public List<Portfolio> findByMemberIdWithTradeLogs(Long id) {
-        return portfolioJpaRepository.findByMemberIdWithTradeLogs(id).stream()
+        return portfolioLoader.load(portfolioJpaRepository.findByMemberIdOrderById(id));
+    }
+
+    @Override
+    public List<String> findStockCodesByMemberId(Long id) {
+        return portfolioJpaRepository.findStockCodesByMemberId(id);
+    }
+
+    @Override
+    public List<HoldingStockPosition> findHoldingStockPositionsByMemberId(Long id) {
+        return portfolioJpaRepository.findHoldingStockPositionsByMemberId(id);
+    }
+
+    @Override
+    public List<Long> findMemberIdsAfter(Long lastId, int size) {
+        return portfolioJpaRepository.findMemberIdsAfter(lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<Portfolio> findByMemberIdIn(List<Long> memberIds) {
+        return portfolioJpaRepository.findByMemberIdInOrderById(memberIds).stream()
                 .map(PortfolioEntity::toModel)
                 .toList();
     }
 
+    @Override
+    public List<HoldingStockPosition> findHoldingStockPositionsByMemberIdIn(
+            List<Long> memberIds) {
+        return portfolioJpaRepository.findHoldingStockPositionsByMemberIdIn(memberIds);
+    }
+
     @Override
     public Portfolio save(Portfolio portfolio) {
         return portfolioJpaRepository.save(PortfolioEntity.from(portfolio)).toModel();
@@ -48,6 +77,11 @@ public class PortfolioRepositoryImpl implements PortfolioRepository {
         portfolioJpaRepository.delete(PortfolioEntity.from(portfolio));
     }
 
+    @Override
+    public boolean deleteById(Long id) {
+        return portfolioJpaRepository.deleteByIdInBulk(id) > 0;
+    }
+
     @Override
     public void deleteAll() {
         portfolioJpaRepository.deleteAll();
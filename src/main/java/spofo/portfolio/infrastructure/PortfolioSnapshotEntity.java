@@ -0,0 +1,96 @@
+package spofo.portfolio.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import spofo.portfolio.domain.PortfolioSnapshot;
+
+/**
+ * 스냅샷은 추가만 하므로 새로 만든 엔티티는 isNew가 true이다.
+ * 키를 직접 지정해도 저장할 때 같은 키의 행을 먼저 조회(merge)하지 않고 바로 insert한다.
+ */
+@Entity
+@Getter
+@Table(name = "portfolio_snapshot")
+@IdClass(PortfolioSnapshotEntity.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PortfolioSnapshotEntity implements Persistable<PortfolioSnapshotEntity.Key> {
+
+    @Id
+    private Long portfolioId;
+
+    @Id
+    private LocalDate snapshotDate;
+
+    private Long memberId;
+
+    @Column(precision = 30, scale = 2, nullable = false)
+    private BigDecimal totalAsset;
+
+    @Column(precision = 30, scale = 2, nullable = false)
+    private BigDecimal totalBuy;
+
+    @Transient
+    private boolean created = true;
+
+    public static PortfolioSnapshotEntity from(PortfolioSnapshot snapshot) {
+        PortfolioSnapshotEntity entity = new PortfolioSnapshotEntity();
+
+        entity.portfolioId = snapshot.getPortfolioId();
+        entity.snapshotDate = snapshot.getSnapshotDate();
+        entity.memberId = snapshot.getMemberId();
+        entity.totalAsset = snapshot.getTotalAsset();
+        entity.totalBuy = snapshot.getTotalBuy();
+
+        return entity;
+    }
+
+    public PortfolioSnapshot toModel() {
+        return PortfolioSnapshot.builder()
+                .portfolioId(portfolioId)
+                .memberId(memberId)
+                .snapshotDate(snapshotDate)
+                .totalAsset(totalAsset)
+                .totalBuy(totalBuy)
+                .build();
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(portfolioId, snapshotDate);
+    }
+
+    @Override
+    public boolean isNew() {
+        return created;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        created = false;
+    }
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long portfolioId;
+        private LocalDate snapshotDate;
+    }
+}
@@ -0,0 +1,30 @@
+package spofo.portfolio.infrastructure;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PortfolioSnapshotJpaRepository
+        extends JpaRepository<PortfolioSnapshotEntity, PortfolioSnapshotEntity.Key> {
+
+    List<PortfolioSnapshotEntity> findByPortfolioIdAndSnapshotDateAfterOrderBySnapshotDate(
+            Long portfolioId, LocalDate snapshotDate);
+
+    /**
+     * 회원 스냅샷의 기본 키로 직전 날짜를 찾고, 포트폴리오 스냅샷의 기본 키로 그날의 스냅샷을 조회한다.
+     */
+    @Query("select s from PortfolioSnapshotEntity s "
+            + "where s.portfolioId in :portfolioIds and s.snapshotDate = "
+            + "(select max(m.snapshotDate) from MemberSnapshotEntity m "
+            + "where m.memberId = :memberId and m.snapshotDate < :snapshotDate)")
+    List<PortfolioSnapshotEntity> findLatestBefore(@Param("memberId") Long memberId,
+            @Param("portfolioIds") List<Long> portfolioIds,
+            @Param("snapshotDate") LocalDate snapshotDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from PortfolioSnapshotEntity s where s.portfolioId = :portfolioId")
+    int deleteByPortfolioIdInBulk(@Param("portfolioId") Long portfolioId);
+}
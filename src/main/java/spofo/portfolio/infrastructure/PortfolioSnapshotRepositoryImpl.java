@@ -0,0 +1,111 @@
+package spofo.portfolio.infrastructure;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static spofo.portfolio.domain.enums.HistoryResolution.MONTHLY;
+import static spofo.portfolio.domain.enums.HistoryResolution.WEEKLY;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import spofo.portfolio.domain.MemberSnapshot;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.domain.enums.HistoryResolution;
+import spofo.portfolio.service.port.PortfolioSnapshotRepository;
+
+@Repository
+@RequiredArgsConstructor
+public class PortfolioSnapshotRepositoryImpl implements PortfolioSnapshotRepository {
+
+    private final PortfolioSnapshotJpaRepository portfolioSnapshotJpaRepository;
+    private final MemberSnapshotJpaRepository memberSnapshotJpaRepository;
+    private final PortfolioSnapshotRollupJpaRepository portfolioSnapshotRollupJpaRepository;
+
+    @Override
+    public void saveAll(List<PortfolioSnapshot> portfolioSnapshots) {
+        portfolioSnapshotJpaRepository.saveAll(portfolioSnapshots.stream()
+                .map(PortfolioSnapshotEntity::from)
+                .toList());
+    }
+
+    @Override
+    public void saveAllMemberSnapshots(List<MemberSnapshot> memberSnapshots) {
+        memberSnapshotJpaRepository.saveAll(memberSnapshots.stream()
+                .map(MemberSnapshotEntity::from)
+                .toList());
+    }
+
+    /**
+     * 스냅샷이 속한 구간의 집계를 한 번에 조회하여, 있으면 변경 감지로 갱신하고 없으면 insert한다.
+     */
+    @Override
+    public void saveRollups(List<PortfolioSnapshot> portfolioSnapshots) {
+        List<PortfolioSnapshotRollupEntity.Key> keys = new ArrayList<>();
+        for (PortfolioSnapshot snapshot : portfolioSnapshots) {
+            keys.add(PortfolioSnapshotRollupEntity.keyOf(snapshot, WEEKLY));
+            keys.add(PortfolioSnapshotRollupEntity.keyOf(snapshot, MONTHLY));
+        }
+
+        Map<PortfolioSnapshotRollupEntity.Key, PortfolioSnapshotRollupEntity> rollups =
+                portfolioSnapshotRollupJpaRepository.findAllById(keys).stream()
+                        .collect(toMap(PortfolioSnapshotRollupEntity::getId, identity()));
+
+        List<PortfolioSnapshotRollupEntity> created = new ArrayList<>();
+        for (PortfolioSnapshot snapshot : portfolioSnapshots) {
+            for (HistoryResolution resolution : List.of(WEEKLY, MONTHLY)) {
+                PortfolioSnapshotRollupEntity rollup =
+                        rollups.get(PortfolioSnapshotRollupEntity.keyOf(snapshot, resolution));
+                if (rollup != null) {
+                    rollup.merge(snapshot);
+                } else {
+                    PortfolioSnapshotRollupEntity entity =
+                            PortfolioSnapshotRollupEntity.of(snapshot, resolution);
+                    rollups.put(entity.getId(), entity);
+                    created.add(entity);
+                }
+            }
+        }
+
+        portfolioSnapshotRollupJpaRepository.saveAll(created);
+    }
+
+    @Override
+    public List<PortfolioSnapshot> findHistory(Long portfolioId, HistoryResolution resolution,
+            LocalDate after) {
+        if (!resolution.isRollup()) {
+            return portfolioSnapshotJpaRepository
+                    .findByPortfolioIdAndSnapshotDateAfterOrderBySnapshotDate(portfolioId, after)
+                    .stream()
+                    .map(PortfolioSnapshotEntity::toModel)
+                    .toList();
+        }
+
+        return portfolioSnapshotRollupJpaRepository
+                .findHistory(portfolioId, resolution, resolution.bucketOf(after), after).stream()
+                .map(PortfolioSnapshotRollupEntity::toModel)
+                .toList();
+    }
+
+    @Override
+    public List<PortfolioSnapshot> findLatestSnapshotsBefore(Long memberId,
+            List<Long> portfolioIds, LocalDate date) {
+        return portfolioSnapshotJpaRepository.findLatestBefore(memberId, portfolioIds, date)
+                .stream()
+                .map(PortfolioSnapshotEntity::toModel)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findSnapshotMemberIds(List<Long> memberIds, LocalDate date) {
+        return memberSnapshotJpaRepository.findMemberIds(memberIds, date);
+    }
+
+    @Override
+    public void deleteByPortfolioId(Long portfolioId) {
+        portfolioSnapshotJpaRepository.deleteByPortfolioIdInBulk(portfolioId);
+        portfolioSnapshotRollupJpaRepository.deleteByPortfolioIdInBulk(portfolioId);
+    }
+}
@@ -0,0 +1,124 @@
+package spofo.portfolio.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.domain.enums.HistoryResolution;
+
+/**
+ * 구간(bucketDate부터 시작하는 주 또는 월)의 마지막 스냅샷이다.
+ * 새 구간은 조회 없이 insert하고, 이미 있는 구간은 조회한 엔티티를 변경 감지로 갱신한다.
+ */
+@Entity
+@Getter
+@Table(name = "portfolio_snapshot_rollup")
+@IdClass(PortfolioSnapshotRollupEntity.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PortfolioSnapshotRollupEntity implements
+        Persistable<PortfolioSnapshotRollupEntity.Key> {
+
+    @Id
+    private Long portfolioId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private HistoryResolution resolution;
+
+    @Id
+    private LocalDate bucketDate;
+
+    private LocalDate snapshotDate;
+
+    @Column(precision = 30, scale = 2, nullable = false)
+    private BigDecimal totalAsset;
+
+    @Column(precision = 30, scale = 2, nullable = false)
+    private BigDecimal totalBuy;
+
+    @Transient
+    private boolean created = true;
+
+    public static PortfolioSnapshotRollupEntity of(PortfolioSnapshot snapshot,
+            HistoryResolution resolution) {
+        PortfolioSnapshotRollupEntity entity = new PortfolioSnapshotRollupEntity();
+
+        entity.portfolioId = snapshot.getPortfolioId();
+        entity.resolution = resolution;
+        entity.bucketDate = resolution.bucketOf(snapshot.getSnapshotDate());
+        entity.snapshotDate = snapshot.getSnapshotDate();
+        entity.totalAsset = snapshot.getTotalAsset();
+        entity.totalBuy = snapshot.getTotalBuy();
+
+        return entity;
+    }
+
+    public static Key keyOf(PortfolioSnapshot snapshot, HistoryResolution resolution) {
+        return new Key(snapshot.getPortfolioId(), resolution,
+                resolution.bucketOf(snapshot.getSnapshotDate()));
+    }
+
+    /**
+     * 구간의 마지막 스냅샷보다 늦거나 같은 날짜의 스냅샷이면 그 값으로 바꾼다.
+     */
+    public void merge(PortfolioSnapshot snapshot) {
+        if (snapshot.getSnapshotDate().isBefore(snapshotDate)) {
+            return;
+        }
+
+        snapshotDate = snapshot.getSnapshotDate();
+        totalAsset = snapshot.getTotalAsset();
+        totalBuy = snapshot.getTotalBuy();
+    }
+
+    public PortfolioSnapshot toModel() {
+        return PortfolioSnapshot.builder()
+                .portfolioId(portfolioId)
+                .snapshotDate(snapshotDate)
+                .totalAsset(totalAsset)
+                .totalBuy(totalBuy)
+                .build();
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(portfolioId, resolution, bucketDate);
+    }
+
+    @Override
+    public boolean isNew() {
+        return created;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        created = false;
+    }
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long portfolioId;
+        private HistoryResolution resolution;
+        private LocalDate bucketDate;
+    }
+}
@@ -0,0 +1,26 @@
+package spofo.portfolio.infrastructure;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import spofo.portfolio.domain.enums.HistoryResolution;
+
+public interface PortfolioSnapshotRollupJpaRepository extends
+        JpaRepository<PortfolioSnapshotRollupEntity, PortfolioSnapshotRollupEntity.Key> {
+
+    @Query("select r from PortfolioSnapshotRollupEntity r "
+            + "where r.portfolioId = :portfolioId and r.resolution = :resolution "
+            + "and r.bucketDate >= :bucketDate and r.snapshotDate > :snapshotDate "
+            + "order by r.bucketDate")
+    List<PortfolioSnapshotRollupEntity> findHistory(@Param("portfolioId") Long portfolioId,
+            @Param("resolution") HistoryResolution resolution,
+            @Param("bucketDate") LocalDate bucketDate,
+            @Param("snapshotDate") LocalDate snapshotDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from PortfolioSnapshotRollupEntity r where r.portfolioId = :portfolioId")
+    int deleteByPortfolioIdInBulk(@Param("portfolioId") Long portfolioId);
+}
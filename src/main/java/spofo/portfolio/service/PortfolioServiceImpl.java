@@ -1,8 +1,16 @@
 package spofo.portfolio.service;
 
+import static java.util.stream.Collectors.groupingBy;
+import static spofo.portfolio.domain.enums.IncludeType.Y;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,16 +18,23 @@ import org.springframework.transaction.annotation.Transactional;
 import spofo.global.domain.exception.PortfolioNotFound;
 import spofo.holdingstock.controller.port.HoldingStockService;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.portfolio.controller.port.PortfolioService;
 import spofo.portfolio.controller.request.PortfolioSearchCondition;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.domain.PortfolioHistory;
+import spofo.portfolio.domain.PortfolioSnapshot;
 import spofo.portfolio.domain.PortfolioStatistic;
 import spofo.portfolio.domain.PortfolioUpdate;
 import spofo.portfolio.domain.TotalPortfoliosStatistic;
+import spofo.portfolio.domain.enums.HistoryRange;
+import spofo.portfolio.domain.enums.HistoryResolution;
 import spofo.portfolio.service.port.PortfolioRepository;
+import spofo.portfolio.service.port.PortfolioSnapshotRepository;
 import spofo.stock.domain.Stock;
 import spofo.stock.service.StockServerService;
+import spofo.tradelog.domain.enums.CostMethod;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,23 +44,33 @@ public class PortfolioServiceImpl implements PortfolioService {
     private final PortfolioRepository portfolioRepository;
     private final HoldingStockService holdingStockService;
     private final StockServerService stockServerService;
-
+    private final PortfolioSnapshotRepository portfolioSnapshotRepository;
+    private final Clock clock;
+
+    /**
+     * 일간 수익률은 지금 합계에 포함된 포트폴리오의 오늘 이전 가장 최근 스냅샷과 비교한다.
+     * 회원 스냅샷의 합계와 비교하지 않으므로 삭제하거나 포함 여부를 바꾼 포트폴리오,
+     * 유형 검색에서 빠진 포트폴리오는 일간 수익률에 영향을 주지 않는다.
+     */
     @Override
     public TotalPortfoliosStatistic getPortfoliosStatistic(Long memberId,
             PortfolioSearchCondition condition) {
-        List<Portfolio> portfolios = portfolioRepository.findByMemberIdWithTradeLogs(memberId);
-        List<PortfolioStatistic> portfolioStatistics =
-                getPortfolioStatistics(filter(portfolios, condition));
-        return TotalPortfoliosStatistic.of(portfolioStatistics);
+        List<PortfolioStatistic> portfolioStatistics = getPortfolioStatistics(memberId, condition);
+        List<Long> portfolioIds = portfolioStatistics.stream()
+                .map(PortfolioStatistic::getPortfolio)
+                .filter(portfolio -> portfolio.getIncludeType() == Y)
+                .map(Portfolio::getId)
+                .toList();
+        List<PortfolioSnapshot> previous = portfolioIds.isEmpty() ? List.of()
+                : portfolioSnapshotRepository.findLatestSnapshotsBefore(memberId, portfolioIds,
+                        LocalDate.now(clock));
+        return TotalPortfoliosStatistic.of(portfolioStatistics, previous);
     }
 
     @Override
     public List<PortfolioStatistic> getPortfolios(Long memberId,
             PortfolioSearchCondition condition) {
-        List<Portfolio> portfolios =
-                filter(portfolioRepository.findByMemberIdWithTradeLogs(memberId), condition);
-
-        return getPortfolioStatistics(portfolios);
+        return getPortfolioStatistics(memberId, condition);
     }
 
     @Override
@@ -54,9 +79,27 @@ public class PortfolioServiceImpl implements PortfolioService {
     }
 
     @Override
-    public PortfolioStatistic getPortfolioStatistic(Long id) {
+    public PortfolioStatistic getPortfolioStatistic(Long id, CostMethod costMethod) {
         Portfolio portfolio = getPortfolioFrom(portfolioRepository.findByIdWithTradeLogs(id));
-        return getPortfolioStatistics(List.of(portfolio)).get(0);
+        return getPortfolioStatistics(List.of(portfolio), costMethod).get(0);
+    }
+
+    /**
+     * 장 마감 후 저장한 스냅샷과 그 집계만 조회하며, 매매이력과 주식 시세는 조회하지 않는다.
+     */
+    @Override
+    public PortfolioHistory getPortfolioHistory(Long id, HistoryRange range,
+            HistoryResolution resolution) {
+        Portfolio portfolio = findById(id);
+        HistoryResolution resolved = range.resolve(resolution);
+
+        return PortfolioHistory.builder()
+                .portfolioId(portfolio.getId())
+                .range(range)
+                .resolution(resolved)
+                .points(portfolioSnapshotRepository.findHistory(portfolio.getId(), resolved,
+                        range.startAfter(LocalDate.now(clock))))
+                .build();
     }
 
     @Override
@@ -74,12 +117,18 @@ public class PortfolioServiceImpl implements PortfolioService {
         return portfolioRepository.save(updatedPortfolio);
     }
 
+    /**
+     * 매매이력, 보유종목, 포트폴리오, 스냅샷을 조회하지 않고 각각 delete 1번으로 삭제한다.
+     * 삭제된 포트폴리오가 없으면 예외를 던져 앞서 삭제한 내용도 롤백한다.
+     */
     @Override
     @Transactional
     public void delete(Long id) {
-        Portfolio portfolio = findById(id);
         holdingStockService.deleteByPortfolioId(id);
-        portfolioRepository.delete(portfolio);
+        portfolioSnapshotRepository.deleteByPortfolioId(id);
+        if (!portfolioRepository.deleteById(id)) {
+            throw new PortfolioNotFound();
+        }
     }
 
     private Portfolio findById(Long id) {
@@ -90,11 +139,63 @@ public class PortfolioServiceImpl implements PortfolioService {
         return portfolioOptional.orElseThrow(PortfolioNotFound::new);
     }
 
-    private List<PortfolioStatistic> getPortfolioStatistics(List<Portfolio> portfolios) {
+    /**
+     * 보유종목의 종목코드만 먼저 조회하여 주식 시세 조회를 시작하고, 시세를 가져오는 동안 포트폴리오를 조회한다.
+     * 응답 시간은 두 조회 시간의 합이 아닌 둘 중 긴 시간에 가까워진다.
+     * 포트폴리오 조회가 실패하면 진행 중인 시세 조회를 취소한다.
+     * 매매이력은 조회하지 않고 DB에서 보유종목별로 집계한 매수 수량과 매수 금액으로 통계를 계산한다.
+     */
+    private List<PortfolioStatistic> getPortfolioStatistics(Long memberId,
+            PortfolioSearchCondition condition) {
+        List<String> stockCodes = portfolioRepository.findStockCodesByMemberId(memberId);
+        CompletableFuture<Map<String, Stock>> stocksFuture =
+                stockServerService.getStocksAsync(stockCodes);
+
+        try {
+            List<Portfolio> portfolios =
+                    filter(portfolioRepository.findByMemberId(memberId), condition);
+            Map<Long, List<HoldingStockPosition>> holdingStockPositions = portfolioRepository
+                    .findHoldingStockPositionsByMemberId(memberId).stream()
+                    .collect(groupingBy(HoldingStockPosition::getPortfolioId));
+            Map<String, Stock> stocks = new HashMap<>(await(stocksFuture));
+
+            // 종목코드 조회 이후 추가된 보유종목의 시세는 이어서 조회한다.
+            List<String> addedStockCodes = holdingStockPositions.values().stream()
+                    .flatMap(List::stream)
+                    .map(HoldingStockPosition::getStockCode)
+                    .distinct()
+                    .filter(stockCode -> !stockCodes.contains(stockCode))
+                    .toList();
+            if (!addedStockCodes.isEmpty()) {
+                stocks.putAll(stockServerService.getStocks(addedStockCodes));
+            }
+
+            return portfolios.stream()
+                    .map(portfolio -> PortfolioStatistic.of(portfolio, holdingStockPositions
+                            .getOrDefault(portfolio.getId(), List.of()), stocks))
+                    .toList();
+        } finally {
+            stocksFuture.cancel(true);
+        }
+    }
+
+    private Map<String, Stock> await(CompletableFuture<Map<String, Stock>> stocksFuture) {
+        try {
+            return stocksFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<PortfolioStatistic> getPortfolioStatistics(List<Portfolio> portfolios,
+            CostMethod costMethod) {
         List<String> stockCodes = getStockCodes(portfolios);
         Map<String, Stock> stocks = stockServerService.getStocks(stockCodes);
         return portfolios.stream()
-                .map(portfolio -> PortfolioStatistic.of(portfolio, stocks))
+                .map(portfolio -> PortfolioStatistic.of(portfolio, stocks, costMethod))
                 .toList();
     }
 
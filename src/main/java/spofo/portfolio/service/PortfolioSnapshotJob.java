@@ -0,0 +1,165 @@
+package spofo.portfolio.service;
+
+import static java.util.stream.Collectors.groupingBy;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import spofo.global.config.portfolio.PortfolioSnapshotProperties;
+import spofo.holdingstock.domain.HoldingStockPosition;
+import spofo.portfolio.domain.MemberSnapshot;
+import spofo.portfolio.domain.Portfolio;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.domain.PortfolioStatistic;
+import spofo.portfolio.domain.TotalPortfoliosStatistic;
+import spofo.portfolio.service.port.PortfolioRepository;
+import spofo.portfolio.service.port.PortfolioSnapshotRepository;
+import spofo.stock.domain.Stock;
+import spofo.stock.service.StockServerService;
+
+/**
+ * 장 마감 후 모든 회원의 포트폴리오와 회원 합계를 평가하여 일별 스냅샷으로 저장한다.
+ * 회원을 id 순서로 chunkSize명씩 나누어 최대 parallelism개의 청크를 동시에 처리하고,
+ * 주식 서버는 stockConcurrency개의 청크까지만 동시에 조회한다.
+ * 청크마다 하나의 트랜잭션으로 저장하고 회원 스냅샷이 이미 있는 회원은 건너뛰므로,
+ * 작업이 중단되어도 다시 실행하면 저장하지 못한 회원부터 이어서 처리한다.
+ * 주식 서버 장애로 마지막 시세(stale)를 사용한 회원은 저장하지 않고 다음 실행에서 다시 평가한다.
+ */
+@Slf4j
+public class PortfolioSnapshotJob {
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioSnapshotRepository portfolioSnapshotRepository;
+    private final PortfolioSnapshotWriter portfolioSnapshotWriter;
+    private final StockServerService stockServerService;
+    private final Executor executor;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Semaphore stockPermits;
+
+    public PortfolioSnapshotJob(PortfolioRepository portfolioRepository,
+            PortfolioSnapshotRepository portfolioSnapshotRepository,
+            PortfolioSnapshotWriter portfolioSnapshotWriter,
+            StockServerService stockServerService, Executor executor, Clock clock,
+            PortfolioSnapshotProperties properties) {
+        this.portfolioRepository = portfolioRepository;
+        this.portfolioSnapshotRepository = portfolioSnapshotRepository;
+        this.portfolioSnapshotWriter = portfolioSnapshotWriter;
+        this.stockServerService = stockServerService;
+        this.executor = executor;
+        this.clock = clock;
+        this.chunkSize = properties.chunkSize();
+        this.parallelism = properties.parallelism();
+        this.stockPermits = new Semaphore(properties.stockConcurrency());
+    }
+
+    @Scheduled(cron = "${portfolio.snapshot.cron:0 0 18-23 * * MON-FRI}",
+            zone = "${portfolio.snapshot.zone:Asia/Seoul}")
+    public void run() {
+        run(LocalDate.now(clock));
+    }
+
+    /**
+     * date의 스냅샷을 저장하고 이번 실행에서 저장한 회원 수를 반환한다.
+     * 실패한 청크는 로그를 남기고 건너뛰며, 다음 실행에서 다시 처리한다.
+     */
+    public int run(LocalDate date) {
+        Semaphore chunkPermits = new Semaphore(parallelism);
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<Long> memberIds = portfolioRepository.findMemberIdsAfter(0L, chunkSize);
+        while (!memberIds.isEmpty()) {
+            List<Long> chunk = memberIds;
+            chunkPermits.acquireUninterruptibly();
+            CompletableFuture.runAsync(() -> saved.addAndGet(snapshot(chunk, date)), executor)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            failed.addAndGet(chunk.size());
+                            log.error("포트폴리오 스냅샷 저장 실패: 회원 id {} ~ {}",
+                                    chunk.getFirst(), chunk.getLast(), e);
+                        }
+                        chunkPermits.release();
+                    });
+
+            memberIds = portfolioRepository.findMemberIdsAfter(chunk.getLast(), chunkSize);
+        }
+
+        chunkPermits.acquireUninterruptibly(parallelism);
+        log.info("포트폴리오 스냅샷 저장 완료: {} 저장 {}명, 실패 {}명", date, saved.get(), failed.get());
+        return saved.get();
+    }
+
+    private int snapshot(List<Long> chunk, LocalDate date) {
+        Set<Long> saved = new HashSet<>(
+                portfolioSnapshotRepository.findSnapshotMemberIds(chunk, date));
+        List<Long> unsavedMemberIds = chunk.stream()
+                .filter(memberId -> !saved.contains(memberId))
+                .toList();
+        if (unsavedMemberIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Portfolio> portfolios = portfolioRepository.findByMemberIdIn(unsavedMemberIds);
+        Map<Long, List<HoldingStockPosition>> holdingStockPositions = portfolioRepository
+                .findHoldingStockPositionsByMemberIdIn(unsavedMemberIds).stream()
+                .collect(groupingBy(HoldingStockPosition::getPortfolioId));
+        Map<String, Stock> stocks = getStocks(holdingStockPositions.values().stream()
+                .flatMap(List::stream)
+                .map(HoldingStockPosition::getStockCode)
+                .distinct()
+                .toList());
+
+        Map<Long, List<PortfolioStatistic>> statistics = portfolios.stream()
+                .map(portfolio -> PortfolioStatistic.of(portfolio,
+                        holdingStockPositions.getOrDefault(portfolio.getId(), List.of()), stocks))
+                .collect(groupingBy(statistic -> statistic.getPortfolio().getMemberId()));
+
+        List<Long> memberIds = unsavedMemberIds.stream()
+                .filter(memberId -> statistics.getOrDefault(memberId, List.of()).stream()
+                        .noneMatch(PortfolioStatistic::isStale))
+                .toList();
+        if (memberIds.size() < unsavedMemberIds.size()) {
+            log.warn("마지막 시세로 평가된 회원 {}명의 스냅샷은 다음 실행에서 저장합니다.",
+                    unsavedMemberIds.size() - memberIds.size());
+        }
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+
+        List<PortfolioSnapshot> portfolioSnapshots = memberIds.stream()
+                .flatMap(memberId -> statistics.getOrDefault(memberId, List.of()).stream())
+                .map(statistic -> PortfolioSnapshot.of(statistic, date))
+                .toList();
+        List<MemberSnapshot> memberSnapshots = memberIds.stream()
+                .map(memberId -> MemberSnapshot.of(memberId, date, TotalPortfoliosStatistic.of(
+                        statistics.getOrDefault(memberId, List.of()))))
+                .toList();
+
+        portfolioSnapshotWriter.write(portfolioSnapshots, memberSnapshots);
+        return memberIds.size();
+    }
+
+    private Map<String, Stock> getStocks(List<String> stockCodes) {
+        if (stockCodes.isEmpty()) {
+            return Map.of();
+        }
+
+        stockPermits.acquireUninterruptibly();
+        try {
+            return stockServerService.getStocks(stockCodes);
+        } finally {
+            stockPermits.release();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package spofo.portfolio.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import spofo.portfolio.domain.MemberSnapshot;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.service.port.PortfolioSnapshotRepository;
+
+@Component
+@RequiredArgsConstructor
+public class PortfolioSnapshotWriter {
+
+    private final PortfolioSnapshotRepository portfolioSnapshotRepository;
+
+    /**
+     * 한 청크의 포트폴리오 스냅샷, 주별/월별 집계, 회원 스냅샷을 하나의 트랜잭션에서 저장한다.
+     * 회원 스냅샷이 있으면 그 회원의 포트폴리오 스냅샷과 집계도 모두 저장되어 있다.
+     */
+    @Transactional
+    public void write(List<PortfolioSnapshot> portfolioSnapshots,
+            List<MemberSnapshot> memberSnapshots) {
+        portfolioSnapshotRepository.saveAll(portfolioSnapshots);
+        portfolioSnapshotRepository.saveRollups(portfolioSnapshots);
+        portfolioSnapshotRepository.saveAllMemberSnapshots(memberSnapshots);
+    }
+}
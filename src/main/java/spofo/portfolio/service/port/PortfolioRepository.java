@@ -2,21 +2,52 @@ package spofo.portfolio.service.port;
 
 import java.util.List;
 import java.util.Optional;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.portfolio.domain.Portfolio;
 
 public interface PortfolioRepository {
 
+    /**
+     * 보유종목은 조회하지 않는다. 보유종목이 필요하면 findByMemberIdWithTradeLogs를 사용한다.
+     */
     List<Portfolio> findByMemberId(Long id);
 
+    /**
+     * 보유종목은 조회하지 않는다. 보유종목이 필요하면 findByIdWithTradeLogs를 사용한다.
+     */
     Optional<Portfolio> findById(Long id);
 
     Optional<Portfolio> findByIdWithTradeLogs(Long id);
 
     List<Portfolio> findByMemberIdWithTradeLogs(Long id);
 
+    List<String> findStockCodesByMemberId(Long id);
+
+    /**
+     * 회원의 보유종목별 보유 수량과 매입 원가를 조회한다. 매매이력은 조회하지 않는다.
+     */
+    List<HoldingStockPosition> findHoldingStockPositionsByMemberId(Long id);
+
+    /**
+     * lastId보다 큰 회원 id를 size개까지 순서대로 조회한다. 포트폴리오가 있는 회원만 조회된다.
+     */
+    List<Long> findMemberIdsAfter(Long lastId, int size);
+
+    /**
+     * 보유종목은 조회하지 않는다.
+     */
+    List<Portfolio> findByMemberIdIn(List<Long> memberIds);
+
+    List<HoldingStockPosition> findHoldingStockPositionsByMemberIdIn(List<Long> memberIds);
+
     Portfolio save(Portfolio portfolio);
 
     void delete(Portfolio portfolio);
 
+    /**
+     * 포트폴리오를 조회하지 않고 삭제한다. 삭제된 포트폴리오가 없으면 false를 반환한다.
+     */
+    boolean deleteById(Long id);
+
     void deleteAll();
 }
@@ -0,0 +1,45 @@
+package spofo.portfolio.service.port;
+
+import java.time.LocalDate;
+import java.util.List;
+import spofo.portfolio.domain.MemberSnapshot;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.domain.enums.HistoryResolution;
+
+public interface PortfolioSnapshotRepository {
+
+    /**
+     * 새 스냅샷만 저장한다. 같은 날짜의 스냅샷이 이미 있으면 예외가 발생한다.
+     */
+    void saveAll(List<PortfolioSnapshot> portfolioSnapshots);
+
+    void saveAllMemberSnapshots(List<MemberSnapshot> memberSnapshots);
+
+    /**
+     * 스냅샷을 주별, 월별 집계에 반영한다. 구간에 더 늦은 날짜의 스냅샷이 이미 있으면 반영하지 않는다.
+     */
+    void saveRollups(List<PortfolioSnapshot> portfolioSnapshots);
+
+    /**
+     * after 이후(포함하지 않음)의 평가 금액 추이를 날짜 오름차순으로 조회한다.
+     * DAILY는 일별 스냅샷을, WEEKLY와 MONTHLY는 구간별 집계를 조회한다.
+     */
+    List<PortfolioSnapshot> findHistory(Long portfolioId, HistoryResolution resolution,
+            LocalDate after);
+
+    /**
+     * date 이전의 가장 최근 회원 스냅샷 날짜에 저장된 포트폴리오 스냅샷 중 portfolioIds의 스냅샷을 조회한다.
+     */
+    List<PortfolioSnapshot> findLatestSnapshotsBefore(Long memberId, List<Long> portfolioIds,
+            LocalDate date);
+
+    /**
+     * memberIds 중 date의 회원 스냅샷이 저장된 회원 id를 조회한다.
+     */
+    List<Long> findSnapshotMemberIds(List<Long> memberIds, LocalDate date);
+
+    /**
+     * 포트폴리오의 스냅샷과 집계를 조회하지 않고 삭제한다. 회원 스냅샷은 삭제하지 않는다.
+     */
+    void deleteByPortfolioId(Long portfolioId);
+}
@@ -1,6 +1,7 @@
 package spofo.stock.domain;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,5 +19,18 @@ public class Stock {
     private String market;
     private String sector;
     private String imageUrl;
+    private Instant quotedAt; // 시세를 가져온 시각
+    private boolean stale; // 주식 서버 장애로 마지막으로 가져온 시세를 대신 사용하는 경우 true
 
+    public Stock quotedAt(Instant quotedAt) {
+        return new Stock(code, name, price, market, sector, imageUrl, quotedAt, stale);
+    }
+
+    public Stock stale() {
+        return new Stock(code, name, price, market, sector, imageUrl, quotedAt, true);
+    }
+
+    public boolean isQuotedBefore(Instant time) {
+        return quotedAt == null || quotedAt.isBefore(time);
+    }
 }
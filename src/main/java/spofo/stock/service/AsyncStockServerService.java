@@ -0,0 +1,67 @@
+package spofo.stock.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import spofo.global.config.stock.StockFetchProperties;
+import spofo.global.domain.exception.StockServerTimeout;
+import spofo.stock.domain.Stock;
+
+/**
+ * 목록조회를 별도 스레드에서 실행하여, 호출한 스레드가 다른 I/O(DB 조회 등)를 하는 동안
+ * 주식 시세를 함께 가져올 수 있게 하는 StockServerService 데코레이터
+ * 반환된 결과를 취소하거나 timeout이 지나면 실행 중인 조회 스레드를 인터럽트하여 정리한다.
+ * timeout이 지나면 결과는 StockServerTimeout으로 완료된다.
+ */
+@RequiredArgsConstructor
+public class AsyncStockServerService implements StockServerService {
+
+    private final StockServerService delegate;
+    private final AsyncTaskExecutor executor;
+    private final StockFetchProperties properties;
+
+    @Override
+    public Stock getStock(String stockCode) {
+        return delegate.getStock(stockCode);
+    }
+
+    @Override
+    public Map<String, Stock> getStocks(List<String> stockCodes) {
+        return delegate.getStocks(stockCodes);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Stock>> getStocksAsync(List<String> stockCodes) {
+        CompletableFuture<Map<String, Stock>> result = new CompletableFuture<>();
+        Future<?> task;
+
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(delegate.getStocks(stockCodes));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return delegate.getStocksAsync(stockCodes);
+        }
+
+        CompletableFuture.delayedExecutor(properties.timeout().toMillis(), MILLISECONDS)
+                .execute(() -> result.completeExceptionally(new StockServerTimeout()));
+
+        result.whenComplete((stocks, e) -> {
+            if (e != null) {
+                task.cancel(true);
+            }
+        });
+
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package spofo.stock.service;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import spofo.global.config.stock.StockBatchingProperties;
+import spofo.stock.domain.Stock;
+
+/**
+ * 짧은 시간 동안 들어온 단건 조회를 모아 목록조회 한 번으로 처리하는 StockServerService 데코레이터
+ * 묶음의 첫 조회 요청이 window만큼 기다리거나 maxBatchSize만큼 모이면 묶음 전체를 조회하므로
+ * 각 조회는 최대 window만큼만 더 기다린다. 목록조회는 그대로 위임한다.
+ */
+public class BatchingStockServerService implements StockServerService {
+
+    private final StockServerService delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizeSummary;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch current = new Batch();
+
+    public BatchingStockServerService(StockServerService delegate,
+            StockBatchingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.windowNanos = properties.window().toNanos();
+        this.maxBatchSize = properties.maxBatchSize();
+        this.batchSizeSummary = meterRegistry.summary("stock.batching.size");
+    }
+
+    @Override
+    public Stock getStock(String stockCode) {
+        PendingStock pendingStock = new PendingStock(stockCode, new CompletableFuture<>());
+        Batch batch;
+        boolean leader;
+
+        lock.lock();
+        try {
+            batch = current;
+            batch.items.add(pendingStock);
+            leader = batch.items.size() == 1;
+
+            if (batch.items.size() >= maxBatchSize) {
+                current = new Batch();
+                batch.full.complete(null);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leader) {
+            awaitWindow(batch);
+            close(batch);
+            fetch(batch.items);
+        }
+
+        return await(pendingStock.future());
+    }
+
+    @Override
+    public Map<String, Stock> getStocks(List<String> stockCodes) {
+        return delegate.getStocks(stockCodes);
+    }
+
+    private void awaitWindow(Batch batch) {
+        try {
+            batch.full.get(windowNanos, NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // window가 지나면 모인 만큼만 조회한다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 아직 조회 요청을 받고 있는 묶음이면 닫는다.
+     * maxBatchSize가 차서 이미 닫힌 묶음이면 아무것도 하지 않는다.
+     */
+    private void close(Batch batch) {
+        lock.lock();
+        try {
+            if (current == batch) {
+                current = new Batch();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fetch(List<PendingStock> items) {
+        batchSizeSummary.record(items.size());
+
+        List<String> stockCodes = items.stream()
+                .map(PendingStock::stockCode)
+                .distinct()
+                .toList();
+
+        try {
+            Map<String, Stock> stocks = delegate.getStocks(stockCodes);
+            items.forEach(item -> item.future().complete(stocks.get(item.stockCode())));
+        } catch (Throwable e) {
+            items.forEach(item -> item.future().completeExceptionally(e));
+        }
+    }
+
+    private Stock await(CompletableFuture<Stock> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class Batch {
+
+        private final List<PendingStock> items = new ArrayList<>();
+        private final CompletableFuture<Void> full = new CompletableFuture<>();
+    }
+
+    private record PendingStock(String stockCode, CompletableFuture<Stock> future) {
+
+    }
+}
@@ -0,0 +1,102 @@
+package spofo.stock.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import spofo.global.config.stock.StockCacheProperties;
+import spofo.stock.domain.Stock;
+
+/**
+ * 종목코드를 키로 주식 시세를 캐싱하는 StockServerService 데코레이터
+ * 캐시에 없는 종목만 주식 서버에서 조회하며, refreshAfter가 지난 종목은 기존 값을 반환하면서
+ * 백그라운드에서 미리 갱신하므로 자주 조회되는 종목은 만료로 인한 지연이 발생하지 않는다.
+ * 적중/실패 횟수와 로딩 시간은 cache.gets, cache.loads 메트릭(cache=stock.quotes)으로 확인할 수 있다.
+ * 단건 로딩은 ConcurrentHashMap.compute의 synchronized 블록 안에서 실행되어 가상 스레드를 고정(pinning)하므로
+ * 단건 조회도 맵 잠금 밖에서 실행되는 일괄 로딩(getAll)을 사용한다.
+ * 캐시된 시세에는 주식 서버에서 가져온 시각(quotedAt)이 담겨 있어 캐시에서 꺼낸 뒤에도 실제 경과 시간을 알 수 있다.
+ */
+public class CachingStockServerService implements StockServerService {
+
+    private static final String CACHE_NAME = "stock.quotes";
+
+    private final LoadingCache<String, Stock> cache;
+
+    public CachingStockServerService(StockServerService delegate,
+            StockCacheProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .refreshAfterWrite(properties.refreshAfter())
+                .recordStats(() -> statsCounter)
+                .build(new StockLoader(delegate, clock));
+
+        statsCounter.registerSizeMetric(cache);
+    }
+
+    @Override
+    public Stock getStock(String stockCode) {
+        return cache.getAll(List.of(stockCode)).get(stockCode);
+    }
+
+    /**
+     * 캐시에 없는 종목들은 한 번의 목록조회로 가져온다.
+     * 주식 서버에 존재하지 않는 종목은 결과에 포함되지 않는다.
+     */
+    @Override
+    public Map<String, Stock> getStocks(List<String> stockCodes) {
+        return cache.getAll(stockCodes);
+    }
+
+    @RequiredArgsConstructor
+    private static class StockLoader implements CacheLoader<String, Stock> {
+
+        private final StockServerService delegate;
+        private final Clock clock;
+
+        @Override
+        public Stock load(String stockCode) {
+            Instant quotedAt = clock.instant();
+            return stamp(delegate.getStock(stockCode), quotedAt);
+        }
+
+        /**
+         * 한 종목만 로딩할 때는 단건조회를 사용하여 단건 조회 묶음 처리가 적용되도록 한다.
+         */
+        @Override
+        public Map<String, Stock> loadAll(Set<? extends String> stockCodes) {
+            if (stockCodes.size() == 1) {
+                String stockCode = stockCodes.iterator().next();
+                Stock stock = load(stockCode);
+                return stock == null ? Map.of() : Map.of(stockCode, stock);
+            }
+
+            Instant quotedAt = clock.instant();
+            Map<String, Stock> result = new HashMap<>();
+            delegate.getStocks(new ArrayList<>(stockCodes))
+                    .forEach((stockCode, stock) -> result.put(stockCode, stamp(stock, quotedAt)));
+            return result;
+        }
+
+        /**
+         * 장애로 마지막 시세를 대신 받은 경우처럼 이미 가져온 시각이 있으면 그대로 유지한다.
+         */
+        private Stock stamp(Stock stock, Instant quotedAt) {
+            if (stock == null || stock.getQuotedAt() != null) {
+                return stock;
+            }
+            return stock.quotedAt(quotedAt);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package spofo.stock.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import spofo.global.config.stock.StockCoalescingProperties;
+import spofo.stock.domain.Stock;
+
+/**
+ * 같은 종목에 대한 동시 조회를 하나로 합치는 StockServerService 데코레이터
+ * 이미 조회 중인 종목을 요청하면 새로 호출하지 않고 진행 중인 결과를 기다린다.
+ * 새로 조회해야 하는 종목은 대기열에 쌓이고, 주식 서버 호출 중에 쌓인 종목들은
+ * 여러 요청의 것이라도 다음 목록조회 한 번으로 합쳐서 가져온다.
+ */
+public class CoalescingStockServerService implements StockServerService {
+
+    private final StockServerService delegate;
+    private final Executor executor;
+    private final Semaphore batchPermits;
+
+    private final Map<String, CompletableFuture<Stock>> inFlight = new ConcurrentHashMap<>();
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+
+    private final Counter requestedCounter;
+    private final Counter fetchedCounter;
+    private final Counter batchCounter;
+
+    public CoalescingStockServerService(StockServerService delegate, Executor executor,
+            StockCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.batchPermits = new Semaphore(properties.maxConcurrentBatches());
+        this.requestedCounter = meterRegistry.counter("stock.coalescing.codes", "type", "requested");
+        this.fetchedCounter = meterRegistry.counter("stock.coalescing.codes", "type", "fetched");
+        this.batchCounter = meterRegistry.counter("stock.coalescing.batches");
+    }
+
+    @Override
+    public Stock getStock(String stockCode) {
+        return getStocks(List.of(stockCode)).get(stockCode);
+    }
+
+    @Override
+    public Map<String, Stock> getStocks(List<String> stockCodes) {
+        Map<String, CompletableFuture<Stock>> futures = new LinkedHashMap<>();
+
+        for (String stockCode : stockCodes) {
+            if (!futures.containsKey(stockCode)) {
+                futures.put(stockCode, join(stockCode));
+            }
+        }
+        requestedCounter.increment(futures.size());
+
+        dispatch();
+
+        Map<String, Stock> result = new HashMap<>();
+        futures.forEach((stockCode, future) -> {
+            Stock stock = await(future);
+            if (stock != null) {
+                result.put(stockCode, stock);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * 조회 중인 종목이면 진행 중인 결과를, 아니면 새 결과를 만들어 대기열에 넣는다.
+     */
+    private CompletableFuture<Stock> join(String stockCode) {
+        CompletableFuture<Stock> created = new CompletableFuture<>();
+        CompletableFuture<Stock> existing = inFlight.putIfAbsent(stockCode, created);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        pending.add(stockCode);
+        return created;
+    }
+
+    /**
+     * 호출 가능한 여유가 있으면 대기열의 종목을 모두 꺼내 한 번에 조회한다.
+     * 조회가 끝나면 그 사이 쌓인 종목들을 이어서 조회한다.
+     */
+    private void dispatch() {
+        while (!pending.isEmpty() && batchPermits.tryAcquire()) {
+            List<String> batch = drainPending();
+
+            if (batch.isEmpty()) {
+                batchPermits.release();
+                continue;
+            }
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        fetch(batch);
+                    } finally {
+                        batchPermits.release();
+                        dispatch();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                batchPermits.release();
+                fail(batch, e);
+            }
+        }
+    }
+
+    private List<String> drainPending() {
+        List<String> batch = new ArrayList<>();
+        String stockCode;
+
+        while ((stockCode = pending.poll()) != null) {
+            batch.add(stockCode);
+        }
+
+        return batch;
+    }
+
+    private void fetch(List<String> batch) {
+        batchCounter.increment();
+        fetchedCounter.increment(batch.size());
+
+        try {
+            Map<String, Stock> stocks = delegate.getStocks(batch);
+            batch.forEach(stockCode -> inFlight.remove(stockCode).complete(stocks.get(stockCode)));
+        } catch (Throwable e) {
+            fail(batch, e);
+        }
+    }
+
+    private void fail(List<String> batch, Throwable e) {
+        batch.forEach(stockCode -> inFlight.remove(stockCode).completeExceptionally(e));
+    }
+
+    private Stock await(CompletableFuture<Stock> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
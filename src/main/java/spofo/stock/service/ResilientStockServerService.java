@@ -0,0 +1,108 @@
+package spofo.stock.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.web.client.HttpClientErrorException;
+import spofo.global.domain.exception.StockServerUnavailable;
+import spofo.stock.domain.Stock;
+
+/**
+ * 주식 서버 호출에 서킷 브레이커와 벌크헤드를 적용하는 StockServerService 데코레이터
+ * 주식 서버가 느려지거나 실패하면 동시 호출 수를 제한하고 서킷을 열어 바로 실패하게 하며,
+ * 이때는 마지막으로 가져온 시세를 stale로 표시하여 대신 반환한다.
+ * 요청한 종목 중 하나라도 마지막 시세가 없으면 StockServerUnavailable을 던진다.
+ * 존재하지 않는 종목코드처럼 요청이 잘못된 경우(4xx)는 장애가 아니므로 마지막 시세로 대신하지 않고 그대로 던진다.
+ * 주식 서버에서 받은 시세에 가져온 시각(quotedAt)을 기록하므로, 대신 반환한 시세도 원래 가져온 시각을 유지한다.
+ * 대신 반환한 시세 수는 stock.quotes.stale 메트릭으로 확인할 수 있다.
+ */
+public class ResilientStockServerService implements StockServerService {
+
+    private final StockServerService delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Clock clock;
+    private final Counter staleCounter;
+    private final Map<String, Stock> lastKnownStocks = new ConcurrentHashMap<>();
+
+    public ResilientStockServerService(StockServerService delegate,
+            CircuitBreaker circuitBreaker, Bulkhead bulkhead, Clock clock,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.clock = clock;
+        this.staleCounter = meterRegistry.counter("stock.quotes.stale");
+    }
+
+    @Override
+    public Stock getStock(String stockCode) {
+        try {
+            Instant quotedAt = clock.instant();
+            Stock stock = stamp(call(() -> delegate.getStock(stockCode)), quotedAt);
+            if (stock != null) {
+                lastKnownStocks.put(stockCode, stock);
+            }
+            return stock;
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            Stock lastKnownStock = lastKnownStocks.get(stockCode);
+            if (lastKnownStock == null) {
+                throw new StockServerUnavailable();
+            }
+            staleCounter.increment();
+            return lastKnownStock.stale();
+        }
+    }
+
+    /**
+     * 일부 종목만 반환하면 통계 계산에서 시세가 빠지므로, 장애 시에는 요청한 모든 종목의
+     * 마지막 시세가 있을 때만 대신 반환한다.
+     */
+    @Override
+    public Map<String, Stock> getStocks(List<String> stockCodes) {
+        try {
+            Instant quotedAt = clock.instant();
+            Map<String, Stock> stocks = new HashMap<>();
+            call(() -> delegate.getStocks(stockCodes))
+                    .forEach((stockCode, stock) -> stocks.put(stockCode, stamp(stock, quotedAt)));
+            lastKnownStocks.putAll(stocks);
+            return stocks;
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            Map<String, Stock> result = new HashMap<>();
+            for (String stockCode : stockCodes) {
+                Stock lastKnownStock = lastKnownStocks.get(stockCode);
+                if (lastKnownStock == null) {
+                    throw new StockServerUnavailable();
+                }
+                result.put(stockCode, lastKnownStock.stale());
+            }
+
+            staleCounter.increment(result.size());
+            return result;
+        }
+    }
+
+    private Stock stamp(Stock stock, Instant quotedAt) {
+        if (stock == null || stock.getQuotedAt() != null) {
+            return stock;
+        }
+        return stock.quotedAt(quotedAt);
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        return CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, supplier)).get();
+    }
+}
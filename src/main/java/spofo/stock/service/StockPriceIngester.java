@@ -0,0 +1,72 @@
+package spofo.stock.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import spofo.global.config.stock.StockIngestProperties;
+import spofo.holdingstock.service.port.HoldingStockRepository;
+
+/**
+ * 전체 회원이 보유한 종목의 시세를 주기적으로 주식 서버에서 가져와 StockPriceTable에 저장한다.
+ * 요청 처리 중에는 테이블만 읽으므로 주식 서버 호출로 인한 지연이 발생하지 않는다.
+ * 수집 시간은 stock.ingest 메트릭으로 확인할 수 있으며,
+ * 조회된 시세별 경과 시간은 TableStockServerService의 stock.quote.age 메트릭에 기록된다.
+ */
+@Slf4j
+public class StockPriceIngester {
+
+    private final StockServerService stockServerService;
+    private final HoldingStockRepository holdingStockRepository;
+    private final StockPriceTable stockPriceTable;
+    private final StockIngestProperties properties;
+    private final Clock clock;
+    private final Timer ingestTimer;
+    private final Counter failureCounter;
+
+    public StockPriceIngester(StockServerService stockServerService,
+            HoldingStockRepository holdingStockRepository, StockPriceTable stockPriceTable,
+            StockIngestProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        this.stockServerService = stockServerService;
+        this.holdingStockRepository = holdingStockRepository;
+        this.stockPriceTable = stockPriceTable;
+        this.properties = properties;
+        this.clock = clock;
+        this.ingestTimer = meterRegistry.timer("stock.ingest");
+        this.failureCounter = meterRegistry.counter("stock.ingest.failures");
+
+        meterRegistry.gauge("stock.ingest.codes", stockPriceTable, StockPriceTable::size);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.ingest.interval:1s}")
+    public void ingest() {
+        ingestTimer.record(() -> {
+            List<String> stockCodes = holdingStockRepository.findAllStockCodes();
+            stockPriceTable.retainAll(stockCodes);
+
+            for (int from = 0; from < stockCodes.size(); from += properties.batchSize()) {
+                List<String> batch = stockCodes.subList(from,
+                        Math.min(from + properties.batchSize(), stockCodes.size()));
+                fetch(batch);
+            }
+        });
+    }
+
+    /**
+     * 한 묶음의 조회가 실패해도 나머지 묶음은 계속 가져오며, 실패한 종목은 기존 시세를 유지한다.
+     */
+    private void fetch(List<String> stockCodes) {
+        Instant quotedAt = clock.instant();
+
+        try {
+            stockPriceTable.putAll(stockServerService.getStocks(stockCodes), quotedAt);
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("주식 시세를 가져오지 못했습니다. (종목 수: {})", stockCodes.size(), e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package spofo.stock.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import spofo.stock.domain.Stock;
+
+/**
+ * 백그라운드에서 가져온 주식 시세를 종목코드별로 보관하는 메모리 테이블
+ * 조회는 잠금 없이 ConcurrentHashMap에서 읽으며, 각 시세에는 가져온 시각(quotedAt)이 담겨 있다.
+ */
+public class StockPriceTable {
+
+    private final Map<String, Stock> stocks = new ConcurrentHashMap<>();
+
+    public Stock get(String stockCode) {
+        return stocks.get(stockCode);
+    }
+
+    /**
+     * 테이블에 있는 종목만 반환한다.
+     */
+    public Map<String, Stock> getAll(List<String> stockCodes) {
+        Map<String, Stock> result = new HashMap<>();
+        for (String stockCode : stockCodes) {
+            Stock stock = stocks.get(stockCode);
+            if (stock != null) {
+                result.put(stockCode, stock);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 캐시를 거쳐 이미 가져온 시각이 담긴 시세는 그 시각을 유지하고, 없으면 quotedAt을 기록한다.
+     */
+    public void putAll(Map<String, Stock> quotes, Instant quotedAt) {
+        quotes.forEach((stockCode, stock) -> stocks.put(stockCode,
+                stock.getQuotedAt() == null ? stock.quotedAt(quotedAt) : stock));
+    }
+
+    /**
+     * 더 이상 보유하지 않는 종목을 테이블에서 제거한다.
+     */
+    public void retainAll(Collection<String> stockCodes) {
+        stocks.keySet().retainAll(stockCodes);
+    }
+
+    public int size() {
+        return stocks.size();
+    }
+}
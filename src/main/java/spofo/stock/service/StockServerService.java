@@ -2,6 +2,7 @@ package spofo.stock.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import spofo.stock.domain.Stock;
 
 public interface StockServerService {
@@ -11,4 +12,13 @@ public interface StockServerService {
 
     // 목록조회
     Map<String, Stock> getStocks(List<String> stockCodes);
+
+    // 목록조회를 비동기로 시작한다. 기본 구현은 호출한 스레드에서 조회를 마친다.
+    default CompletableFuture<Map<String, Stock>> getStocksAsync(List<String> stockCodes) {
+        try {
+            return CompletableFuture.completedFuture(getStocks(stockCodes));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package spofo.stock.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import spofo.global.config.stock.StockIngestProperties;
+import spofo.stock.domain.Stock;
+
+/**
+ * StockPriceIngester가 채운 StockPriceTable에서 주식 시세를 조회하는 StockServerService 데코레이터
+ * 테이블에 없거나 maxAge보다 오래된 종목만 주식 서버에서 가져오고 테이블에 저장한다.
+ * 반환하는 시세마다 가져온 뒤 지난 시간을 stock.quote.age 히스토그램에 기록한다.
+ */
+public class TableStockServerService implements StockServerService {
+
+    private final StockServerService delegate;
+    private final StockPriceTable stockPriceTable;
+    private final StockIngestProperties properties;
+    private final Clock clock;
+    private final Timer quoteAgeTimer;
+
+    public TableStockServerService(StockServerService delegate, StockPriceTable stockPriceTable,
+            StockIngestProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.stockPriceTable = stockPriceTable;
+        this.properties = properties;
+        this.clock = clock;
+        this.quoteAgeTimer = Timer.builder("stock.quote.age")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Stock getStock(String stockCode) {
+        Stock stock = stockPriceTable.get(stockCode);
+
+        if (stock == null || stock.isQuotedBefore(getStaleBefore())) {
+            Instant quotedAt = clock.instant();
+            Stock fetched = delegate.getStock(stockCode);
+
+            if (fetched == null) {
+                return null;
+            }
+
+            stockPriceTable.putAll(Map.of(stockCode, fetched), quotedAt);
+            stock = stockPriceTable.get(stockCode);
+        }
+
+        recordAge(stock);
+        return stock;
+    }
+
+    @Override
+    public Map<String, Stock> getStocks(List<String> stockCodes) {
+        Instant staleBefore = getStaleBefore();
+        Map<String, Stock> result = new HashMap<>(stockPriceTable.getAll(stockCodes));
+        result.values().removeIf(stock -> stock.isQuotedBefore(staleBefore));
+
+        List<String> missingStockCodes = stockCodes.stream()
+                .filter(stockCode -> !result.containsKey(stockCode))
+                .distinct()
+                .toList();
+
+        if (!missingStockCodes.isEmpty()) {
+            Instant quotedAt = clock.instant();
+            Map<String, Stock> fetched = delegate.getStocks(missingStockCodes);
+            stockPriceTable.putAll(fetched, quotedAt);
+            result.putAll(stockPriceTable.getAll(List.copyOf(fetched.keySet())));
+        }
+
+        result.values().forEach(this::recordAge);
+        return result;
+    }
+
+    private Instant getStaleBefore() {
+        return clock.instant().minus(properties.maxAge());
+    }
+
+    /**
+     * 캐시에서 꺼낸 시세는 캐시가 주식 서버에서 가져온 시각을 기준으로 경과 시간을 계산한다.
+     */
+    private void recordAge(Stock stock) {
+        Duration age = Duration.between(stock.getQuotedAt(), clock.instant());
+        quoteAgeTimer.record(age.isNegative() ? Duration.ZERO : age);
+    }
+}
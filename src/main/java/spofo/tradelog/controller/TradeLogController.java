@@ -1,21 +1,38 @@
 package spofo.tradelog.controller;
 
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.ResponseEntity.ok;
+import static spofo.tradelog.controller.request.TradeImportReader.TEXT_CSV_VALUE;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import spofo.portfolio.controller.port.PortfolioService;
+import spofo.portfolio.domain.Portfolio;
+import spofo.tradelog.controller.port.TradeImportService;
 import spofo.tradelog.controller.port.TradeLogService;
+import spofo.tradelog.controller.request.TradeImportReader;
+import spofo.tradelog.controller.response.TradeImportResponse;
 import spofo.tradelog.controller.response.TradeLogResponse;
+import spofo.tradelog.domain.TradeImportReport;
 
 @RestController
 @RequiredArgsConstructor
 public class TradeLogController {
 
     private final TradeLogService tradeLogService;
+    private final TradeImportService tradeImportService;
+    private final PortfolioService portfolioService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/portfolios/{portfolioId}/stocks/{stockId}/trade-log")
     public ResponseEntity<List<TradeLogResponse>> getTradeLogs(
@@ -27,4 +44,20 @@ public class TradeLogController {
                 .toList();
         return ok(statistics);
     }
+
+    /**
+     * 증권사에서 내려받은 매매이력을 CSV 또는 JSON Lines 형식으로 한 번에 등록한다.
+     * 요청 본문은 스트림으로 읽으며, 행별 결과는 실패한 행이 있어도 200으로 응답한다.
+     */
+    @PostMapping(value = "/portfolios/{portfolioId}/trade-logs/import",
+            consumes = {TEXT_CSV_VALUE, APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TradeImportResponse> importTradeLogs(
+            @PathVariable Long portfolioId,
+            @RequestHeader(CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        Portfolio portfolio = portfolioService.getPortfolio(portfolioId);
+        TradeImportReader rows = TradeImportReader.of(contentType, body, objectMapper);
+        TradeImportReport report = tradeImportService.importTrades(portfolio, rows);
+        return ok(TradeImportResponse.from(report));
+    }
 }
@@ -0,0 +1,14 @@
+package spofo.tradelog.controller.port;
+
+import java.util.Iterator;
+import spofo.portfolio.domain.Portfolio;
+import spofo.tradelog.domain.TradeImportReport;
+import spofo.tradelog.domain.TradeImportRow;
+
+public interface TradeImportService {
+
+    /**
+     * 매매이력을 읽는 대로 청크 단위로 저장한다. 한 청크의 저장이 실패해도 이전 청크는 유지된다.
+     */
+    TradeImportReport importTrades(Portfolio portfolio, Iterator<TradeImportRow> rows);
+}
@@ -2,6 +2,7 @@ package spofo.tradelog.controller.port;
 
 import java.util.List;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.stock.domain.Stock;
 import spofo.tradelog.domain.TradeLog;
 import spofo.tradelog.domain.TradeLogCreate;
 import spofo.tradelog.domain.TradeLogStatistic;
@@ -10,9 +11,15 @@ public interface TradeLogService {
 
     TradeLog create(TradeLogCreate request, HoldingStock holdingStock);
 
+    /**
+     * 트랜잭션 밖에서 조회한 시세로 매매이력을 추가한다. holdingStock은 같은 트랜잭션에서
+     * 쓰기 잠금으로 조회했거나 새로 저장한 보유종목이어야 한다.
+     */
+    TradeLog create(TradeLogCreate request, HoldingStock holdingStock, Stock stock);
+
     List<TradeLogStatistic> getStatistics(Long stockId);
 
     void deleteByHoldingStockId(Long id);
 
-    void deleteByHoldingStockIds(List<Long> ids);
+    void deleteByPortfolioId(Long portfolioId);
 }
@@ -0,0 +1,16 @@
+package spofo.tradelog.controller.request;
+
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import spofo.tradelog.domain.enums.CostMethod;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CostMethodCondition {
+
+    private CostMethod costMethod = AVERAGE; // 없으면 저장된 보유 현황과 같은 평균 단가 방식
+}
@@ -0,0 +1,227 @@
+package spofo.tradelog.controller.request;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.TradeType.SELL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.springframework.http.MediaType;
+import spofo.tradelog.domain.TradeImportRow;
+import spofo.tradelog.domain.enums.TradeType;
+
+/**
+ * 매매이력 일괄 등록 요청 본문을 한 줄씩 읽어 TradeImportRow로 변환한다.
+ * 본문 전체를 메모리에 올리지 않고, 다음 행을 요청할 때 한 줄을 읽는다.
+ * 형식이 잘못된 줄은 예외를 던지지 않고 실패 사유를 담은 행으로 반환한다.
+ * <pre>
+ * text/csv             code,type,price,quantity,tradeDate (첫 줄의 헤더는 생략할 수 있다)
+ * application/x-ndjson {"code":"000660","type":"BUY","price":66000,"quantity":1,"tradeDate":"2023-12-01T00:00:00"}
+ * </pre>
+ */
+public class TradeImportReader implements Iterator<TradeImportRow> {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private static final String BOM = "\uFEFF";
+    private static final String[] FIELDS = {"code", "type", "price", "quantity", "tradeDate"};
+    private static final Map<String, TradeType> TRADE_TYPES = Map.of(
+            "BUY", BUY, "SELL", SELL, "매수", BUY, "매도", SELL);
+
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final ObjectMapper objectMapper;
+
+    private long lineNumber = 0;
+    private TradeImportRow next;
+
+    private TradeImportReader(Reader reader, boolean csv, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader);
+        this.csv = csv;
+        this.objectMapper = objectMapper;
+    }
+
+    public static TradeImportReader of(MediaType contentType, InputStream body,
+            ObjectMapper objectMapper) {
+        Charset charset = contentType.getCharset() == null ? UTF_8 : contentType.getCharset();
+        return new TradeImportReader(new InputStreamReader(body, charset),
+                TEXT_CSV.isCompatibleWith(contentType), objectMapper);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public TradeImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TradeImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private TradeImportRow readNext() {
+        String line;
+        while ((line = readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith(BOM)) {
+                line = line.substring(1);
+            }
+            if (line.isBlank() || (csv && lineNumber == 1 && isHeader(line))) {
+                continue;
+            }
+            return csv ? parseCsv(line) : parseJson(line);
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isHeader(String line) {
+        return line.trim().toLowerCase().startsWith(FIELDS[0]);
+    }
+
+    private TradeImportRow parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() != FIELDS.length) {
+            return TradeImportRow.invalid(lineNumber, trim(values.get(0)),
+                    "항목 수가 올바르지 않습니다. "
+                            + String.join(",", FIELDS) + " 순서로 입력해야 합니다.");
+        }
+        return toRow(values);
+    }
+
+    private TradeImportRow parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            List<String> values = new ArrayList<>(FIELDS.length);
+            for (String field : FIELDS) {
+                JsonNode value = node.get(field);
+                values.add(value == null || value.isNull() ? null : value.asText());
+            }
+            return toRow(values);
+        } catch (JsonProcessingException e) {
+            return TradeImportRow.invalid(lineNumber, null, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private TradeImportRow toRow(List<String> values) {
+        String stockCode = trim(values.get(0));
+        try {
+            return TradeImportRow.of(lineNumber, stockCode,
+                    toTradeType(values.get(1)),
+                    toBigDecimal(values.get(2), "단가는 숫자여야 합니다."),
+                    toBigDecimal(values.get(3), "수량은 숫자여야 합니다."),
+                    toLocalDateTime(values.get(4)));
+        } catch (IllegalArgumentException e) {
+            return TradeImportRow.invalid(lineNumber, stockCode, e.getMessage());
+        }
+    }
+
+    private TradeType toTradeType(String value) {
+        String type = trim(value);
+        if (type == null) {
+            return null;
+        }
+        TradeType tradeType = TRADE_TYPES.get(type.toUpperCase());
+        if (tradeType == null) {
+            throw new IllegalArgumentException("매매 종류는 BUY 또는 SELL이어야 합니다.");
+        }
+        return tradeType;
+    }
+
+    private BigDecimal toBigDecimal(String value, String message) {
+        String number = trim(value);
+        if (number == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(number.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * 2023-12-01T09:00:00, 2023-12-01 09:00:00, 2023-12-01 형식을 허용한다.
+     */
+    private LocalDateTime toLocalDateTime(String value) {
+        String date = trim(value);
+        if (date == null) {
+            return null;
+        }
+        try {
+            if (date.length() == 10) {
+                return LocalDate.parse(date).atStartOfDay();
+            }
+            return LocalDateTime.parse(date.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("매매날짜 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private String trim(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    /**
+     * 큰따옴표로 감싼 값 안의 쉼표와 두 번 연속된 큰따옴표("")를 값으로 취급한다.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append(c);
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
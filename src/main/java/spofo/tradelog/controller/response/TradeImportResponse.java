@@ -0,0 +1,61 @@
+package spofo.tradelog.controller.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import spofo.tradelog.domain.TradeImportReport;
+import spofo.tradelog.domain.TradeImportResult;
+import spofo.tradelog.domain.enums.TradeImportStatus;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TradeImportResponse {
+
+    private int total; // 전체 행 수
+    private int imported; // 저장된 행 수
+    private int failed; // 실패한 행 수
+    private long elapsedMillis; // 처리 시간
+    private BigDecimal rowsPerSecond; // 초당 처리 행 수
+    private List<Row> rows; // 행별 결과
+
+    public static TradeImportResponse from(TradeImportReport report) {
+        return TradeImportResponse.builder()
+                .total(report.getTotal())
+                .imported(report.getImported())
+                .failed(report.getFailed())
+                .elapsedMillis(report.getElapsedMillis())
+                .rowsPerSecond(report.getRowsPerSecond())
+                .rows(report.getResults().stream()
+                        .map(Row::from)
+                        .toList())
+                .build();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Row {
+
+        private long line; // 요청 본문의 줄 번호
+        private String code; // 종목코드
+        private TradeImportStatus status;
+        private Long stockId; // 저장된 보유종목 id
+        private String message; // 실패 사유
+
+        public static Row from(TradeImportResult result) {
+            return Row.builder()
+                    .line(result.getLineNumber())
+                    .code(result.getStockCode())
+                    .status(result.getStatus())
+                    .stockId(result.getHoldingStockId())
+                    .message(result.getMessage())
+                    .build();
+        }
+    }
+}
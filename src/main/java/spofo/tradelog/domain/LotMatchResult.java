@@ -0,0 +1,38 @@
+package spofo.tradelog.domain;
+
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.HALF_UP;
+import static spofo.global.component.utils.CommonUtils.isZero;
+import static spofo.holdingstock.domain.Position.AVG_PRICE_SCALE;
+
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Getter;
+import spofo.holdingstock.domain.Position;
+import spofo.tradelog.domain.enums.CostMethod;
+
+/**
+ * 매매이력의 lot 매칭 결과이다.
+ */
+@Getter
+@Builder
+public class LotMatchResult {
+
+    private final CostMethod costMethod;
+    private final BigDecimal quantity; // 보유 수량
+    private final BigDecimal costBasis; // 보유 수량의 매입 원가
+    private final BigDecimal realizedGain; // 실현 손익
+
+    public BigDecimal getAvgPrice() {
+        return isZero(quantity) ? ZERO : costBasis.divide(quantity, AVG_PRICE_SCALE, HALF_UP);
+    }
+
+    public Position toPosition() {
+        return Position.builder()
+                .quantity(quantity)
+                .totalCost(costBasis)
+                .avgPrice(getAvgPrice())
+                .realizedGain(realizedGain)
+                .build();
+    }
+}
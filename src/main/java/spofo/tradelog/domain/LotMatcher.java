@@ -0,0 +1,142 @@
+package spofo.tradelog.domain;
+
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.HALF_UP;
+import static spofo.holdingstock.domain.Position.COST_SCALE;
+import static spofo.tradelog.domain.TradeLog.TRADE_ORDER;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import spofo.global.domain.exception.TradeLogOverSold;
+import spofo.tradelog.domain.enums.CostMethod;
+
+/**
+ * 보유종목의 매매이력을 거래일 순서로 한 번 순회하면서 매도 수량을 매수 lot과 짝지어
+ * 보유 수량, 매입 원가, 실현 손익을 계산한다.
+ * 매도가 끝난 lot은 바로 버리므로 아직 남아 있는 lot 수만큼의 메모리만 사용하고,
+ * 평균 단가 방식은 lot을 하나로 합쳐서 유지한다.
+ *
+ * <p>평균 단가 방식의 결과는 저장된 보유 현황(Position)과 같다.
+ * Position과 같이 보유 수량보다 많이 매도한 매매이력이 있으면 TradeLogOverSold를 던진다.
+ */
+public final class LotMatcher {
+
+    private final CostMethod costMethod;
+    private final Deque<Lot> lots = new ArrayDeque<>();
+    private BigDecimal quantity = ZERO;
+    private BigDecimal costBasis = ZERO;
+    private BigDecimal realizedGain = ZERO;
+
+    private LotMatcher(CostMethod costMethod) {
+        this.costMethod = costMethod;
+    }
+
+    /**
+     * 매매이력은 TradeLog.TRADE_ORDER 순서로 처리한다.
+     */
+    public static LotMatchResult match(List<TradeLog> tradeLogs, CostMethod costMethod) {
+        List<TradeLog> ordered = new ArrayList<>(tradeLogs);
+        ordered.sort(TRADE_ORDER);
+
+        LotMatcher matcher = new LotMatcher(costMethod);
+        for (TradeLog tradeLog : ordered) {
+            matcher.apply(tradeLog);
+        }
+        return matcher.toResult();
+    }
+
+    private void apply(TradeLog tradeLog) {
+        if (tradeLog.getType() == BUY) {
+            buy(tradeLog.getPrice(), tradeLog.getQuantity());
+            return;
+        }
+        sell(tradeLog.getPrice(), tradeLog.getQuantity());
+    }
+
+    private void buy(BigDecimal price, BigDecimal tradeQuantity) {
+        BigDecimal cost = price.multiply(tradeQuantity);
+        quantity = quantity.add(tradeQuantity);
+        costBasis = costBasis.add(cost);
+
+        if (costMethod == AVERAGE && !lots.isEmpty()) {
+            lots.getFirst().merge(tradeQuantity, cost);
+            return;
+        }
+        lots.addLast(new Lot(tradeQuantity, cost));
+    }
+
+    private void sell(BigDecimal price, BigDecimal tradeQuantity) {
+        if (tradeQuantity.compareTo(quantity) > 0) {
+            throw new TradeLogOverSold();
+        }
+        if (tradeQuantity.signum() <= 0) {
+            return;
+        }
+
+        realizedGain = realizedGain.add(price.multiply(tradeQuantity));
+        quantity = quantity.subtract(tradeQuantity);
+
+        BigDecimal remaining = tradeQuantity;
+
+        while (remaining.signum() > 0) {
+            Lot lot = lots.getFirst();
+            BigDecimal soldCost;
+            if (remaining.compareTo(lot.quantity) >= 0) {
+                lots.removeFirst();
+                soldCost = lot.cost;
+                remaining = remaining.subtract(lot.quantity);
+            } else {
+                soldCost = lot.consume(remaining);
+                remaining = ZERO;
+            }
+
+            realizedGain = realizedGain.subtract(soldCost);
+            costBasis = costBasis.subtract(soldCost);
+        }
+
+        if (quantity.signum() == 0) {
+            costBasis = ZERO;
+            lots.clear();
+        }
+    }
+
+    private LotMatchResult toResult() {
+        return LotMatchResult.builder()
+                .costMethod(costMethod)
+                .quantity(quantity)
+                .costBasis(costBasis)
+                .realizedGain(realizedGain)
+                .build();
+    }
+
+    private static final class Lot {
+
+        private BigDecimal quantity;
+        private BigDecimal cost;
+
+        private Lot(BigDecimal quantity, BigDecimal cost) {
+            this.quantity = quantity;
+            this.cost = cost;
+        }
+
+        private void merge(BigDecimal quantity, BigDecimal cost) {
+            this.quantity = this.quantity.add(quantity);
+            this.cost = this.cost.add(cost);
+        }
+
+        /**
+         * lot의 일부를 매도하고 매도한 수량의 매입 원가를 반환한다.
+         */
+        private BigDecimal consume(BigDecimal soldQuantity) {
+            BigDecimal soldCost = cost.multiply(soldQuantity).divide(quantity, COST_SCALE, HALF_UP);
+            quantity = quantity.subtract(soldQuantity);
+            cost = cost.subtract(soldCost);
+            return soldCost;
+        }
+    }
+}
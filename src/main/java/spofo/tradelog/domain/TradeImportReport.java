@@ -0,0 +1,47 @@
+package spofo.tradelog.domain;
+
+import static java.math.RoundingMode.HALF_UP;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 매매이력 일괄 등록 결과이다. 행별 결과와 함께 처리량(초당 처리 행 수)을 제공한다.
+ */
+@Getter
+@Builder
+public class TradeImportReport {
+
+    private final int total;
+    private final int imported;
+    private final int failed;
+    private final long elapsedMillis;
+    private final BigDecimal rowsPerSecond;
+    private final List<TradeImportResult> results;
+
+    public static TradeImportReport of(List<TradeImportResult> results, Duration elapsed) {
+        int imported = (int) results.stream()
+                .filter(TradeImportResult::isImported)
+                .count();
+        long elapsedMillis = elapsed.toMillis();
+
+        return TradeImportReport.builder()
+                .total(results.size())
+                .imported(imported)
+                .failed(results.size() - imported)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(getRowsPerSecond(results.size(), elapsed))
+                .results(results)
+                .build();
+    }
+
+    private static BigDecimal getRowsPerSecond(int rows, Duration elapsed) {
+        long nanos = Math.max(elapsed.toNanos(), 1);
+        return BigDecimal.valueOf(rows)
+                .multiply(BigDecimal.valueOf(1_000_000_000L))
+                .divide(BigDecimal.valueOf(nanos), 1, HALF_UP);
+    }
+}
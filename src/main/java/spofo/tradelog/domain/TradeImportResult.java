@@ -0,0 +1,44 @@
+package spofo.tradelog.domain;
+
+import static spofo.tradelog.domain.enums.TradeImportStatus.FAILED;
+import static spofo.tradelog.domain.enums.TradeImportStatus.IMPORTED;
+
+import lombok.Builder;
+import lombok.Getter;
+import spofo.tradelog.domain.enums.TradeImportStatus;
+
+/**
+ * 일괄 등록 요청의 행별 처리 결과이다.
+ */
+@Getter
+@Builder
+public class TradeImportResult {
+
+    private final long lineNumber;
+    private final String stockCode;
+    private final TradeImportStatus status;
+    private final Long holdingStockId; // 저장된 보유종목 id
+    private final String message; // 실패 사유
+
+    public static TradeImportResult imported(TradeImportRow row, Long holdingStockId) {
+        return TradeImportResult.builder()
+                .lineNumber(row.getLineNumber())
+                .stockCode(row.getStockCode())
+                .status(IMPORTED)
+                .holdingStockId(holdingStockId)
+                .build();
+    }
+
+    public static TradeImportResult failed(TradeImportRow row, String message) {
+        return TradeImportResult.builder()
+                .lineNumber(row.getLineNumber())
+                .stockCode(row.getStockCode())
+                .status(FAILED)
+                .message(message)
+                .build();
+    }
+
+    public boolean isImported() {
+        return status == IMPORTED;
+    }
+}
@@ -0,0 +1,72 @@
+package spofo.tradelog.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import spofo.tradelog.domain.enums.TradeType;
+
+/**
+ * 일괄 등록 요청의 매매이력 1행이다. 형식이 잘못된 행은 error에 사유를 담고 저장하지 않는다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class TradeImportRow {
+
+    private final long lineNumber; // 요청 본문의 줄 번호
+    private final String stockCode;
+    private final TradeLogCreate tradeLogCreate;
+    private final String error;
+
+    public static TradeImportRow of(long lineNumber, String stockCode, TradeType type,
+            BigDecimal price, BigDecimal quantity, LocalDateTime tradeDate) {
+        String error = validate(stockCode, type, price, quantity, tradeDate);
+        if (error != null) {
+            return invalid(lineNumber, stockCode, error);
+        }
+
+        return TradeImportRow.builder()
+                .lineNumber(lineNumber)
+                .stockCode(stockCode)
+                .tradeLogCreate(TradeLogCreate.builder()
+                        .type(type)
+                        .price(price)
+                        .tradeDate(tradeDate)
+                        .quantity(quantity)
+                        .build())
+                .build();
+    }
+
+    public static TradeImportRow invalid(long lineNumber, String stockCode, String error) {
+        return TradeImportRow.builder()
+                .lineNumber(lineNumber)
+                .stockCode(stockCode)
+                .error(error)
+                .build();
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    private static String validate(String stockCode, TradeType type, BigDecimal price,
+            BigDecimal quantity, LocalDateTime tradeDate) {
+        if (stockCode == null || stockCode.isBlank()) {
+            return "종목코드는 필수 입력입니다.";
+        }
+        if (type == null) {
+            return "매매 종류는 필수 입력입니다.";
+        }
+        if (tradeDate == null) {
+            return "매매날짜는 필수 입력입니다.";
+        }
+        if (quantity == null || quantity.signum() <= 0) {
+            return "수량은 0보다 커야 합니다.";
+        }
+        if (price == null || price.signum() <= 0) {
+            return "단가는 0보다 커야 합니다.";
+        }
+        return null;
+    }
+}
@@ -2,6 +2,7 @@ package spofo.tradelog.domain;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import lombok.Builder;
 import lombok.Getter;
 import spofo.holdingstock.domain.HoldingStock;
@@ -12,6 +13,15 @@ import spofo.tradelog.domain.enums.TradeType;
 @Builder
 public class TradeLog {
 
+    /**
+     * 보유 현황과 lot 매칭이 매매이력을 누적하는 순서이다.
+     * 거래일 순서로 정렬하고, 거래일이 같으면 먼저 저장된(id가 작은) 매매이력이 앞선다.
+     * 아직 저장되지 않은 매매이력은 저장된 매매이력 뒤에 전달된 순서대로 놓인다.
+     */
+    public static final Comparator<TradeLog> TRADE_ORDER = Comparator
+            .comparing(TradeLog::getTradeDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TradeLog::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private final Long id;
     private final TradeType type;
     private final BigDecimal price;
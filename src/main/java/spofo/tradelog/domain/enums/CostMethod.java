@@ -0,0 +1,10 @@
+package spofo.tradelog.domain.enums;
+
+/**
+ * 매도한 수량의 매입 원가를 정하는 방식
+ */
+public enum CostMethod {
+
+    FIFO, // 먼저 매수한 lot부터 매도한다.
+    AVERAGE // 매수할 때마다 이동평균 단가를 갱신하고, 평균 단가로 매도한다.
+}
@@ -0,0 +1,6 @@
+package spofo.tradelog.domain.enums;
+
+public enum TradeImportStatus {
+
+    IMPORTED, FAILED
+}
@@ -6,8 +6,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -22,12 +24,20 @@ import spofo.tradelog.domain.enums.TradeType;
 
 @Entity
 @Getter
-@Table(name = "trade_log")
+@Table(name = "trade_log",
+        indexes = @Index(name = "idx_trade_log_holding_stock_id_trade_date",
+                columnList = "holding_stock_id, trade_date, id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TradeLogEntity {
 
+    /**
+     * IDENTITY는 insert를 실행해야 id를 알 수 있어 Hibernate의 JDBC 배치 insert가 꺼진다.
+     * 시퀀스에서 id를 50개씩 미리 할당받아 여러 건의 insert를 한 번의 배치로 보낸다.
+     * 시퀀스를 지원하지 않는 MySQL에서는 같은 이름의 테이블로 시퀀스를 흉내낸다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trade_log_seq")
+    @SequenceGenerator(name = "trade_log_seq", sequenceName = "trade_log_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -1,13 +1,41 @@
 package spofo.tradelog.infrastructure;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TradeLogJpaRepository extends JpaRepository<TradeLogEntity, Long> {
 
     List<TradeLogEntity> findByHoldingStockEntityId(Long id);
 
-    void deleteByHoldingStockEntityId(Long id);
+    /**
+     * (holding_stock_id, trade_date, id) 인덱스만 읽는다.
+     */
+    @Query("select max(t.tradeDate) "
+            + "from TradeLogEntity t "
+            + "where t.holdingStockEntity.id = :holdingStockId")
+    LocalDateTime findLastTradeDate(@Param("holdingStockId") Long holdingStockId);
 
-    void deleteByHoldingStockEntityIdIn(List<Long> ids);
+    @Query("select t "
+            + "from TradeLogEntity t "
+            + "where t.holdingStockEntity.id in :holdingStockIds "
+            + "order by t.id")
+    List<TradeLogEntity> findByHoldingStockIdIn(
+            @Param("holdingStockIds") List<Long> holdingStockIds);
+
+    /**
+     * 매매이력을 조회하지 않고 delete 1번으로 삭제한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TradeLogEntity t where t.holdingStockEntity.id = :holdingStockId")
+    int deleteByHoldingStockEntityId(@Param("holdingStockId") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TradeLogEntity t "
+            + "where t.holdingStockEntity.id in "
+            + "(select h.id from HoldingStockEntity h where h.portfolioEntity.id = :portfolioId)")
+    int deleteByPortfolioId(@Param("portfolioId") Long portfolioId);
 }
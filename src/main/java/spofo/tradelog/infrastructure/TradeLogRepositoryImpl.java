@@ -1,6 +1,8 @@
 package spofo.tradelog.infrastructure;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import spofo.tradelog.domain.TradeLog;
@@ -17,6 +19,16 @@ public class TradeLogRepositoryImpl implements TradeLogRepository {
         return tradeLogJpaRepository.save(TradeLogEntity.from(tradeLog)).toModel();
     }
 
+    @Override
+    public List<TradeLog> saveAll(List<TradeLog> tradeLogs) {
+        List<TradeLogEntity> entities = tradeLogs.stream()
+                .map(TradeLogEntity::from)
+                .toList();
+        return tradeLogJpaRepository.saveAll(entities).stream()
+                .map(TradeLogEntity::toModel)
+                .toList();
+    }
+
     @Override
     public List<TradeLog> findByHoldingStockEntityId(Long id) {
         return tradeLogJpaRepository.findByHoldingStockEntityId(id).stream()
@@ -24,14 +36,19 @@ public class TradeLogRepositoryImpl implements TradeLogRepository {
                 .toList();
     }
 
+    @Override
+    public Optional<LocalDateTime> findLastTradeDate(Long holdingStockId) {
+        return Optional.ofNullable(tradeLogJpaRepository.findLastTradeDate(holdingStockId));
+    }
+
     @Override
     public void deleteByHoldingStockId(Long id) {
         tradeLogJpaRepository.deleteByHoldingStockEntityId(id);
     }
 
     @Override
-    public void deleteByHoldingStockEntityIdIn(List<Long> ids) {
-        tradeLogJpaRepository.deleteByHoldingStockEntityIdIn(ids);
+    public void deleteByPortfolioId(Long portfolioId) {
+        tradeLogJpaRepository.deleteByPortfolioId(portfolioId);
     }
 
     @Override
@@ -0,0 +1,179 @@
+package spofo.tradelog.service;
+
+import static java.util.Comparator.comparingLong;
+import static spofo.global.domain.exception.ErrorCode.HOLDING_STOCK_CONFLICT;
+import static spofo.global.domain.exception.ErrorCode.STOCK_SERVER_UNAVAILABLE;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import spofo.global.config.tradelog.TradeImportProperties;
+import spofo.global.domain.exception.HoldingStockConflict;
+import spofo.global.domain.exception.PortfolioException;
+import spofo.portfolio.domain.Portfolio;
+import spofo.stock.domain.Stock;
+import spofo.stock.service.StockServerService;
+import spofo.tradelog.controller.port.TradeImportService;
+import spofo.tradelog.domain.TradeImportReport;
+import spofo.tradelog.domain.TradeImportResult;
+import spofo.tradelog.domain.TradeImportRow;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TradeImportServiceImpl implements TradeImportService {
+
+    private static final String STOCK_NOT_FOUND = "존재하지 않는 종목코드입니다.";
+    private static final String WRITE_FAILED = "매매이력을 저장하지 못했습니다.";
+
+    private final StockServerService stockServerService;
+    private final TradeImportWriter tradeImportWriter;
+    private final TradeImportProperties tradeImportProperties;
+
+    /**
+     * 요청 본문 전체를 메모리에 올리지 않도록 chunkSize만큼 읽을 때마다 저장한다.
+     * 시세는 청크에서 처음 나온 종목코드만 목록조회 1번으로 가져오고, 이후 청크에서는 재사용한다.
+     */
+    @Override
+    public TradeImportReport importTrades(Portfolio portfolio, Iterator<TradeImportRow> rows) {
+        long startedAt = System.nanoTime();
+        int chunkSize = tradeImportProperties.chunkSize();
+        ImportContext context = new ImportContext(portfolio);
+
+        List<TradeImportRow> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, context);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, context);
+        }
+
+        TradeImportReport report = TradeImportReport.of(context.results,
+                Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("매매이력 일괄 등록 완료: portfolioId={}, 성공 {}건, 실패 {}건, {}건/초",
+                portfolio.getId(), report.getImported(), report.getFailed(),
+                report.getRowsPerSecond());
+        return report;
+    }
+
+    private void importChunk(List<TradeImportRow> chunk, ImportContext context) {
+        List<TradeImportResult> results = new ArrayList<>(chunk.size());
+        List<TradeImportRow> validRows = new ArrayList<>(chunk.size());
+
+        for (TradeImportRow row : chunk) {
+            if (row.isValid()) {
+                validRows.add(row);
+            } else {
+                results.add(TradeImportResult.failed(row, row.getError()));
+            }
+        }
+
+        try {
+            context.resolveStocks(validRows);
+        } catch (RuntimeException e) {
+            log.warn("매매이력 일괄 등록 시세 조회 실패: portfolioId={}, {}행",
+                    context.portfolio.getId(), validRows.size(), e);
+            String error = getErrorMessage(e, STOCK_SERVER_UNAVAILABLE.getMessage());
+            validRows.forEach(row -> results.add(TradeImportResult.failed(row, error)));
+            validRows.clear();
+        }
+
+        List<TradeImportRow> writableRows = new ArrayList<>(validRows.size());
+        for (TradeImportRow row : validRows) {
+            if (context.stocks.containsKey(row.getStockCode())) {
+                writableRows.add(row);
+            } else {
+                results.add(TradeImportResult.failed(row, STOCK_NOT_FOUND));
+            }
+        }
+
+        if (!writableRows.isEmpty()) {
+            results.addAll(write(writableRows, context));
+        }
+
+        results.sort(comparingLong(TradeImportResult::getLineNumber));
+        context.results.addAll(results);
+    }
+
+    /**
+     * 청크의 저장이 실패하면 트랜잭션이 롤백되므로 청크의 모든 행을 실패로 기록한다.
+     * 같은 종목을 동시에 등록하여 보유종목 insert가 충돌하면, 상대가 만든 보유종목을 잠그도록 한 번 더 저장한다.
+     */
+    private List<TradeImportResult> write(List<TradeImportRow> rows, ImportContext context) {
+        try {
+            return writeOrRetry(rows, context);
+        } catch (RuntimeException e) {
+            log.warn("매매이력 일괄 등록 청크 저장 실패: portfolioId={}, {}행",
+                    context.portfolio.getId(), rows.size(), e);
+            String error = getErrorMessage(e, WRITE_FAILED);
+            return rows.stream()
+                    .map(row -> TradeImportResult.failed(row, error))
+                    .toList();
+        }
+    }
+
+    /**
+     * 행마다 돌려주는 실패 사유에 SQL이나 외부 서버의 응답이 담기지 않도록
+     * 알려진 예외는 ErrorCode의 메시지로, 나머지는 정해진 메시지로 바꾼다. 원래 예외는 로그에 남긴다.
+     */
+    private String getErrorMessage(RuntimeException e, String defaultMessage) {
+        if (e instanceof PortfolioException portfolioException) {
+            return portfolioException.getErrorCode().getMessage();
+        }
+        if (e instanceof OptimisticLockingFailureException) {
+            return HOLDING_STOCK_CONFLICT.getMessage();
+        }
+        return defaultMessage;
+    }
+
+    private List<TradeImportResult> writeOrRetry(List<TradeImportRow> rows,
+            ImportContext context) {
+        try {
+            return tradeImportWriter.write(context.portfolio, rows, context.stocks);
+        } catch (HoldingStockConflict e) {
+            return tradeImportWriter.write(context.portfolio, rows, context.stocks);
+        }
+    }
+
+    private class ImportContext {
+
+        private final Portfolio portfolio;
+        private final Map<String, Stock> stocks = new HashMap<>();
+        private final Set<String> requestedStockCodes = new HashSet<>();
+        private final List<TradeImportResult> results = new ArrayList<>();
+
+        private ImportContext(Portfolio portfolio) {
+            this.portfolio = portfolio;
+        }
+
+        private void resolveStocks(List<TradeImportRow> rows) {
+            List<String> stockCodes = rows.stream()
+                    .map(TradeImportRow::getStockCode)
+                    .distinct()
+                    .filter(stockCode -> !requestedStockCodes.contains(stockCode))
+                    .toList();
+            if (stockCodes.isEmpty()) {
+                return;
+            }
+
+            Map<String, Stock> fetched = stockServerService.getStocks(stockCodes);
+            requestedStockCodes.addAll(stockCodes);
+            stockCodes.stream()
+                    .filter(stockCode -> fetched.get(stockCode) != null)
+                    .forEach(stockCode -> stocks.put(stockCode, fetched.get(stockCode)));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package spofo.tradelog.service;
+
+import static java.util.Comparator.comparing;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static spofo.global.domain.exception.ErrorCode.TRADE_LOG_OVER_SOLD;
+import static spofo.tradelog.domain.TradeLog.TRADE_ORDER;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockCreate;
+import spofo.holdingstock.domain.Position;
+import spofo.holdingstock.service.port.HoldingStockRepository;
+import spofo.portfolio.domain.Portfolio;
+import spofo.stock.domain.Stock;
+import spofo.tradelog.domain.TradeImportResult;
+import spofo.tradelog.domain.TradeImportRow;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.service.port.TradeLogRepository;
+
+@Component
+@RequiredArgsConstructor
+public class TradeImportWriter {
+
+
+    private final HoldingStockRepository holdingStockRepository;
+    private final TradeLogRepository tradeLogRepository;
+
+    /**
+     * 한 청크의 매매이력을 하나의 트랜잭션에서 저장하고, 행별 처리 결과를 반환한다.
+     * 보유종목은 단건 등록(upsert)과 같이 쓰기 잠금으로 조회하여 없는 종목만 새로 만들고,
+     * 매매이력은 모아서 저장한 뒤 보유 현황은 보유종목마다 한 번씩 갱신한다.
+     * 보유종목별 행은 파일 순서가 아닌 거래일 순서로 누적하며, 보유 수량보다 많이 매도하는 행은 저장하지 않는다.
+     */
+    @Transactional
+    public List<TradeImportResult> write(Portfolio portfolio, List<TradeImportRow> rows,
+            Map<String, Stock> stocks) {
+        Map<String, HoldingStock> holdingStocks = lockOrInsertHoldingStocks(portfolio, rows);
+
+        Map<String, List<TradeImportRow>> rowsByStockCode = new LinkedHashMap<>();
+        rows.forEach(row -> rowsByStockCode
+                .computeIfAbsent(row.getStockCode(), key -> new ArrayList<>())
+                .add(row));
+
+        List<TradeImportResult> results = new ArrayList<>(rows.size());
+        List<TradeImportRow> writableRows = new ArrayList<>(rows.size());
+        Map<String, List<TradeLog>> existingTradeLogs = new HashMap<>();
+        rowsByStockCode.forEach((stockCode, stockRows) -> {
+            HoldingStock holdingStock = holdingStocks.get(stockCode);
+            stockRows.sort(comparing(row -> row.getTradeLogCreate().getTradeDate()));
+
+            List<TradeLog> tradeLogs = findTradeLogsToRebuild(holdingStock, stockRows);
+            existingTradeLogs.put(stockCode, tradeLogs);
+            Position start = tradeLogs.isEmpty() ? holdingStock.getPosition() : Position.empty();
+
+            Set<TradeImportRow> overSoldRows = findOverSoldRows(start, tradeLogs, stockRows);
+            for (TradeImportRow row : stockRows) {
+                if (overSoldRows.contains(row)) {
+                    results.add(TradeImportResult.failed(row, TRADE_LOG_OVER_SOLD.getMessage()));
+                } else {
+                    writableRows.add(row);
+                    results.add(TradeImportResult.imported(row, holdingStock.getId()));
+                }
+            }
+        });
+
+        List<TradeLog> tradeLogs = writableRows.stream()
+                .map(row -> TradeLog.of(row.getTradeLogCreate(),
+                        holdingStocks.get(row.getStockCode()),
+                        stocks.get(row.getStockCode())))
+                .toList();
+        List<TradeLog> savedTradeLogs = tradeLogRepository.saveAll(tradeLogs);
+
+        Map<String, List<TradeLog>> tradeLogsByStockCode = new HashMap<>();
+        for (int i = 0; i < writableRows.size(); i++) {
+            tradeLogsByStockCode
+                    .computeIfAbsent(writableRows.get(i).getStockCode(), key -> new ArrayList<>())
+                    .add(savedTradeLogs.get(i));
+        }
+        tradeLogsByStockCode.forEach((stockCode, stockTradeLogs) ->
+                savePosition(holdingStocks.get(stockCode), existingTradeLogs.get(stockCode),
+                        stockTradeLogs));
+
+        return results;
+    }
+
+    /**
+     * 기존 매매이력보다 거래일이 앞선 행이 있으면 보유 현황에 이어서 누적할 수 없으므로
+     * 기존 매매이력을 거래일 순서로 조회한다. 그렇지 않으면 빈 목록을 반환한다.
+     */
+    private List<TradeLog> findTradeLogsToRebuild(HoldingStock holdingStock,
+            List<TradeImportRow> sortedRows) {
+        LocalDateTime firstTradeDate = sortedRows.getFirst().getTradeLogCreate().getTradeDate();
+        Optional<LocalDateTime> lastTradeDate =
+                tradeLogRepository.findLastTradeDate(holdingStock.getId());
+        if (lastTradeDate.isEmpty() || !firstTradeDate.isBefore(lastTradeDate.get())) {
+            return List.of();
+        }
+
+        List<TradeLog> tradeLogs = new ArrayList<>(
+                tradeLogRepository.findByHoldingStockEntityId(holdingStock.getId()));
+        tradeLogs.sort(TRADE_ORDER);
+        return tradeLogs;
+    }
+
+    /**
+     * 행은 거래일 순서로 정렬되어 있고, 저장되면 거래일이 같은 기존 매매이력보다 뒤에 놓인다.
+     * 매도 행은 놓이는 위치부터 끝까지 기존 매매이력의 보유 수량 중 최솟값에
+     * 앞서 받아들인 행의 순매수 수량을 더한 만큼까지만 매도할 수 있다.
+     */
+    private Set<TradeImportRow> findOverSoldRows(Position start, List<TradeLog> tradeLogs,
+            List<TradeImportRow> sortedRows) {
+        BigDecimal[] minQuantities = new BigDecimal[tradeLogs.size() + 1];
+        Position position = start;
+        minQuantities[0] = position.getQuantity();
+        for (int i = 0; i < tradeLogs.size(); i++) {
+            position = position.apply(tradeLogs.get(i));
+            minQuantities[i + 1] = position.getQuantity();
+        }
+        for (int i = tradeLogs.size() - 1; i >= 0; i--) {
+            minQuantities[i] = minQuantities[i].min(minQuantities[i + 1]);
+        }
+
+        Set<TradeImportRow> overSoldRows = new LinkedHashSet<>();
+        BigDecimal netQuantity = BigDecimal.ZERO;
+        int index = 0;
+        for (TradeImportRow row : sortedRows) {
+            LocalDateTime tradeDate = row.getTradeLogCreate().getTradeDate();
+            while (index < tradeLogs.size() && !isAfter(tradeLogs.get(index), tradeDate)) {
+                index++;
+            }
+
+            BigDecimal quantity = row.getTradeLogCreate().getQuantity();
+            if (row.getTradeLogCreate().getType() == BUY) {
+                netQuantity = netQuantity.add(quantity);
+            } else if (quantity.compareTo(minQuantities[index].add(netQuantity)) > 0) {
+                overSoldRows.add(row);
+            } else {
+                netQuantity = netQuantity.subtract(quantity);
+            }
+        }
+        return overSoldRows;
+    }
+
+    private boolean isAfter(TradeLog tradeLog, LocalDateTime tradeDate) {
+        return tradeLog.getTradeDate() != null && tradeLog.getTradeDate().isAfter(tradeDate);
+    }
+
+    /**
+     * 보유종목은 잠금으로 조회했으므로 다시 조회하지 않고 조회한 보유 현황에 이어서 누적한다.
+     */
+    private void savePosition(HoldingStock holdingStock, List<TradeLog> existingTradeLogs,
+            List<TradeLog> savedTradeLogs) {
+        if (existingTradeLogs.isEmpty()) {
+            holdingStockRepository.savePosition(holdingStock.getId(),
+                    holdingStock.getPosition().apply(savedTradeLogs));
+            return;
+        }
+
+        List<TradeLog> tradeLogs = new ArrayList<>(existingTradeLogs);
+        tradeLogs.addAll(savedTradeLogs);
+        holdingStockRepository.savePosition(holdingStock.getId(), Position.of(tradeLogs));
+    }
+
+    /**
+     * 같은 종목의 보유종목을 동시에 만들면 insert에서 HoldingStockConflict가 발생한다.
+     */
+    private Map<String, HoldingStock> lockOrInsertHoldingStocks(Portfolio portfolio,
+            List<TradeImportRow> rows) {
+        Set<String> stockCodes = new LinkedHashSet<>();
+        rows.forEach(row -> stockCodes.add(row.getStockCode()));
+
+        Map<String, HoldingStock> holdingStocks = holdingStockRepository
+                .findByPortfolioIdAndStockCodesForUpdate(portfolio.getId(), stockCodes).stream()
+                .collect(toMap(HoldingStock::getStockCode, identity(), (h1, h2) -> h1,
+                        HashMap::new));
+
+        for (String stockCode : stockCodes) {
+            if (!holdingStocks.containsKey(stockCode)) {
+                HoldingStockCreate create = HoldingStockCreate.builder()
+                        .stockCode(stockCode)
+                        .build();
+                holdingStocks.put(stockCode,
+                        holdingStockRepository.insert(HoldingStock.of(create, portfolio)));
+            }
+        }
+        return holdingStocks;
+    }
+}
@@ -1,9 +1,14 @@
 package spofo.tradelog.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.Position;
+import spofo.holdingstock.service.port.HoldingStockRepository;
 import spofo.stock.domain.Stock;
 import spofo.stock.service.StockServerService;
 import spofo.tradelog.controller.port.TradeLogService;
@@ -18,11 +23,45 @@ public class TradeLogServiceImpl implements TradeLogService {
 
     private final TradeLogRepository tradeLogRepository;
     private final StockServerService stockServerService;
+    private final HoldingStockRepository holdingStockRepository;
 
+    /**
+     * 매매이력을 저장하면서 같은 트랜잭션에서 보유종목의 보유 현황을 갱신한다.
+     * 기존 매매이력보다 거래일이 앞선 매매이력은 보유 현황에 이어서 누적할 수 없으므로
+     * 보유종목의 매매이력 전체로 보유 현황을 다시 계산한다.
+     * 보유 현황을 먼저 계산하므로 보유 수량보다 많이 매도하면 저장하기 전에 TradeLogOverSold를 던진다.
+     */
     @Override
+    @Transactional
     public TradeLog create(TradeLogCreate request, HoldingStock holdingStock) {
+        Long holdingStockId = holdingStock.getId();
         Stock stock = stockServerService.getStock(holdingStock.getStockCode());
         TradeLog tradeLog = TradeLog.of(request, holdingStock, stock);
+
+        if (isBackdated(holdingStockId, request.getTradeDate())) {
+            Position position = rebuildPosition(holdingStockId, tradeLog);
+            holdingStockRepository.updatePosition(holdingStockId, current -> position);
+        } else {
+            holdingStockRepository.updatePosition(holdingStockId,
+                    position -> position.apply(tradeLog));
+        }
+        return tradeLogRepository.save(tradeLog);
+    }
+
+    /**
+     * 잠금을 잡은 동안에는 보유 현황이 바뀌지 않으므로 전달받은 보유 현황에 이어서 누적하고,
+     * 보유종목을 다시 조회하지 않고 저장한다.
+     */
+    @Override
+    @Transactional
+    public TradeLog create(TradeLogCreate request, HoldingStock holdingStock, Stock stock) {
+        Long holdingStockId = holdingStock.getId();
+        TradeLog tradeLog = TradeLog.of(request, holdingStock, stock);
+
+        Position position = isBackdated(holdingStockId, request.getTradeDate())
+                ? rebuildPosition(holdingStockId, tradeLog)
+                : holdingStock.getPosition().apply(tradeLog);
+        holdingStockRepository.savePosition(holdingStockId, position);
         return tradeLogRepository.save(tradeLog);
     }
 
@@ -35,12 +74,34 @@ public class TradeLogServiceImpl implements TradeLogService {
     }
 
     @Override
+    @Transactional
     public void deleteByHoldingStockId(Long id) {
         tradeLogRepository.deleteByHoldingStockId(id);
+        holdingStockRepository.updatePosition(id, position -> Position.empty());
     }
 
     @Override
-    public void deleteByHoldingStockIds(List<Long> ids) {
-        tradeLogRepository.deleteByHoldingStockEntityIdIn(ids);
+    @Transactional
+    public void deleteByPortfolioId(Long portfolioId) {
+        tradeLogRepository.deleteByPortfolioId(portfolioId);
+    }
+
+    /**
+     * 아직 저장하지 않은 매매이력은 id가 없으므로 거래일이 같은 기존 매매이력 뒤에 놓인다.
+     */
+    private Position rebuildPosition(Long holdingStockId, TradeLog tradeLog) {
+        List<TradeLog> tradeLogs =
+                new ArrayList<>(tradeLogRepository.findByHoldingStockEntityId(holdingStockId));
+        tradeLogs.add(tradeLog);
+        return Position.of(tradeLogs);
+    }
+
+    /**
+     * 거래일이 없는 매매이력은 거래일이 있는 매매이력보다 앞선다.
+     */
+    private boolean isBackdated(Long holdingStockId, LocalDateTime tradeDate) {
+        return tradeLogRepository.findLastTradeDate(holdingStockId)
+                .map(lastTradeDate -> tradeDate == null || tradeDate.isBefore(lastTradeDate))
+                .orElse(false);
     }
 }
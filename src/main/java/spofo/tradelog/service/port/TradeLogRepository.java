@@ -1,17 +1,29 @@
 package spofo.tradelog.service.port;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import spofo.tradelog.domain.TradeLog;
 
 public interface TradeLogRepository {
 
     TradeLog save(TradeLog tradeLog);
 
+    List<TradeLog> saveAll(List<TradeLog> tradeLogs);
+
     List<TradeLog> findByHoldingStockEntityId(Long id);
 
+    /**
+     * 보유종목의 매매이력 중 가장 늦은 거래일을 조회한다. 거래일이 있는 매매이력이 없으면 비어 있다.
+     */
+    Optional<LocalDateTime> findLastTradeDate(Long holdingStockId);
+
     void deleteByHoldingStockId(Long id);
 
-    void deleteByHoldingStockEntityIdIn(List<Long> ids);
+    /**
+     * 포트폴리오에 속한 보유종목의 매매이력을 모두 삭제한다.
+     */
+    void deleteByPortfolioId(Long portfolioId);
 
     void deleteAll();
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+-- 보유종목마다 매매이력을 누적한 보유 현황(Position)과 낙관적 락 버전을 저장한다.
+-- 기존 보유종목의 보유 현황은 중복 보유종목을 합친 뒤 V3_1__Backfill_positions가 매매이력으로 채운다.
+alter table holding_stock add column quantity decimal(30, 15) default 0 not null;
+alter table holding_stock add column total_cost decimal(40, 17) default 0 not null;
+alter table holding_stock add column avg_price decimal(30, 15) default 0 not null;
+alter table holding_stock add column realized_gain decimal(40, 17) default 0 not null;
+alter table holding_stock add column version bigint default 0 not null;
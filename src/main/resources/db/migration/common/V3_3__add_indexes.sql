@@ -0,0 +1,13 @@
+-- 회원의 포트폴리오 목록(findByMemberId, findByMemberIdWithTradeLogs)을 id 순으로 읽는다.
+create index idx_portfolio_member_id on portfolio (member_id, id);
+
+-- 포트폴리오의 보유종목 목록과 통계 집계(findByPortfolioId, findPositionsByPortfolioId,
+-- findHoldingStockPositionsByMemberId)를 테이블을 읽지 않고 인덱스만으로 처리한다.
+-- 실현 손익은 V4에서 인덱스에 추가한다.
+create index idx_holding_stock_portfolio_id_position
+    on holding_stock (portfolio_id, id, stock_code, quantity, total_cost);
+
+-- 보유종목의 매매이력(findByHoldingStockEntityId, findByHoldingStockIdIn)을 거래일 순으로 읽는다.
+-- trade_date는 항상 보유종목 안에서 정렬하므로 holding_stock_id 뒤에 둔다.
+create index idx_trade_log_holding_stock_id_trade_date
+    on trade_log (holding_stock_id, trade_date, id);
@@ -0,0 +1,29 @@
+-- 한 포트폴리오에 같은 종목코드의 보유종목은 하나만 둔다.
+-- 이미 중복된 보유종목은 id가 가장 작은 보유종목으로 매매이력을 옮긴 뒤 삭제한다.
+update trade_log
+set holding_stock_id = (select min(k.id)
+                        from holding_stock h
+                                 join holding_stock k
+                                      on k.portfolio_id = h.portfolio_id
+                                          and k.stock_code = h.stock_code
+                        where h.id = trade_log.holding_stock_id)
+where holding_stock_id in (select h.id
+                           from holding_stock h
+                                    join holding_stock k
+                                         on k.portfolio_id = h.portfolio_id
+                                             and k.stock_code = h.stock_code
+                                             and k.id < h.id);
+
+-- MySQL은 삭제 대상 테이블을 서브쿼리에서 읽을 수 없으므로 distinct로 파생 테이블을 먼저 만든다.
+delete
+from holding_stock
+where id in (select id
+             from (select distinct h.id
+                   from holding_stock h
+                            join holding_stock k
+                                 on k.portfolio_id = h.portfolio_id
+                                     and k.stock_code = h.stock_code
+                                     and k.id < h.id) duplicated);
+
+alter table holding_stock
+    add constraint uk_holding_stock_portfolio_id_stock_code unique (portfolio_id, stock_code);
@@ -0,0 +1,20 @@
+-- 장 마감 후 평가한 포트폴리오와 회원 합계의 일별 스냅샷
+-- 대시보드는 (member_id, snapshot_date) 기본 키로 직전 스냅샷 1건을 조회하여 일간 수익률을 계산한다.
+create table portfolio_snapshot
+(
+    portfolio_id  bigint          not null,
+    snapshot_date date            not null,
+    member_id     bigint          not null,
+    total_asset   decimal(30, 2)  not null,
+    total_buy     decimal(30, 2)  not null,
+    primary key (portfolio_id, snapshot_date)
+);
+
+create table member_snapshot
+(
+    member_id     bigint          not null,
+    snapshot_date date            not null,
+    total_asset   decimal(30, 2)  not null,
+    total_buy     decimal(30, 2)  not null,
+    primary key (member_id, snapshot_date)
+);
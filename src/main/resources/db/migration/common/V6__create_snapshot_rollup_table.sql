@@ -0,0 +1,12 @@
+-- 포트폴리오 스냅샷의 주별, 월별 집계. 구간마다 마지막 스냅샷의 평가 금액을 저장한다.
+-- 평가 금액 추이는 (portfolio_id, resolution, bucket_date) 기본 키의 범위로 조회한다.
+create table portfolio_snapshot_rollup
+(
+    portfolio_id  bigint          not null,
+    resolution    varchar(10)     not null,
+    bucket_date   date            not null,
+    snapshot_date date            not null,
+    total_asset   decimal(30, 2)  not null,
+    total_buy     decimal(30, 2)  not null,
+    primary key (portfolio_id, resolution, bucket_date)
+);
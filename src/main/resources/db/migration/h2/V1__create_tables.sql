@@ -0,0 +1,44 @@
+-- 마이그레이션 도입 전 엔티티에서 Hibernate가 생성하던 스키마와 같다.
+-- 이미 테이블이 있는 DB는 baseline-version(1)으로 등록되어 이 파일을 실행하지 않는다.
+create table portfolio
+(
+    id           bigint generated by default as identity,
+    member_id    bigint,
+    name         varchar(255),
+    description  varchar(255),
+    currency     enum ('KRW'),
+    include_type enum ('N','Y') default 'Y',
+    type         enum ('FAKE','LINK','REAL'),
+    created_at   timestamp(6) not null,
+    modified_at  timestamp(6) not null,
+    primary key (id)
+);
+
+create table holding_stock
+(
+    id           bigint generated by default as identity,
+    portfolio_id bigint,
+    stock_code   varchar(255),
+    created_at   timestamp(6) not null,
+    modified_at  timestamp(6) not null,
+    primary key (id)
+);
+
+create table trade_log
+(
+    id               bigint generated by default as identity,
+    holding_stock_id bigint,
+    type             integer         not null,
+    price            decimal(18, 2)  not null,
+    trade_date       timestamp(6)    not null,
+    quantity         decimal(30, 15) not null,
+    market_price     decimal(18, 2)  not null,
+    created_at       timestamp(6)    not null,
+    primary key (id)
+);
+
+alter table holding_stock
+    add constraint fk_holding_stock_portfolio foreign key (portfolio_id) references portfolio (id);
+
+alter table trade_log
+    add constraint fk_trade_log_holding_stock foreign key (holding_stock_id) references holding_stock (id);
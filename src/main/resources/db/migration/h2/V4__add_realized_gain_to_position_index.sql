@@ -0,0 +1,6 @@
+-- 통계 집계(findPositionsByPortfolioId, findHoldingStockPositionsByMemberId)가 실현 손익도 읽으므로
+-- 인덱스만으로 처리할 수 있도록 인덱스에 realized_gain을 추가한다.
+drop index idx_holding_stock_portfolio_id_position;
+
+create index idx_holding_stock_portfolio_id_position
+    on holding_stock (portfolio_id, id, stock_code, quantity, total_cost, realized_gain);
@@ -0,0 +1,11 @@
+-- 엔티티의 allocationSize와 같은 크기로 id를 미리 할당한다.
+-- pooled 최적화는 시퀀스 값에서 allocationSize - 1을 뺀 값부터 id를 할당하므로
+-- 기존 id와 겹치지 않도록 max(id) + allocationSize부터 시작한다.
+-- id 컬럼의 auto_increment는 그대로 두며, Hibernate가 시퀀스에서 받은 id를 직접 넣는다.
+-- create sequence의 start with는 상수만 받으므로 시작 값을 계산하여 문장을 만든다.
+execute immediate concat('create sequence portfolio_seq start with ',
+                         (select coalesce(max(id), 0) + 50 from portfolio), ' increment by 50');
+execute immediate concat('create sequence holding_stock_seq start with ',
+                         (select coalesce(max(id), 0) + 50 from holding_stock), ' increment by 50');
+execute immediate concat('create sequence trade_log_seq start with ',
+                         (select coalesce(max(id), 0) + 50 from trade_log), ' increment by 50');
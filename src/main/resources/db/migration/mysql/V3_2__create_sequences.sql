@@ -0,0 +1,21 @@
+-- MySQL은 시퀀스를 지원하지 않으므로 Hibernate가 같은 이름의 테이블로 시퀀스를 흉내낸다.
+-- pooled 최적화는 시퀀스 값에서 allocationSize - 1을 뺀 값부터 id를 할당하므로
+-- 기존 id와 겹치지 않도록 max(id) + allocationSize부터 시작한다.
+-- id 컬럼의 auto_increment는 그대로 두며, Hibernate가 시퀀스에서 받은 id를 직접 넣는다.
+create table portfolio_seq
+(
+    next_val bigint
+) engine = InnoDB;
+insert into portfolio_seq select coalesce(max(id), 0) + 50 from portfolio;
+
+create table holding_stock_seq
+(
+    next_val bigint
+) engine = InnoDB;
+insert into holding_stock_seq select coalesce(max(id), 0) + 50 from holding_stock;
+
+create table trade_log_seq
+(
+    next_val bigint
+) engine = InnoDB;
+insert into trade_log_seq select coalesce(max(id), 0) + 50 from trade_log;
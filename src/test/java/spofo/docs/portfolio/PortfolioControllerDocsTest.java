@@ -17,6 +17,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessRequest;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
+import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
 import static org.springframework.restdocs.payload.JsonFieldType.BOOLEAN;
 import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
@@ -25,15 +26,20 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static spofo.global.component.utils.CommonUtils.getBD;
 import static spofo.portfolio.domain.enums.Currency.KRW;
+import static spofo.portfolio.domain.enums.HistoryRange.SIX_MONTHS;
+import static spofo.portfolio.domain.enums.HistoryResolution.WEEKLY;
 import static spofo.portfolio.domain.enums.IncludeType.N;
 import static spofo.portfolio.domain.enums.IncludeType.Y;
 import static spofo.portfolio.domain.enums.PortfolioType.REAL;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,10 +53,13 @@ import spofo.portfolio.controller.port.PortfolioService;
 import spofo.portfolio.controller.request.PortfolioSearchCondition;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.domain.PortfolioHistory;
+import spofo.portfolio.domain.PortfolioSnapshot;
 import spofo.portfolio.domain.PortfolioStatistic;
 import spofo.portfolio.domain.PortfolioUpdate;
 import spofo.portfolio.domain.TotalPortfoliosStatistic;
 import spofo.portfolio.domain.enums.Currency;
+import spofo.portfolio.domain.enums.HistoryResolution;
 import spofo.portfolio.domain.enums.IncludeType;
 import spofo.portfolio.domain.enums.PortfolioType;
 
@@ -140,6 +149,81 @@ public class PortfolioControllerDocsTest extends RestDocsSupport {
                 ));
     }
 
+    @Test
+    @DisplayName("포트폴리오 1개의 평가 금액 추이를 조회한다.")
+    void getPortfolioHistory() throws Exception {
+        // given
+        PortfolioHistory history = PortfolioHistory.builder()
+                .portfolioId(1L)
+                .range(SIX_MONTHS)
+                .resolution(WEEKLY)
+                .points(List.of(
+                        snapshot(LocalDate.of(2024, 1, 5), getBD(110000)),
+                        snapshot(LocalDate.of(2024, 1, 12), getBD(120000))))
+                .build();
+
+        given(portfolioService.getPortfolioHistory(anyLong(), any(), any()))
+                .willReturn(history);
+
+        // expected
+        mockMvc.perform(get("/portfolios/{portfolioId}/history", 1L)
+                        .header(AUTHORIZATION, AUTH_TOKEN)
+                        .param("range", "6M")
+                        .param("resolution", "WEEKLY")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("range").value("6M"))
+                .andExpect(jsonPath("resolution").value("WEEKLY"))
+                .andExpect(jsonPath("points[1].date").value("2024-01-12"))
+                .andDo(document("portfolio-history",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(portfolioIdPathParam()),
+                        queryParameters(
+                                parameterWithName("range").optional()
+                                        .attributes(field("type", STRING.toString()))
+                                        .attributes(koreanTitle("조회 기간"))
+                                        .description("1M, 6M, 1Y, ALL 중 1개의 값 (기본값 1Y)"),
+                                parameterWithName("resolution").optional()
+                                        .attributes(field("type", STRING.toString()))
+                                        .attributes(koreanTitle("간격"))
+                                        .description(enumDesc(HistoryResolution.class,
+                                                "없으면 조회 기간의 기본 간격, "
+                                                        + "ALL은 MONTHLY로만 조회"))
+                        ),
+                        requestHeaders(authorizationHeader()),
+                        responseHeaders(contentTypeHeader()),
+                        responseFields(
+                                id(),
+                                fieldWithPath("range")
+                                        .type(STRING)
+                                        .attributes(koreanTitle("조회 기간"))
+                                        .description("요청한 조회 기간"),
+                                fieldWithPath("resolution")
+                                        .type(STRING)
+                                        .attributes(koreanTitle("간격"))
+                                        .description(enumDesc(HistoryResolution.class,
+                                                "실제로 조회한 간격")),
+                                fieldWithPath("points")
+                                        .type(ARRAY)
+                                        .attributes(koreanTitle("평가 금액 추이"))
+                                        .description("날짜 오름차순"),
+                                fieldWithPath("points[].date")
+                                        .type(STRING)
+                                        .attributes(koreanTitle("날짜"))
+                                        .description("구간의 마지막 스냅샷 날짜 (yyyy-MM-dd)"),
+                                fieldWithPath("points[].totalAsset")
+                                        .type(NUMBER)
+                                        .attributes(koreanTitle("평가 금액"))
+                                        .description("장 마감 후 평가 금액"),
+                                fieldWithPath("points[].totalBuy")
+                                        .type(NUMBER)
+                                        .attributes(koreanTitle("매입 금액"))
+                                        .description("장 마감 시점의 매입 원가")
+                        )
+                ));
+    }
+
     @DisplayName("전체 포트폴리오에 대한 개요를 조회한다.")
     void getPortfoliosStatistic() throws Exception {
         // given
@@ -215,10 +299,11 @@ public class PortfolioControllerDocsTest extends RestDocsSupport {
                 .totalAsset(getBD(100))
                 .totalBuy(getBD(60))
                 .totalGain(getBD(40))
+                .totalRealizedGain(getBD(10))
                 .gainRate(getBD(40))
                 .build();
 
-        given(portfolioService.getPortfolioStatistic(anyLong()))
+        given(portfolioService.getPortfolioStatistic(anyLong(), any()))
                 .willReturn(statistic);
 
         // expected
@@ -237,6 +322,7 @@ public class PortfolioControllerDocsTest extends RestDocsSupport {
                 .andExpect(jsonPath("totalAsset").value("100"))
                 .andExpect(jsonPath("totalBuy").value("60"))
                 .andExpect(jsonPath("gain").value("40"))
+                .andExpect(jsonPath("realizedGain").value("10"))
                 .andExpect(jsonPath("gainRate").value("40"));
     }
 
@@ -337,6 +423,15 @@ public class PortfolioControllerDocsTest extends RestDocsSupport {
                 .build();
     }
 
+    private PortfolioSnapshot snapshot(LocalDate snapshotDate, BigDecimal totalAsset) {
+        return PortfolioSnapshot.builder()
+                .portfolioId(1L)
+                .snapshotDate(snapshotDate)
+                .totalAsset(totalAsset)
+                .totalBuy(getBD(100000))
+                .build();
+    }
+
     private ParameterDescriptor portfolioIdPathParam() {
         return parameterWithName("portfolioId")
                 .attributes(field("type", NUMBER.toString()))
@@ -0,0 +1,280 @@
+package spofo.medium.global.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.bindResource;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.unbindResource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spofo.global.config.datasource.RecentWriteTracker;
+import spofo.global.config.datasource.ReplicaLagMonitor;
+import spofo.global.config.datasource.ReplicaRoutingDataSource;
+
+/**
+ * primary와 replica 대신 H2 두 개를 사용하여 트랜잭션이 실행되는 DB를 확인한다.
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final AtomicLong currentMemberId = new AtomicLong(1L);
+
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setup() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+
+        setup(new ReplicaLagMonitor(new JdbcTemplate(replica), null, Duration.ofSeconds(1),
+                new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica에서 실행한다.")
+    void readOnlyTransaction() {
+        // expected
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase()))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 트랜잭션과 트랜잭션 밖의 쿼리는 primary에서 실행한다.")
+    void readWriteTransaction() {
+        // expected
+        assertThat(transaction.execute(status -> currentDatabase())).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 회원은 일정 시간 동안 읽기 전용 트랜잭션도 primary에서 실행한다.")
+    void readYourWrites() {
+        // given
+        transaction.executeWithoutResult(status -> currentDatabase());
+
+        // when
+        String writer = readOnlyTransaction.execute(status -> currentDatabase());
+        currentMemberId.set(2L);
+        String otherMember = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(writer).isEqualTo("primary");
+        assertThat(otherMember).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋하고 일정 시간이 지나면 다시 replica에서 읽는다.")
+    void readYourWritesWindowExpired() {
+        // given
+        transaction.executeWithoutResult(status -> currentDatabase());
+
+        // when
+        clock.advance(WINDOW);
+
+        // then
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase()))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 read-your-writes 대상이 아니다.")
+    void rollbackIsNotRecorded() {
+        // given
+        transaction.executeWithoutResult(status -> {
+            currentDatabase();
+            status.setRollbackOnly();
+        });
+
+        // expected
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase()))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용 범위를 넘으면 읽기 전용 트랜잭션도 primary에서 실행한다.")
+    void replicaLagExceeded() {
+        // given
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(new JdbcTemplate(replica),
+                "select 3", Duration.ofSeconds(1), new SimpleMeterRegistry());
+        setup(replicaLagMonitor);
+
+        // when
+        String beforeCheck = readOnlyTransaction.execute(status -> currentDatabase());
+        replicaLagMonitor.check();
+        String afterCheck = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(beforeCheck).isEqualTo("primary");
+        assertThat(afterCheck).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용 범위 안이면 읽기 전용 트랜잭션을 replica에서 실행한다.")
+    void replicaLagWithinTolerance() {
+        // given
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(new JdbcTemplate(replica),
+                "select 0.5", Duration.ofSeconds(1), new SimpleMeterRegistry());
+        setup(replicaLagMonitor);
+
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase()))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("JPA 트랜잭션도 읽기 전용이면 replica에서, 아니면 primary에서 실행한다.")
+    void jpaTransaction() {
+        // given
+        EntityManager entityManager = setupJpa();
+
+        // expected
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase(entityManager)))
+                .isEqualTo("replica");
+        assertThat(transaction.execute(status -> currentDatabase(entityManager)))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("OSIV로 요청 동안 EntityManager를 열어 두면 읽기 전용 트랜잭션 뒤의 쓰기도 replica에서 실행된다.")
+    void openEntityManagerInView() {
+        // given
+        EntityManager entityManager = setupJpa();
+        // OpenEntityManagerInViewInterceptor와 같이 요청 동안 사용할 EntityManager를 바인딩한다.
+        bindResource(entityManagerFactory,
+                new EntityManagerHolder(entityManagerFactory.createEntityManager()));
+
+        try {
+            // when
+            String read = readOnlyTransaction.execute(status -> currentDatabase(entityManager));
+            String write = transaction.execute(status -> currentDatabase(entityManager));
+
+            // then
+            assertThat(read).isEqualTo("replica");
+            assertThat(write).isEqualTo("replica");
+        } finally {
+            EntityManagerHolder holder = (EntityManagerHolder) unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(holder.getEntityManager());
+        }
+    }
+
+    private void setup(ReplicaLagMonitor replicaLagMonitor) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primary, replica, replicaLagMonitor,
+                new RecentWriteTracker(WINDOW, 100, clock), currentMemberId::get);
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        setupTransaction(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * 애플리케이션과 같이 HibernateJpaVendorAdapter와 JpaTransactionManager로 트랜잭션을 실행한다.
+     */
+    private EntityManager setupJpa() {
+        LocalContainerEntityManagerFactoryBean factoryBean =
+                new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(getClass().getPackageName());
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        setupTransaction(new JpaTransactionManager(entityManagerFactory));
+        return SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+    }
+
+    private void setupTransaction(PlatformTransactionManager transactionManager) {
+        transaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from database_name", String.class);
+    }
+
+    private String currentDatabase(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("select name from database_name")
+                .getSingleResult();
+    }
+
+    private DataSource createDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists database_name (name varchar(10))");
+        template.execute("delete from database_name");
+        template.update("insert into database_name values (?)", name);
+        return dataSource;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
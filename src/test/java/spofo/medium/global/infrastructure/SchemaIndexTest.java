@@ -0,0 +1,129 @@
+package spofo.medium.global.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.TestPropertySource;
+import spofo.support.repository.RepositoryTestSupport;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에서 자주 실행되는 조회가 테이블 전체를 읽지 않는지 실행 계획으로 확인한다.
+ */
+@AutoConfigureTestDatabase(replace = NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+public class SchemaIndexTest extends RepositoryTestSupport {
+
+    private static final String TABLE_SCAN = "tablescan";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * 빈 테이블에서는 어떤 인덱스를 골라도 비용이 같으므로 데이터를 넣고 통계를 갱신한 뒤 실행 계획을 확인한다.
+     */
+    @BeforeEach
+    void setup() {
+        execute("insert into portfolio (member_id, created_at, modified_at) "
+                + "select mod(x, 100), now(), now() from system_range(1, 1000)");
+        execute("insert into holding_stock (portfolio_id, stock_code, created_at, modified_at) "
+                + "select mod(x, 1000) + 1, cast(x as varchar), now(), now() "
+                + "from system_range(1, 5000)");
+        execute("insert into trade_log (holding_stock_id, type, price, trade_date, quantity, "
+                + "market_price, created_at) "
+                + "select mod(x, 5000) + 1, 1, 1000, now(), 1, 1000, now() "
+                + "from system_range(1, 20000)");
+        execute("analyze");
+    }
+
+    @Test
+    @DisplayName("회원의 포트폴리오 목록은 회원 id 인덱스로 조회한다.")
+    void findPortfoliosByMemberId() {
+        // when
+        String plan = explain("select * from portfolio where member_id = 1 order by id");
+
+        // then
+        assertThat(plan).contains("idx_portfolio_member_id")
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("회원의 통계 집계는 회원 id 인덱스와 보유 현황 인덱스로 조회한다.")
+    void findHoldingStockPositionsByMemberId() {
+        // when
+        String plan = explain("select p.id, h.id, h.stock_code, h.quantity, h.total_cost, "
+                + "h.realized_gain "
+                + "from portfolio p "
+                + "join holding_stock h on h.portfolio_id = p.id "
+                + "where p.member_id = 1 "
+                + "order by h.id");
+
+        // then
+        assertThat(plan).contains("idx_portfolio_member_id",
+                        "idx_holding_stock_portfolio_id_position")
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("포트폴리오의 보유종목 목록은 보유 현황 인덱스로 id 순으로 조회한다.")
+    void findHoldingStocksByPortfolioId() {
+        // when
+        String plan = explain("select * from holding_stock where portfolio_id = 1 order by id");
+
+        // then
+        assertThat(plan).contains("idx_holding_stock_portfolio_id_position")
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("포트폴리오의 통계 집계는 보유 현황 인덱스만 읽는다.")
+    void findPositionsByPortfolioId() {
+        // when
+        String plan = explain("select portfolio_id, id, stock_code, quantity, total_cost, "
+                + "realized_gain from holding_stock where portfolio_id = 1 order by id");
+
+        // then
+        assertThat(plan).contains("idx_holding_stock_portfolio_id_position")
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("보유종목의 마지막 거래일은 보유종목 id와 거래일 인덱스만 읽는다.")
+    void findLastTradeDateByHoldingStockId() {
+        // when
+        String plan = explain("select max(trade_date) from trade_log where holding_stock_id = 1");
+
+        // then
+        assertThat(plan).contains("idx_trade_log_holding_stock_id_trade_date")
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("보유종목의 매매이력은 보유종목 id와 거래일 인덱스로 거래일 순으로 조회한다.")
+    void findTradeLogsByHoldingStockIdOrderByTradeDate() {
+        // when
+        String plan = explain("select * from trade_log where holding_stock_id = 1 "
+                + "order by trade_date, id");
+
+        // then
+        assertThat(plan).contains("idx_trade_log_holding_stock_id_trade_date")
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    private void execute(String sql) {
+        entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("explain " + sql)
+                .getSingleResult()).toLowerCase();
+    }
+}
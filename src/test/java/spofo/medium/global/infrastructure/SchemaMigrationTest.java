@@ -0,0 +1,132 @@
+package spofo.medium.global.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 마이그레이션 도입 전 스키마(V1)에 데이터가 있는 상태에서 이후 마이그레이션을 적용한 결과를 확인한다.
+ */
+public class SchemaMigrationTest {
+
+    private static final String[] LOCATIONS =
+            {"classpath:db/migration/common", "classpath:db/migration/h2"};
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        migrate("1");
+        jdbcTemplate.update("insert into portfolio (id, member_id, created_at, modified_at) "
+                + "values (1, 1, now(), now())");
+        insertHoldingStock(1L, "005930");
+        insertHoldingStock(2L, "005930");
+        insertHoldingStock(3L, "000660");
+        insertTradeLog(10L, 2L);
+        insertTradeLog(11L, 1L);
+        insertTradeLog(12L, 3L);
+    }
+
+    @Test
+    @DisplayName("중복된 보유종목은 id가 가장 작은 보유종목으로 매매이력을 옮기고 삭제한다.")
+    void mergeDuplicatedHoldingStocks() {
+        // when
+        migrate("latest");
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select id from holding_stock order by id",
+                Long.class)).containsExactly(1L, 3L);
+        assertThat(jdbcTemplate.queryForList(
+                "select holding_stock_id from trade_log order by id", Long.class))
+                .containsExactly(1L, 1L, 3L);
+        assertThatThrownBy(() -> insertHoldingStock(4L, "005930"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("기존 보유종목의 보유 현황을 합쳐진 매매이력으로 채운다.")
+    void backfillPositions() {
+        // when
+        migrate("latest");
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select quantity from holding_stock order by id",
+                BigDecimal.class))
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal(2), BigDecimal.ONE);
+        assertThat(jdbcTemplate.queryForObject(
+                "select total_cost from holding_stock where id = 1", BigDecimal.class))
+                .isEqualByComparingTo(new BigDecimal(2000));
+    }
+
+    @Test
+    @DisplayName("보유 현황은 저장된 순서가 아닌 거래일 순서로 매매이력을 누적하여 채운다.")
+    void backfillPositionsInTradeDateOrder() {
+        // given
+        jdbcTemplate.update("insert into trade_log (id, holding_stock_id, type, price, "
+                + "trade_date, quantity, market_price, created_at) "
+                + "values (13, 3, 2, 2000, timestamp '2000-01-01 00:00:00', 1, 1000, now())");
+
+        // when
+        migrate("latest");
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "select quantity from holding_stock where id = 3", BigDecimal.class))
+                .isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(jdbcTemplate.queryForObject(
+                "select realized_gain from holding_stock where id = 3", BigDecimal.class))
+                .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("시퀀스는 기존 id와 겹치지 않는 값부터 할당한다.")
+    void seedSequencesFromMaxId() {
+        // when
+        migrate("latest");
+
+        // then
+        assertThat(nextValue("portfolio_seq")).isEqualTo(1 + 50);
+        assertThat(nextValue("holding_stock_seq")).isEqualTo(3 + 50);
+        assertThat(nextValue("trade_log_seq")).isEqualTo(12 + 50);
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations(LOCATIONS)
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private void insertHoldingStock(Long id, String stockCode) {
+        jdbcTemplate.update("insert into holding_stock "
+                + "(id, portfolio_id, stock_code, created_at, modified_at) "
+                + "values (?, 1, ?, now(), now())", id, stockCode);
+    }
+
+    private void insertTradeLog(Long id, Long holdingStockId) {
+        jdbcTemplate.update("insert into trade_log (id, holding_stock_id, type, price, "
+                + "trade_date, quantity, market_price, created_at) "
+                + "values (?, ?, 1, 1000, now(), 1, 1000, now())", id, holdingStockId);
+    }
+
+    private long nextValue(String sequence) {
+        return jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+    }
+}
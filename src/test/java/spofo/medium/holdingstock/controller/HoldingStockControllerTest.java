@@ -5,7 +5,7 @@ import static java.math.BigDecimal.ZERO;
 import static java.util.Collections.emptyList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
@@ -20,6 +20,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static spofo.global.component.utils.CommonUtils.getBD;
 import static spofo.global.domain.exception.ErrorCode.HOLDING_STOCK_NOT_FOUND;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
+import static spofo.tradelog.domain.enums.CostMethod.FIFO;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
 
 import java.math.BigDecimal;
@@ -135,7 +137,7 @@ public class HoldingStockControllerTest extends ControllerTestSupport {
         given(portfolioService.getPortfolio(anyLong()))
                 .willReturn(Portfolio.builder().build());
 
-        given(holdingStockService.create(any(HoldingStockCreate.class), any(TradeLogCreate.class),
+        given(holdingStockService.upsert(any(HoldingStockCreate.class), any(TradeLogCreate.class),
                 any(Portfolio.class)))
                 .willReturn(holdingStock);
 
@@ -148,46 +150,10 @@ public class HoldingStockControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("id").value(1L));
 
         verify(holdingStockService, times(1))
-                .create(any(HoldingStockCreate.class), any(TradeLogCreate.class),
+                .upsert(any(HoldingStockCreate.class), any(TradeLogCreate.class),
                         any(Portfolio.class));
     }
 
-    @Test
-    @DisplayName("보유종목을 생성 시 이미 존재하는 보유종목에 대해서는 매매이력만 생성한다.")
-    void createHoldingStockWithExistsHoldingStock() throws Exception {
-        // given
-        HoldingStockRequest params = HoldingStockRequest.builder()
-                .code(TEST_STOCK_CODE)
-                .tradeDate(LocalDateTime.now())
-                .quantity(ONE)
-                .avgPrice(ONE)
-                .build();
-
-        HoldingStock holdingStock = HoldingStock.builder()
-                .id(1L)
-                .build();
-
-        given(portfolioService.getPortfolio(anyLong()))
-                .willReturn(Portfolio.builder().build());
-
-        given(holdingStockService.get(any(Portfolio.class), anyString()))
-                .willReturn(holdingStock);
-
-        given(tradeLogService.create(any(TradeLogCreate.class), any(HoldingStock.class)))
-                .willReturn(TradeLog.builder().build());
-
-        // expected
-        mockMvc.perform(put("/portfolios/{portfolioId}/stocks", 1L)
-                        .contentType(APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(params))
-                )
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("id").value(1L));
-
-        verify(tradeLogService, times(1))
-                .create(any(TradeLogCreate.class), any(HoldingStock.class));
-    }
-
     @Test
     @DisplayName("보유종목 생성 시 종목코드는 필수 입력이다.")
     void createHoldingStockWithNoStockCode() throws Exception {
@@ -623,7 +589,7 @@ public class HoldingStockControllerTest extends ControllerTestSupport {
 
         HoldingStockStatistic statistic = HoldingStockStatistic.of(holdingStock, getStock());
 
-        given(holdingStockService.getStatistic(anyLong()))
+        given(holdingStockService.getStatistic(anyLong(), eq(AVERAGE)))
                 .willReturn(statistic);
 
         // expected
@@ -637,6 +603,7 @@ public class HoldingStockControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("sector").value("반도체"))
                 .andExpect(jsonPath("totalAsset").value("132000"))
                 .andExpect(jsonPath("gain").value("70400"))
+                .andExpect(jsonPath("realizedGain").value("0"))
                 .andExpect(jsonPath("gainRate").value("114.29"))
                 .andExpect(jsonPath("avgPrice").value("30800"))
                 .andExpect(jsonPath("currentPrice").value("66000"))
@@ -644,11 +611,44 @@ public class HoldingStockControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("imagePath").doesNotExist());
     }
 
+    @Test
+    @DisplayName("매도한 수량의 매입 원가를 정하는 방식을 지정하여 보유종목 1건의 통계를 조회한다.")
+    void getStatisticWithCostMethod() throws Exception {
+        // given
+        HoldingStock holdingStock = getHoldingStock(TEST_STOCK_CODE, getPortfolio(),
+                List.of(getTradeLog(getBD(33000), ONE)));
+        HoldingStockStatistic statistic =
+                HoldingStockStatistic.of(holdingStock, getStock(), FIFO);
+
+        given(holdingStockService.getStatistic(anyLong(), eq(FIFO)))
+                .willReturn(statistic);
+
+        // expected
+        mockMvc.perform(get("/portfolios/{portfolioId}/stocks/{stockId}", 1L, 1L)
+                        .param("costMethod", "FIFO")
+                        .contentType(APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("quantity").value("1"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 매입 원가 방식으로 보유종목 통계를 조회할 수 없다.")
+    void getStatisticWithInvalidCostMethod() throws Exception {
+        // expected
+        mockMvc.perform(get("/portfolios/{portfolioId}/stocks/{stockId}", 1L, 1L)
+                        .param("costMethod", "LIFO")
+                        .contentType(APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errorCode").value("400"));
+    }
+
     @Test
     @DisplayName("존재하지 않는 보유종목을 조회할 수 없다.")
     void getStatisticWithNoResult() throws Exception {
         // given
-        given(holdingStockService.getStatistic(anyLong()))
+        given(holdingStockService.getStatistic(anyLong(), any()))
                 .willThrow(new HoldingStockNotFound());
 
         // expected
@@ -0,0 +1,113 @@
+package spofo.medium.holdingstock.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static spofo.portfolio.domain.enums.Currency.KRW;
+import static spofo.portfolio.domain.enums.PortfolioType.REAL;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import spofo.global.config.auditing.JpaAuditingConfig;
+import spofo.global.domain.exception.HoldingStockConflict;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.infrastructure.HoldingStockJpaRepository;
+import spofo.holdingstock.infrastructure.HoldingStockRepositoryImpl;
+import spofo.holdingstock.service.port.HoldingStockRepository;
+import spofo.portfolio.domain.Portfolio;
+import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.infrastructure.PortfolioEntity;
+import spofo.portfolio.infrastructure.PortfolioJpaRepository;
+import spofo.support.repository.RepositoryTestSupport;
+
+@Import({HoldingStockRepositoryImpl.class, JpaAuditingConfig.class})
+public class HoldingStockRepositoryTest extends RepositoryTestSupport {
+
+    private static final String TEST_STOCK_CODE = "000660";
+
+    @Autowired
+    private HoldingStockRepository holdingStockRepository;
+
+    @Autowired
+    private HoldingStockJpaRepository holdingStockJpaRepository;
+
+    @Autowired
+    private PortfolioJpaRepository portfolioJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Portfolio portfolio;
+
+    @BeforeEach
+    void setup() {
+        portfolio = portfolioJpaRepository.save(PortfolioEntity.from(
+                Portfolio.of(getPortfolioCreate(), 1L))).toModel(List.of());
+    }
+
+    @Test
+    @DisplayName("한 포트폴리오에 같은 종목코드의 보유종목을 2개 저장할 수 없다.")
+    void saveDuplicatedStockCode() {
+        // given
+        holdingStockRepository.save(getHoldingStock());
+        entityManager.flush();
+
+        // expected
+        assertThatThrownBy(() -> {
+            holdingStockRepository.save(getHoldingStock());
+            holdingStockJpaRepository.flush();
+        }).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("같은 종목코드의 보유종목을 바로 저장하면 HoldingStockConflict를 던진다.")
+    void insertDuplicatedStockCode() {
+        // given
+        holdingStockRepository.insert(getHoldingStock());
+
+        // expected
+        assertThatThrownBy(() -> holdingStockRepository.insert(getHoldingStock()))
+                .isInstanceOf(HoldingStockConflict.class);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 아이디와 종목코드로 보유종목을 잠금과 함께 조회한다.")
+    void findByStockCodeForUpdate() {
+        // given
+        HoldingStock savedHoldingStock = holdingStockRepository.save(getHoldingStock());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        HoldingStock holdingStock = holdingStockRepository
+                .findByStockCodeForUpdate(portfolio.getId(), TEST_STOCK_CODE)
+                .orElseThrow();
+
+        // then
+        assertThat(holdingStock.getId()).isEqualTo(savedHoldingStock.getId());
+        assertThat(holdingStock.getTradeLogs()).isNull();
+        assertThat(holdingStockRepository.findByStockCodeForUpdate(portfolio.getId(), "005930"))
+                .isEmpty();
+    }
+
+    private HoldingStock getHoldingStock() {
+        return HoldingStock.builder()
+                .stockCode(TEST_STOCK_CODE)
+                .portfolio(portfolio)
+                .build();
+    }
+
+    private PortfolioCreate getPortfolioCreate() {
+        return PortfolioCreate.builder()
+                .name("포트폴리오")
+                .description("포트폴리오 설명")
+                .currency(KRW)
+                .type(REAL)
+                .build();
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import spofo.global.domain.exception.HoldingStockNotFound;
 import spofo.holdingstock.domain.HoldingStock;
 import spofo.holdingstock.domain.HoldingStockCreate;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.holdingstock.domain.HoldingStockStatistic;
 import spofo.portfolio.domain.Portfolio;
 import spofo.stock.domain.Stock;
@@ -201,8 +202,8 @@ public class HoldingStockServiceTest extends ServiceTestSupport {
         HoldingStock holdingStock = getHoldingStock(TEST_STOCK_CODE, getPortfolio(),
                 List.of(log1, log2));
 
-        given(holdingStockRepository.findByPortfolioId(anyLong()))
-                .willReturn(List.of(holdingStock));
+        given(holdingStockRepository.findPositionsByPortfolioId(anyLong()))
+                .willReturn(List.of(HoldingStockPosition.of(1L, holdingStock)));
 
         given(mockStockServerService.getStocks(anyList()))
                 .willReturn(getStockMap());
@@ -232,8 +233,8 @@ public class HoldingStockServiceTest extends ServiceTestSupport {
         HoldingStock holdingStock = getHoldingStock(TEST_STOCK_CODE, getPortfolio(),
                 List.of(log1, log2, log3));
 
-        given(holdingStockRepository.findByPortfolioId(anyLong()))
-                .willReturn(List.of(holdingStock));
+        given(holdingStockRepository.findPositionsByPortfolioId(anyLong()))
+                .willReturn(List.of(HoldingStockPosition.of(1L, holdingStock)));
 
         given(mockStockServerService.getStocks(anyList()))
                 .willReturn(getStockMap());
@@ -16,12 +16,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static spofo.global.component.utils.CommonUtils.getBD;
 import static spofo.portfolio.domain.enums.Currency.KRW;
+import static spofo.portfolio.domain.enums.HistoryRange.ONE_YEAR;
+import static spofo.portfolio.domain.enums.HistoryResolution.DAILY;
 import static spofo.portfolio.domain.enums.IncludeType.N;
 import static spofo.portfolio.domain.enums.IncludeType.Y;
 import static spofo.portfolio.domain.enums.PortfolioType.FAKE;
 import static spofo.portfolio.domain.enums.PortfolioType.LINK;
 import static spofo.portfolio.domain.enums.PortfolioType.REAL;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +35,8 @@ import spofo.global.domain.exception.PortfolioNotFound;
 import spofo.portfolio.controller.request.PortfolioSearchCondition;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.domain.PortfolioHistory;
+import spofo.portfolio.domain.PortfolioSnapshot;
 import spofo.portfolio.domain.PortfolioStatistic;
 import spofo.portfolio.domain.PortfolioUpdate;
 import spofo.portfolio.domain.TotalPortfoliosStatistic;
@@ -471,10 +477,11 @@ public class PortfolioControllerTest extends ControllerTestSupport {
                 .totalAsset(getBD(100))
                 .totalBuy(getBD(60))
                 .totalGain(getBD(40))
+                .totalRealizedGain(getBD(10))
                 .gainRate(getBD(40))
                 .build();
 
-        given(portfolioService.getPortfolioStatistic(anyLong()))
+        given(portfolioService.getPortfolioStatistic(anyLong(), eq(AVERAGE)))
                 .willReturn(statistic);
 
         // expected
@@ -493,6 +500,7 @@ public class PortfolioControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("totalAsset").value("100"))
                 .andExpect(jsonPath("totalBuy").value("60"))
                 .andExpect(jsonPath("gain").value("40"))
+                .andExpect(jsonPath("realizedGain").value("10"))
                 .andExpect(jsonPath("gainRate").value("40"));
     }
 
@@ -677,6 +685,56 @@ public class PortfolioControllerTest extends ControllerTestSupport {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("포트폴리오 1개의 평가 금액 추이를 조회한다.")
+    void getPortfolioHistory() throws Exception {
+        // given
+        PortfolioSnapshot snapshot = PortfolioSnapshot.builder()
+                .portfolioId(1L)
+                .snapshotDate(LocalDate.of(2024, 1, 2))
+                .totalAsset(getBD(120000))
+                .totalBuy(getBD(100000))
+                .build();
+
+        PortfolioHistory history = PortfolioHistory.builder()
+                .portfolioId(1L)
+                .range(ONE_YEAR)
+                .resolution(DAILY)
+                .points(List.of(snapshot))
+                .build();
+
+        given(portfolioService.getPortfolioHistory(eq(1L), eq(ONE_YEAR), eq(DAILY)))
+                .willReturn(history);
+
+        // expected
+        mockMvc.perform(get("/portfolios/{portfolioId}/history", 1L)
+                        .header(AUTHORIZATION, AUTH_TOKEN)
+                        .param("range", "1Y")
+                        .param("resolution", "DAILY")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(1L))
+                .andExpect(jsonPath("range").value("1Y"))
+                .andExpect(jsonPath("resolution").value("DAILY"))
+                .andExpect(jsonPath("points[0].date").value("2024-01-02"))
+                .andExpect(jsonPath("points[0].totalAsset").value(120000))
+                .andExpect(jsonPath("points[0].totalBuy").value(100000));
+    }
+
+    @Test
+    @DisplayName("평가 금액 추이의 조회 기간은 1M, 6M, 1Y, ALL 중 하나이다.")
+    void getPortfolioHistoryWithInvalidRange() throws Exception {
+        // expected
+        mockMvc.perform(get("/portfolios/{portfolioId}/history", 1L)
+                        .header(AUTHORIZATION, AUTH_TOKEN)
+                        .param("range", "2Y")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("fieldErrors[0].field").value("range"))
+                .andExpect(jsonPath("fieldErrors[0].errorMessage")
+                        .value("조회 기간은 1M, 6M, 1Y, ALL 중 하나입니다."));
+    }
+
     private Map<String, String> createParams(String name, String description, Currency currency,
             PortfolioType type) {
 
@@ -0,0 +1,231 @@
+package spofo.medium.portfolio.infrastructure;
+
+import static java.math.BigDecimal.ONE;
+import static java.time.LocalDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.portfolio.domain.enums.Currency.KRW;
+import static spofo.portfolio.domain.enums.PortfolioType.REAL;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import spofo.global.config.auditing.JpaAuditingConfig;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockPosition;
+import spofo.holdingstock.domain.Position;
+import spofo.holdingstock.infrastructure.HoldingStockEntity;
+import spofo.holdingstock.infrastructure.HoldingStockJpaRepository;
+import spofo.portfolio.domain.Portfolio;
+import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.infrastructure.PortfolioEntity;
+import spofo.portfolio.infrastructure.PortfolioJpaRepository;
+import spofo.portfolio.infrastructure.PortfolioLoader;
+import spofo.portfolio.infrastructure.PortfolioRepositoryImpl;
+import spofo.portfolio.service.port.PortfolioRepository;
+import spofo.support.repository.RepositoryTestSupport;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.infrastructure.TradeLogEntity;
+import spofo.tradelog.infrastructure.TradeLogJpaRepository;
+
+@Import({PortfolioRepositoryImpl.class, PortfolioLoader.class, JpaAuditingConfig.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class PortfolioRepositoryTest extends RepositoryTestSupport {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final int PORTFOLIO_COUNT = 2;
+    private static final int HOLDING_STOCK_COUNT = 3;
+    private static final int TRADE_LOG_COUNT = 4;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private PortfolioJpaRepository portfolioJpaRepository;
+
+    @Autowired
+    private HoldingStockJpaRepository holdingStockJpaRepository;
+
+    @Autowired
+    private TradeLogJpaRepository tradeLogJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < PORTFOLIO_COUNT; i++) {
+            savePortfolioWithTradeLogs();
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("회원의 포트폴리오는 포트폴리오, 보유종목, 이력 순서로 3번의 쿼리로 조회한다.")
+    void findByMemberIdWithTradeLogs() {
+        // when
+        List<Portfolio> portfolios = portfolioRepository.findByMemberIdWithTradeLogs(MEMBER_ID);
+
+        // then
+        assertThat(portfolios).hasSize(PORTFOLIO_COUNT);
+        assertThat(portfolios)
+                .flatMap(Portfolio::getHoldingStocks)
+                .hasSize(PORTFOLIO_COUNT * HOLDING_STOCK_COUNT)
+                .flatMap(HoldingStock::getTradeLogs)
+                .hasSize(PORTFOLIO_COUNT * HOLDING_STOCK_COUNT * TRADE_LOG_COUNT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(PORTFOLIO_COUNT
+                + PORTFOLIO_COUNT * HOLDING_STOCK_COUNT
+                + PORTFOLIO_COUNT * HOLDING_STOCK_COUNT * TRADE_LOG_COUNT);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 정보만 조회할 때는 보유종목 수와 관계없이 한 번의 쿼리로 조회한다.")
+    void findById() {
+        // given
+        Long portfolioId = portfolioJpaRepository.findByMemberIdOrderById(MEMBER_ID).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow();
+
+        // then
+        assertThat(portfolio.getName()).isEqualTo("포트폴리오");
+        assertThat(portfolio.getHoldingStocks()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 단건조회도 보유종목과 이력을 각각 한 번의 쿼리로 조회한다.")
+    void findByIdWithTradeLogs() {
+        // given
+        Long portfolioId = portfolioJpaRepository.findByMemberIdOrderById(MEMBER_ID).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        Portfolio portfolio = portfolioRepository.findByIdWithTradeLogs(portfolioId).orElseThrow();
+
+        // then
+        assertThat(portfolio.getHoldingStocks())
+                .hasSize(HOLDING_STOCK_COUNT)
+                .allSatisfy(holdingStock ->
+                        assertThat(holdingStock.getTradeLogs()).hasSize(TRADE_LOG_COUNT));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("회원의 보유종목별 보유 수량과 매입 원가를 한 번의 쿼리로 조회하고 매매이력은 조회하지 않는다.")
+    void findHoldingStockPositionsByMemberId() {
+        // when
+        List<HoldingStockPosition> holdingStockPositions =
+                portfolioRepository.findHoldingStockPositionsByMemberId(MEMBER_ID);
+
+        // then
+        assertThat(holdingStockPositions)
+                .hasSize(PORTFOLIO_COUNT * HOLDING_STOCK_COUNT)
+                .allSatisfy(holdingStockPosition -> {
+                    assertThat(holdingStockPosition.getPortfolioId()).isNotNull();
+                    assertThat(holdingStockPosition.getQuantity())
+                            .isEqualByComparingTo(getBD(TRADE_LOG_COUNT));
+                    assertThat(holdingStockPosition.getTotalCost())
+                            .isEqualByComparingTo(getBD(66000 * TRADE_LOG_COUNT));
+                });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("포트폴리오는 건수와 관계없이 매매이력, 보유종목, 포트폴리오를 각각 delete 1번으로 삭제한다.")
+    void deleteInBulk() {
+        // given
+        Long portfolioId = portfolioJpaRepository.findByMemberIdOrderById(MEMBER_ID).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        int deletedTradeLogs = tradeLogJpaRepository.deleteByPortfolioId(portfolioId);
+        int deletedHoldingStocks = holdingStockJpaRepository.deleteByPortfolioId(portfolioId);
+        boolean deleted = portfolioRepository.deleteById(portfolioId);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(deletedTradeLogs).isEqualTo(HOLDING_STOCK_COUNT * TRADE_LOG_COUNT);
+        assertThat(deletedHoldingStocks).isEqualTo(HOLDING_STOCK_COUNT);
+        assertThat(deleted).isTrue();
+        assertThat(portfolioJpaRepository.findByMemberIdOrderById(MEMBER_ID))
+                .hasSize(PORTFOLIO_COUNT - 1);
+        assertThat(tradeLogJpaRepository.count())
+                .isEqualTo((PORTFOLIO_COUNT - 1) * HOLDING_STOCK_COUNT * TRADE_LOG_COUNT);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 포트폴리오를 삭제하면 false를 반환한다.")
+    void deleteByIdWithNoResult() {
+        // expected
+        assertThat(portfolioRepository.deleteById(0L)).isFalse();
+    }
+
+    private void savePortfolioWithTradeLogs() {
+        Portfolio portfolio = portfolioJpaRepository.save(PortfolioEntity.from(
+                Portfolio.of(getPortfolioCreate(), MEMBER_ID))).toModel(List.of());
+
+        for (int i = 0; i < HOLDING_STOCK_COUNT; i++) {
+            HoldingStock holdingStock = holdingStockJpaRepository.save(HoldingStockEntity.from(
+                    HoldingStock.builder()
+                            .stockCode("00000" + i)
+                            .portfolio(portfolio)
+                            .build())).toModel(List.of());
+
+            Position position = Position.empty();
+            for (int j = 0; j < TRADE_LOG_COUNT; j++) {
+                TradeLog tradeLog = getTradeLog(holdingStock);
+                tradeLogJpaRepository.save(TradeLogEntity.from(tradeLog));
+                position = position.apply(tradeLog);
+            }
+            holdingStockJpaRepository.findById(holdingStock.getId()).orElseThrow()
+                    .updatePosition(position);
+        }
+    }
+
+    private PortfolioCreate getPortfolioCreate() {
+        return PortfolioCreate.builder()
+                .name("포트폴리오")
+                .description("포트폴리오 설명")
+                .currency(KRW)
+                .type(REAL)
+                .build();
+    }
+
+    private TradeLog getTradeLog(HoldingStock holdingStock) {
+        return TradeLog.builder()
+                .type(BUY)
+                .price(getBD(66000))
+                .tradeDate(now())
+                .quantity(ONE)
+                .marketPrice(getBD(66000))
+                .holdingStock(holdingStock)
+                .build();
+    }
+}
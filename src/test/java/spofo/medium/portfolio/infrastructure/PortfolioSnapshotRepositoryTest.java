@@ -0,0 +1,203 @@
+package spofo.medium.portfolio.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.portfolio.domain.enums.HistoryResolution.DAILY;
+import static spofo.portfolio.domain.enums.HistoryResolution.MONTHLY;
+import static spofo.portfolio.domain.enums.HistoryResolution.WEEKLY;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import spofo.portfolio.domain.MemberSnapshot;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.infrastructure.PortfolioSnapshotJpaRepository;
+import spofo.portfolio.infrastructure.PortfolioSnapshotRepositoryImpl;
+import spofo.portfolio.service.port.PortfolioSnapshotRepository;
+import spofo.support.repository.RepositoryTestSupport;
+
+@Import(PortfolioSnapshotRepositoryImpl.class)
+public class PortfolioSnapshotRepositoryTest extends RepositoryTestSupport {
+
+    private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2024, 1, 2);
+
+    @Autowired
+    private PortfolioSnapshotRepository portfolioSnapshotRepository;
+
+    @Autowired
+    private PortfolioSnapshotJpaRepository portfolioSnapshotJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("date 이전의 가장 최근 회원 스냅샷 날짜에 저장된 포트폴리오 스냅샷만 조회한다.")
+    void findLatestSnapshotsBefore() {
+        // given
+        portfolioSnapshotRepository.saveAllMemberSnapshots(List.of(
+                getMemberSnapshot(1L, SNAPSHOT_DATE.minusDays(3), getBD(50000)),
+                getMemberSnapshot(1L, SNAPSHOT_DATE.minusDays(1), getBD(60000)),
+                getMemberSnapshot(1L, SNAPSHOT_DATE, getBD(70000)),
+                getMemberSnapshot(2L, SNAPSHOT_DATE.minusDays(2), getBD(80000))));
+        portfolioSnapshotRepository.saveAll(List.of(
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE.minusDays(3), getBD(50000)),
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE.minusDays(1), getBD(60000)),
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE, getBD(70000)),
+                getPortfolioSnapshot(2L, SNAPSHOT_DATE.minusDays(1), getBD(10000)),
+                getPortfolioSnapshot(3L, SNAPSHOT_DATE.minusDays(1), getBD(20000))));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<PortfolioSnapshot> snapshots = portfolioSnapshotRepository
+                .findLatestSnapshotsBefore(1L, List.of(1L, 2L), SNAPSHOT_DATE);
+
+        // then
+        assertThat(snapshots)
+                .extracting(PortfolioSnapshot::getPortfolioId, PortfolioSnapshot::getSnapshotDate)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, SNAPSHOT_DATE.minusDays(1)),
+                        tuple(2L, SNAPSHOT_DATE.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("회원 id 중 date의 회원 스냅샷이 저장된 회원 id만 조회한다.")
+    void findSnapshotMemberIds() {
+        // given
+        portfolioSnapshotRepository.saveAllMemberSnapshots(List.of(
+                getMemberSnapshot(1L, SNAPSHOT_DATE, getBD(10000)),
+                getMemberSnapshot(2L, SNAPSHOT_DATE.minusDays(1), getBD(10000)),
+                getMemberSnapshot(3L, SNAPSHOT_DATE, getBD(10000))));
+        entityManager.flush();
+
+        // when
+        List<Long> memberIds = portfolioSnapshotRepository.findSnapshotMemberIds(
+                List.of(1L, 2L, 4L), SNAPSHOT_DATE);
+
+        // then
+        assertThat(memberIds).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("일별 추이는 after 이후의 스냅샷을 날짜 오름차순으로 조회한다.")
+    void findDailyHistory() {
+        // given
+        portfolioSnapshotRepository.saveAll(List.of(
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE, getBD(30000)),
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE.minusDays(1), getBD(20000)),
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE.minusDays(2), getBD(10000)),
+                getPortfolioSnapshot(2L, SNAPSHOT_DATE, getBD(40000))));
+        entityManager.flush();
+
+        // when
+        List<PortfolioSnapshot> history = portfolioSnapshotRepository.findHistory(1L, DAILY,
+                SNAPSHOT_DATE.minusDays(2));
+
+        // then
+        assertThat(history)
+                .extracting(PortfolioSnapshot::getSnapshotDate)
+                .containsExactly(SNAPSHOT_DATE.minusDays(1), SNAPSHOT_DATE);
+    }
+
+    @Test
+    @DisplayName("주별, 월별 집계는 구간의 가장 늦은 날짜의 스냅샷으로 갱신한다.")
+    void saveRollups() {
+        // given
+        LocalDate monday = LocalDate.of(2024, 1, 29);
+        List<PortfolioSnapshot> snapshots = List.of(
+                getPortfolioSnapshot(1L, monday, getBD(10000)),
+                getPortfolioSnapshot(1L, monday.plusDays(2), getBD(30000)),
+                getPortfolioSnapshot(1L, monday.plusDays(1), getBD(20000)),
+                getPortfolioSnapshot(1L, monday.plusDays(3), getBD(40000)));
+
+        // when
+        for (PortfolioSnapshot snapshot : snapshots) {
+            portfolioSnapshotRepository.saveRollups(List.of(snapshot));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        // then
+        List<PortfolioSnapshot> weekly = portfolioSnapshotRepository.findHistory(1L, WEEKLY,
+                LocalDate.EPOCH);
+        assertThat(weekly).hasSize(1);
+        assertThat(weekly.get(0).getSnapshotDate()).isEqualTo(monday.plusDays(3));
+        assertThat(weekly.get(0).getTotalAsset()).isEqualByComparingTo(getBD(40000));
+
+        List<PortfolioSnapshot> monthly = portfolioSnapshotRepository.findHistory(1L, MONTHLY,
+                LocalDate.EPOCH);
+        assertThat(monthly)
+                .extracting(PortfolioSnapshot::getSnapshotDate)
+                .containsExactly(monday.plusDays(2), monday.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("집계 추이는 구간의 마지막 스냅샷이 after 이후인 구간만 조회한다.")
+    void findRollupHistory() {
+        // given
+        portfolioSnapshotRepository.saveRollups(List.of(
+                getPortfolioSnapshot(1L, LocalDate.of(2023, 11, 30), getBD(10000))));
+        portfolioSnapshotRepository.saveRollups(List.of(
+                getPortfolioSnapshot(1L, LocalDate.of(2023, 12, 29), getBD(20000))));
+        portfolioSnapshotRepository.saveRollups(List.of(
+                getPortfolioSnapshot(1L, LocalDate.of(2024, 1, 31), getBD(30000))));
+        entityManager.flush();
+
+        // when
+        List<PortfolioSnapshot> history = portfolioSnapshotRepository.findHistory(1L, MONTHLY,
+                LocalDate.of(2023, 12, 15));
+
+        // then
+        assertThat(history)
+                .extracting(PortfolioSnapshot::getSnapshotDate)
+                .containsExactly(LocalDate.of(2023, 12, 29), LocalDate.of(2024, 1, 31));
+    }
+
+    @Test
+    @DisplayName("포트폴리오의 스냅샷과 집계를 모두 삭제한다.")
+    void deleteByPortfolioId() {
+        // given
+        portfolioSnapshotRepository.saveAll(List.of(
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE.minusDays(1), getBD(20000)),
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE, getBD(20000)),
+                getPortfolioSnapshot(2L, SNAPSHOT_DATE, getBD(20000))));
+        portfolioSnapshotRepository.saveRollups(List.of(
+                getPortfolioSnapshot(1L, SNAPSHOT_DATE, getBD(20000))));
+        entityManager.flush();
+
+        // when
+        portfolioSnapshotRepository.deleteByPortfolioId(1L);
+
+        // then
+        assertThat(portfolioSnapshotJpaRepository.findAll()).hasSize(1);
+        assertThat(portfolioSnapshotRepository.findHistory(1L, WEEKLY, LocalDate.EPOCH))
+                .isEmpty();
+    }
+
+    private MemberSnapshot getMemberSnapshot(Long memberId, LocalDate snapshotDate,
+            BigDecimal totalAsset) {
+        return MemberSnapshot.builder()
+                .memberId(memberId)
+                .snapshotDate(snapshotDate)
+                .totalAsset(totalAsset)
+                .totalBuy(getBD(10000))
+                .build();
+    }
+
+    private PortfolioSnapshot getPortfolioSnapshot(Long portfolioId, LocalDate snapshotDate,
+            BigDecimal totalAsset) {
+        return PortfolioSnapshot.builder()
+                .portfolioId(portfolioId)
+                .memberId(1L)
+                .snapshotDate(snapshotDate)
+                .totalAsset(totalAsset)
+                .totalBuy(getBD(10000))
+                .build();
+    }
+}
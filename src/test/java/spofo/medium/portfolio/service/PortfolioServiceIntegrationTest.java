@@ -18,6 +18,7 @@ import static spofo.portfolio.domain.enums.IncludeType.Y;
 import static spofo.portfolio.domain.enums.PortfolioType.FAKE;
 import static spofo.portfolio.domain.enums.PortfolioType.LINK;
 import static spofo.portfolio.domain.enums.PortfolioType.REAL;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
 
 import java.util.List;
@@ -301,7 +302,7 @@ public class PortfolioServiceIntegrationTest extends ServiceIntegrationTestSuppo
 
         // when
         PortfolioStatistic statistic =
-                portfolioService.getPortfolioStatistic(savedPortfolio.getId());
+                portfolioService.getPortfolioStatistic(savedPortfolio.getId(), AVERAGE);
 
         assertThat(statistic.getTotalAsset()).isEqualTo(getBD(66000));
         assertThat(statistic.getTotalBuy()).isEqualTo(getBD(33000));
@@ -1,7 +1,6 @@
 package spofo.medium.portfolio.service;
 
 import static java.math.BigDecimal.ZERO;
-import static java.util.Collections.EMPTY_LIST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
@@ -17,8 +16,10 @@ import static spofo.portfolio.domain.enums.IncludeType.Y;
 import static spofo.portfolio.domain.enums.PortfolioType.FAKE;
 import static spofo.portfolio.domain.enums.PortfolioType.LINK;
 import static spofo.portfolio.domain.enums.PortfolioType.REAL;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import spofo.global.domain.exception.PortfolioNotFound;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.portfolio.controller.request.PortfolioSearchCondition;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.domain.PortfolioCreate;
@@ -53,19 +55,20 @@ public class PortfolioServiceTest extends ServiceTestSupport {
         HoldingStock holdingStock = getHoldingStock(tradeLog);
 
         Portfolio portfolio1 = Portfolio.builder()
+                .id(1L)
                 .includeType(Y)
                 .type(REAL)
                 .holdingStocks(List.of(holdingStock))
                 .build();
 
         Portfolio portfolio2 = Portfolio.builder()
+                .id(2L)
                 .includeType(Y)
                 .type(REAL)
                 .holdingStocks(List.of(holdingStock))
                 .build();
 
-        given(portfolioRepository.findByMemberIdWithTradeLogs(MEMBER_ID))
-                .willReturn(List.of(portfolio1, portfolio2));
+        givenPortfolios(portfolio1, portfolio2);
 
         given(mockStockServerService.getStocks(anyList()))
                 .willReturn(getStockMap());
@@ -93,13 +96,13 @@ public class PortfolioServiceTest extends ServiceTestSupport {
         HoldingStock holdingStock = getHoldingStock(tradeLog);
 
         Portfolio portfolio = Portfolio.builder()
+                .id(1L)
                 .includeType(N)
                 .type(REAL)
                 .holdingStocks(List.of(holdingStock))
                 .build();
 
-        given(portfolioRepository.findByMemberIdWithTradeLogs(MEMBER_ID))
-                .willReturn(List.of(portfolio));
+        givenPortfolios(portfolio);
 
         given(mockStockServerService.getStocks(anyList()))
                 .willReturn(getStockMap());
@@ -123,8 +126,7 @@ public class PortfolioServiceTest extends ServiceTestSupport {
     @DisplayName("회원 1명이 등록한 포트폴리오가 존재하지 않으면 통계 결과는 모두 0이다.")
     void getPortfoliosStatisticWithNoResult() {
         // given
-        given(portfolioRepository.findByMemberIdWithTradeLogs(MEMBER_ID))
-                .willReturn(EMPTY_LIST);
+        givenPortfolios();
 
         PortfolioSearchCondition condition = PortfolioSearchCondition
                 .builder()
@@ -162,8 +164,7 @@ public class PortfolioServiceTest extends ServiceTestSupport {
                 .holdingStocks(List.of(holdingStock, holdingStock))
                 .build();
 
-        given(portfolioRepository.findByMemberIdWithTradeLogs(MEMBER_ID))
-                .willReturn(List.of(portfolio1, portfolio2));
+        givenPortfolios(portfolio1, portfolio2);
 
         given(mockStockServerService.getStocks(anyList()))
                 .willReturn(getStockMap());
@@ -214,8 +215,7 @@ public class PortfolioServiceTest extends ServiceTestSupport {
                 .holdingStocks(List.of(holdingStock, holdingStock, holdingStock))
                 .build();
 
-        given(portfolioRepository.findByMemberIdWithTradeLogs(MEMBER_ID))
-                .willReturn(List.of(portfolio1, portfolio2, portfolio3));
+        givenPortfolios(portfolio1, portfolio2, portfolio3);
 
         given(mockStockServerService.getStocks(anyList()))
                 .willReturn(getStockMap());
@@ -264,8 +264,7 @@ public class PortfolioServiceTest extends ServiceTestSupport {
                 .holdingStocks(List.of(holdingStock, holdingStock, holdingStock))
                 .build();
 
-        given(portfolioRepository.findByMemberIdWithTradeLogs(MEMBER_ID))
-                .willReturn(List.of(portfolio1, portfolio2, portfolio3));
+        givenPortfolios(portfolio1, portfolio2, portfolio3);
 
         given(mockStockServerService.getStocks(anyList()))
                 .willReturn(getStockMap());
@@ -314,8 +313,7 @@ public class PortfolioServiceTest extends ServiceTestSupport {
                 .holdingStocks(List.of(holdingStock, holdingStock, holdingStock))
                 .build();
 
-        given(portfolioRepository.findByMemberIdWithTradeLogs(MEMBER_ID))
-                .willReturn(List.of(portfolio1, portfolio2, portfolio3));
+        givenPortfolios(portfolio1, portfolio2, portfolio3);
 
         given(mockStockServerService.getStocks(anyList()))
                 .willReturn(getStockMap());
@@ -405,7 +403,7 @@ public class PortfolioServiceTest extends ServiceTestSupport {
                 .willReturn(getStockMap());
 
         // when
-        PortfolioStatistic statistic = portfolioService.getPortfolioStatistic(MEMBER_ID);
+        PortfolioStatistic statistic = portfolioService.getPortfolioStatistic(MEMBER_ID, AVERAGE);
 
         // then
         assertThat(statistic.getTotalAsset()).isEqualTo(getBD(66000));
@@ -509,6 +507,19 @@ public class PortfolioServiceTest extends ServiceTestSupport {
                 .hasMessage(PORTFOLIO_NOT_FOUND.getMessage());
     }
 
+    private void givenPortfolios(Portfolio... portfolios) {
+        List<HoldingStockPosition> holdingStockPositions = Arrays.stream(portfolios)
+                .flatMap(portfolio -> portfolio.getHoldingStocks().stream()
+                        .map(holdingStock -> HoldingStockPosition.of(portfolio.getId(),
+                                holdingStock)))
+                .toList();
+
+        given(portfolioRepository.findByMemberId(MEMBER_ID))
+                .willReturn(List.of(portfolios));
+        given(portfolioRepository.findHoldingStockPositionsByMemberId(MEMBER_ID))
+                .willReturn(holdingStockPositions);
+    }
+
     private PortfolioCreate getCreatePortfolio() {
         return PortfolioCreate.builder()
                 .name(PORTFOLIO_CREATE_NAME)
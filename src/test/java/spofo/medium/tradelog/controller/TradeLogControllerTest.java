@@ -1,20 +1,29 @@
 package spofo.medium.tradelog.controller;
 
 import static java.math.BigDecimal.ONE;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.tradelog.controller.request.TradeImportReader.TEXT_CSV;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import spofo.portfolio.domain.Portfolio;
 import spofo.support.controller.ControllerTestSupport;
+import spofo.tradelog.domain.TradeImportReport;
+import spofo.tradelog.domain.TradeImportResult;
+import spofo.tradelog.domain.TradeImportRow;
 import spofo.tradelog.domain.TradeLog;
 import spofo.tradelog.domain.TradeLogStatistic;
 
@@ -67,6 +76,45 @@ public class TradeLogControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$[1].totalPrice").value("132000"));
     }
 
+    @Test
+    @DisplayName("CSV로 매매이력을 일괄 등록하면 행별 결과와 처리량을 응답한다.")
+    void importTradeLogs() throws Exception {
+        // given
+        String body = """
+                code,type,price,quantity,tradeDate
+                000660,BUY,66000,1,2023-12-01
+                000660,BUY,abc,1,2023-12-01
+                """;
+
+        given(portfolioService.getPortfolio(anyLong()))
+                .willReturn(Portfolio.builder().id(1L).build());
+        given(tradeImportService.importTrades(any(), any())).willAnswer(invocation -> {
+            Iterator<TradeImportRow> rows = invocation.getArgument(1);
+            TradeImportRow imported = rows.next();
+            TradeImportRow invalid = rows.next();
+            return TradeImportReport.of(List.of(
+                    TradeImportResult.imported(imported, 1L),
+                    TradeImportResult.failed(invalid, invalid.getError())), Duration.ofSeconds(1));
+        });
+
+        // expected
+        mockMvc.perform(post("/portfolios/{portfolioId}/trade-logs/import", 1L)
+                        .contentType(TEXT_CSV)
+                        .content(body)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.rowsPerSecond").value(2.0))
+                .andExpect(jsonPath("$.rows[0].line").value(2))
+                .andExpect(jsonPath("$.rows[0].status").value("IMPORTED"))
+                .andExpect(jsonPath("$.rows[0].stockId").value(1))
+                .andExpect(jsonPath("$.rows[1].line").value(3))
+                .andExpect(jsonPath("$.rows[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.rows[1].message").value("단가는 숫자여야 합니다."));
+    }
+
     private TradeLog getTradeLog(BigDecimal price, BigDecimal quantity) {
         return TradeLog.builder()
                 .type(BUY)
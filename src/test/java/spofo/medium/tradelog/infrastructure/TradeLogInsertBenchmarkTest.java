@@ -0,0 +1,151 @@
+package spofo.medium.tradelog.infrastructure;
+
+import static java.math.BigDecimal.ONE;
+import static java.time.LocalDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.portfolio.domain.enums.Currency.KRW;
+import static spofo.portfolio.domain.enums.PortfolioType.REAL;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import spofo.global.config.auditing.JpaAuditingConfig;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.infrastructure.HoldingStockEntity;
+import spofo.holdingstock.infrastructure.HoldingStockJpaRepository;
+import spofo.portfolio.domain.Portfolio;
+import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.infrastructure.PortfolioEntity;
+import spofo.portfolio.infrastructure.PortfolioJpaRepository;
+import spofo.support.repository.RepositoryTestSupport;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.infrastructure.TradeLogRepositoryImpl;
+import spofo.tradelog.service.port.TradeLogRepository;
+
+/**
+ * 매매이력 insert가 실행하는 SQL 수를 JPA 리포지토리로 저장하면서 센다.
+ * application.yml의 hibernate.jdbc.batch_size와 엔티티의 pooled 시퀀스(allocationSize)를 그대로 사용하므로
+ * insert는 batch_size건마다, 시퀀스 조회는 allocationSize건마다 한 번만 실행되어야 한다.
+ * IDENTITY 방식이었다면 건마다 insert 1번이 실행된다.
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * MariaDB/MySQL 서버에서 확인하려면 -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.user,
+ * -Dbenchmark.jdbc.password 를 지정한다.
+ */
+@Tag("benchmark")
+@AutoConfigureTestDatabase(replace = NONE)
+@Import({TradeLogRepositoryImpl.class, JpaAuditingConfig.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=${benchmark.jdbc.url:"
+                + "jdbc:h2:mem:benchmark;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.username=${benchmark.jdbc.user:sa}",
+        "spring.datasource.password=${benchmark.jdbc.password:}",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class TradeLogInsertBenchmarkTest extends RepositoryTestSupport {
+
+    private static final int ROW_COUNT = 20_000;
+    private static final int ALLOCATION_SIZE = 50; // TradeLogEntity의 allocationSize
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Autowired
+    private TradeLogRepository tradeLogRepository;
+
+    @Autowired
+    private PortfolioJpaRepository portfolioJpaRepository;
+
+    @Autowired
+    private HoldingStockJpaRepository holdingStockJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private HoldingStock holdingStock;
+
+    @BeforeEach
+    void setup() {
+        Portfolio portfolio = portfolioJpaRepository.save(PortfolioEntity.from(
+                Portfolio.of(getPortfolioCreate(), 1L))).toModel(List.of());
+        holdingStock = holdingStockJpaRepository.save(HoldingStockEntity.from(
+                HoldingStock.builder()
+                        .stockCode("000660")
+                        .portfolio(portfolio)
+                        .build())).toModel(List.of());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("매매이력 insert는 배치 크기마다, 시퀀스 조회는 할당 크기마다 한 번만 실행된다.")
+    void countInsertStatements() {
+        // given
+        List<TradeLog> tradeLogs = IntStream.range(0, ROW_COUNT)
+                .mapToObj(i -> getTradeLog())
+                .toList();
+
+        // when
+        tradeLogRepository.saveAll(tradeLogs);
+        entityManager.flush();
+
+        // then
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("[%s] %,d rows: %,d statements (IDENTITY: %,d statements)%n",
+                url, ROW_COUNT, statements, ROW_COUNT);
+
+        // MySQL은 시퀀스를 테이블로 흉내내므로 시퀀스 조회 1번에 select와 update를 실행한다.
+        long insertStatements = ceil(ROW_COUNT, batchSize);
+        long sequenceStatements = 2 * (ceil(ROW_COUNT, ALLOCATION_SIZE) + 1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+        assertThat(statements).isLessThanOrEqualTo(insertStatements + sequenceStatements);
+    }
+
+    private long ceil(int count, int size) {
+        return (count + size - 1) / size;
+    }
+
+    private PortfolioCreate getPortfolioCreate() {
+        return PortfolioCreate.builder()
+                .name("포트폴리오")
+                .description("포트폴리오 설명")
+                .currency(KRW)
+                .type(REAL)
+                .build();
+    }
+
+    private TradeLog getTradeLog() {
+        return TradeLog.builder()
+                .type(BUY)
+                .price(getBD(66000))
+                .tradeDate(now())
+                .quantity(ONE)
+                .marketPrice(getBD(66000))
+                .holdingStock(holdingStock)
+                .build();
+    }
+}
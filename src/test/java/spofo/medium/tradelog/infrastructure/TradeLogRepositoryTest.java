@@ -0,0 +1,118 @@
+package spofo.medium.tradelog.infrastructure;
+
+import static java.math.BigDecimal.ONE;
+import static java.time.LocalDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.portfolio.domain.enums.Currency.KRW;
+import static spofo.portfolio.domain.enums.PortfolioType.REAL;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import spofo.global.config.auditing.JpaAuditingConfig;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.infrastructure.HoldingStockEntity;
+import spofo.holdingstock.infrastructure.HoldingStockJpaRepository;
+import spofo.portfolio.domain.Portfolio;
+import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.infrastructure.PortfolioEntity;
+import spofo.portfolio.infrastructure.PortfolioJpaRepository;
+import spofo.support.repository.RepositoryTestSupport;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.infrastructure.TradeLogJpaRepository;
+import spofo.tradelog.infrastructure.TradeLogRepositoryImpl;
+import spofo.tradelog.service.port.TradeLogRepository;
+
+@Import({TradeLogRepositoryImpl.class, JpaAuditingConfig.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"})
+public class TradeLogRepositoryTest extends RepositoryTestSupport {
+
+    private static final int TRADE_LOG_COUNT = 200;
+
+    @Autowired
+    private TradeLogRepository tradeLogRepository;
+
+    @Autowired
+    private TradeLogJpaRepository tradeLogJpaRepository;
+
+    @Autowired
+    private PortfolioJpaRepository portfolioJpaRepository;
+
+    @Autowired
+    private HoldingStockJpaRepository holdingStockJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private HoldingStock holdingStock;
+
+    @BeforeEach
+    void setup() {
+        Portfolio portfolio = portfolioJpaRepository.save(PortfolioEntity.from(
+                Portfolio.of(getPortfolioCreate(), 1L))).toModel(List.of());
+        holdingStock = holdingStockJpaRepository.save(HoldingStockEntity.from(
+                HoldingStock.builder()
+                        .stockCode("000660")
+                        .portfolio(portfolio)
+                        .build())).toModel(List.of());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("여러 건의 매매이력은 건마다 insert하지 않고 JDBC 배치로 모아서 저장한다.")
+    void saveInBatches() {
+        // given
+        for (int i = 0; i < TRADE_LOG_COUNT; i++) {
+            tradeLogRepository.save(getTradeLog());
+        }
+
+        // when
+        entityManager.flush();
+
+        // then
+        // 시퀀스 조회(50건마다 1번)와 배치 insert(100건마다 1번)만 실행된다.
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(TRADE_LOG_COUNT / 10);
+        assertThat(tradeLogJpaRepository.count()).isEqualTo(TRADE_LOG_COUNT);
+    }
+
+    private PortfolioCreate getPortfolioCreate() {
+        return PortfolioCreate.builder()
+                .name("포트폴리오")
+                .description("포트폴리오 설명")
+                .currency(KRW)
+                .type(REAL)
+                .build();
+    }
+
+    private TradeLog getTradeLog() {
+        return TradeLog.builder()
+                .type(BUY)
+                .price(getBD(66000))
+                .tradeDate(now())
+                .quantity(ONE)
+                .marketPrice(getBD(66000))
+                .holdingStock(holdingStock)
+                .build();
+    }
+}
@@ -1,10 +1,15 @@
 package spofo.mock;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
+import spofo.global.domain.exception.HoldingStockConflict;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockPosition;
+import spofo.holdingstock.domain.Position;
 import spofo.holdingstock.service.port.HoldingStockRepository;
 import spofo.portfolio.domain.Portfolio;
 
@@ -23,6 +28,13 @@ public class FakeHoldingStockRepository implements HoldingStockRepository {
                 .toList();
     }
 
+    @Override
+    public List<HoldingStockPosition> findPositionsByPortfolioId(Long id) {
+        return findByPortfolioId(id).stream()
+                .map(holdingStock -> HoldingStockPosition.of(id, holdingStock))
+                .toList();
+    }
+
     @Override
     public Optional<HoldingStock> findById(Long id) {
         return data.stream()
@@ -30,6 +42,51 @@ public class FakeHoldingStockRepository implements HoldingStockRepository {
                 .findAny();
     }
 
+    @Override
+    public List<String> findAllStockCodes() {
+        return data.stream()
+                .map(HoldingStock::getStockCode)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public List<HoldingStock> findByIdInWithTradeLogs(List<Long> ids) {
+        return data.stream()
+                .filter(item -> ids.contains(item.getId()))
+                .toList();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long lastId, int size) {
+        return data.stream()
+                .map(HoldingStock::getId)
+                .filter(id -> id > lastId)
+                .sorted()
+                .limit(size)
+                .toList();
+    }
+
+    @Override
+    public void updatePosition(Long id, UnaryOperator<Position> updater) {
+        findById(id).ifPresent(item -> {
+            Position position = item.getPosition() == null ? Position.empty() : item.getPosition();
+            data.remove(item);
+            data.add(HoldingStock.builder()
+                    .id(item.getId())
+                    .stockCode(item.getStockCode())
+                    .portfolio(item.getPortfolio())
+                    .tradeLogs(item.getTradeLogs())
+                    .position(updater.apply(position))
+                    .build());
+        });
+    }
+
+    @Override
+    public void savePosition(Long id, Position position) {
+        updatePosition(id, current -> position);
+    }
+
     @Override
     public HoldingStock save(HoldingStock holdingStock) {
         if (holdingStock.getId() == null || holdingStock.getId() == 0) {
@@ -37,6 +94,8 @@ public class FakeHoldingStockRepository implements HoldingStockRepository {
                     .id(++autoIncrement)
                     .stockCode(holdingStock.getStockCode())
                     .portfolio(holdingStock.getPortfolio())
+                    .position(holdingStock.getPosition() == null ? Position.empty()
+                            : holdingStock.getPosition())
                     .build();
             data.add(newHoldingStock);
             return newHoldingStock;
@@ -47,6 +106,18 @@ public class FakeHoldingStockRepository implements HoldingStockRepository {
         }
     }
 
+    @Override
+    public HoldingStock insert(HoldingStock holdingStock) {
+        boolean duplicated = data.stream()
+                .anyMatch(item -> Objects.equals(item.getPortfolio().getId(),
+                        holdingStock.getPortfolio().getId())
+                        && Objects.equals(item.getStockCode(), holdingStock.getStockCode()));
+        if (duplicated) {
+            throw new HoldingStockConflict();
+        }
+        return save(holdingStock);
+    }
+
     @Override
     public void delete(HoldingStock holdingStock) {
         data.removeIf(item -> Objects.equals(item.getId(), holdingStock.getId()));
@@ -69,4 +140,21 @@ public class FakeHoldingStockRepository implements HoldingStockRepository {
                 .filter(item -> Objects.equals(item.getStockCode(), stockCode))
                 .findAny();
     }
+
+    @Override
+    public Optional<HoldingStock> findByStockCodeForUpdate(Long portfolioId, String stockCode) {
+        return data.stream()
+                .filter(item -> Objects.equals(item.getPortfolio().getId(), portfolioId))
+                .filter(item -> Objects.equals(item.getStockCode(), stockCode))
+                .findAny();
+    }
+
+    @Override
+    public List<HoldingStock> findByPortfolioIdAndStockCodesForUpdate(Long portfolioId,
+            Collection<String> stockCodes) {
+        return data.stream()
+                .filter(item -> Objects.equals(item.getPortfolio().getId(), portfolioId))
+                .filter(item -> stockCodes.contains(item.getStockCode()))
+                .toList();
+    }
 }
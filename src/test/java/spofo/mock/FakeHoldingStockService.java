@@ -11,6 +11,7 @@ import spofo.holdingstock.domain.HoldingStockStatistic;
 import spofo.holdingstock.service.port.HoldingStockRepository;
 import spofo.portfolio.domain.Portfolio;
 import spofo.tradelog.domain.TradeLogCreate;
+import spofo.tradelog.domain.enums.CostMethod;
 
 @RequiredArgsConstructor
 public class FakeHoldingStockService implements HoldingStockService {
@@ -23,7 +24,7 @@ public class FakeHoldingStockService implements HoldingStockService {
     }
 
     @Override
-    public HoldingStockStatistic getStatistic(Long id) {
+    public HoldingStockStatistic getStatistic(Long id, CostMethod costMethod) {
         return null;
     }
 
@@ -44,6 +45,15 @@ public class FakeHoldingStockService implements HoldingStockService {
         return null;
     }
 
+    @Override
+    public HoldingStock upsert(HoldingStockCreate holdingStockCreate, TradeLogCreate tradeLogCreate,
+            Portfolio portfolio) {
+        return holdingStockRepository
+                .findByStockCodeForUpdate(portfolio.getId(), holdingStockCreate.getStockCode())
+                .orElseGet(() -> holdingStockRepository.save(
+                        HoldingStock.of(holdingStockCreate, portfolio)));
+    }
+
     @Override
     public void delete(Long id) {
     }
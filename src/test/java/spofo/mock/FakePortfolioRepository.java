@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.HoldingStockPosition;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.service.port.PortfolioRepository;
 
@@ -43,6 +45,53 @@ public class FakePortfolioRepository implements PortfolioRepository {
                 .toList();
     }
 
+    @Override
+    public List<String> findStockCodesByMemberId(Long id) {
+        return data.stream()
+                .filter(item -> item.getMemberId().equals(id))
+                .filter(item -> item.getHoldingStocks() != null)
+                .flatMap(item -> item.getHoldingStocks().stream())
+                .map(HoldingStock::getStockCode)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public List<HoldingStockPosition> findHoldingStockPositionsByMemberId(Long id) {
+        return data.stream()
+                .filter(item -> item.getMemberId().equals(id))
+                .filter(item -> item.getHoldingStocks() != null)
+                .flatMap(item -> item.getHoldingStocks().stream()
+                        .map(holdingStock -> HoldingStockPosition.of(item.getId(), holdingStock)))
+                .toList();
+    }
+
+    @Override
+    public List<Long> findMemberIdsAfter(Long lastId, int size) {
+        return data.stream()
+                .map(Portfolio::getMemberId)
+                .filter(memberId -> memberId > lastId)
+                .distinct()
+                .sorted()
+                .limit(size)
+                .toList();
+    }
+
+    @Override
+    public List<Portfolio> findByMemberIdIn(List<Long> memberIds) {
+        return data.stream()
+                .filter(item -> memberIds.contains(item.getMemberId()))
+                .toList();
+    }
+
+    @Override
+    public List<HoldingStockPosition> findHoldingStockPositionsByMemberIdIn(
+            List<Long> memberIds) {
+        return memberIds.stream()
+                .flatMap(memberId -> findHoldingStockPositionsByMemberId(memberId).stream())
+                .toList();
+    }
+
     @Override
     public Portfolio save(Portfolio portfolio) {
         if (portfolio.getId() == null || portfolio.getId() == 0) {
@@ -70,6 +119,11 @@ public class FakePortfolioRepository implements PortfolioRepository {
         data.removeIf(item -> Objects.equals(item.getId(), portfolio.getId()));
     }
 
+    @Override
+    public boolean deleteById(Long id) {
+        return data.removeIf(item -> Objects.equals(item.getId(), id));
+    }
+
     @Override
     public void deleteAll() {
         data.clear();
@@ -1,5 +1,7 @@
 package spofo.mock;
 
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,12 +13,16 @@ import spofo.portfolio.controller.port.PortfolioService;
 import spofo.portfolio.controller.request.PortfolioSearchCondition;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.domain.PortfolioHistory;
 import spofo.portfolio.domain.PortfolioStatistic;
 import spofo.portfolio.domain.PortfolioUpdate;
 import spofo.portfolio.domain.TotalPortfoliosStatistic;
+import spofo.portfolio.domain.enums.HistoryRange;
+import spofo.portfolio.domain.enums.HistoryResolution;
 import spofo.portfolio.service.port.PortfolioRepository;
 import spofo.stock.domain.Stock;
 import spofo.stock.service.StockServerService;
+import spofo.tradelog.domain.enums.CostMethod;
 
 @RequiredArgsConstructor
 public class FakePortfolioService implements PortfolioService {
@@ -29,7 +35,7 @@ public class FakePortfolioService implements PortfolioService {
             PortfolioSearchCondition condition) {
         List<Portfolio> portfolios = portfolioRepository.findByMemberIdWithTradeLogs(memberId);
         List<PortfolioStatistic> portfolioStatistics =
-                getPortfolioStatistics(filter(portfolios, condition));
+                getPortfolioStatistics(filter(portfolios, condition), AVERAGE);
 
         return TotalPortfoliosStatistic.of(portfolioStatistics);
     }
@@ -40,7 +46,7 @@ public class FakePortfolioService implements PortfolioService {
         List<Portfolio> portfolios =
                 filter(portfolioRepository.findByMemberIdWithTradeLogs(memberId), condition);
 
-        return getPortfolioStatistics(portfolios);
+        return getPortfolioStatistics(portfolios, AVERAGE);
     }
 
     @Override
@@ -49,9 +55,21 @@ public class FakePortfolioService implements PortfolioService {
     }
 
     @Override
-    public PortfolioStatistic getPortfolioStatistic(Long id) {
+    public PortfolioStatistic getPortfolioStatistic(Long id, CostMethod costMethod) {
         Portfolio portfolio = getPortfolioFrom(portfolioRepository.findByIdWithTradeLogs(id));
-        return getPortfolioStatistics(List.of(portfolio)).get(0);
+        return getPortfolioStatistics(List.of(portfolio), costMethod).get(0);
+    }
+
+    @Override
+    public PortfolioHistory getPortfolioHistory(Long id, HistoryRange range,
+            HistoryResolution resolution) {
+        Portfolio portfolio = findById(id);
+        return PortfolioHistory.builder()
+                .portfolioId(portfolio.getId())
+                .range(range)
+                .resolution(range.resolve(resolution))
+                .points(List.of())
+                .build();
     }
 
     @Override
@@ -81,11 +99,12 @@ public class FakePortfolioService implements PortfolioService {
         return portfolioOptional.orElseThrow(() -> new PortfolioNotFound());
     }
 
-    private List<PortfolioStatistic> getPortfolioStatistics(List<Portfolio> portfolios) {
+    private List<PortfolioStatistic> getPortfolioStatistics(List<Portfolio> portfolios,
+            CostMethod costMethod) {
         List<String> stockCodes = getStockCodes(portfolios);
         Map<String, Stock> stocks = stockServerService.getStocks(stockCodes);
         return portfolios.stream()
-                .map(portfolio -> PortfolioStatistic.of(portfolio, stocks))
+                .map(portfolio -> PortfolioStatistic.of(portfolio, stocks, costMethod))
                 .toList();
     }
 
@@ -0,0 +1,119 @@
+package spofo.mock;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import spofo.portfolio.domain.MemberSnapshot;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.domain.enums.HistoryResolution;
+import spofo.portfolio.service.port.PortfolioSnapshotRepository;
+
+public class FakePortfolioSnapshotRepository implements PortfolioSnapshotRepository {
+
+    private final List<PortfolioSnapshot> portfolioSnapshots = new ArrayList<>();
+    private final List<MemberSnapshot> memberSnapshots = new ArrayList<>();
+    private final Map<HistoryResolution, List<PortfolioSnapshot>> rollups =
+            new EnumMap<>(HistoryResolution.class);
+
+    @Override
+    public void saveAll(List<PortfolioSnapshot> portfolioSnapshots) {
+        for (PortfolioSnapshot snapshot : portfolioSnapshots) {
+            if (this.portfolioSnapshots.stream().anyMatch(saved ->
+                    saved.getPortfolioId().equals(snapshot.getPortfolioId())
+                            && saved.getSnapshotDate().equals(snapshot.getSnapshotDate()))) {
+                throw new IllegalStateException("이미 저장된 포트폴리오 스냅샷입니다.");
+            }
+            this.portfolioSnapshots.add(snapshot);
+        }
+    }
+
+    @Override
+    public void saveAllMemberSnapshots(List<MemberSnapshot> memberSnapshots) {
+        for (MemberSnapshot snapshot : memberSnapshots) {
+            if (this.memberSnapshots.stream().anyMatch(saved ->
+                    saved.getMemberId().equals(snapshot.getMemberId())
+                            && saved.getSnapshotDate().equals(snapshot.getSnapshotDate()))) {
+                throw new IllegalStateException("이미 저장된 회원 스냅샷입니다.");
+            }
+            this.memberSnapshots.add(snapshot);
+        }
+    }
+
+    @Override
+    public void saveRollups(List<PortfolioSnapshot> portfolioSnapshots) {
+        for (HistoryResolution resolution : List.of(HistoryResolution.WEEKLY,
+                HistoryResolution.MONTHLY)) {
+            List<PortfolioSnapshot> saved =
+                    rollups.computeIfAbsent(resolution, key -> new ArrayList<>());
+            for (PortfolioSnapshot snapshot : portfolioSnapshots) {
+                LocalDate bucket = resolution.bucketOf(snapshot.getSnapshotDate());
+                Optional<PortfolioSnapshot> rollup = saved.stream()
+                        .filter(item -> item.getPortfolioId().equals(snapshot.getPortfolioId()))
+                        .filter(item -> resolution.bucketOf(item.getSnapshotDate()).equals(bucket))
+                        .findAny();
+                if (rollup.isPresent()
+                        && snapshot.getSnapshotDate().isBefore(rollup.get().getSnapshotDate())) {
+                    continue;
+                }
+                rollup.ifPresent(saved::remove);
+                saved.add(snapshot);
+            }
+        }
+    }
+
+    @Override
+    public List<PortfolioSnapshot> findHistory(Long portfolioId, HistoryResolution resolution,
+            LocalDate after) {
+        List<PortfolioSnapshot> snapshots = resolution.isRollup()
+                ? rollups.getOrDefault(resolution, List.of()) : portfolioSnapshots;
+        return snapshots.stream()
+                .filter(item -> Objects.equals(item.getPortfolioId(), portfolioId))
+                .filter(item -> item.getSnapshotDate().isAfter(after))
+                .sorted(Comparator.comparing(PortfolioSnapshot::getSnapshotDate))
+                .toList();
+    }
+
+    @Override
+    public List<PortfolioSnapshot> findLatestSnapshotsBefore(Long memberId,
+            List<Long> portfolioIds, LocalDate date) {
+        Optional<LocalDate> latest = memberSnapshots.stream()
+                .filter(item -> item.getMemberId().equals(memberId))
+                .map(MemberSnapshot::getSnapshotDate)
+                .filter(snapshotDate -> snapshotDate.isBefore(date))
+                .max(Comparator.naturalOrder());
+        return portfolioSnapshots.stream()
+                .filter(item -> portfolioIds.contains(item.getPortfolioId()))
+                .filter(item -> latest.isPresent()
+                        && item.getSnapshotDate().equals(latest.get()))
+                .toList();
+    }
+
+    @Override
+    public List<Long> findSnapshotMemberIds(List<Long> memberIds, LocalDate date) {
+        return memberSnapshots.stream()
+                .filter(item -> memberIds.contains(item.getMemberId()))
+                .filter(item -> item.getSnapshotDate().equals(date))
+                .map(MemberSnapshot::getMemberId)
+                .toList();
+    }
+
+    @Override
+    public void deleteByPortfolioId(Long portfolioId) {
+        portfolioSnapshots.removeIf(item -> item.getPortfolioId().equals(portfolioId));
+        rollups.values().forEach(
+                saved -> saved.removeIf(item -> item.getPortfolioId().equals(portfolioId)));
+    }
+
+    public List<PortfolioSnapshot> getPortfolioSnapshots() {
+        return portfolioSnapshots;
+    }
+
+    public List<MemberSnapshot> getMemberSnapshots() {
+        return memberSnapshots;
+    }
+}
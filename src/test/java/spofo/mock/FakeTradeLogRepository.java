@@ -1,8 +1,10 @@
 package spofo.mock;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import spofo.tradelog.domain.TradeLog;
 import spofo.tradelog.service.port.TradeLogRepository;
 
@@ -33,6 +35,13 @@ public class FakeTradeLogRepository implements TradeLogRepository {
         }
     }
 
+    @Override
+    public List<TradeLog> saveAll(List<TradeLog> tradeLogs) {
+        return tradeLogs.stream()
+                .map(this::save)
+                .toList();
+    }
+
     @Override
     public List<TradeLog> findByHoldingStockEntityId(Long id) {
         return data.stream()
@@ -40,15 +49,23 @@ public class FakeTradeLogRepository implements TradeLogRepository {
                 .toList();
     }
 
+    @Override
+    public Optional<LocalDateTime> findLastTradeDate(Long holdingStockId) {
+        return findByHoldingStockEntityId(holdingStockId).stream()
+                .map(TradeLog::getTradeDate)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo);
+    }
+
     @Override
     public void deleteByHoldingStockId(Long id) {
         data.removeIf(item -> Objects.equals(item.getHoldingStock().getId(), id));
     }
 
     @Override
-    public void deleteByHoldingStockEntityIdIn(List<Long> ids) {
-        ids.forEach(
-                id -> data.removeIf(item -> Objects.equals(item.getHoldingStock().getId(), id)));
+    public void deleteByPortfolioId(Long portfolioId) {
+        data.removeIf(item -> item.getHoldingStock().getPortfolio() != null
+                && Objects.equals(item.getHoldingStock().getPortfolio().getId(), portfolioId));
     }
 
     @Override
@@ -23,6 +23,13 @@ public class FakeTradeLogService implements TradeLogService {
         return tradeLog;
     }
 
+    @Override
+    public TradeLog create(TradeLogCreate request, HoldingStock holdingStock, Stock stock) {
+        TradeLog tradeLog = TradeLog.of(request, holdingStock, stock);
+        data.add(tradeLog);
+        return tradeLog;
+    }
+
     @Override
     public List<TradeLogStatistic> getStatistics(Long stockId) {
         return null;
@@ -34,7 +41,7 @@ public class FakeTradeLogService implements TradeLogService {
     }
 
     @Override
-    public void deleteByHoldingStockIds(List<Long> ids) {
+    public void deleteByPortfolioId(Long portfolioId) {
 
     }
 }
@@ -0,0 +1,101 @@
+package spofo.small.auth.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.auth.service.AuthServerService;
+import spofo.auth.service.CachingAuthServerService;
+import spofo.global.config.auth.AuthCacheProperties;
+import spofo.global.domain.exception.TokenNotValid;
+import spofo.mock.FakeAuthServerService;
+
+public class CachingAuthServerServiceTest {
+
+    private static final String VALID_TOKEN = "valid";
+    private static final String INVALID_TOKEN = "invalid";
+
+    private AuthServerService authServerService;
+    private CountingAuthServerService countingAuthServerService;
+
+    @BeforeEach
+    void setup() {
+        countingAuthServerService = new CountingAuthServerService();
+        AuthCacheProperties properties =
+                new AuthCacheProperties(Duration.ofMinutes(5), Duration.ofSeconds(10), 100);
+        authServerService = new CachingAuthServerService(countingAuthServerService, properties,
+                new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 인증하면 인증 서버를 호출하지 않는다.")
+    void verifyFromCache() {
+        // given
+        authServerService.verify(VALID_TOKEN);
+
+        // when
+        Optional<Long> memberId = authServerService.verify(VALID_TOKEN);
+
+        // then
+        assertThat(memberId).contains(1L);
+        assertThat(countingAuthServerService.callCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인증에 실패한 토큰도 캐싱하여 인증 서버를 다시 호출하지 않는다.")
+    void verifyRejectedFromCache() {
+        // given
+        assertThatThrownBy(() -> authServerService.verify(INVALID_TOKEN))
+                .isInstanceOf(TokenNotValid.class);
+
+        // when // then
+        assertThatThrownBy(() -> authServerService.verify(INVALID_TOKEN))
+                .isInstanceOf(TokenNotValid.class);
+        assertThat(countingAuthServerService.callCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 JWT는 캐싱하지 않는다.")
+    void verifyExpiredTokenNotCached() {
+        // given
+        String expiredToken = "Bearer " + getJwt(Instant.now().minusSeconds(60));
+        authServerService.verify(expiredToken);
+
+        // when
+        authServerService.verify(expiredToken);
+
+        // then
+        assertThat(countingAuthServerService.callCount).isEqualTo(2);
+    }
+
+    private String getJwt(Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(UTF_8));
+        String payload = encoder.encodeToString(
+                ("{\"exp\":" + expiresAt.getEpochSecond() + "}").getBytes(UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    private static class CountingAuthServerService extends FakeAuthServerService {
+
+        private int callCount;
+
+        @Override
+        public Optional<Long> verify(String idToken) {
+            callCount++;
+            if (INVALID_TOKEN.equals(idToken)) {
+                throw new TokenNotValid();
+            }
+            return super.verify(idToken);
+        }
+    }
+}
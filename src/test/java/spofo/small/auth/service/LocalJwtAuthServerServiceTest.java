@@ -0,0 +1,192 @@
+package spofo.small.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.auth.service.AuthServerService;
+import spofo.auth.service.LocalJwtAuthServerService;
+import spofo.global.config.auth.AuthJwtProperties;
+import spofo.global.domain.exception.TokenNotValid;
+import spofo.mock.FakeAuthServerService;
+
+public class LocalJwtAuthServerServiceTest {
+
+    private RSAKey rsaKey;
+    private AuthServerService authServerService;
+    private CountingAuthServerService fallback;
+    private AuthJwtProperties properties;
+
+    @BeforeEach
+    void setup() throws JOSEException {
+        rsaKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        fallback = new CountingAuthServerService();
+
+        properties = new AuthJwtProperties(true, null, null,
+                Duration.ofMinutes(10), "memberId", null, null);
+        authServerService = new LocalJwtAuthServerService(fallback,
+                () -> new JWKSet(rsaKey.toPublicJWK()), properties, Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("JWK Set에 있는 키로 서명된 토큰은 인증 서버를 호출하지 않고 회원 아이디를 반환한다.")
+    void verifyLocally() throws JOSEException {
+        // given
+        String idToken = "Bearer " + sign(rsaKey, 7L, Instant.now().plusSeconds(60));
+
+        // when
+        Optional<Long> memberId = authServerService.verify(idToken);
+
+        // then
+        assertThat(memberId).contains(7L);
+        assertThat(fallback.callCount).isZero();
+    }
+
+    @Test
+    @DisplayName("JWK Set에 없는 키로 서명된 토큰은 인증 서버에 확인한다.")
+    void verifyUnknownKeyId() throws JOSEException {
+        // given
+        RSAKey unknownKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        String idToken = sign(unknownKey, 7L, Instant.now().plusSeconds(60));
+
+        // when
+        Optional<Long> memberId = authServerService.verify(idToken);
+
+        // then
+        assertThat(memberId).contains(1L);
+        assertThat(fallback.callCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회원 아이디 클레임이 없는 토큰은 인증 서버에 확인한다.")
+    void verifyWithoutMemberIdClaim() throws JOSEException {
+        // given
+        String idToken = sign(rsaKey, null, Instant.now().plusSeconds(60));
+
+        // when
+        Optional<Long> memberId = authServerService.verify(idToken);
+
+        // then
+        assertThat(memberId).contains(1L);
+        assertThat(fallback.callCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 인증에 실패한다.")
+    void verifyExpiredToken() throws JOSEException {
+        // given
+        String idToken = sign(rsaKey, 7L, Instant.now().minusSeconds(600));
+
+        // when // then
+        assertThatThrownBy(() -> authServerService.verify(idToken))
+                .isInstanceOf(TokenNotValid.class);
+        assertThat(fallback.callCount).isZero();
+    }
+
+    @Test
+    @DisplayName("JWT 형식이 아닌 토큰은 인증에 실패한다.")
+    void verifyMalformedToken() {
+        // when // then
+        assertThatThrownBy(() -> authServerService.verify("not-a-jwt"))
+                .isInstanceOf(TokenNotValid.class);
+    }
+
+    @Test
+    @DisplayName("JWK Set을 불러오지 못하면 인증 서버에 확인하고, 다음 갱신 때 불러온 JWK Set으로 확인한다.")
+    void verifyBeforeJwkSetLoaded() throws JOSEException {
+        // given
+        MutableClock clock = new MutableClock(Instant.now());
+        AtomicInteger loadCount = new AtomicInteger();
+        AuthServerService lazyService = new LocalJwtAuthServerService(fallback, () -> {
+            if (loadCount.incrementAndGet() == 1) {
+                throw new IllegalStateException("JWKS endpoint unreachable");
+            }
+            return new JWKSet(rsaKey.toPublicJWK());
+        }, properties, clock);
+        String idToken = sign(rsaKey, 7L, Instant.now().plusSeconds(3600));
+
+        // when
+        Optional<Long> fallbackMemberId = lazyService.verify(idToken);
+        clock.advance(properties.refreshInterval());
+        Optional<Long> localMemberId = lazyService.verify(idToken);
+
+        // then
+        assertThat(fallbackMemberId).contains(1L);
+        assertThat(localMemberId).contains(7L);
+        assertThat(fallback.callCount).isEqualTo(1);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private String sign(RSAKey key, Long memberId, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder()
+                .subject("social-id")
+                .expirationTime(Date.from(expiresAt));
+        if (memberId != null) {
+            claims.claim("memberId", memberId);
+        }
+
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                claims.build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private static class CountingAuthServerService extends FakeAuthServerService {
+
+        private int callCount;
+
+        @Override
+        public Optional<Long> verify(String idToken) {
+            callCount++;
+            return super.verify(idToken);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package spofo.small.global.component.utils;
+
+import static java.lang.Double.parseDouble;
+import static java.lang.Long.parseLong;
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static spofo.global.component.utils.CommonUtils.getBD;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spofo.global.component.utils.CommonUtils;
+
+/**
+ * 통계 응답의 값을 포맷하는 CommonUtils.format을 DecimalFormat을 사용하던 기존 구현과 비교한다.
+ * 합계(scale 17), 수익률(scale 2 이상), 정수 가격을 섞어서 통계 객체가 포맷하는 값과 비슷하게 만든다.
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+public class CommonUtilsBenchmarkTest {
+
+    private static final int VALUE_COUNT = 1_000;
+    private static final int ITERATIONS = 2_000;
+    private static final int WARMUP_ITERATIONS = 2_000;
+
+    private final BigDecimal[] values = new BigDecimal[VALUE_COUNT];
+
+    @Test
+    @DisplayName("산술 연산으로 포맷하면 DecimalFormat을 사용할 때보다 처리량이 높고 메모리를 적게 할당한다.")
+    void formatThroughputAndAllocation() {
+        // given
+        Random random = new Random(0);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            long price = 1_000 + random.nextInt(1_000_000);
+            values[i] = switch (i % 3) {
+                case 0 -> getBD(price).multiply(getBD(1 + random.nextInt(20_000))).setScale(17);
+                case 1 -> getBD(random.nextInt(100_000) - 50_000)
+                        .divide(getBD(price), 4, RoundingMode.HALF_UP);
+                default -> getBD(price);
+            };
+        }
+
+        // when
+        Result legacy = measure(this::legacyFormat);
+        Result arithmetic = measure(CommonUtils::format);
+
+        // then
+        System.out.printf("DecimalFormat: %,.0f ops/s, %d B/op%n",
+                legacy.opsPerSecond(), legacy.bytesPerOp());
+        System.out.printf("CommonUtils.format: %,.0f ops/s, %d B/op (x%.1f, %.1f%% allocation)%n",
+                arithmetic.opsPerSecond(), arithmetic.bytesPerOp(),
+                arithmetic.opsPerSecond() / legacy.opsPerSecond(),
+                100.0 * arithmetic.bytesPerOp() / legacy.bytesPerOp());
+        assertThat(arithmetic.opsPerSecond()).isGreaterThan(legacy.opsPerSecond());
+        assertThat(arithmetic.bytesPerOp()).isLessThan(legacy.bytesPerOp());
+    }
+
+    private BigDecimal legacyFormat(BigDecimal value) {
+        if (value.remainder(ONE).compareTo(ZERO) == 0) {
+            return getBD(parseLong(new DecimalFormat("####").format(value)));
+        }
+
+        return getBD(parseDouble(new DecimalFormat("####.##").format(value)));
+    }
+
+    /**
+     * 값 1개를 포맷하는 것을 1 op으로 측정한다.
+     */
+    private Result measure(UnaryOperator<BigDecimal> format) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            formatAll(format);
+        }
+
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            formatAll(format);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        long ops = (long) ITERATIONS * VALUE_COUNT;
+        return new Result(ops / (elapsed / 1_000_000_000.0), allocated / ops);
+    }
+
+    private int formatAll(UnaryOperator<BigDecimal> format) {
+        int scaleSum = 0;
+        for (BigDecimal value : values) {
+            scaleSum += format.apply(value).scale();
+        }
+        return scaleSum;
+    }
+
+    private record Result(double opsPerSecond, long bytesPerOp) {
+
+    }
+}
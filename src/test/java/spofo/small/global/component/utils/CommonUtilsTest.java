@@ -1,16 +1,26 @@
 package spofo.small.global.component.utils;
 
+import static java.lang.Double.parseDouble;
+import static java.lang.Long.parseLong;
+import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
 import static org.assertj.core.api.Assertions.assertThat;
 import static spofo.global.component.utils.CommonUtils.getBD;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Random;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import spofo.global.component.utils.CommonUtils;
 
 public class CommonUtilsTest {
 
+    private static final int CASES = 2_000_000;
+    private static final BigDecimal PLAIN_DOUBLE_LIMIT = getBD(10_000_000); // Double.toString이 지수 표기를 쓰는 경계
+
     @Test
     @DisplayName("소수점 아래 2번째 자리를 넘으면 2번째 자리까지 반올림한다.")
     void roundingTest() {
@@ -62,4 +72,90 @@ public class CommonUtilsTest {
         // then
         assertThat(formatted).isEqualTo(getBD(-1241.13));
     }
+
+    @Test
+    @DisplayName("double로 오차 없이 표현되는 범위에서 DecimalFormat을 사용하던 기존 구현과 결과가 같다.")
+    void formatEqualsLegacyFormat() {
+        // given
+        Random random = new Random(0);
+
+        for (int i = 0; i < CASES; i++) {
+            BigDecimal value = randomDecimal(random, 14, random.nextInt(24) - 4);
+
+            // when
+            BigDecimal formatted = CommonUtils.format(value);
+
+            // then
+            BigDecimal expected = legacyFormat(value);
+            if (expected.abs().compareTo(PLAIN_DOUBLE_LIMIT) < 0 || isInteger(value)) {
+                assertThat(formatted).as("%s", value).isEqualTo(expected);
+            } else {
+                assertThat(formatted).as("%s", value).isEqualByComparingTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 값도 소수점 아래 2자리까지 정확하게 반올림한다.")
+    void formatWideValues() {
+        // given
+        Random random = new Random(0);
+
+        for (int i = 0; i < CASES / 10; i++) {
+            BigDecimal value = randomDecimal(random, 40, random.nextInt(30) - 4);
+
+            // when
+            BigDecimal formatted = CommonUtils.format(value);
+
+            // then
+            assertThat(formatted).as("%s", value)
+                    .isEqualByComparingTo(value.setScale(2, RoundingMode.HALF_EVEN));
+            assertThat(formatted.scale()).as("%s", value)
+                    .isEqualTo(isInteger(value) ? 0 : Math.max(1, formatted.stripTrailingZeros().scale()));
+        }
+    }
+
+    @Test
+    @DisplayName("소수점 아래가 반올림으로 0이 되면 소수점 아래 1자리를 유지한다.")
+    void formatRoundedToInteger() {
+        // given
+        BigDecimal value = new BigDecimal("12.001");
+
+        // when
+        BigDecimal formatted = CommonUtils.format(value);
+
+        // then
+        assertThat(formatted).isEqualTo(new BigDecimal("12.0"));
+    }
+
+    /**
+     * DecimalFormat으로 문자열을 만들고 다시 파싱하던 기존 구현
+     */
+    private BigDecimal legacyFormat(BigDecimal value) {
+        if (value.remainder(ONE).compareTo(ZERO) == 0) {
+            return getBD(parseLong(new DecimalFormat("####").format(value)));
+        }
+
+        return getBD(parseDouble(new DecimalFormat("####.##").format(value)));
+    }
+
+    private boolean isInteger(BigDecimal value) {
+        return value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+    }
+
+    /**
+     * 유효 숫자가 1 ~ digits개인 임의의 값. 끝의 0이 많은 값도 함께 만든다.
+     */
+    private BigDecimal randomDecimal(Random random, int digits, int scale) {
+        int length = 1 + random.nextInt(digits);
+        int trailingZeros = random.nextInt(length);
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(i < length - trailingZeros ? random.nextInt(10) : 0);
+        }
+
+        BigInteger unscaled = new BigInteger(builder.toString());
+        return new BigDecimal(random.nextBoolean() ? unscaled.negate() : unscaled, scale);
+    }
 }
@@ -0,0 +1,98 @@
+package spofo.small.global.component.utils;
+
+import static java.math.BigDecimal.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spofo.global.component.utils.FixedPointAccumulator;
+
+/**
+ * 포트폴리오 총 자산(현재가 * 보유 수량의 합계) 계산을 BigDecimal 연산과 FixedPointAccumulator로 비교한다.
+ * 보유 수량(scale 15)은 DB에서 읽은 값과 같은 scale로 만든다.
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+public class FixedPointAccumulatorBenchmarkTest {
+
+    private static final int HOLDING_STOCK_COUNT = 1_000;
+    private static final int ITERATIONS = 5_000;
+    private static final int WARMUP_ITERATIONS = 5_000;
+
+    private final BigDecimal[] prices = new BigDecimal[HOLDING_STOCK_COUNT];
+    private final BigDecimal[] quantities = new BigDecimal[HOLDING_STOCK_COUNT];
+
+    @Test
+    @DisplayName("고정소수점 누적은 BigDecimal 연산보다 빠르고 메모리를 적게 할당한다.")
+    void sumThroughputAndAllocation() {
+        // given
+        Random random = new Random(0);
+        for (int i = 0; i < HOLDING_STOCK_COUNT; i++) {
+            prices[i] = BigDecimal.valueOf(1_000 + random.nextInt(1_000_000));
+            quantities[i] = BigDecimal.valueOf(1 + random.nextInt(20_000)).setScale(15);
+        }
+
+        // when
+        Result bigDecimal = measure(this::sumWithBigDecimal);
+        Result fixedPoint = measure(this::sumWithAccumulator);
+
+        // then
+        System.out.printf("BigDecimal: %,.0f ops/s, %d B/op%n",
+                bigDecimal.opsPerSecond(), bigDecimal.bytesPerOp());
+        System.out.printf("FixedPointAccumulator: %,.0f ops/s, %d B/op (x%.1f, %.1f%% alloc)%n",
+                fixedPoint.opsPerSecond(), fixedPoint.bytesPerOp(),
+                fixedPoint.opsPerSecond() / bigDecimal.opsPerSecond(),
+                100.0 * fixedPoint.bytesPerOp() / bigDecimal.bytesPerOp());
+        assertThat(fixedPoint.bytesPerOp()).isLessThan(bigDecimal.bytesPerOp());
+        assertThat(fixedPoint.opsPerSecond()).isGreaterThan(bigDecimal.opsPerSecond());
+    }
+
+    private BigDecimal sumWithBigDecimal() {
+        BigDecimal totalAsset = ZERO;
+        for (int i = 0; i < HOLDING_STOCK_COUNT; i++) {
+            totalAsset = totalAsset.add(prices[i].multiply(quantities[i]));
+        }
+        return totalAsset;
+    }
+
+    private BigDecimal sumWithAccumulator() {
+        FixedPointAccumulator totalAsset = new FixedPointAccumulator();
+        for (int i = 0; i < HOLDING_STOCK_COUNT; i++) {
+            totalAsset.addProduct(prices[i], quantities[i]);
+        }
+        return totalAsset.toBigDecimal();
+    }
+
+    /**
+     * 보유종목 1건을 합계에 더하는 것을 1 op으로 측정한다.
+     */
+    private Result measure(Supplier<BigDecimal> sum) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sum.get();
+        }
+
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sum.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        long ops = (long) ITERATIONS * HOLDING_STOCK_COUNT;
+        return new Result(ops / (elapsed / 1_000_000_000.0), allocated / ops);
+    }
+
+    private record Result(double opsPerSecond, long bytesPerOp) {
+
+    }
+}
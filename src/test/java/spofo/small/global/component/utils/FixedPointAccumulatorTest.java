@@ -0,0 +1,207 @@
+package spofo.small.global.component.utils;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static spofo.global.component.utils.CommonUtils.getBD;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.global.component.utils.FixedPointAccumulator;
+
+public class FixedPointAccumulatorTest {
+
+    private static final int CASES = 10_000;
+
+    @Test
+    @DisplayName("DB 컬럼 범위의 가격 * 수량 합계는 BigDecimal로 계산한 값과 같다.")
+    void sumOfProductsWithColumnRanges() {
+        for (int seed = 0; seed < CASES; seed++) {
+            // given
+            Random random = new Random(seed);
+            FixedPointAccumulator accumulator = new FixedPointAccumulator();
+            BigDecimal expected = ZERO;
+
+            // when
+            int count = random.nextInt(50);
+            for (int i = 0; i < count; i++) {
+                BigDecimal price = randomDecimal(random, 18, 2); // precision 18, scale 2
+                BigDecimal quantity = randomDecimal(random, 30, 15); // precision 30, scale 15
+
+                if (random.nextBoolean()) {
+                    accumulator.addProduct(price, quantity);
+                    expected = expected.add(price.multiply(quantity));
+                } else {
+                    accumulator.subtractProduct(price, quantity);
+                    expected = expected.subtract(price.multiply(quantity));
+                }
+            }
+
+            // then
+            assertEquals(accumulator.toBigDecimal(), expected, seed);
+        }
+    }
+
+    @Test
+    @DisplayName("소수점 이하 자릿수가 다른 곱을 더하고 빼도 BigDecimal로 계산한 값과 같다.")
+    void sumOfProductsWithMixedScales() {
+        for (int seed = 0; seed < CASES; seed++) {
+            // given
+            Random random = new Random(seed);
+            FixedPointAccumulator accumulator = new FixedPointAccumulator();
+            BigDecimal expected = ZERO;
+
+            // when
+            int count = random.nextInt(50);
+            for (int i = 0; i < count; i++) {
+                BigDecimal price = randomDecimal(random, 20, random.nextInt(14) - 2);
+                BigDecimal quantity = randomDecimal(random, 20, random.nextInt(14) - 2);
+
+                if (random.nextBoolean()) {
+                    accumulator.addProduct(price, quantity);
+                    expected = expected.add(price.multiply(quantity));
+                } else {
+                    accumulator.subtractProduct(price, quantity);
+                    expected = expected.subtract(price.multiply(quantity));
+                }
+            }
+
+            // then
+            assertEquals(accumulator.toBigDecimal(), expected, seed);
+        }
+    }
+
+    @Test
+    @DisplayName("128비트를 넘는 합계도 BigDecimal로 계산한 값과 같다.")
+    void sumExceeding128Bits() {
+        // given
+        BigDecimal price = new BigDecimal("9999999999999999.99");
+        BigDecimal quantity = new BigDecimal("999999999999999.999999999999999");
+        FixedPointAccumulator accumulator = new FixedPointAccumulator();
+        BigDecimal expected = ZERO;
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            accumulator.addProduct(price, quantity);
+            expected = expected.add(price.multiply(quantity));
+        }
+
+        // then
+        assertEquals(accumulator.toBigDecimal(), expected, 0);
+    }
+
+    /**
+     * 곱 하나는 128비트 안에 들어가지만 3개를 더하면 부호 있는 128비트 범위를 넘는다.
+     */
+    @Test
+    @DisplayName("128비트 범위를 넘나드는 합계도 BigDecimal로 계산한 값과 같다.")
+    void sumCrossing128Bits() {
+        // given
+        BigDecimal price = new BigDecimal("8000000000.00");
+        BigDecimal quantity = new BigDecimal("100000000000.000000000000000");
+        BigDecimal small = new BigDecimal("0.01");
+        FixedPointAccumulator accumulator = new FixedPointAccumulator();
+        BigDecimal expected = ZERO;
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            accumulator.addProduct(price, quantity);
+            expected = expected.add(price.multiply(quantity));
+        }
+        accumulator.addProduct(small, small);
+        expected = expected.add(small.multiply(small));
+        for (int i = 0; i < 6; i++) {
+            accumulator.subtractProduct(price, quantity);
+            expected = expected.subtract(price.multiply(quantity));
+        }
+
+        // then
+        assertEquals(accumulator.toBigDecimal(), expected, 0);
+    }
+
+    @Test
+    @DisplayName("곱 하나가 128비트를 넘어도 BigDecimal로 계산한 값과 같다.")
+    void productExceeding128Bits() {
+        // given
+        BigDecimal price = new BigDecimal("123456789012345678901234567890.12");
+        BigDecimal quantity = new BigDecimal("98765432109876543210.987654321098765");
+        FixedPointAccumulator accumulator = new FixedPointAccumulator();
+
+        // when
+        accumulator.addProduct(ONE, ONE)
+                .addProduct(price, quantity)
+                .subtractProduct(ONE, ONE);
+
+        // then
+        assertEquals(accumulator.toBigDecimal(),
+                ZERO.add(ONE).add(price.multiply(quantity)).subtract(ONE), 0);
+    }
+
+    @Test
+    @DisplayName("소수점 이하 자릿수가 17자리를 넘는 곱은 끝의 0을 지워서 누적하고, 지울 수 없으면 따로 누적한다.")
+    void productWithScaleAbove17() {
+        // given
+        BigDecimal trailingZeros = new BigDecimal("1.500000000000000000"); // scale 18
+        BigDecimal fraction = new BigDecimal("0.000000000000000001"); // scale 18
+        BigDecimal quantity = new BigDecimal("3.000000000000000"); // scale 15
+        FixedPointAccumulator accumulator = new FixedPointAccumulator();
+
+        // when
+        accumulator.addProduct(trailingZeros, quantity)
+                .addProduct(fraction, quantity);
+
+        // then
+        BigDecimal expected = ZERO.add(trailingZeros.multiply(quantity))
+                .add(fraction.multiply(quantity));
+        assertEquals(accumulator.toBigDecimal(), expected, 0);
+        assertThat(accumulator.toBigDecimal().scale()).isEqualTo(33);
+    }
+
+    @Test
+    @DisplayName("결과의 scale은 누적한 곱의 scale 중 가장 큰 값이다.")
+    void scaleOfSum() {
+        // given
+        FixedPointAccumulator integers = new FixedPointAccumulator()
+                .addProduct(getBD(3), getBD(4));
+        FixedPointAccumulator columns = new FixedPointAccumulator()
+                .addProduct(getBD(3), getBD(4))
+                .addProduct(new BigDecimal("66000.00"), new BigDecimal("1.000000000000000"));
+
+        // expected
+        assertThat(integers.toBigDecimal()).isEqualTo(new BigDecimal(12));
+        assertThat(columns.toBigDecimal()).isEqualTo(new BigDecimal("66012").setScale(17));
+    }
+
+    @Test
+    @DisplayName("누적한 값이 없으면 0을 반환한다.")
+    void empty() {
+        // expected
+        assertThat(new FixedPointAccumulator().toBigDecimal()).isEqualTo(ZERO);
+    }
+
+    /**
+     * ZERO부터 add, multiply로 계산한 값과 unscaled value, scale까지 같은지 확인한다.
+     */
+    private void assertEquals(BigDecimal actual, BigDecimal expected, int seed) {
+        assertThat(actual).as("seed %d", seed).isEqualTo(expected);
+    }
+
+    /**
+     * 자릿수가 1 ~ precision인 임의의 값. 끝의 0이 많은 값(DB에서 읽은 수량 등)도 함께 만든다.
+     */
+    private BigDecimal randomDecimal(Random random, int precision, int scale) {
+        int digits = 1 + random.nextInt(precision);
+        int trailingZeros = random.nextInt(digits);
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < digits; i++) {
+            builder.append(i < digits - trailingZeros ? random.nextInt(10) : 0);
+        }
+
+        BigInteger unscaled = new BigInteger(builder.toString());
+        return new BigDecimal(random.nextInt(5) == 0 ? unscaled.negate() : unscaled, scale);
+    }
+}
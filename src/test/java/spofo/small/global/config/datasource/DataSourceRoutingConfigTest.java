@@ -0,0 +1,36 @@
+package spofo.small.global.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import spofo.global.config.datasource.DataSourceRoutingConfig;
+
+public class DataSourceRoutingConfigTest {
+
+    @Test
+    @DisplayName("OSIV를 끄지 않으면 라우팅 설정을 만들 수 없다.")
+    void openInViewEnabled() {
+        // given
+        JpaProperties jpaProperties = new JpaProperties();
+
+        // expected
+        assertThatThrownBy(() -> new DataSourceRoutingConfig(jpaProperties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.jpa.open-in-view");
+    }
+
+    @Test
+    @DisplayName("OSIV를 끄면 라우팅 설정을 만들 수 있다.")
+    void openInViewDisabled() {
+        // given
+        JpaProperties jpaProperties = new JpaProperties();
+        jpaProperties.setOpenInView(false);
+
+        // expected
+        assertThatCode(() -> new DataSourceRoutingConfig(jpaProperties))
+                .doesNotThrowAnyException();
+    }
+}
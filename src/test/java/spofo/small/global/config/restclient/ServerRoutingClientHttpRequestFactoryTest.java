@@ -0,0 +1,59 @@
+package spofo.small.global.config.restclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpMethod.GET;
+import static spofo.global.domain.enums.Server.AUTHSERVER;
+import static spofo.global.domain.enums.Server.STOCKSERVER;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import spofo.global.config.restclient.ServerRoutingClientHttpRequestFactory;
+
+public class ServerRoutingClientHttpRequestFactoryTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private ServerRoutingClientHttpRequestFactory factory;
+
+    @BeforeEach
+    void setup() {
+        factory = new ServerRoutingClientHttpRequestFactory(
+                Map.of(AUTHSERVER.getHost(), recording("auth"),
+                        STOCKSERVER.getHost(), recording("stock")),
+                recording("default"));
+    }
+
+    @Test
+    @DisplayName("요청하는 서버의 커넥션 풀을 사용한다.")
+    void routeByServer() throws Exception {
+        // when
+        factory.createRequest(URI.create(STOCKSERVER.getUri("/stocks")), GET);
+        factory.createRequest(URI.create(AUTHSERVER.getUri("/auth/members/search")), GET);
+
+        // then
+        assertThat(calls).containsExactly("stock", "auth");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 서버는 기본 커넥션 풀을 사용한다.")
+    void routeUnknownServerToDefault() throws Exception {
+        // when
+        factory.createRequest(URI.create("https://example.com/test"), GET);
+
+        // then
+        assertThat(calls).containsExactly("default");
+    }
+
+    private ClientHttpRequestFactory recording(String name) {
+        return (uri, httpMethod) -> {
+            calls.add(name);
+            return new MockClientHttpRequest(httpMethod, uri);
+        };
+    }
+}
@@ -3,7 +3,9 @@ package spofo.small.holdingstock.domain;
 import static java.math.BigDecimal.ONE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.tradelog.domain.enums.CostMethod.FIFO;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.TradeType.SELL;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -13,6 +15,7 @@ import spofo.holdingstock.domain.HoldingStock;
 import spofo.holdingstock.domain.HoldingStockStatistic;
 import spofo.stock.domain.Stock;
 import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.domain.enums.TradeType;
 
 public class HoldingStockStatisticTest {
 
@@ -72,6 +75,29 @@ public class HoldingStockStatisticTest {
         assertThat(statistic.getQuantity()).isEqualTo(getBD(4));
     }
 
+    @Test
+    @DisplayName("매도 이력이 있으면 선입선출로 매칭하여 실현 손익과 미실현 손익을 나눠서 계산한다.")
+    void createHoldingStockStatisticWithSell() {
+        // given
+        TradeLog log1 = getTradeLog(getBD(33000), ONE);
+        TradeLog log2 = getTradeLog(getBD(28600), ONE);
+        TradeLog log3 = getTradeLog(SELL, getBD(50000), ONE);
+
+        HoldingStock holdingStock = getHoldingStock(List.of(log1, log2, log3));
+
+        // when
+        HoldingStockStatistic statistic =
+                HoldingStockStatistic.of(holdingStock, getStock(), FIFO);
+
+        // then
+        assertThat(statistic.getTotalAsset()).isEqualTo(getBD(66_000));
+        assertThat(statistic.getGain()).isEqualTo(getBD(37_400));
+        assertThat(statistic.getRealizedGain()).isEqualTo(getBD(17_000));
+        assertThat(statistic.getGainRate()).isEqualTo(getBD(130.77));
+        assertThat(statistic.getAvgPrice()).isEqualTo(getBD(28_600));
+        assertThat(statistic.getQuantity()).isEqualTo(getBD(1));
+    }
+
     private HoldingStock getHoldingStock(List<TradeLog> tradeLog) {
         return HoldingStock.builder()
                 .stockCode(TEST_STOCK_CODE)
@@ -80,8 +106,12 @@ public class HoldingStockStatisticTest {
     }
 
     private TradeLog getTradeLog(BigDecimal price, BigDecimal quantity) {
+        return getTradeLog(BUY, price, quantity);
+    }
+
+    private TradeLog getTradeLog(TradeType type, BigDecimal price, BigDecimal quantity) {
         return TradeLog.builder()
-                .type(BUY)
+                .type(type)
                 .price(price)
                 .quantity(quantity)
                 .build();
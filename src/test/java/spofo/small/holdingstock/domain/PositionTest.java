@@ -0,0 +1,160 @@
+package spofo.small.holdingstock.domain;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.TradeType.SELL;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.global.domain.exception.TradeLogOverSold;
+import spofo.holdingstock.domain.Position;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.domain.enums.TradeType;
+
+public class PositionTest {
+
+    @Test
+    @DisplayName("매수 이력을 누적하면 보유 수량, 매입 원가, 평균 단가가 늘어난다.")
+    void applyBuy() {
+        // given
+        Position position = Position.empty();
+
+        // when
+        Position result = position
+                .apply(getTradeLog(BUY, getBD(33_000), ONE))
+                .apply(getTradeLog(BUY, getBD(28_600), ONE));
+
+        // then
+        assertThat(result.getQuantity()).isEqualByComparingTo(getBD(2));
+        assertThat(result.getTotalCost()).isEqualByComparingTo(getBD(61_600));
+        assertThat(result.getAvgPrice()).isEqualByComparingTo(getBD(30_800));
+        assertThat(result.getRealizedGain()).isEqualByComparingTo(ZERO);
+    }
+
+    @Test
+    @DisplayName("매도하면 평균 단가만큼 매입 원가가 줄고 차액이 실현 손익이 된다.")
+    void applySell() {
+        // given
+        Position position = Position.empty()
+                .apply(getTradeLog(BUY, getBD(10_000), getBD(2)))
+                .apply(getTradeLog(BUY, getBD(20_000), getBD(2)));
+
+        // when
+        Position result = position.apply(getTradeLog(SELL, getBD(25_000), ONE));
+
+        // then
+        assertThat(result.getQuantity()).isEqualByComparingTo(getBD(3));
+        assertThat(result.getTotalCost()).isEqualByComparingTo(getBD(45_000));
+        assertThat(result.getAvgPrice()).isEqualByComparingTo(getBD(15_000));
+        assertThat(result.getRealizedGain()).isEqualByComparingTo(getBD(10_000));
+    }
+
+    @Test
+    @DisplayName("보유 수량을 모두 매도하면 매입 원가와 평균 단가는 0이 된다.")
+    void applySellAll() {
+        // given
+        Position position = Position.empty()
+                .apply(getTradeLog(BUY, getBD(10_000), getBD(3)));
+
+        // when
+        Position result = position.apply(getTradeLog(SELL, getBD(9_000), getBD(3)));
+
+        // then
+        assertThat(result.getQuantity()).isEqualByComparingTo(ZERO);
+        assertThat(result.getTotalCost()).isEqualByComparingTo(ZERO);
+        assertThat(result.getAvgPrice()).isEqualByComparingTo(ZERO);
+        assertThat(result.getRealizedGain()).isEqualByComparingTo(getBD(-3_000));
+    }
+
+    @Test
+    @DisplayName("보유 수량보다 많이 매도하면 예외가 발생한다.")
+    void applyOverSell() {
+        // given
+        Position position = Position.empty()
+                .apply(getTradeLog(BUY, getBD(10_000), getBD(2)));
+
+        // expected
+        assertThatThrownBy(() -> position.apply(getTradeLog(SELL, getBD(9_000), getBD(3))))
+                .isInstanceOf(TradeLogOverSold.class);
+    }
+
+    @Test
+    @DisplayName("거래일 순서로 누적했을 때 그 시점의 보유 수량보다 많이 매도하면 예외가 발생한다.")
+    void rebuildOverSell() {
+        // given
+        LocalDateTime tradeDate = LocalDateTime.of(2024, 1, 10, 9, 0);
+        List<TradeLog> tradeLogs = List.of(
+                getTradeLog(1L, BUY, getBD(10_000), getBD(2), tradeDate),
+                getTradeLog(2L, SELL, getBD(12_000), ONE, tradeDate.minusDays(1)));
+
+        // expected
+        assertThatThrownBy(() -> Position.of(tradeLogs))
+                .isInstanceOf(TradeLogOverSold.class);
+    }
+
+    @Test
+    @DisplayName("매매이력 전체로 다시 계산한 결과는 하나씩 누적한 결과와 같다.")
+    void rebuild() {
+        // given
+        List<TradeLog> tradeLogs = List.of(
+                getTradeLog(BUY, getBD(10_000), getBD(2)),
+                getTradeLog(SELL, getBD(12_000), ONE),
+                getTradeLog(BUY, getBD(7_000), getBD(3)));
+
+        Position incremental = Position.empty();
+        for (TradeLog tradeLog : tradeLogs) {
+            incremental = incremental.apply(tradeLog);
+        }
+
+        // when
+        Position rebuilt = Position.of(tradeLogs);
+
+        // then
+        assertThat(rebuilt.getQuantity()).isEqualByComparingTo(incremental.getQuantity());
+        assertThat(rebuilt.getTotalCost()).isEqualByComparingTo(incremental.getTotalCost());
+        assertThat(rebuilt.getAvgPrice()).isEqualByComparingTo(incremental.getAvgPrice());
+        assertThat(rebuilt.getRealizedGain())
+                .isEqualByComparingTo(incremental.getRealizedGain());
+    }
+
+    @Test
+    @DisplayName("매매이력 전체로 다시 계산할 때는 전달된 순서가 아닌 거래일 순서로 누적한다.")
+    void rebuildInTradeDateOrder() {
+        // given
+        LocalDateTime tradeDate = LocalDateTime.of(2024, 1, 10, 9, 0);
+        List<TradeLog> tradeLogs = List.of(
+                getTradeLog(1L, BUY, getBD(10_000), getBD(2), tradeDate),
+                getTradeLog(2L, SELL, getBD(12_000), ONE, tradeDate.minusDays(1)),
+                getTradeLog(3L, BUY, getBD(7_000), ONE, tradeDate.minusDays(2)));
+
+        // when
+        Position result = Position.of(tradeLogs);
+
+        // then
+        assertThat(result.getQuantity()).isEqualByComparingTo(getBD(2));
+        assertThat(result.getTotalCost()).isEqualByComparingTo(getBD(20_000));
+        assertThat(result.getRealizedGain()).isEqualByComparingTo(getBD(5_000));
+    }
+
+    private TradeLog getTradeLog(TradeType type, BigDecimal price, BigDecimal quantity) {
+        return getTradeLog(null, type, price, quantity, null);
+    }
+
+    private TradeLog getTradeLog(Long id, TradeType type, BigDecimal price, BigDecimal quantity,
+            LocalDateTime tradeDate) {
+        return TradeLog.builder()
+                .id(id)
+                .type(type)
+                .price(price)
+                .quantity(quantity)
+                .tradeDate(tradeDate)
+                .build();
+    }
+}
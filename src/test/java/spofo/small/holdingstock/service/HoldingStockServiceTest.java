@@ -6,9 +6,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static spofo.global.component.utils.CommonUtils.getBD;
 import static spofo.global.domain.exception.ErrorCode.HOLDING_STOCK_NOT_FOUND;
+import static spofo.tradelog.domain.enums.CostMethod.FIFO;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.TradeType.SELL;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +22,7 @@ import spofo.holdingstock.domain.HoldingStock;
 import spofo.holdingstock.domain.HoldingStockCreate;
 import spofo.holdingstock.domain.HoldingStockStatistic;
 import spofo.holdingstock.service.HoldingStockServiceImpl;
+import spofo.holdingstock.service.HoldingStockWriter;
 import spofo.mock.FakeHoldingStockRepository;
 import spofo.mock.FakePortfolioRepository;
 import spofo.mock.FakePortfolioService;
@@ -28,6 +32,7 @@ import spofo.portfolio.domain.Portfolio;
 import spofo.stock.domain.Stock;
 import spofo.tradelog.domain.TradeLog;
 import spofo.tradelog.domain.TradeLogCreate;
+import spofo.tradelog.domain.enums.TradeType;
 
 public class HoldingStockServiceTest {
 
@@ -50,9 +55,9 @@ public class HoldingStockServiceTest {
         fakePortfolioService
                 = new FakePortfolioService(fakePortfolioRepository, fakeStockServerService);
         holdingStockService =
-                new HoldingStockServiceImpl(
-                        fakeTradeLogService, fakeHoldingStockRepository, fakeStockServerService
-                );
+                new HoldingStockServiceImpl(fakeTradeLogService, fakeHoldingStockRepository,
+                        fakeStockServerService,
+                        new HoldingStockWriter(fakeHoldingStockRepository, fakeTradeLogService));
 
         Stock stock = Stock.builder()
                 .code(TEST_STOCK_CODE)
@@ -160,6 +165,44 @@ public class HoldingStockServiceTest {
         assertThat(savedHoldingStock.getStockCode()).isEqualTo(TEST_STOCK_CODE);
     }
 
+    @Test
+    @DisplayName("보유종목이 없는 종목코드로 매매이력을 추가하면 보유종목을 만든다.")
+    void upsertWithNewHoldingStock() {
+        // given
+        Portfolio portfolio = getPortfolio(PORTFOLIO_ID);
+        HoldingStockCreate holdingStockCreate = HoldingStockCreate.builder()
+                .stockCode(TEST_STOCK_CODE)
+                .build();
+
+        // when
+        HoldingStock holdingStock = holdingStockService.upsert(holdingStockCreate,
+                getTradeLogCreate(), portfolio);
+
+        // then
+        assertThat(holdingStock.getId()).isEqualTo(1L);
+        assertThat(holdingStockService.getByPortfolioId(PORTFOLIO_ID)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("이미 보유한 종목코드로 매매이력을 추가하면 보유종목을 새로 만들지 않는다.")
+    void upsertWithExistingHoldingStock() {
+        // given
+        Portfolio portfolio = getPortfolio(PORTFOLIO_ID);
+        HoldingStock savedHoldingStock =
+                fakeHoldingStockRepository.save(getHoldingStock(TEST_STOCK_CODE, portfolio));
+        HoldingStockCreate holdingStockCreate = HoldingStockCreate.builder()
+                .stockCode(TEST_STOCK_CODE)
+                .build();
+
+        // when
+        HoldingStock holdingStock = holdingStockService.upsert(holdingStockCreate,
+                getTradeLogCreate(), portfolio);
+
+        // then
+        assertThat(holdingStock.getId()).isEqualTo(savedHoldingStock.getId());
+        assertThat(holdingStockService.getByPortfolioId(PORTFOLIO_ID)).hasSize(1);
+    }
+
     @Test
     @DisplayName("보유종목 1건을 삭제한다.")
     void deleteHoldingStock() {
@@ -272,6 +315,30 @@ public class HoldingStockServiceTest {
                 );
     }
 
+    @Test
+    @DisplayName("선입선출 방식으로 보유종목 1건의 통계를 만든다.")
+    void getStatisticWithFifo() {
+        // given
+        Portfolio portfolio = getPortfolio(PORTFOLIO_ID);
+        LocalDateTime tradeDate = LocalDateTime.of(2024, 1, 2, 9, 0);
+
+        HoldingStock holdingStock = getHoldingStock(TEST_STOCK_CODE, portfolio, List.of(
+                getTradeLog(SELL, getBD(25_000), ONE, tradeDate.plusDays(2)),
+                getTradeLog(BUY, getBD(10_000), ONE, tradeDate),
+                getTradeLog(BUY, getBD(20_000), ONE, tradeDate.plusDays(1))));
+
+        fakeHoldingStockRepository.save(holdingStock);
+
+        // when
+        HoldingStockStatistic statistic = holdingStockService.getStatistic(1L, FIFO);
+
+        // then
+        assertThat(statistic.getQuantity()).isEqualByComparingTo(ONE);
+        assertThat(statistic.getAvgPrice()).isEqualByComparingTo(getBD(20_000));
+        assertThat(statistic.getGain()).isEqualByComparingTo(getBD(46_000));
+        assertThat(statistic.getRealizedGain()).isEqualByComparingTo(getBD(15_000));
+    }
+
     @Test
     @DisplayName("보유종목의 종목코드로 보유종목의 존재여부를 조회한다.")
     void exists() {
@@ -340,10 +407,24 @@ public class HoldingStockServiceTest {
     }
 
     private TradeLog getTradeLog(BigDecimal price, BigDecimal quantity) {
+        return getTradeLog(BUY, price, quantity, null);
+    }
+
+    private TradeLog getTradeLog(TradeType type, BigDecimal price, BigDecimal quantity,
+            LocalDateTime tradeDate) {
         return TradeLog.builder()
-                .type(BUY)
+                .type(type)
                 .price(price)
                 .quantity(quantity)
+                .tradeDate(tradeDate)
+                .build();
+    }
+
+    private TradeLogCreate getTradeLogCreate() {
+        return TradeLogCreate.builder()
+                .type(BUY)
+                .price(getBD(66000))
+                .quantity(ONE)
                 .build();
     }
 }
@@ -44,6 +44,7 @@ public class PortfolioStatisticTest {
         assertThat(statistic.getTotalBuy()).isEqualTo(getBD(33000));
         assertThat(statistic.getTotalGain()).isEqualTo(getBD(33000));
         assertThat(statistic.getGainRate()).isEqualTo(getBD(100));
+        assertThat(statistic.isStale()).isFalse();
     }
 
     @Test
@@ -64,6 +65,25 @@ public class PortfolioStatisticTest {
         assertThat(portfolioStatistic.getTotalAsset()).isEqualTo(ZERO);
     }
 
+    @Test
+    @DisplayName("마지막 시세를 사용한 종목이 있으면 포트폴리오 통계에 stale로 표시한다.")
+    void createPortfolioStatisticWithStaleStock() {
+        // given
+        Portfolio portfolio = Portfolio.builder()
+                .includeType(Y)
+                .holdingStocks(List.of(getHoldingStock(getTradeLog())))
+                .build();
+        Map<String, Stock> stocks = Map.of(TEST_STOCK_CODE,
+                getStockMap().get(TEST_STOCK_CODE).stale());
+
+        // when
+        PortfolioStatistic statistic = PortfolioStatistic.of(portfolio, stocks);
+
+        // then
+        assertThat(statistic.isStale()).isTrue();
+        assertThat(statistic.getTotalAsset()).isEqualTo(getBD(66000));
+    }
+
     private HoldingStock getHoldingStock(TradeLog tradeLog) {
         return HoldingStock.builder()
                 .stockCode(TEST_STOCK_CODE)
@@ -7,14 +7,18 @@ import static spofo.portfolio.domain.enums.IncludeType.N;
 import static spofo.portfolio.domain.enums.IncludeType.Y;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import spofo.holdingstock.domain.HoldingStock;
 import spofo.portfolio.domain.Portfolio;
+import spofo.portfolio.domain.PortfolioSnapshot;
 import spofo.portfolio.domain.PortfolioStatistic;
 import spofo.portfolio.domain.TotalPortfoliosStatistic;
+import spofo.portfolio.domain.enums.IncludeType;
 import spofo.stock.domain.Stock;
 import spofo.tradelog.domain.TradeLog;
 
@@ -52,6 +56,80 @@ public class TotalPortofoliosStatisticTest {
         assertThat(statistic.getGainRate()).isEqualTo(getBD(100));
     }
 
+    @Test
+    @DisplayName("일간 수익률은 직전 스냅샷 대비 수익의 변화를 직전 스냅샷의 총 자산으로 나눈 값이다.")
+    void createPortfoliosStatisticWithPreviousSnapshot() {
+        // given
+        Portfolio portfolio = Portfolio.builder()
+                .id(1L)
+                .includeType(Y)
+                .holdingStocks(List.of(getHoldingStock(getTradeLog())))
+                .build();
+
+        PortfolioStatistic statistic = PortfolioStatistic.of(portfolio, getStockMap());
+        List<PortfolioSnapshot> previous =
+                List.of(getPortfolioSnapshot(1L, getBD(80000), getBD(33000)));
+
+        // when
+        TotalPortfoliosStatistic totalPortfoliosStatistic = TotalPortfoliosStatistic.of(
+                List.of(statistic), previous);
+
+        // then
+        // (33000 - 47000) / 80000
+        assertThat(totalPortfoliosStatistic.getDailyGainRate()).isEqualByComparingTo(getBD(-17.5));
+    }
+
+    @Test
+    @DisplayName("직전 스냅샷이 없는 포트폴리오는 일간 수익률 계산에서 제외된다.")
+    void createPortfoliosStatisticWithoutPreviousSnapshot() {
+        // given
+        Portfolio portfolio1 = Portfolio.builder()
+                .id(1L)
+                .includeType(Y)
+                .holdingStocks(List.of(getHoldingStock(getTradeLog())))
+                .build();
+        Portfolio portfolio2 = Portfolio.builder()
+                .id(2L)
+                .includeType(Y)
+                .holdingStocks(List.of(getHoldingStock(getTradeLog())))
+                .build();
+
+        List<PortfolioStatistic> statistics = List.of(
+                PortfolioStatistic.of(portfolio1, getStockMap()),
+                PortfolioStatistic.of(portfolio2, getStockMap()));
+        List<PortfolioSnapshot> previous =
+                List.of(getPortfolioSnapshot(1L, getBD(80000), getBD(33000)));
+
+        // when
+        TotalPortfoliosStatistic totalPortfoliosStatistic =
+                TotalPortfoliosStatistic.of(statistics, previous);
+
+        // then
+        assertThat(totalPortfoliosStatistic.getTotalAsset()).isEqualTo(getBD(132000));
+        assertThat(totalPortfoliosStatistic.getDailyGainRate()).isEqualByComparingTo(getBD(-17.5));
+    }
+
+    @Test
+    @DisplayName("직전 스냅샷의 총 자산이 0이면 일간 수익률은 0이다.")
+    void createPortfoliosStatisticWithEmptyPreviousSnapshot() {
+        // given
+        Portfolio portfolio = Portfolio.builder()
+                .id(1L)
+                .includeType(Y)
+                .holdingStocks(List.of(getHoldingStock(getTradeLog())))
+                .build();
+
+        PortfolioStatistic statistic = PortfolioStatistic.of(portfolio, getStockMap());
+        List<PortfolioSnapshot> previous = List.of(getPortfolioSnapshot(1L, ZERO, ZERO));
+
+        // when
+        TotalPortfoliosStatistic totalPortfoliosStatistic = TotalPortfoliosStatistic.of(
+                List.of(statistic), previous);
+
+        // then
+        assertThat(totalPortfoliosStatistic.getDailyGainRate()).isEqualByComparingTo(ZERO);
+    }
+
     @Test
     @DisplayName("포함 여부가 Y인 포트폴리오는 통계 계산에 포함된다.")
     void createPortfoliosStatisticWithIncludeIsYPortfolio() {
@@ -120,6 +198,31 @@ public class TotalPortofoliosStatisticTest {
         assertThat(statistic.getGainRate()).isEqualTo(ZERO);
     }
 
+    @Test
+    @DisplayName("포함 여부가 Y인 포트폴리오의 실현 손익만 합산한다.")
+    void sumRealizedGainOfIncludedPortfolios() {
+        // given
+        PortfolioStatistic included = getStatistic(Y, getBD(1000));
+        PortfolioStatistic excluded = getStatistic(N, getBD(500));
+
+        // when
+        TotalPortfoliosStatistic statistic = TotalPortfoliosStatistic.of(
+                List.of(included, excluded));
+
+        // then
+        assertThat(statistic.getRealizedGain()).isEqualByComparingTo(getBD(1000));
+    }
+
+    private PortfolioStatistic getStatistic(IncludeType includeType, BigDecimal realizedGain) {
+        return PortfolioStatistic.builder()
+                .portfolio(Portfolio.builder().includeType(includeType).build())
+                .totalAsset(ZERO)
+                .totalBuy(ZERO)
+                .totalGain(ZERO)
+                .totalRealizedGain(realizedGain)
+                .build();
+    }
+
     private HoldingStock getHoldingStock(TradeLog tradeLog) {
         return HoldingStock.builder()
                 .stockCode(TEST_STOCK_CODE)
@@ -145,4 +248,15 @@ public class TotalPortofoliosStatisticTest {
 
         return Map.of(TEST_STOCK_CODE, stock);
     }
+
+    private PortfolioSnapshot getPortfolioSnapshot(Long portfolioId, BigDecimal totalAsset,
+            BigDecimal totalBuy) {
+        return PortfolioSnapshot.builder()
+                .portfolioId(portfolioId)
+                .memberId(1L)
+                .snapshotDate(LocalDate.of(2024, 1, 2))
+                .totalAsset(totalAsset)
+                .totalBuy(totalBuy)
+                .build();
+    }
 }
@@ -6,11 +6,10 @@ import static spofo.portfolio.domain.enums.Currency.KRW;
 import static spofo.portfolio.domain.enums.IncludeType.Y;
 import static spofo.portfolio.domain.enums.PortfolioType.FAKE;
 
-import java.util.Set;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import spofo.holdingstock.domain.HoldingStock;
-import spofo.holdingstock.infrastructure.HoldingStockEntity;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.infrastructure.PortfolioEntity;
 
@@ -36,7 +35,7 @@ public class PortfolioEntityTest {
     }
 
     @Test
-    @DisplayName("포트폴리오 엔티티로 포트폴리오를 만든다.")
+    @DisplayName("따로 조회한 보유종목으로 포트폴리오 엔티티로 포트폴리오를 만든다.")
     void PortfolioEntityToPortfolioWithHoldingStocks() {
         // given
         Portfolio portfolio = createPortfolio();
@@ -46,11 +45,8 @@ public class PortfolioEntityTest {
                 .portfolio(portfolio)
                 .build();
 
-        setField(portfolioEntity, "holdingStockEntities",
-                Set.of(HoldingStockEntity.from(holdingStock)));
-
         // when
-        Portfolio model = portfolioEntity.toModel();
+        Portfolio model = portfolioEntity.toModel(List.of(holdingStock));
 
         // then
         assertThat(model.getId()).isEqualTo(1L);
@@ -64,11 +60,12 @@ public class PortfolioEntityTest {
     }
 
     @Test
-    @DisplayName("HoldingStock가 없을 때 포트폴리오 엔티티로 포트폴리오를 만든다.")
+    @DisplayName("보유종목 컬렉션을 초기화하지 않고 포트폴리오 엔티티로 포트폴리오 정보만 만든다.")
     void PortfolioEntityToPortfolioWithoutHoldingStocks() {
         // given
         Portfolio portfolio = createPortfolio();
         PortfolioEntity portfolioEntity = PortfolioEntity.from(portfolio);
+        setField(portfolioEntity, "holdingStockEntities", null);
 
         // when
         Portfolio model = portfolioEntity.toModel();
@@ -81,7 +78,7 @@ public class PortfolioEntityTest {
         assertThat(model.getCurrency()).isEqualTo(KRW);
         assertThat(model.getIncludeType()).isEqualTo(Y);
         assertThat(model.getType()).isEqualTo(FAKE);
-        assertThat(model.getHoldingStocks()).hasSize(0);
+        assertThat(model.getHoldingStocks()).isNull();
     }
 
     private Portfolio createPortfolio() {
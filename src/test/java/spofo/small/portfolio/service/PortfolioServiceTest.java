@@ -8,13 +8,23 @@ import static org.mockito.ArgumentMatchers.any;
 import static spofo.global.component.utils.CommonUtils.getBD;
 import static spofo.global.domain.exception.ErrorCode.PORTFOLIO_NOT_FOUND;
 import static spofo.portfolio.domain.enums.Currency.KRW;
+import static spofo.portfolio.domain.enums.HistoryRange.ALL;
+import static spofo.portfolio.domain.enums.HistoryRange.ONE_MONTH;
+import static spofo.portfolio.domain.enums.HistoryResolution.DAILY;
+import static spofo.portfolio.domain.enums.HistoryResolution.MONTHLY;
 import static spofo.portfolio.domain.enums.IncludeType.N;
 import static spofo.portfolio.domain.enums.IncludeType.Y;
 import static spofo.portfolio.domain.enums.PortfolioType.FAKE;
 import static spofo.portfolio.domain.enums.PortfolioType.LINK;
 import static spofo.portfolio.domain.enums.PortfolioType.REAL;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
 
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,11 +34,15 @@ import spofo.holdingstock.domain.HoldingStock;
 import spofo.mock.FakeHoldingStockRepository;
 import spofo.mock.FakeHoldingStockService;
 import spofo.mock.FakePortfolioRepository;
+import spofo.mock.FakePortfolioSnapshotRepository;
 import spofo.mock.FakeStockServerService;
 import spofo.portfolio.controller.port.PortfolioService;
 import spofo.portfolio.controller.request.PortfolioSearchCondition;
+import spofo.portfolio.domain.MemberSnapshot;
 import spofo.portfolio.domain.Portfolio;
 import spofo.portfolio.domain.PortfolioCreate;
+import spofo.portfolio.domain.PortfolioHistory;
+import spofo.portfolio.domain.PortfolioSnapshot;
 import spofo.portfolio.domain.PortfolioStatistic;
 import spofo.portfolio.domain.PortfolioUpdate;
 import spofo.portfolio.domain.TotalPortfoliosStatistic;
@@ -46,6 +60,8 @@ public class PortfolioServiceTest {
     private FakeHoldingStockService fakeHoldingStockService;
     private FakePortfolioRepository fakePortfolioRepository;
     private FakeHoldingStockRepository fakeHoldingStockRepository;
+    private FakePortfolioSnapshotRepository fakePortfolioSnapshotRepository;
+    private final LocalDate TODAY = LocalDate.of(2024, 1, 3);
     private final String TEST_STOCK_CODE = "101001";
 
     @BeforeEach
@@ -54,8 +70,12 @@ public class PortfolioServiceTest {
         fakePortfolioRepository = new FakePortfolioRepository();
         fakeStockServerService = new FakeStockServerService();
         fakeHoldingStockService = new FakeHoldingStockService(fakeHoldingStockRepository);
+        fakePortfolioSnapshotRepository = new FakePortfolioSnapshotRepository();
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        Instant now = TODAY.atTime(10, 0).atZone(zone).toInstant();
         portfolioService = new PortfolioServiceImpl(fakePortfolioRepository,
-                fakeHoldingStockService, fakeStockServerService);
+                fakeHoldingStockService, fakeStockServerService, fakePortfolioSnapshotRepository,
+                Clock.fixed(now, zone));
 
         Stock stock = Stock.builder()
                 .code(TEST_STOCK_CODE)
@@ -99,6 +119,83 @@ public class PortfolioServiceTest {
         assertThat(totalPortfoliosStatistic.getGainRate()).isEqualTo(getBD(100));
     }
 
+    @Test
+    @DisplayName("일간 수익률은 오늘 이전의 가장 최근 포트폴리오 스냅샷 대비 수익의 변화이다.")
+    void getPortfoliosStatisticWithDailyGainRate() {
+        // given
+        Long memberId = 1L;
+        fakePortfolioRepository.save(getPortfolio(memberId, Y));
+        saveSnapshots(memberId, List.of(1L));
+
+        // when
+        TotalPortfoliosStatistic totalPortfoliosStatistic = portfolioService.getPortfoliosStatistic(
+                memberId, new PortfolioSearchCondition());
+
+        // then
+        // (33000 - (60000 - 33000)) / 60000
+        assertThat(totalPortfoliosStatistic.getDailyGainRate()).isEqualByComparingTo(getBD(10));
+    }
+
+    @Test
+    @DisplayName("포트폴리오를 삭제해도 남은 포트폴리오의 스냅샷과 비교하므로 일간 수익률이 튀지 않는다.")
+    void getPortfoliosStatisticAfterDelete() {
+        // given
+        Long memberId = 1L;
+        fakePortfolioRepository.save(getPortfolio(memberId, Y));
+        fakePortfolioRepository.save(getPortfolio(memberId, Y));
+        saveSnapshots(memberId, List.of(1L, 2L));
+
+        // when
+        portfolioService.delete(2L);
+        TotalPortfoliosStatistic totalPortfoliosStatistic = portfolioService.getPortfoliosStatistic(
+                memberId, new PortfolioSearchCondition());
+
+        // then
+        assertThat(totalPortfoliosStatistic.getDailyGainRate()).isEqualByComparingTo(getBD(10));
+    }
+
+    @Test
+    @DisplayName("합계에서 제외한 포트폴리오의 스냅샷은 일간 수익률 계산에서도 제외된다.")
+    void getPortfoliosStatisticWithExcludedSnapshot() {
+        // given
+        Long memberId = 1L;
+        fakePortfolioRepository.save(getPortfolio(memberId, Y));
+        fakePortfolioRepository.save(getPortfolio(memberId, N));
+        saveSnapshots(memberId, List.of(1L, 2L));
+
+        // when
+        TotalPortfoliosStatistic totalPortfoliosStatistic = portfolioService.getPortfoliosStatistic(
+                memberId, new PortfolioSearchCondition());
+
+        // then
+        assertThat(totalPortfoliosStatistic.getDailyGainRate()).isEqualByComparingTo(getBD(10));
+    }
+
+    @Test
+    @DisplayName("회원 스냅샷이 없으면 일간 수익률은 0이다.")
+    void getPortfoliosStatisticWithNoSnapshot() {
+        // given
+        Long memberId = 1L;
+        TradeLog tradeLog = getTradeLog();
+        HoldingStock holdingStock = getHoldingStock(tradeLog);
+
+        Portfolio portfolio = Portfolio.builder()
+                .memberId(memberId)
+                .includeType(Y)
+                .type(REAL)
+                .holdingStocks(List.of(holdingStock))
+                .build();
+
+        fakePortfolioRepository.save(portfolio);
+
+        // when
+        TotalPortfoliosStatistic totalPortfoliosStatistic = portfolioService.getPortfoliosStatistic(
+                memberId, new PortfolioSearchCondition());
+
+        // then
+        assertThat(totalPortfoliosStatistic.getDailyGainRate()).isEqualByComparingTo(ZERO);
+    }
+
     @Test
     @DisplayName("포트폴리오 포함여부가 N인 포트폴리오는 전체 통계 계산 시 제외된다.")
     void getPortfoliosStatisticWithNoInclude() {
@@ -408,7 +505,7 @@ public class PortfolioServiceTest {
         fakePortfolioRepository.save(portfolio);
 
         // when
-        PortfolioStatistic statistic = portfolioService.getPortfolioStatistic(1L);
+        PortfolioStatistic statistic = portfolioService.getPortfolioStatistic(1L, AVERAGE);
 
         // then
         Portfolio savedPortfolio = statistic.getPortfolio();
@@ -515,6 +612,61 @@ public class PortfolioServiceTest {
                 .hasMessage(PORTFOLIO_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("평가 금액 추이는 조회 기간 이후의 스냅샷을 기본 간격으로 조회한다.")
+    void getPortfolioHistory() {
+        // given
+        Portfolio portfolio = fakePortfolioRepository.save(Portfolio.builder().build());
+        fakePortfolioSnapshotRepository.saveAll(List.of(
+                getPortfolioSnapshot(portfolio.getId(), TODAY.minusDays(40)),
+                getPortfolioSnapshot(portfolio.getId(), TODAY.minusDays(2)),
+                getPortfolioSnapshot(portfolio.getId(), TODAY.minusDays(1))));
+
+        // when
+        PortfolioHistory history = portfolioService.getPortfolioHistory(portfolio.getId(),
+                ONE_MONTH, null);
+
+        // then
+        assertThat(history.getResolution()).isEqualTo(DAILY);
+        assertThat(history.getPoints())
+                .extracting(PortfolioSnapshot::getSnapshotDate)
+                .containsExactly(TODAY.minusDays(2), TODAY.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("전체 기간은 더 촘촘한 간격을 요청해도 월별 집계로 조회한다.")
+    void getPortfolioHistoryWithAllRange() {
+        // given
+        Portfolio portfolio = fakePortfolioRepository.save(Portfolio.builder().build());
+        List<PortfolioSnapshot> snapshots = List.of(
+                getPortfolioSnapshot(portfolio.getId(), LocalDate.of(2023, 11, 30)),
+                getPortfolioSnapshot(portfolio.getId(), LocalDate.of(2023, 12, 1)),
+                getPortfolioSnapshot(portfolio.getId(), LocalDate.of(2023, 12, 29)),
+                getPortfolioSnapshot(portfolio.getId(), TODAY.minusDays(1)));
+        fakePortfolioSnapshotRepository.saveAll(snapshots);
+        fakePortfolioSnapshotRepository.saveRollups(snapshots);
+
+        // when
+        PortfolioHistory history = portfolioService.getPortfolioHistory(portfolio.getId(),
+                ALL, DAILY);
+
+        // then
+        assertThat(history.getResolution()).isEqualTo(MONTHLY);
+        assertThat(history.getPoints())
+                .extracting(PortfolioSnapshot::getSnapshotDate)
+                .containsExactly(LocalDate.of(2023, 11, 30), LocalDate.of(2023, 12, 29),
+                        TODAY.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 포트폴리오의 평가 금액 추이를 조회하면 예외가 발생한다.")
+    void getPortfolioHistoryWithNoResult() {
+        // expected
+        assertThatThrownBy(() -> portfolioService.getPortfolioHistory(1L, ONE_MONTH, null))
+                .isInstanceOf(PortfolioNotFound.class)
+                .hasMessage(PORTFOLIO_NOT_FOUND.getMessage());
+    }
+
     @Test
     @DisplayName("보유종목이 없을 때 포트폴리오 1건을 삭제한다.")
     void deletePortfolio() {
@@ -582,4 +734,55 @@ public class PortfolioServiceTest {
                 .quantity(getBD(1))
                 .build();
     }
+
+    private Portfolio getPortfolio(Long memberId, IncludeType includeType) {
+        return Portfolio.builder()
+                .memberId(memberId)
+                .includeType(includeType)
+                .type(REAL)
+                .holdingStocks(List.of(getHoldingStock(getTradeLog())))
+                .build();
+    }
+
+    /**
+     * 포트폴리오마다 이틀 전, 어제, 오늘의 스냅샷과 그날의 회원 스냅샷을 저장한다.
+     * 오늘 이전의 가장 최근 스냅샷은 어제의 평가 금액 60000, 매입 원가 33000이다.
+     */
+    private void saveSnapshots(Long memberId, List<Long> portfolioIds) {
+        List<LocalDate> dates = List.of(TODAY.minusDays(2), TODAY.minusDays(1), TODAY);
+        List<BigDecimal> totalAssets = List.of(getBD(50000), getBD(60000), getBD(70000));
+        for (int i = 0; i < dates.size(); i++) {
+            LocalDate date = dates.get(i);
+            BigDecimal totalAsset = totalAssets.get(i);
+            fakePortfolioSnapshotRepository.saveAll(portfolioIds.stream()
+                    .map(portfolioId -> getPortfolioSnapshot(portfolioId, date, totalAsset))
+                    .toList());
+            fakePortfolioSnapshotRepository.saveAllMemberSnapshots(List.of(getMemberSnapshot(
+                    memberId, date, totalAsset.multiply(getBD(portfolioIds.size())))));
+        }
+    }
+
+    private MemberSnapshot getMemberSnapshot(Long memberId, LocalDate snapshotDate,
+            BigDecimal totalAsset) {
+        return MemberSnapshot.builder()
+                .memberId(memberId)
+                .snapshotDate(snapshotDate)
+                .totalAsset(totalAsset)
+                .totalBuy(getBD(33000))
+                .build();
+    }
+
+    private PortfolioSnapshot getPortfolioSnapshot(Long portfolioId, LocalDate snapshotDate) {
+        return getPortfolioSnapshot(portfolioId, snapshotDate, getBD(66000));
+    }
+
+    private PortfolioSnapshot getPortfolioSnapshot(Long portfolioId, LocalDate snapshotDate,
+            BigDecimal totalAsset) {
+        return PortfolioSnapshot.builder()
+                .portfolioId(portfolioId)
+                .snapshotDate(snapshotDate)
+                .totalAsset(totalAsset)
+                .totalBuy(getBD(33000))
+                .build();
+    }
 }
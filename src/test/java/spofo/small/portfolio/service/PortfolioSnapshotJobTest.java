@@ -0,0 +1,201 @@
+package spofo.small.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.portfolio.domain.enums.HistoryResolution.MONTHLY;
+import static spofo.portfolio.domain.enums.HistoryResolution.WEEKLY;
+import static spofo.portfolio.domain.enums.IncludeType.N;
+import static spofo.portfolio.domain.enums.IncludeType.Y;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.global.config.portfolio.PortfolioSnapshotProperties;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.mock.FakePortfolioRepository;
+import spofo.mock.FakePortfolioSnapshotRepository;
+import spofo.mock.FakeStockServerService;
+import spofo.portfolio.domain.MemberSnapshot;
+import spofo.portfolio.domain.Portfolio;
+import spofo.portfolio.domain.PortfolioSnapshot;
+import spofo.portfolio.domain.enums.IncludeType;
+import spofo.portfolio.service.PortfolioSnapshotJob;
+import spofo.portfolio.service.PortfolioSnapshotWriter;
+import spofo.stock.domain.Stock;
+import spofo.tradelog.domain.TradeLog;
+
+public class PortfolioSnapshotJobTest {
+
+    private static final String TEST_STOCK_CODE = "101001";
+    private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2024, 1, 2);
+
+    private FakePortfolioRepository fakePortfolioRepository;
+    private FakePortfolioSnapshotRepository fakePortfolioSnapshotRepository;
+    private FakeStockServerService fakeStockServerService;
+    private PortfolioSnapshotJob portfolioSnapshotJob;
+
+    @BeforeEach
+    void setup() {
+        fakePortfolioRepository = new FakePortfolioRepository();
+        fakePortfolioSnapshotRepository = new FakePortfolioSnapshotRepository();
+        fakeStockServerService = new FakeStockServerService();
+        fakeStockServerService.save(getStock());
+
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        PortfolioSnapshotProperties properties = new PortfolioSnapshotProperties(
+                true, "0 0 18-23 * * MON-FRI", zone, 2, 2, 1);
+        portfolioSnapshotJob = new PortfolioSnapshotJob(fakePortfolioRepository,
+                fakePortfolioSnapshotRepository,
+                new PortfolioSnapshotWriter(fakePortfolioSnapshotRepository),
+                fakeStockServerService, Runnable::run, Clock.system(zone), properties);
+    }
+
+    @Test
+    @DisplayName("모든 회원의 포트폴리오 스냅샷과 회원 스냅샷을 저장한다.")
+    void snapshotAllMembers() {
+        // given
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            savePortfolio(memberId, Y);
+        }
+
+        // when
+        int saved = portfolioSnapshotJob.run(SNAPSHOT_DATE);
+
+        // then
+        assertThat(saved).isEqualTo(5);
+        assertThat(fakePortfolioSnapshotRepository.getPortfolioSnapshots())
+                .hasSize(5)
+                .extracting(PortfolioSnapshot::getSnapshotDate, PortfolioSnapshot::getTotalAsset,
+                        PortfolioSnapshot::getTotalBuy)
+                .containsOnly(tuple(SNAPSHOT_DATE, getBD(66000), getBD(33000)));
+        assertThat(fakePortfolioSnapshotRepository.getMemberSnapshots())
+                .extracting(MemberSnapshot::getMemberId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("회원 스냅샷은 포함 여부가 Y인 포트폴리오만 합산한다.")
+    void snapshotMemberWithIncludedPortfolios() {
+        // given
+        savePortfolio(1L, Y);
+        savePortfolio(1L, N);
+
+        // when
+        portfolioSnapshotJob.run(SNAPSHOT_DATE);
+
+        // then
+        assertThat(fakePortfolioSnapshotRepository.getPortfolioSnapshots()).hasSize(2);
+        assertThat(fakePortfolioSnapshotRepository.getMemberSnapshots())
+                .extracting(MemberSnapshot::getTotalAsset, MemberSnapshot::getTotalBuy)
+                .containsExactly(tuple(getBD(66000), getBD(33000)));
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 같은 날짜의 스냅샷이 저장된 회원은 건너뛴다.")
+    void resumeSkipsSavedMembers() {
+        // given
+        for (long memberId = 1; memberId <= 3; memberId++) {
+            savePortfolio(memberId, Y);
+        }
+        portfolioSnapshotJob.run(SNAPSHOT_DATE);
+        savePortfolio(4L, Y);
+
+        // when
+        int saved = portfolioSnapshotJob.run(SNAPSHOT_DATE);
+
+        // then
+        assertThat(saved).isEqualTo(1);
+        assertThat(fakePortfolioSnapshotRepository.getPortfolioSnapshots()).hasSize(4);
+        assertThat(fakePortfolioSnapshotRepository.getMemberSnapshots()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("다음 날짜의 스냅샷은 새로 저장한다.")
+    void snapshotNextDate() {
+        // given
+        savePortfolio(1L, Y);
+        portfolioSnapshotJob.run(SNAPSHOT_DATE);
+
+        // when
+        int saved = portfolioSnapshotJob.run(SNAPSHOT_DATE.plusDays(1));
+
+        // then
+        assertThat(saved).isEqualTo(1);
+        assertThat(fakePortfolioSnapshotRepository.getMemberSnapshots())
+                .extracting(MemberSnapshot::getSnapshotDate)
+                .containsExactly(SNAPSHOT_DATE, SNAPSHOT_DATE.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("주별, 월별 집계는 구간의 마지막 스냅샷을 저장한다.")
+    void rollupLastSnapshotOfBucket() {
+        // given
+        savePortfolio(1L, Y);
+        LocalDate friday = LocalDate.of(2024, 1, 5);
+
+        // when
+        portfolioSnapshotJob.run(SNAPSHOT_DATE);
+        portfolioSnapshotJob.run(friday);
+        portfolioSnapshotJob.run(friday.plusDays(3));
+
+        // then
+        assertThat(fakePortfolioSnapshotRepository.findHistory(1L, WEEKLY, LocalDate.EPOCH))
+                .extracting(PortfolioSnapshot::getSnapshotDate)
+                .containsExactly(friday, friday.plusDays(3));
+        assertThat(fakePortfolioSnapshotRepository.findHistory(1L, MONTHLY, LocalDate.EPOCH))
+                .extracting(PortfolioSnapshot::getSnapshotDate)
+                .containsExactly(friday.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("마지막 시세로 평가된 회원은 저장하지 않고 다음 실행에서 다시 평가한다.")
+    void skipMembersWithStaleQuotes() {
+        // given
+        savePortfolio(1L, Y);
+        fakeStockServerService.save(getStock().stale());
+
+        // when
+        int staleSaved = portfolioSnapshotJob.run(SNAPSHOT_DATE);
+        fakeStockServerService.save(getStock());
+        int saved = portfolioSnapshotJob.run(SNAPSHOT_DATE);
+
+        // then
+        assertThat(staleSaved).isZero();
+        assertThat(saved).isEqualTo(1);
+        assertThat(fakePortfolioSnapshotRepository.getMemberSnapshots()).hasSize(1);
+    }
+
+    private Stock getStock() {
+        return Stock.builder()
+                .code(TEST_STOCK_CODE)
+                .name("삼성전자")
+                .price(getBD(66000))
+                .sector("반도체")
+                .build();
+    }
+
+    private void savePortfolio(Long memberId, IncludeType includeType) {
+        TradeLog tradeLog = TradeLog.builder()
+                .type(BUY)
+                .price(getBD(33000))
+                .quantity(BigDecimal.ONE)
+                .build();
+        HoldingStock holdingStock = HoldingStock.builder()
+                .stockCode(TEST_STOCK_CODE)
+                .tradeLogs(List.of(tradeLog))
+                .build();
+
+        fakePortfolioRepository.save(Portfolio.builder()
+                .memberId(memberId)
+                .includeType(includeType)
+                .holdingStocks(List.of(holdingStock))
+                .build());
+    }
+}
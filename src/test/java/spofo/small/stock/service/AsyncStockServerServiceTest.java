@@ -0,0 +1,108 @@
+package spofo.small.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static spofo.global.component.utils.CommonUtils.getBD;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import spofo.global.config.stock.StockFetchProperties;
+import spofo.global.domain.exception.StockServerTimeout;
+import spofo.mock.FakeStockServerService;
+import spofo.stock.domain.Stock;
+import spofo.stock.service.AsyncStockServerService;
+import spofo.stock.service.StockServerService;
+
+public class AsyncStockServerServiceTest {
+
+    private SlowStockServerService slowStockServerService;
+    private StockServerService stockServerService;
+
+    @BeforeEach
+    void setup() {
+        slowStockServerService = new SlowStockServerService();
+        slowStockServerService.save(Stock.builder()
+                .code("005930")
+                .name("삼성전자")
+                .price(getBD(66000))
+                .build());
+
+        stockServerService = new AsyncStockServerService(slowStockServerService,
+                new SimpleAsyncTaskExecutor(),
+                new StockFetchProperties(Duration.ofMillis(200), 1));
+    }
+
+    @Test
+    @DisplayName("비동기 목록조회는 다른 스레드에서 주식 시세를 조회한다.")
+    void getStocksAsync() {
+        // given
+        slowStockServerService.release.countDown();
+
+        // when
+        Map<String, Stock> stocks = stockServerService.getStocksAsync(List.of("005930")).join();
+
+        // then
+        assertThat(stocks).containsOnlyKeys("005930");
+        assertThat(slowStockServerService.calledThread).isNotEqualTo(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("timeout이 지나면 StockServerTimeout으로 완료되고 조회 스레드를 인터럽트한다.")
+    void getStocksAsyncTimeout() throws InterruptedException {
+        // when
+        CompletableFuture<Map<String, Stock>> future =
+                stockServerService.getStocksAsync(List.of("005930"));
+
+        // then
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(StockServerTimeout.class);
+        assertThat(slowStockServerService.interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("결과를 취소하면 조회 스레드를 인터럽트한다.")
+    void cancelGetStocksAsync() throws InterruptedException {
+        // given
+        CompletableFuture<Map<String, Stock>> future =
+                stockServerService.getStocksAsync(List.of("005930"));
+        slowStockServerService.started.await(1, TimeUnit.SECONDS);
+
+        // when
+        future.cancel(true);
+
+        // then
+        assertThat(slowStockServerService.interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static class SlowStockServerService extends FakeStockServerService {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private volatile Thread calledThread;
+
+        @Override
+        public Map<String, Stock> getStocks(List<String> stockCodes) {
+            calledThread = Thread.currentThread();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return super.getStocks(stockCodes);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package spofo.small.stock.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static spofo.global.component.utils.CommonUtils.getBD;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.global.config.stock.StockBatchingProperties;
+import spofo.mock.FakeStockServerService;
+import spofo.stock.domain.Stock;
+import spofo.stock.service.BatchingStockServerService;
+import spofo.stock.service.StockServerService;
+
+public class BatchingStockServerServiceTest {
+
+    private RecordingStockServerService recordingStockServerService;
+
+    @BeforeEach
+    void setup() {
+        recordingStockServerService = new RecordingStockServerService();
+        List.of("A", "B", "C").forEach(code -> recordingStockServerService.save(
+                Stock.builder().code(code).price(getBD(1000)).build()));
+    }
+
+    @Test
+    @DisplayName("maxBatchSize만큼 단건 조회가 모이면 window를 기다리지 않고 한 번에 조회한다.")
+    void fetchWhenBatchIsFull() throws Exception {
+        // given
+        StockServerService stockServerService = getBatchingService(Duration.ofMinutes(1), 3);
+
+        // when
+        List<CompletableFuture<Stock>> futures = List.of("A", "B", "C").stream()
+                .map(code -> CompletableFuture.supplyAsync(
+                        () -> stockServerService.getStock(code)))
+                .toList();
+
+        // then
+        for (CompletableFuture<Stock> future : futures) {
+            assertThat(future.get(5, SECONDS)).isNotNull();
+        }
+        assertThat(recordingStockServerService.batches).hasSize(1);
+        assertThat(recordingStockServerService.batches.get(0))
+                .containsExactlyInAnyOrder("A", "B", "C");
+    }
+
+    @Test
+    @DisplayName("window가 지나면 모인 단건 조회만 조회한다.")
+    void fetchWhenWindowElapsed() {
+        // given
+        StockServerService stockServerService = getBatchingService(Duration.ofMillis(10), 100);
+
+        // when
+        Stock stock = stockServerService.getStock("A");
+
+        // then
+        assertThat(stock.getCode()).isEqualTo("A");
+        assertThat(recordingStockServerService.batches).containsExactly(List.of("A"));
+    }
+
+    private StockServerService getBatchingService(Duration window, int maxBatchSize) {
+        StockBatchingProperties properties =
+                new StockBatchingProperties(true, window, maxBatchSize);
+        return new BatchingStockServerService(recordingStockServerService, properties,
+                new SimpleMeterRegistry());
+    }
+
+    private static class RecordingStockServerService extends FakeStockServerService {
+
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Map<String, Stock> getStocks(List<String> stockCodes) {
+            batches.add(List.copyOf(stockCodes));
+            Map<String, Stock> stocks = super.getStocks(stockCodes);
+            return stockCodes.stream()
+                    .collect(toMap(code -> code, stocks::get));
+        }
+    }
+}
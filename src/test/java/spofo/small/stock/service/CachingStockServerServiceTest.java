@@ -0,0 +1,164 @@
+package spofo.small.stock.service;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static spofo.global.component.utils.CommonUtils.getBD;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.global.config.stock.StockCacheProperties;
+import spofo.mock.FakeStockServerService;
+import spofo.stock.domain.Stock;
+import spofo.stock.service.CachingStockServerService;
+import spofo.stock.service.StockServerService;
+
+public class CachingStockServerServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-02T00:00:00Z");
+
+    private StockServerService stockServerService;
+    private CountingStockServerService countingStockServerService;
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setup() {
+        countingStockServerService = new CountingStockServerService();
+        countingStockServerService.save(getStock("005930", 66000));
+        countingStockServerService.save(getStock("000660", 120000));
+
+        StockCacheProperties properties =
+                new StockCacheProperties(Duration.ofMinutes(1), Duration.ofSeconds(30), 100);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        stockServerService = new CachingStockServerService(countingStockServerService,
+                properties, clock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 종목을 다시 조회하면 주식 서버를 호출하지 않는다.")
+    void getStockFromCache() {
+        // given
+        stockServerService.getStock("005930");
+
+        // when
+        Stock stock = stockServerService.getStock("005930");
+
+        // then
+        assertThat(stock.getPrice()).isEqualTo(getBD(66000));
+        assertThat(countingStockServerService.callCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록조회 시 캐시에 없는 종목만 주식 서버에서 조회한다.")
+    void getStocksOnlyMissingCodes() {
+        // given
+        stockServerService.getStock("005930");
+
+        // when
+        Map<String, Stock> stocks = stockServerService.getStocks(List.of("005930", "000660"));
+
+        // then
+        assertThat(stocks).containsOnlyKeys("005930", "000660");
+        assertThat(countingStockServerService.requestedCodes).containsExactly("000660");
+    }
+
+    @Test
+    @DisplayName("캐시 적중과 실패 횟수를 메트릭으로 기록한다.")
+    void recordHitAndMiss() {
+        // given
+        stockServerService.getStock("005930");
+
+        // when
+        stockServerService.getStock("005930");
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에서 꺼낸 시세에는 주식 서버에서 가져온 시각이 담겨 있다.")
+    void keepQuotedAtOfCachedStock() {
+        // given
+        stockServerService.getStocks(List.of("005930", "000660"));
+        clock.advance(Duration.ofSeconds(10));
+
+        // when
+        Map<String, Stock> stocks = stockServerService.getStocks(List.of("005930", "000660"));
+
+        // then
+        assertThat(countingStockServerService.callCount).isEqualTo(1);
+        assertThat(stocks.get("005930").getQuotedAt()).isEqualTo(NOW);
+        assertThat(stocks.get("000660").getQuotedAt()).isEqualTo(NOW);
+    }
+
+    private Stock getStock(String code, long price) {
+        return Stock.builder()
+                .code(code)
+                .price(getBD(price))
+                .build();
+    }
+
+    private static class CountingStockServerService extends FakeStockServerService {
+
+        private int callCount = 0;
+        private List<String> requestedCodes = List.of();
+
+        @Override
+        public Stock getStock(String stockCode) {
+            callCount++;
+            return super.getStock(stockCode);
+        }
+
+        @Override
+        public Map<String, Stock> getStocks(List<String> stockCodes) {
+            callCount++;
+            requestedCodes = stockCodes;
+            Map<String, Stock> stocks = super.getStocks(stockCodes);
+            return stockCodes.stream()
+                    .filter(stocks::containsKey)
+                    .collect(toMap(code -> code, stocks::get));
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package spofo.small.stock.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static spofo.global.component.utils.CommonUtils.getBD;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.global.config.stock.StockCoalescingProperties;
+import spofo.mock.FakeStockServerService;
+import spofo.stock.domain.Stock;
+import spofo.stock.service.CoalescingStockServerService;
+import spofo.stock.service.StockServerService;
+
+public class CoalescingStockServerServiceTest {
+
+    private StockServerService stockServerService;
+    private BlockingStockServerService blockingStockServerService;
+    private MeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        blockingStockServerService = new BlockingStockServerService();
+        List.of("A", "B", "C", "D").forEach(code -> blockingStockServerService.save(
+                Stock.builder().code(code).price(getBD(1000)).build()));
+
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newCachedThreadPool();
+        stockServerService = new CoalescingStockServerService(blockingStockServerService,
+                executor, new StockCoalescingProperties(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("조회 중인 종목은 다시 요청하지 않고, 그 사이 요청된 종목들은 한 번에 조회한다.")
+    void coalesceConcurrentRequests() throws Exception {
+        // given
+        CompletableFuture<Map<String, Stock>> first =
+                CompletableFuture.supplyAsync(() -> stockServerService.getStocks(List.of("A", "B")));
+        blockingStockServerService.entered.await(5, SECONDS);
+
+        CompletableFuture<Map<String, Stock>> second =
+                CompletableFuture.supplyAsync(() -> stockServerService.getStocks(List.of("A", "C")));
+        CompletableFuture<Map<String, Stock>> third =
+                CompletableFuture.supplyAsync(() -> stockServerService.getStocks(List.of("D")));
+        awaitRequestedCodes(5);
+
+        // when
+        blockingStockServerService.release.countDown();
+
+        // then
+        assertThat(first.get(5, SECONDS)).containsOnlyKeys("A", "B");
+        assertThat(second.get(5, SECONDS)).containsOnlyKeys("A", "C");
+        assertThat(third.get(5, SECONDS)).containsOnlyKeys("D");
+        assertThat(blockingStockServerService.batches).hasSize(2);
+        assertThat(blockingStockServerService.batches.get(0)).containsExactly("A", "B");
+        assertThat(blockingStockServerService.batches.get(1)).containsExactlyInAnyOrder("C", "D");
+    }
+
+    @Test
+    @DisplayName("단건 조회도 목록조회로 가져온다.")
+    void getStock() {
+        // given
+        blockingStockServerService.release.countDown();
+
+        // when
+        Stock stock = stockServerService.getStock("A");
+
+        // then
+        assertThat(stock.getCode()).isEqualTo("A");
+        assertThat(blockingStockServerService.batches).containsExactly(List.of("A"));
+    }
+
+    private void awaitRequestedCodes(int count) throws InterruptedException {
+        while (meterRegistry.get("stock.coalescing.codes").tag("type", "requested").counter()
+                .count() < count) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static class BlockingStockServerService extends FakeStockServerService {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Map<String, Stock> getStocks(List<String> stockCodes) {
+            batches.add(List.copyOf(stockCodes));
+            entered.countDown();
+
+            try {
+                release.await(5, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            Map<String, Stock> stocks = super.getStocks(stockCodes);
+            return stockCodes.stream()
+                    .collect(toMap(code -> code, stocks::get));
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package spofo.small.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.global.domain.enums.Server.STOCKSERVER;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import spofo.global.config.resilience.ResilienceConfig;
+import spofo.global.config.resilience.ResilienceProperties;
+import spofo.global.config.stock.StockCacheProperties;
+import spofo.global.domain.exception.StockServerUnavailable;
+import spofo.mock.FakeStockServerService;
+import spofo.stock.domain.Stock;
+import spofo.stock.service.CachingStockServerService;
+import spofo.stock.service.ResilientStockServerService;
+import spofo.stock.service.StockServerService;
+
+public class ResilientStockServerServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-02T00:00:00Z");
+
+    private FailingStockServerService failingStockServerService;
+    private CircuitBreaker circuitBreaker;
+    private StockServerService stockServerService;
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setup() {
+        failingStockServerService = new FailingStockServerService();
+        failingStockServerService.save(Stock.builder()
+                .code("005930")
+                .price(getBD(66000))
+                .build());
+
+        failingStockServerService.save(Stock.builder()
+                .code("000660")
+                .price(getBD(120000))
+                .build());
+
+        circuitBreaker = CircuitBreaker.ofDefaults("stockserver");
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        stockServerService = new ResilientStockServerService(failingStockServerService,
+                circuitBreaker, Bulkhead.ofDefaults("stockserver"), clock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("주식 서버 호출에 실패하면 마지막으로 가져온 시세를 stale로 표시하여 반환한다.")
+    void getStocksFallbackToLastKnown() {
+        // given
+        stockServerService.getStocks(List.of("005930"));
+        failingStockServerService.failing = true;
+
+        // when
+        Map<String, Stock> stocks = stockServerService.getStocks(List.of("005930"));
+
+        // then
+        assertThat(stocks.get("005930").isStale()).isTrue();
+        assertThat(stocks.get("005930").getPrice()).isEqualTo(getBD(66000));
+        assertThat(meterRegistry.get("stock.quotes.stale").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 시세가 없는 종목이 하나라도 있으면 일부만 반환하지 않고 StockServerUnavailable을 던진다.")
+    void getStocksWithoutLastKnownOfSomeCodes() {
+        // given
+        stockServerService.getStock("005930");
+        failingStockServerService.failing = true;
+
+        // when // then
+        assertThatThrownBy(() -> stockServerService.getStocks(List.of("005930", "000660")))
+                .isInstanceOf(StockServerUnavailable.class);
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 주식 서버를 호출하지 않고 마지막 시세를 반환한다.")
+    void getStockWhenCircuitOpen() {
+        // given
+        Stock stock = stockServerService.getStock("005930");
+        circuitBreaker.transitionToOpenState();
+
+        // when
+        Stock fallback = stockServerService.getStock("005930");
+
+        // then
+        assertThat(stock.isStale()).isFalse();
+        assertThat(fallback.isStale()).isTrue();
+        assertThat(failingStockServerService.callCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 시세가 없으면 StockServerUnavailable을 던진다.")
+    void getStockWithoutLastKnown() {
+        // given
+        failingStockServerService.failing = true;
+
+        // when // then
+        assertThatThrownBy(() -> stockServerService.getStock("005930"))
+                .isInstanceOf(StockServerUnavailable.class);
+    }
+
+    @Test
+    @DisplayName("장애로 대신 반환한 시세는 주식 서버에서 원래 가져온 시각을 유지한다.")
+    void fallbackKeepsQuotedAt() {
+        // given
+        stockServerService.getStocks(List.of("005930"));
+        clock.advance(Duration.ofHours(1));
+        failingStockServerService.failing = true;
+
+        // when
+        Stock stock = stockServerService.getStock("005930");
+
+        // then
+        assertThat(stock.isStale()).isTrue();
+        assertThat(stock.getQuotedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 종목을 장애로 대신 받으면 원래 가져온 시각으로 캐시한다.")
+    void cachedFallbackKeepsQuotedAt() {
+        // given
+        StockServerService cachingStockServerService = new CachingStockServerService(
+                stockServerService,
+                new StockCacheProperties(Duration.ofMinutes(1), Duration.ofSeconds(30), 100),
+                clock, meterRegistry);
+        stockServerService.getStock("005930");
+        clock.advance(Duration.ofHours(1));
+        failingStockServerService.failing = true;
+
+        // when
+        Stock stock = cachingStockServerService.getStock("005930");
+
+        // then
+        assertThat(stock.isStale()).isTrue();
+        assertThat(stock.getQuotedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("잘못된 요청(4xx)은 마지막 시세로 대신하지 않고 서킷 브레이커의 실패로 집계하지 않는다.")
+    void clientErrorIsNotOutage() {
+        // given
+        CircuitBreaker configuredCircuitBreaker = new ResilienceConfig()
+                .circuitBreakerRegistry(new ResilienceProperties(null), meterRegistry)
+                .circuitBreaker(STOCKSERVER.name(), STOCKSERVER.name());
+        StockServerService stockServerService = new ResilientStockServerService(
+                failingStockServerService, configuredCircuitBreaker,
+                Bulkhead.ofDefaults("stockserver"), clock, meterRegistry);
+        stockServerService.getStock("005930");
+        failingStockServerService.clientError = true;
+
+        // when // then
+        assertThatThrownBy(() -> stockServerService.getStock("005930"))
+                .isInstanceOf(HttpClientErrorException.class);
+        assertThatThrownBy(() -> stockServerService.getStocks(List.of("005930")))
+                .isInstanceOf(HttpClientErrorException.class);
+        assertThat(configuredCircuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    private static class FailingStockServerService extends FakeStockServerService {
+
+        private boolean failing = false;
+        private boolean clientError = false;
+        private int callCount = 0;
+
+        @Override
+        public Stock getStock(String stockCode) {
+            callCount++;
+            fail();
+            return super.getStock(stockCode);
+        }
+
+        @Override
+        public Map<String, Stock> getStocks(List<String> stockCodes) {
+            callCount++;
+            fail();
+            return super.getStocks(stockCodes);
+        }
+
+        private void fail() {
+            if (clientError) {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            }
+            if (failing) {
+                throw new IllegalStateException("주식 서버 장애");
+            }
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
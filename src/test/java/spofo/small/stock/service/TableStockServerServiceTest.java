@@ -0,0 +1,200 @@
+package spofo.small.stock.service;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static spofo.global.component.utils.CommonUtils.getBD;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.global.config.stock.StockIngestProperties;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.mock.FakeHoldingStockRepository;
+import spofo.mock.FakeStockServerService;
+import spofo.stock.domain.Stock;
+import spofo.stock.service.ResilientStockServerService;
+import spofo.stock.service.StockPriceIngester;
+import spofo.stock.service.StockPriceTable;
+import spofo.stock.service.StockServerService;
+import spofo.stock.service.TableStockServerService;
+
+public class TableStockServerServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-02T00:00:00Z");
+
+    private CountingStockServerService countingStockServerService;
+    private FakeHoldingStockRepository fakeHoldingStockRepository;
+    private StockPriceTable stockPriceTable;
+    private StockIngestProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        countingStockServerService = new CountingStockServerService();
+        countingStockServerService.save(getStock("005930", 66000));
+        countingStockServerService.save(getStock("000660", 120000));
+
+        fakeHoldingStockRepository = new FakeHoldingStockRepository();
+        fakeHoldingStockRepository.save(HoldingStock.builder().stockCode("005930").build());
+        fakeHoldingStockRepository.save(HoldingStock.builder().stockCode("000660").build());
+
+        stockPriceTable = new StockPriceTable();
+        properties = new StockIngestProperties(true, Duration.ofSeconds(1),
+                Duration.ofSeconds(10), 1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("수집된 시세는 주식 서버를 호출하지 않고 테이블에서 조회한다.")
+    void getStocksFromTable() {
+        // given
+        getIngester(NOW).ingest();
+        int ingestCallCount = countingStockServerService.callCount;
+        StockServerService stockServerService = getTableStockServerService(NOW.plusSeconds(5));
+
+        // when
+        Map<String, Stock> stocks = stockServerService.getStocks(List.of("005930", "000660"));
+
+        // then
+        assertThat(ingestCallCount).isEqualTo(2);
+        assertThat(countingStockServerService.callCount).isEqualTo(ingestCallCount);
+        assertThat(stocks.get("005930").getQuotedAt()).isEqualTo(NOW);
+        assertThat(stocks.get("000660").getPrice()).isEqualTo(getBD(120000));
+    }
+
+    @Test
+    @DisplayName("maxAge보다 오래된 시세는 주식 서버에서 다시 가져온다.")
+    void getStaleStockFromServer() {
+        // given
+        getIngester(NOW).ingest();
+        int ingestCallCount = countingStockServerService.callCount;
+        Instant later = NOW.plusSeconds(11);
+        StockServerService stockServerService = getTableStockServerService(later);
+
+        // when
+        Stock stock = stockServerService.getStock("005930");
+
+        // then
+        assertThat(countingStockServerService.callCount).isEqualTo(ingestCallCount + 1);
+        assertThat(stock.getQuotedAt()).isEqualTo(later);
+    }
+
+    @Test
+    @DisplayName("캐시에서 가져온 시세는 현재 시각이 아닌 주식 서버에서 가져온 시각을 유지한다.")
+    void keepQuotedAtFromCache() {
+        // given
+        Instant fetchedAt = NOW.minusSeconds(8);
+        countingStockServerService.save(getStock("035720", 50000).quotedAt(fetchedAt));
+        StockServerService stockServerService = getTableStockServerService(NOW);
+
+        // when
+        Stock stock = stockServerService.getStock("035720");
+
+        // then
+        assertThat(stock.getQuotedAt()).isEqualTo(fetchedAt);
+        assertThat(stockPriceTable.get("035720").getQuotedAt()).isEqualTo(fetchedAt);
+    }
+
+    @Test
+    @DisplayName("반환한 시세마다 경과 시간을 stock.quote.age 메트릭에 기록한다.")
+    void recordQuoteAgePerQuote() {
+        // given
+        getIngester(NOW).ingest();
+        StockServerService stockServerService = getTableStockServerService(NOW.plusSeconds(5));
+
+        // when
+        stockServerService.getStocks(List.of("005930", "000660"));
+
+        // then
+        Timer timer = meterRegistry.get("stock.quote.age").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.max(TimeUnit.SECONDS)).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("더 이상 보유하지 않는 종목은 다음 수집 때 테이블에서 제거된다.")
+    void ingestRemovesUnheldStocks() {
+        // given
+        getIngester(NOW).ingest();
+        fakeHoldingStockRepository.deleteAll();
+
+        // when
+        getIngester(NOW.plusSeconds(1)).ingest();
+
+        // then
+        assertThat(stockPriceTable.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 수집도 주식 서버를 호출하지 않고, 테이블의 시세는 원래 가져온 시각을 유지한다.")
+    void ingestThroughOpenCircuit() {
+        // given
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("stock");
+        StockServerService resilientStockServerService = new ResilientStockServerService(
+                countingStockServerService, circuitBreaker, Bulkhead.ofDefaults("stock"),
+                Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry);
+        getIngester(resilientStockServerService, NOW).ingest();
+        int ingestCallCount = countingStockServerService.callCount;
+        circuitBreaker.transitionToForcedOpenState();
+
+        // when
+        getIngester(resilientStockServerService, NOW.plusSeconds(60)).ingest();
+
+        // then
+        assertThat(countingStockServerService.callCount).isEqualTo(ingestCallCount);
+        assertThat(stockPriceTable.get("005930").getQuotedAt()).isEqualTo(NOW);
+        assertThat(stockPriceTable.get("005930").isStale()).isTrue();
+    }
+
+    private StockPriceIngester getIngester(Instant now) {
+        return getIngester(countingStockServerService, now);
+    }
+
+    private StockPriceIngester getIngester(StockServerService stockServerService, Instant now) {
+        return new StockPriceIngester(stockServerService, fakeHoldingStockRepository,
+                stockPriceTable, properties, Clock.fixed(now, ZoneOffset.UTC),
+                new SimpleMeterRegistry());
+    }
+
+    private StockServerService getTableStockServerService(Instant now) {
+        return new TableStockServerService(countingStockServerService, stockPriceTable,
+                properties, Clock.fixed(now, ZoneOffset.UTC), meterRegistry);
+    }
+
+    private Stock getStock(String code, long price) {
+        return Stock.builder()
+                .code(code)
+                .price(getBD(price))
+                .build();
+    }
+
+    private static class CountingStockServerService extends FakeStockServerService {
+
+        private int callCount = 0;
+
+        @Override
+        public Stock getStock(String stockCode) {
+            callCount++;
+            return super.getStock(stockCode);
+        }
+
+        @Override
+        public Map<String, Stock> getStocks(List<String> stockCodes) {
+            callCount++;
+            return super.getStocks(stockCodes).entrySet().stream()
+                    .filter(entry -> stockCodes.contains(entry.getKey()))
+                    .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package spofo.small.tradelog.controller.request;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.tradelog.controller.request.TradeImportReader.TEXT_CSV;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.TradeType.SELL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import spofo.tradelog.controller.request.TradeImportReader;
+import spofo.tradelog.domain.TradeImportRow;
+
+public class TradeImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV 본문의 헤더와 빈 줄을 건너뛰고 행을 읽는다.")
+    void readCsv() {
+        // given
+        String body = """
+                code,type,price,quantity,tradeDate
+                000660,BUY,"66,000",2,2023-12-01
+
+                000660,매도,70000,1,2023-12-02 09:30:00
+                """;
+
+        // when
+        List<TradeImportRow> rows = read(TEXT_CSV, body);
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getLineNumber()).isEqualTo(2);
+        assertThat(rows.get(0).getStockCode()).isEqualTo("000660");
+        assertThat(rows.get(0).getTradeLogCreate().getType()).isEqualTo(BUY);
+        assertThat(rows.get(0).getTradeLogCreate().getPrice()).isEqualByComparingTo(getBD(66000));
+        assertThat(rows.get(0).getTradeLogCreate().getTradeDate())
+                .isEqualTo(LocalDateTime.of(2023, 12, 1, 0, 0));
+        assertThat(rows.get(1).getLineNumber()).isEqualTo(4);
+        assertThat(rows.get(1).getTradeLogCreate().getType()).isEqualTo(SELL);
+        assertThat(rows.get(1).getTradeLogCreate().getTradeDate())
+                .isEqualTo(LocalDateTime.of(2023, 12, 2, 9, 30));
+    }
+
+    @Test
+    @DisplayName("JSON Lines 본문을 한 줄에 1건씩 읽는다.")
+    void readJsonLines() {
+        // given
+        String body = """
+                {"code":"000660","type":"BUY","price":66000,"quantity":1,"tradeDate":"2023-12-01T00:00:00"}
+                {"code":"005930","type":"SELL","price":"70000","quantity":"0.5","tradeDate":"2023-12-02"}
+                """;
+
+        // when
+        List<TradeImportRow> rows = read(APPLICATION_NDJSON, body);
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows).allMatch(TradeImportRow::isValid);
+        assertThat(rows.get(1).getStockCode()).isEqualTo("005930");
+        assertThat(rows.get(1).getTradeLogCreate().getQuantity())
+                .isEqualByComparingTo(getBD(0.5));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 행은 예외 없이 실패 사유를 담은 행으로 읽고 다음 행을 계속 읽는다.")
+    void readInvalidRows() {
+        // given
+        String body = """
+                000660,BUY,abc,1,2023-12-01
+                000660,HOLD,66000,1,2023-12-01
+                000660,BUY,66000,0,2023-12-01
+                000660,BUY,66000
+                000660,BUY,66000,1,2023-12-01
+                """;
+
+        // when
+        List<TradeImportRow> rows = read(TEXT_CSV, body);
+
+        // then
+        assertThat(rows).extracting(TradeImportRow::getError).containsExactly(
+                "단가는 숫자여야 합니다.",
+                "매매 종류는 BUY 또는 SELL이어야 합니다.",
+                "수량은 0보다 커야 합니다.",
+                "항목 수가 올바르지 않습니다. code,type,price,quantity,tradeDate 순서로 입력해야 합니다.",
+                null);
+    }
+
+    private List<TradeImportRow> read(MediaType contentType, String body) {
+        TradeImportReader reader = TradeImportReader.of(contentType,
+                new ByteArrayInputStream(body.getBytes(UTF_8)), objectMapper);
+
+        List<TradeImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,230 @@
+package spofo.small.tradelog.domain;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.tradelog.domain.enums.CostMethod.AVERAGE;
+import static spofo.tradelog.domain.enums.CostMethod.FIFO;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.TradeType.SELL;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import spofo.global.domain.exception.TradeLogOverSold;
+import spofo.holdingstock.domain.Position;
+import spofo.tradelog.domain.LotMatchResult;
+import spofo.tradelog.domain.LotMatcher;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.domain.enums.TradeType;
+
+public class LotMatcherTest {
+
+    private static final LocalDateTime TRADE_DATE = LocalDateTime.of(2024, 1, 2, 9, 0);
+
+    @Test
+    @DisplayName("선입선출 방식은 먼저 매수한 lot부터 매도한다.")
+    void matchFifo() {
+        // given
+        List<TradeLog> tradeLogs = List.of(
+                getTradeLog(BUY, getBD(10_000), getBD(2), 0),
+                getTradeLog(BUY, getBD(20_000), getBD(2), 1),
+                getTradeLog(SELL, getBD(25_000), getBD(3), 2));
+
+        // when
+        LotMatchResult result = LotMatcher.match(tradeLogs, FIFO);
+
+        // then
+        assertThat(result.getQuantity()).isEqualByComparingTo(ONE);
+        assertThat(result.getCostBasis()).isEqualByComparingTo(getBD(20_000));
+        assertThat(result.getAvgPrice()).isEqualByComparingTo(getBD(20_000));
+        assertThat(result.getRealizedGain()).isEqualByComparingTo(getBD(35_000));
+        assertThat(unrealizedGain(result, getBD(30_000))).isEqualByComparingTo(getBD(10_000));
+    }
+
+    @Test
+    @DisplayName("평균 단가 방식은 평균 단가로 매도한다.")
+    void matchAverage() {
+        // given
+        List<TradeLog> tradeLogs = List.of(
+                getTradeLog(BUY, getBD(10_000), getBD(2), 0),
+                getTradeLog(BUY, getBD(20_000), getBD(2), 1),
+                getTradeLog(SELL, getBD(25_000), getBD(3), 2));
+
+        // when
+        LotMatchResult result = LotMatcher.match(tradeLogs, AVERAGE);
+
+        // then
+        assertThat(result.getQuantity()).isEqualByComparingTo(ONE);
+        assertThat(result.getCostBasis()).isEqualByComparingTo(getBD(15_000));
+        assertThat(result.getAvgPrice()).isEqualByComparingTo(getBD(15_000));
+        assertThat(result.getRealizedGain()).isEqualByComparingTo(getBD(30_000));
+        assertThat(unrealizedGain(result, getBD(30_000))).isEqualByComparingTo(getBD(15_000));
+    }
+
+    @Test
+    @DisplayName("매매이력은 저장된 순서와 관계없이 거래일 순서로 처리한다.")
+    void matchInTradeDateOrder() {
+        // given
+        List<TradeLog> tradeLogs = List.of(
+                getTradeLog(SELL, getBD(25_000), ONE, 2),
+                getTradeLog(BUY, getBD(20_000), ONE, 1),
+                getTradeLog(BUY, getBD(10_000), ONE, 0));
+
+        // when
+        LotMatchResult result = LotMatcher.match(tradeLogs, FIFO);
+
+        // then
+        assertThat(result.getQuantity()).isEqualByComparingTo(ONE);
+        assertThat(result.getCostBasis()).isEqualByComparingTo(getBD(20_000));
+        assertThat(result.getRealizedGain()).isEqualByComparingTo(getBD(15_000));
+    }
+
+    @Test
+    @DisplayName("보유 수량보다 많이 매도한 매매이력이 있으면 예외가 발생한다.")
+    void sellMoreThanQuantity() {
+        // given
+        List<TradeLog> tradeLogs = List.of(
+                getTradeLog(BUY, getBD(10_000), getBD(2), 0),
+                getTradeLog(SELL, getBD(15_000), getBD(5), 1));
+
+        // expected
+        assertThatThrownBy(() -> LotMatcher.match(tradeLogs, FIFO))
+                .isInstanceOf(TradeLogOverSold.class);
+        assertThatThrownBy(() -> LotMatcher.match(tradeLogs, AVERAGE))
+                .isInstanceOf(TradeLogOverSold.class);
+    }
+
+    @Test
+    @DisplayName("평균 단가 방식의 결과는 저장된 보유 현황(Position)과 같다.")
+    void averageEqualsPosition() {
+        for (int seed = 0; seed < 1_000; seed++) {
+            // given
+            List<TradeLog> tradeLogs = getRandomTradeLogs(new Random(seed), 100);
+
+            // when
+            LotMatchResult result = LotMatcher.match(tradeLogs, AVERAGE);
+
+            // then
+            Position position = Position.of(tradeLogs);
+            assertThat(result.getQuantity()).as("seed %d", seed)
+                    .isEqualByComparingTo(position.getQuantity());
+            assertThat(result.getCostBasis()).as("seed %d", seed)
+                    .isEqualByComparingTo(position.getTotalCost());
+            assertThat(result.getRealizedGain()).as("seed %d", seed)
+                    .isEqualByComparingTo(position.getRealizedGain());
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 순서가 거래일 순서와 달라도 평균 단가 방식의 결과는 저장된 보유 현황과 같다.")
+    void averageEqualsPositionInAnyOrder() {
+        for (int seed = 0; seed < 1_000; seed++) {
+            // given
+            Random random = new Random(seed);
+            List<TradeLog> tradeLogs = new ArrayList<>(getRandomTradeLogs(random, 100));
+            Collections.shuffle(tradeLogs, random);
+
+            // when
+            LotMatchResult result = LotMatcher.match(tradeLogs, AVERAGE);
+
+            // then
+            Position position = Position.of(tradeLogs);
+            assertThat(result.getQuantity()).as("seed %d", seed)
+                    .isEqualByComparingTo(position.getQuantity());
+            assertThat(result.getCostBasis()).as("seed %d", seed)
+                    .isEqualByComparingTo(position.getTotalCost());
+            assertThat(result.getRealizedGain()).as("seed %d", seed)
+                    .isEqualByComparingTo(position.getRealizedGain());
+        }
+    }
+
+    @Test
+    @DisplayName("실현 손익과 미실현 손익의 합은 매도 금액 + 평가 금액 - 매수 금액과 같다.")
+    void fifoGainsBalance() {
+        for (int seed = 0; seed < 1_000; seed++) {
+            // given
+            List<TradeLog> tradeLogs = getRandomTradeLogs(new Random(seed), 100);
+            BigDecimal currentPrice = getBD(12_345);
+
+            // when
+            LotMatchResult result = LotMatcher.match(tradeLogs, FIFO);
+
+            // then
+            BigDecimal cashFlow = ZERO;
+            BigDecimal quantity = ZERO;
+            for (TradeLog tradeLog : tradeLogs) {
+                BigDecimal tradeQuantity = tradeLog.getQuantity();
+                BigDecimal amount = tradeLog.getPrice().multiply(tradeQuantity);
+                cashFlow = tradeLog.getType() == BUY ? cashFlow.subtract(amount)
+                        : cashFlow.add(amount);
+                quantity = tradeLog.getType() == BUY ? quantity.add(tradeQuantity)
+                        : quantity.subtract(tradeQuantity);
+            }
+            BigDecimal totalGain = cashFlow.add(currentPrice.multiply(quantity));
+
+            assertThat(result.getRealizedGain().add(unrealizedGain(result, currentPrice)))
+                    .as("seed %d", seed)
+                    .isEqualByComparingTo(totalGain);
+        }
+    }
+
+    @Test
+    @DisplayName("매매이력이 수만 건이어도 한 번의 순회로 계산한다.")
+    void matchManyTradeLogs() {
+        // given
+        List<TradeLog> tradeLogs = getRandomTradeLogs(new Random(0), 50_000);
+
+        // when
+        LotMatchResult fifo = LotMatcher.match(tradeLogs, FIFO);
+        LotMatchResult average = LotMatcher.match(tradeLogs, AVERAGE);
+
+        // then
+        assertThat(fifo.getQuantity()).isEqualByComparingTo(average.getQuantity());
+    }
+
+    /**
+     * 미실현 손익 = 보유 수량 * 현재가 - 보유 수량의 매입 원가
+     */
+    private BigDecimal unrealizedGain(LotMatchResult result, BigDecimal currentPrice) {
+        return currentPrice.multiply(result.getQuantity()).subtract(result.getCostBasis());
+    }
+
+    /**
+     * 거래일 순서로 정렬된 임의의 매매이력. 매도는 그 시점의 보유 수량을 넘지 않는다.
+     */
+    private List<TradeLog> getRandomTradeLogs(Random random, int count) {
+        List<TradeLog> tradeLogs = new ArrayList<>();
+        BigDecimal holding = ZERO;
+        for (int i = 0; i < count; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + random.nextInt(1_000_000), 2);
+            BigDecimal quantity = BigDecimal.valueOf(1 + random.nextInt(100_000), 3);
+            TradeType type = random.nextInt(3) == 0 && holding.signum() > 0 ? SELL : BUY;
+            if (type == SELL) {
+                quantity = quantity.min(holding);
+                holding = holding.subtract(quantity);
+            } else {
+                holding = holding.add(quantity);
+            }
+            tradeLogs.add(getTradeLog(type, price, quantity, i));
+        }
+        return tradeLogs;
+    }
+
+    private TradeLog getTradeLog(TradeType type, BigDecimal price, BigDecimal quantity,
+            int day) {
+        return TradeLog.builder()
+                .type(type)
+                .price(price)
+                .quantity(quantity)
+                .tradeDate(TRADE_DATE.plusDays(day))
+                .build();
+    }
+}
@@ -0,0 +1,299 @@
+package spofo.small.tradelog.service;
+
+import static java.time.LocalDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static spofo.global.component.utils.CommonUtils.getBD;
+import static spofo.global.domain.exception.ErrorCode.STOCK_SERVER_UNAVAILABLE;
+import static spofo.tradelog.domain.enums.TradeImportStatus.FAILED;
+import static spofo.tradelog.domain.enums.TradeImportStatus.IMPORTED;
+import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.TradeType.SELL;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import spofo.global.config.tradelog.TradeImportProperties;
+import spofo.global.domain.exception.HoldingStockConflict;
+import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.Position;
+import spofo.mock.FakeHoldingStockRepository;
+import spofo.mock.FakeStockServerService;
+import spofo.mock.FakeTradeLogRepository;
+import spofo.portfolio.domain.Portfolio;
+import spofo.stock.domain.Stock;
+import spofo.tradelog.controller.port.TradeImportService;
+import spofo.tradelog.domain.TradeImportReport;
+import spofo.tradelog.domain.TradeImportResult;
+import spofo.tradelog.domain.TradeImportRow;
+import spofo.tradelog.domain.TradeLog;
+import spofo.tradelog.domain.enums.TradeType;
+import spofo.tradelog.service.TradeImportServiceImpl;
+import spofo.tradelog.service.TradeImportWriter;
+
+public class TradeImportServiceTest {
+
+    private TradeImportService tradeImportService;
+    private FakeHoldingStockRepository fakeHoldingStockRepository;
+    private FakeTradeLogRepository fakeTradeLogRepository;
+
+    private static final String TEST_STOCK_CODE = "000660";
+    private static final String OTHER_STOCK_CODE = "005930";
+    private static final Portfolio PORTFOLIO = Portfolio.builder().id(1L).build();
+
+    @BeforeEach
+    void setup() {
+        FakeStockServerService fakeStockServerService = new FakeStockServerService();
+        fakeHoldingStockRepository = new FakeHoldingStockRepository();
+        fakeTradeLogRepository = new FakeTradeLogRepository();
+        TradeImportWriter tradeImportWriter =
+                new TradeImportWriter(fakeHoldingStockRepository, fakeTradeLogRepository);
+        tradeImportService = new TradeImportServiceImpl(fakeStockServerService,
+                tradeImportWriter, new TradeImportProperties(2));
+
+        fakeStockServerService.save(getStock(TEST_STOCK_CODE));
+        fakeStockServerService.save(getStock(OTHER_STOCK_CODE));
+    }
+
+    @Test
+    @DisplayName("여러 청크에 걸친 매매이력을 저장하고 종목코드마다 보유종목을 1개만 만든다.")
+    void importTrades() {
+        // given
+        List<TradeImportRow> rows = List.of(
+                getRow(1, TEST_STOCK_CODE, BUY, 33_000, 2),
+                getRow(2, OTHER_STOCK_CODE, BUY, 70_000, 1),
+                getRow(3, TEST_STOCK_CODE, SELL, 40_000, 1),
+                getRow(4, TEST_STOCK_CODE, BUY, 36_000, 1),
+                getRow(5, OTHER_STOCK_CODE, BUY, 72_000, 1));
+
+        // when
+        TradeImportReport report = tradeImportService.importTrades(PORTFOLIO, rows.iterator());
+
+        // then
+        assertThat(report.getTotal()).isEqualTo(5);
+        assertThat(report.getImported()).isEqualTo(5);
+        assertThat(report.getFailed()).isZero();
+        assertThat(fakeTradeLogRepository.findByHoldingStockEntityId(1L)).hasSize(3);
+        assertThat(fakeHoldingStockRepository.findByPortfolioId(1L)).hasSize(2);
+
+        Position position = getHoldingStock(TEST_STOCK_CODE).getPosition();
+        assertThat(position.getQuantity()).isEqualByComparingTo(getBD(2));
+        assertThat(position.getTotalCost()).isEqualByComparingTo(getBD(69_000));
+        assertThat(position.getRealizedGain()).isEqualByComparingTo(getBD(7_000));
+    }
+
+    @Test
+    @DisplayName("이미 보유한 종목의 매매이력은 기존 보유종목에 추가한다.")
+    void importTradesToExistingHoldingStock() {
+        // given
+        HoldingStock holdingStock = fakeHoldingStockRepository.save(HoldingStock.builder()
+                .stockCode(TEST_STOCK_CODE)
+                .portfolio(PORTFOLIO)
+                .build());
+        List<TradeImportRow> rows = List.of(getRow(1, TEST_STOCK_CODE, BUY, 33_000, 1));
+
+        // when
+        TradeImportReport report = tradeImportService.importTrades(PORTFOLIO, rows.iterator());
+
+        // then
+        assertThat(report.getResults().get(0).getHoldingStockId())
+                .isEqualTo(holdingStock.getId());
+        assertThat(fakeHoldingStockRepository.findByPortfolioId(1L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 행과 존재하지 않는 종목의 행은 실패로 기록하고 나머지 행은 저장한다.")
+    void importTradesWithFailedRows() {
+        // given
+        List<TradeImportRow> rows = List.of(
+                getRow(1, TEST_STOCK_CODE, BUY, 33_000, 1),
+                TradeImportRow.invalid(2, TEST_STOCK_CODE, "단가는 숫자여야 합니다."),
+                getRow(3, "999999", BUY, 10_000, 1));
+
+        // when
+        TradeImportReport report = tradeImportService.importTrades(PORTFOLIO, rows.iterator());
+
+        // then
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getResults())
+                .extracting(TradeImportResult::getLineNumber, TradeImportResult::getStatus,
+                        TradeImportResult::getMessage)
+                .containsExactly(
+                        tuple(1L, IMPORTED, null),
+                        tuple(2L, FAILED, "단가는 숫자여야 합니다."),
+                        tuple(3L, FAILED, "존재하지 않는 종목코드입니다."));
+    }
+
+    @Test
+    @DisplayName("최신순으로 정렬된 매매이력도 거래일 순서로 보유 현황에 누적한다.")
+    void importTradesInNewestFirstOrder() {
+        // given
+        List<TradeImportRow> rows = List.of(
+                getRow(1, TEST_STOCK_CODE, SELL, 40_000, 1, 0),
+                getRow(2, TEST_STOCK_CODE, BUY, 36_000, 1, 1),
+                getRow(3, TEST_STOCK_CODE, BUY, 33_000, 2, 2));
+
+        // when
+        TradeImportReport report = tradeImportService.importTrades(PORTFOLIO, rows.iterator());
+
+        // then
+        assertThat(report.getImported()).isEqualTo(3);
+
+        Position position = getHoldingStock(TEST_STOCK_CODE).getPosition();
+        assertThat(position.getQuantity()).isEqualByComparingTo(getBD(2));
+        assertThat(position.getTotalCost()).isEqualByComparingTo(getBD(68_000));
+        assertThat(position.getRealizedGain()).isEqualByComparingTo(getBD(6_000));
+    }
+
+    @Test
+    @DisplayName("거래일 순서로 누적했을 때 보유 수량보다 많이 매도하는 행은 실패로 기록하고 저장하지 않는다.")
+    void importTradesWithOverSoldRow() {
+        // given
+        List<TradeImportRow> rows = List.of(
+                getRow(1, TEST_STOCK_CODE, BUY, 33_000, 1, 2),
+                getRow(2, TEST_STOCK_CODE, SELL, 40_000, 2, 1),
+                getRow(3, TEST_STOCK_CODE, SELL, 40_000, 1, 0));
+
+        // when
+        TradeImportReport report = tradeImportService.importTrades(PORTFOLIO, rows.iterator());
+
+        // then
+        assertThat(report.getResults())
+                .extracting(TradeImportResult::getLineNumber, TradeImportResult::getStatus,
+                        TradeImportResult::getMessage)
+                .containsExactly(
+                        tuple(1L, IMPORTED, null),
+                        tuple(2L, FAILED, "매도 수량이 보유 수량보다 많습니다."),
+                        tuple(3L, IMPORTED, null));
+        assertThat(fakeTradeLogRepository.findByHoldingStockEntityId(1L)).hasSize(2);
+
+        Position position = getHoldingStock(TEST_STOCK_CODE).getPosition();
+        assertThat(position.getQuantity()).isEqualByComparingTo(getBD(0));
+        assertThat(position.getRealizedGain()).isEqualByComparingTo(getBD(7_000));
+    }
+
+    @Test
+    @DisplayName("기존 매매이력보다 앞선 매도로 이후의 매도가 보유 수량을 넘게 되면 실패로 기록한다.")
+    void importBackdatedTradesWithOverSoldRow() {
+        // given
+        tradeImportService.importTrades(PORTFOLIO, List.of(
+                getRow(1, TEST_STOCK_CODE, BUY, 33_000, 1, 2),
+                getRow(2, TEST_STOCK_CODE, SELL, 40_000, 1, 0)).iterator());
+        List<TradeImportRow> rows = List.of(
+                getRow(1, TEST_STOCK_CODE, SELL, 36_000, 1, 1),
+                getRow(2, TEST_STOCK_CODE, BUY, 30_000, 1, 1));
+
+        // when
+        TradeImportReport report = tradeImportService.importTrades(PORTFOLIO, rows.iterator());
+
+        // then
+        assertThat(report.getResults())
+                .extracting(TradeImportResult::getLineNumber, TradeImportResult::getStatus)
+                .containsExactly(tuple(1L, FAILED), tuple(2L, IMPORTED));
+
+        Position position = getHoldingStock(TEST_STOCK_CODE).getPosition();
+        assertThat(position.getQuantity()).isEqualByComparingTo(getBD(1));
+        assertThat(position.getTotalCost()).isEqualByComparingTo(getBD(31_500));
+        assertThat(position.getRealizedGain()).isEqualByComparingTo(getBD(8_500));
+    }
+
+    @Test
+    @DisplayName("같은 종목의 보유종목이 동시에 만들어져 충돌하면 만들어진 보유종목에 다시 저장한다.")
+    void importTradesAfterHoldingStockConflict() {
+        // given
+        fakeHoldingStockRepository = new FakeHoldingStockRepository() {
+            private boolean conflicted;
+
+            @Override
+            public HoldingStock insert(HoldingStock holdingStock) {
+                if (!conflicted) {
+                    conflicted = true;
+                    save(holdingStock);
+                    throw new HoldingStockConflict();
+                }
+                return super.insert(holdingStock);
+            }
+        };
+        FakeStockServerService fakeStockServerService = new FakeStockServerService();
+        fakeStockServerService.save(getStock(TEST_STOCK_CODE));
+        tradeImportService = new TradeImportServiceImpl(fakeStockServerService,
+                new TradeImportWriter(fakeHoldingStockRepository, fakeTradeLogRepository),
+                new TradeImportProperties(2));
+        List<TradeImportRow> rows = List.of(getRow(1, TEST_STOCK_CODE, BUY, 33_000, 1));
+
+        // when
+        TradeImportReport report = tradeImportService.importTrades(PORTFOLIO, rows.iterator());
+
+        // then
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(fakeHoldingStockRepository.findByPortfolioId(1L)).hasSize(1);
+        assertThat(getHoldingStock(TEST_STOCK_CODE).getPosition().getQuantity())
+                .isEqualByComparingTo(getBD(1));
+    }
+
+    @Test
+    @DisplayName("시세 조회나 저장이 실패하면 예외 메시지 대신 정해진 실패 사유를 기록한다.")
+    void importTradesWithoutRawErrorMessage() {
+        // given
+        FakeStockServerService fakeStockServerService = new FakeStockServerService() {
+            @Override
+            public Map<String, Stock> getStocks(List<String> stockCodes) {
+                if (stockCodes.contains(OTHER_STOCK_CODE)) {
+                    throw new IllegalStateException("upstream: 500 Internal Server Error");
+                }
+                return super.getStocks(stockCodes);
+            }
+        };
+        fakeStockServerService.save(getStock(TEST_STOCK_CODE));
+        FakeTradeLogRepository failingTradeLogRepository = new FakeTradeLogRepository() {
+            @Override
+            public List<TradeLog> saveAll(List<TradeLog> tradeLogs) {
+                throw new DataIntegrityViolationException("could not execute statement [SQL]");
+            }
+        };
+        tradeImportService = new TradeImportServiceImpl(fakeStockServerService,
+                new TradeImportWriter(fakeHoldingStockRepository, failingTradeLogRepository),
+                new TradeImportProperties(1));
+        List<TradeImportRow> rows = List.of(
+                getRow(1, TEST_STOCK_CODE, BUY, 33_000, 1),
+                getRow(2, OTHER_STOCK_CODE, BUY, 70_000, 1));
+
+        // when
+        TradeImportReport report = tradeImportService.importTrades(PORTFOLIO, rows.iterator());
+
+        // then
+        assertThat(report.getResults())
+                .extracting(TradeImportResult::getStatus, TradeImportResult::getMessage)
+                .containsExactly(
+                        tuple(FAILED, "매매이력을 저장하지 못했습니다."),
+                        tuple(FAILED, STOCK_SERVER_UNAVAILABLE.getMessage()));
+    }
+
+    private HoldingStock getHoldingStock(String stockCode) {
+        return fakeHoldingStockRepository.findByStockCode(PORTFOLIO, stockCode).orElseThrow();
+    }
+
+    private TradeImportRow getRow(long lineNumber, String stockCode, TradeType type, long price,
+            long quantity) {
+        return getRow(lineNumber, stockCode, type, price, quantity, 0);
+    }
+
+    private TradeImportRow getRow(long lineNumber, String stockCode, TradeType type, long price,
+            long quantity, long daysAgo) {
+        return TradeImportRow.of(lineNumber, stockCode, type, getBD(price), getBD(quantity),
+                now().minusDays(daysAgo));
+    }
+
+    private Stock getStock(String stockCode) {
+        return Stock.builder()
+                .code(stockCode)
+                .name("SK하이닉스")
+                .price(getBD(66000))
+                .sector("반도체")
+                .build();
+    }
+}
@@ -5,15 +5,21 @@ import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 import static java.time.LocalDateTime.now;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static spofo.global.component.utils.CommonUtils.getBD;
 import static spofo.tradelog.domain.enums.TradeType.BUY;
+import static spofo.tradelog.domain.enums.TradeType.SELL;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import spofo.global.domain.exception.TradeLogOverSold;
 import spofo.holdingstock.domain.HoldingStock;
+import spofo.holdingstock.domain.Position;
+import spofo.mock.FakeHoldingStockRepository;
 import spofo.mock.FakeStockServerService;
 import spofo.mock.FakeTradeLogRepository;
 import spofo.stock.domain.Stock;
@@ -21,6 +27,7 @@ import spofo.tradelog.controller.port.TradeLogService;
 import spofo.tradelog.domain.TradeLog;
 import spofo.tradelog.domain.TradeLogCreate;
 import spofo.tradelog.domain.TradeLogStatistic;
+import spofo.tradelog.domain.enums.TradeType;
 import spofo.tradelog.service.TradeLogServiceImpl;
 
 public class TradeLogServiceTest {
@@ -28,6 +35,7 @@ public class TradeLogServiceTest {
     private TradeLogService tradeLogService;
     private FakeStockServerService fakeStockServerService;
     private FakeTradeLogRepository fakeTradeLogRepository;
+    private FakeHoldingStockRepository fakeHoldingStockRepository;
 
     private static final String TEST_STOCK_CODE = "101010";
 
@@ -35,7 +43,9 @@ public class TradeLogServiceTest {
     void setup() {
         fakeTradeLogRepository = new FakeTradeLogRepository();
         fakeStockServerService = new FakeStockServerService();
-        tradeLogService = new TradeLogServiceImpl(fakeTradeLogRepository, fakeStockServerService);
+        fakeHoldingStockRepository = new FakeHoldingStockRepository();
+        tradeLogService = new TradeLogServiceImpl(fakeTradeLogRepository, fakeStockServerService,
+                fakeHoldingStockRepository);
 
         Stock stock = Stock.builder()
                 .code(TEST_STOCK_CODE)
@@ -60,6 +70,100 @@ public class TradeLogServiceTest {
         assertThat(savedTradeLog.getId()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("매매이력을 생성하면 보유종목의 보유 현황이 함께 갱신된다.")
+    void createTradeLogUpdatesPosition() {
+        // given
+        HoldingStock holdingStock = fakeHoldingStockRepository.save(getHoldingStock());
+
+        // when
+        tradeLogService.create(getTradeLogCreate(getBD(33_000), ONE), holdingStock);
+        tradeLogService.create(getTradeLogCreate(getBD(28_600), ONE), holdingStock);
+
+        // then
+        Position position = fakeHoldingStockRepository.findById(1L).orElseThrow().getPosition();
+        assertThat(position.getQuantity()).isEqualByComparingTo(getBD(2));
+        assertThat(position.getTotalCost()).isEqualByComparingTo(getBD(61_600));
+        assertThat(position.getAvgPrice()).isEqualByComparingTo(getBD(30_800));
+    }
+
+    @Test
+    @DisplayName("잠금으로 조회한 보유종목에는 전달받은 시세로 매매이력을 추가하고 보유 현황에 이어서 누적한다.")
+    void createTradeLogWithResolvedStock() {
+        // given
+        HoldingStock holdingStock = fakeHoldingStockRepository.save(getHoldingStock());
+        Stock stock = Stock.builder()
+                .code(TEST_STOCK_CODE)
+                .price(getBD(70_000))
+                .build();
+
+        // when
+        TradeLog tradeLog = tradeLogService.create(getTradeLogCreate(getBD(33_000), ONE),
+                holdingStock, stock);
+
+        // then
+        assertThat(tradeLog.getMarketPrice()).isEqualByComparingTo(getBD(70_000));
+        Position position = fakeHoldingStockRepository.findById(1L).orElseThrow().getPosition();
+        assertThat(position.getQuantity()).isEqualByComparingTo(ONE);
+        assertThat(position.getTotalCost()).isEqualByComparingTo(getBD(33_000));
+    }
+
+    @Test
+    @DisplayName("기존 매매이력보다 거래일이 앞선 매매이력을 생성하면 거래일 순서로 보유 현황을 다시 계산한다.")
+    void createBackdatedTradeLogRebuildsPosition() {
+        // given
+        HoldingStock holdingStock = fakeHoldingStockRepository.save(getHoldingStock());
+        LocalDateTime tradeDate = LocalDateTime.of(2024, 1, 10, 9, 0);
+        tradeLogService.create(
+                getTradeLogCreate(BUY, getBD(30_000), ONE, tradeDate), holdingStock);
+
+        // when
+        tradeLogService.create(
+                getTradeLogCreate(BUY, getBD(20_000), ONE, tradeDate.minusDays(2)), holdingStock);
+        tradeLogService.create(
+                getTradeLogCreate(SELL, getBD(40_000), ONE, tradeDate.minusDays(1)), holdingStock);
+
+        // then
+        Position position = fakeHoldingStockRepository.findById(1L).orElseThrow().getPosition();
+        assertThat(position.getQuantity()).isEqualByComparingTo(ONE);
+        assertThat(position.getTotalCost()).isEqualByComparingTo(getBD(30_000));
+        assertThat(position.getRealizedGain()).isEqualByComparingTo(getBD(20_000));
+    }
+
+    @Test
+    @DisplayName("보유 수량보다 많이 매도하면 매매이력을 저장하지 않고 예외가 발생한다.")
+    void createOverSoldTradeLog() {
+        // given
+        HoldingStock holdingStock = fakeHoldingStockRepository.save(getHoldingStock());
+        tradeLogService.create(getTradeLogCreate(getBD(30_000), ONE), holdingStock);
+
+        // expected
+        assertThatThrownBy(() -> tradeLogService.create(
+                getTradeLogCreate(SELL, getBD(40_000), getBD(2), now()), holdingStock))
+                .isInstanceOf(TradeLogOverSold.class);
+        assertThat(fakeTradeLogRepository.findByHoldingStockEntityId(1L)).hasSize(1);
+        assertThat(fakeHoldingStockRepository.findById(1L).orElseThrow().getPosition()
+                .getQuantity()).isEqualByComparingTo(ONE);
+    }
+
+    @Test
+    @DisplayName("거래일이 앞선 매매이력 때문에 이후의 매도가 보유 수량을 넘게 되면 예외가 발생한다.")
+    void createBackdatedOverSoldTradeLog() {
+        // given
+        HoldingStock holdingStock = fakeHoldingStockRepository.save(getHoldingStock());
+        LocalDateTime tradeDate = LocalDateTime.of(2024, 1, 10, 9, 0);
+        tradeLogService.create(
+                getTradeLogCreate(BUY, getBD(30_000), ONE, tradeDate), holdingStock);
+        tradeLogService.create(
+                getTradeLogCreate(SELL, getBD(40_000), ONE, tradeDate.plusDays(1)), holdingStock);
+
+        // expected
+        assertThatThrownBy(() -> tradeLogService.create(
+                getTradeLogCreate(SELL, getBD(35_000), ONE, tradeDate.minusDays(1)),
+                holdingStock)).isInstanceOf(TradeLogOverSold.class);
+        assertThat(fakeTradeLogRepository.findByHoldingStockEntityId(1L)).hasSize(2);
+    }
+
     @Test
     @DisplayName("1개의 종목이력 ID로 1개 매매이력 통계를 조회한다.")
     void getTradeLogStatistics1() {
@@ -107,10 +211,15 @@ public class TradeLogServiceTest {
     }
 
     private TradeLogCreate getTradeLogCreate(BigDecimal price, BigDecimal quantity) {
+        return getTradeLogCreate(BUY, price, quantity, now());
+    }
+
+    private TradeLogCreate getTradeLogCreate(TradeType type, BigDecimal price,
+            BigDecimal quantity, LocalDateTime tradeDate) {
         return TradeLogCreate.builder()
-                .type(BUY)
+                .type(type)
                 .price(price)
-                .tradeDate(now())
+                .tradeDate(tradeDate)
                 .quantity(quantity)
                 .build();
     }
@@ -3,6 +3,7 @@ package spofo.support.controller;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import spofo.holdingstock.controller.port.HoldingStockService;
 import spofo.portfolio.controller.port.PortfolioService;
+import spofo.tradelog.controller.port.TradeImportService;
 import spofo.tradelog.controller.port.TradeLogService;
 
 /**
@@ -21,4 +22,7 @@ public abstract class ControllerTestMockBeanSupport {
 
     @MockBean
     protected TradeLogService tradeLogService;
+
+    @MockBean
+    protected TradeImportService tradeImportService;
 }
@@ -1,5 +1,7 @@
 package spofo.support.service;
 
+import static org.mockito.Answers.CALLS_REAL_METHODS;
+
 import org.junit.jupiter.api.AfterEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -38,7 +40,8 @@ public abstract class ServiceIntegrationTestSupport {
     @Autowired
     protected TradeLogRepository tradeLogRepository;
 
-    @MockBean
+    // 비동기 목록조회(getStocksAsync)는 기본 구현을 사용하여 getStocks의 stub 결과를 반환한다.
+    @MockBean(answer = CALLS_REAL_METHODS)
     protected StockServerService mockStockServerService;
 
     @AfterEach
@@ -1,5 +1,7 @@
 package spofo.support.service;
 
+import static org.mockito.Answers.CALLS_REAL_METHODS;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
@@ -39,6 +41,7 @@ public abstract class ServiceTestSupport {
     @SpyBean
     protected TradeLogRepository tradeLogRepository;
 
-    @MockBean
+    // 비동기 목록조회(getStocksAsync)는 기본 구현을 사용하여 getStocks의 stub 결과를 반환한다.
+    @MockBean(answer = CALLS_REAL_METHODS)
     protected StockServerService mockStockServerService;
 }